@@ -14,6 +14,7 @@ import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxProjectSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxScanReportSupport;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxScanSupport;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxSessionCache;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxUploadSupport;
 
 /**
@@ -31,10 +32,13 @@ public class CheckmarxAdapterV1 extends AbstractAdapter<CheckmarxAdapterContext,
 
 	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxAdapterV1.class);
 
+	/* tokens and project ids are shared between scans */
+	CheckmarxSessionCache sessionCache = CheckmarxSessionCache.DEFAULT_INSTANCE;
+
 	@Override
 	public String start(CheckmarxAdapterConfig config) throws AdapterException {
 		try {
-			CheckmarxContext context = new CheckmarxContext(config, this);
+			CheckmarxContext context = new CheckmarxContext(config, this, sessionCache);
 			context.setFullScan(context.isNewProject());
 			CheckmarxOAuthSupport support = new CheckmarxOAuthSupport();
 			support.loginAndGetOAuthToken(context);
@@ -26,7 +26,19 @@ public class CheckmarxClientHttpRequestInterceptor implements ClientHttpRequestI
 			headers.remove("Authorization");
 			headers.add("Authorization", context.getAuthorizationHeaderValue());
 		}
-		return execution.execute(request, body);
+		ClientHttpResponse response = execution.execute(request, body);
+		handleRejectedSessionData(response.getRawStatusCode());
+		return response;
+	}
+
+	private void handleRejectedSessionData(int status) {
+		if (status == 401) {
+			/* token is no longer accepted - next scan must login again */
+			context.getSessionCache().evictOAuthData(context.getConfig(), context.getOAuthData());
+		} else if (status == 404 && context.isSessionDataFromCache()) {
+			/* cached project may have been deleted inside checkmarx */
+			context.getSessionCache().evictProjectId(context.getConfig());
+		}
 	}
 
 }
@@ -5,6 +5,7 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 
 import com.daimler.sechub.adapter.AbstractSpringRestAdapterContext;
 import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxSessionCache;
 import com.daimler.sechub.adapter.checkmarx.support.QueueDetails;
 import com.daimler.sechub.adapter.checkmarx.support.ReportDetails;
 import com.daimler.sechub.adapter.checkmarx.support.ScanDetails;
@@ -25,9 +26,15 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
 	private ReportDetails reportDetails;
 	private boolean fullScan;
 	private Boolean newProject;
+	private boolean sessionDataFromCache;
+	private CheckmarxSessionCache sessionCache;
 
-	public CheckmarxContext(CheckmarxAdapterConfig config, CheckmarxAdapter adapter) {
+	public CheckmarxContext(CheckmarxAdapterConfig config, CheckmarxAdapter adapter, CheckmarxSessionCache sessionCache) {
 		super(config, adapter);
+		if (sessionCache == null) {
+			throw new IllegalArgumentException("session cache may not be null");
+		}
+		this.sessionCache = sessionCache;
 		queueDetails = new QueueDetails();
 		scanDetails = new ScanDetails();
 		reportDetails = new ReportDetails();
@@ -56,6 +63,24 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
 		return sessionData;
 	}
 
+	/**
+	 * @return session cache shared between scans, never <code>null</code>
+	 */
+	public CheckmarxSessionCache getSessionCache() {
+		return sessionCache;
+	}
+
+	/**
+	 * Marks session data as resolved from session cache
+	 */
+	public void markSessionDataFromCache() {
+		this.sessionDataFromCache = true;
+	}
+
+	public boolean isSessionDataFromCache() {
+		return sessionDataFromCache;
+	}
+
 	public boolean isOAuthenticated() {
 		return oAuthData != null;
 	}
@@ -64,6 +89,10 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
 		this.oAuthData = data;
 	}
 
+	public CheckmarxOAuthData getOAuthData() {
+		return oAuthData;
+	}
+
 	public boolean isIncrementalScan() {
 		return !fullScan;
 	}
@@ -19,7 +19,17 @@ import com.daimler.sechub.adapter.support.JSONAdapterSupport.Access;
 // having version 8.8.0 at installation we use the token base auth and no cookie approach
 public class CheckmarxOAuthSupport {
 
+	/**
+	 * Marks given context as authenticated. A still valid token from session
+	 * cache of the context is reused, otherwise a new login is done.
+	 */
 	public void loginAndGetOAuthToken(CheckmarxContext context) throws AdapterException {
+		CheckmarxOAuthData data = context.getSessionCache().getOAuthData(context.getConfig(), () -> login(context));
+
+		context.markAuthenticated(data);
+	}
+
+	private CheckmarxOAuthData login(CheckmarxContext context) throws AdapterException {
 		CheckmarxAdapterConfig config = context.getConfig();
 
 		// example:
@@ -46,9 +56,7 @@ public class CheckmarxOAuthSupport {
 		ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
 
 		String json = response.getBody();
-		CheckmarxOAuthData data = extractFromJson(context.json(), json);
-
-		context.markAuthenticated(data);
+		return extractFromJson(context.json(), json);
 	}
 
 	CheckmarxOAuthData extractFromJson(JSONAdapterSupport support, String json)
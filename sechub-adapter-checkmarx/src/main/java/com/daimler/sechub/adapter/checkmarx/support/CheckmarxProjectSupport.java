@@ -26,6 +26,19 @@ public class CheckmarxProjectSupport {
 		String projectName = config.getProjectId();
 		String teamId = config.getTeamIdForNewProjects();
 
+		CheckmarxSessionCache sessionCache = context.getSessionCache();
+		Long cachedProjectId = sessionCache.getProjectId(config);
+		if (cachedProjectId != null) {
+			/* project was found or created by a former scan */
+			CheckmarxSessionData data = new CheckmarxSessionData();
+			data.setProjectId(cachedProjectId);
+			data.setProjectName(projectName);
+			context.setSessionData(data);
+			context.setNewProject(false);
+			context.markSessionDataFromCache();
+			return;
+		}
+
 		Map<String, String> map = new LinkedHashMap<>();
 		map.put("projectName", projectName);
 		map.put("teamId", teamId);
@@ -38,7 +51,9 @@ public class CheckmarxProjectSupport {
 		// CxRestAPI/projects?projectName=myProject&teamId=00000000-1111-1111-b111-989c9070eb11
 		try {
 			ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-			context.setSessionData(extractFirstProjectFromJsonWithProjectArray(context.json(), response.getBody()));
+			CheckmarxSessionData data = extractFirstProjectFromJsonWithProjectArray(context.json(), response.getBody());
+			sessionCache.putProjectId(config, data.getProjectId());
+			context.setSessionData(data);
 			context.setNewProject(false);
 			return;
 		} catch (HttpStatusCodeException e) {
@@ -48,7 +63,9 @@ public class CheckmarxProjectSupport {
 			}
 		}
 		/* 404 error - okay, lets create */
-		context.setSessionData(createProject(context));
+		CheckmarxSessionData data = createProject(context);
+		sessionCache.putProjectId(config, data.getProjectId());
+		context.setSessionData(data);
 		context.setNewProject(true);
 	}
 
@@ -15,9 +15,11 @@ import org.springframework.web.client.RestOperations;
 
 import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterContext;
+import com.daimler.sechub.adapter.support.ProductResultDownloadSupport;
 
 public class CheckmarxScanReportSupport {
 
+	private ProductResultDownloadSupport downloadSupport = new ProductResultDownloadSupport();
 
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/223379587/Register+Scan+Report+-+POST+reports+sastScan
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/563806382/Get+Report+Status+by+Id+-+GET+reports+sastScan+id+status+v8.8.0+and+up
@@ -43,18 +45,9 @@ public class CheckmarxScanReportSupport {
 	void fetchReportResult(CheckmarxAdapterContext context) throws AdapterException {
 		ReportDetails details = context.getReportDetails();
 		try {
-			RestOperations restTemplate = context.getRestOperations();
-			ResponseEntity<String> queueData = restTemplate
-					.getForEntity(context.getAPIURL("reports/sastScan/" + context.getReportId()), String.class);
-			String body = queueData.getBody();
-			if (body == null) { // NOSONAR
-				body = "";
-			}
-			int index = body.indexOf("<?xml");
-			if (index > 0) {
-				body = body.substring(index);
-			}
-			context.setResult(body);
+			/* report is streamed - content in front of xml is skipped on the fly */
+			String url = context.getAPIURL("reports/sastScan/" + context.getReportId());
+			context.setResult(downloadSupport.download(context, url, "<?xml"));
 
 		} catch (HttpStatusCodeException e) {
 			if (HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
@@ -0,0 +1,162 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.checkmarx.support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
+
+/**
+ * Cache for checkmarx session data which can be shared between scans:
+ * <ul>
+ * <li>OAuth tokens - per product base URL and user</li>
+ * <li>Checkmarx project ids - per product base URL, team and project
+ * name</li>
+ * </ul>
+ * Tokens are refreshed proactively: a token is only reused while more than
+ * {@link #DEFAULT_TOKEN_MINIMUM_REMAINING_LIFETIME_RATIO} of its lifetime
+ * remains, so a scan using a cached token will not run into an expired token.
+ * Only one login per user is done at the same time - concurrent scans wait for
+ * and reuse the token of the running login.<br>
+ * <br>
+ * When checkmarx rejects cached data (401 / 404) the corresponding entries
+ * must be evicted, so following scans will fetch them again.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class CheckmarxSessionCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxSessionCache.class);
+
+	public static final double DEFAULT_TOKEN_MINIMUM_REMAINING_LIFETIME_RATIO = 0.5;
+
+	public static final CheckmarxSessionCache DEFAULT_INSTANCE = new CheckmarxSessionCache();
+
+	private final Map<List<String>, TokenHolder> tokens = new ConcurrentHashMap<>();
+	private final Map<List<String>, Long> projectIds = new ConcurrentHashMap<>();
+
+	private final double tokenMinimumRemainingLifetimeRatio;
+
+	public CheckmarxSessionCache() {
+		this(DEFAULT_TOKEN_MINIMUM_REMAINING_LIFETIME_RATIO);
+	}
+
+	/**
+	 * @param tokenMinimumRemainingLifetimeRatio ratio (0-1) of token lifetime
+	 *                                           which must remain so a cached
+	 *                                           token is reused
+	 */
+	public CheckmarxSessionCache(double tokenMinimumRemainingLifetimeRatio) {
+		if (tokenMinimumRemainingLifetimeRatio < 0 || tokenMinimumRemainingLifetimeRatio > 1) {
+			throw new IllegalArgumentException("ratio must be between 0 and 1 but was:" + tokenMinimumRemainingLifetimeRatio);
+		}
+		this.tokenMinimumRemainingLifetimeRatio = tokenMinimumRemainingLifetimeRatio;
+	}
+
+	/**
+	 * Resolves OAuth data for given configuration. When there is no cached token,
+	 * or the cached token must be refreshed, the given login is called.
+	 *
+	 * @param config
+	 * @param login  login to call when necessary
+	 * @return OAuth data, never <code>null</code>
+	 * @throws AdapterException when login fails
+	 */
+	public CheckmarxOAuthData getOAuthData(CheckmarxAdapterConfig config, Loader<CheckmarxOAuthData> login) throws AdapterException {
+		return tokens.computeIfAbsent(createTokenKey(config), key -> new TokenHolder()).fetch(login, tokenMinimumRemainingLifetimeRatio);
+	}
+
+	/**
+	 * Evicts cached OAuth data for given configuration - but only when the cached
+	 * data is the given one. So a token fetched meanwhile by another scan is
+	 * kept.
+	 *
+	 * @param config
+	 * @param rejected OAuth data rejected by checkmarx
+	 */
+	public void evictOAuthData(CheckmarxAdapterConfig config, CheckmarxOAuthData rejected) {
+		if (rejected == null) {
+			return;
+		}
+		TokenHolder holder = tokens.get(createTokenKey(config));
+		if (holder == null) {
+			return;
+		}
+		if (holder.evict(rejected)) {
+			LOG.info("Evicted rejected checkmarx token for user {}", config.getUser());
+		}
+	}
+
+	/**
+	 * @return cached checkmarx project id for given configuration or
+	 *         <code>null</code>
+	 */
+	public Long getProjectId(CheckmarxAdapterConfig config) {
+		return projectIds.get(createProjectKey(config));
+	}
+
+	public void putProjectId(CheckmarxAdapterConfig config, long checkmarxProjectId) {
+		projectIds.put(createProjectKey(config), checkmarxProjectId);
+	}
+
+	public void evictProjectId(CheckmarxAdapterConfig config) {
+		if (projectIds.remove(createProjectKey(config)) != null) {
+			LOG.info("Evicted cached checkmarx project id for project {}", config.getProjectId());
+		}
+	}
+
+	/**
+	 * Removes all cached data
+	 */
+	public void clear() {
+		tokens.clear();
+		projectIds.clear();
+	}
+
+	private List<String> createTokenKey(CheckmarxAdapterConfig config) {
+		return Arrays.asList(config.getProductBaseURL(), config.getUser());
+	}
+
+	private List<String> createProjectKey(CheckmarxAdapterConfig config) {
+		return Arrays.asList(config.getProductBaseURL(), config.getTeamIdForNewProjects(), config.getProjectId());
+	}
+
+	@FunctionalInterface
+	public interface Loader<T> {
+		T load() throws AdapterException;
+	}
+
+	private static class TokenHolder {
+		private CheckmarxOAuthData data;
+		private long refreshTimeMillis;
+
+		private synchronized CheckmarxOAuthData fetch(Loader<CheckmarxOAuthData> login, double minimumRemainingLifetimeRatio)
+				throws AdapterException {
+			long now = System.currentTimeMillis();
+			if (data != null && now < refreshTimeMillis) {
+				return data;
+			}
+			CheckmarxOAuthData loaded = login.load();
+			long lifetimeMillis = loaded.getExpiresIn() * 1000;
+			data = loaded;
+			refreshTimeMillis = now + (long) (lifetimeMillis * (1 - minimumRemainingLifetimeRatio));
+			return loaded;
+		}
+
+		private synchronized boolean evict(CheckmarxOAuthData rejected) {
+			if (data != rejected) {
+				return false;
+			}
+			data = null;
+			return true;
+		}
+	}
+}
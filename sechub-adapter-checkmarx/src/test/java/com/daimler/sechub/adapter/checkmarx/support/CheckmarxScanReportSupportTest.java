@@ -4,12 +4,18 @@ package com.daimler.sechub.adapter.checkmarx.support;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 
+import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterContext;
 
 public class CheckmarxScanReportSupportTest {
@@ -59,15 +65,21 @@ public class CheckmarxScanReportSupportTest {
 	}
 	
 
+	@SuppressWarnings("unchecked")
 	private CheckmarxAdapterContext prepareContent(String content) {
-		ResponseEntity<String> entity = new ResponseEntity<>(content, HttpStatus.OK);
-
 		RestOperations restOperations = mock(RestOperations.class);
 		CheckmarxAdapterContext context = mock(CheckmarxAdapterContext.class);
+		CheckmarxAdapterConfig config = mock(CheckmarxAdapterConfig.class);
 
+		when(context.getConfig()).thenReturn(config);
 		when(context.getRestOperations()).thenReturn(restOperations);
 		when(context.getAPIURL(any())).thenReturn("path");
-		when(restOperations.getForEntity(eq("path"), eq(String.class))).thenReturn(entity);
+		when(restOperations.execute(eq("path"), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class))).thenAnswer(invocation -> {
+			MockClientHttpResponse response = new MockClientHttpResponse(content.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+			response.getHeaders().setContentType(new MediaType(MediaType.APPLICATION_XML, StandardCharsets.UTF_8));
+			ResponseExtractor<?> extractor = invocation.getArgument(3);
+			return extractor.extractData(response);
+		});
 		return context;
 	}
 
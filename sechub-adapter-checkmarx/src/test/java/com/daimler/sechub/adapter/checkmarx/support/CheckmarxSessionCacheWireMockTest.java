@@ -0,0 +1,210 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.checkmarx.support;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
+import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterV1;
+import com.daimler.sechub.adapter.checkmarx.CheckmarxContext;
+import com.daimler.sechub.adapter.checkmarx.support.CheckmarxOAuthSupport.CheckmarxOAuthData;
+import com.daimler.sechub.adapter.support.HttpClientPoolRegistry;
+import com.daimler.sechub.test.TestPortProvider;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+
+public class CheckmarxSessionCacheWireMockTest {
+
+	private static final String APPLICATION_JSON = "application/json";
+
+	private static final int HTTPS_PORT = TestPortProvider.DEFAULT_INSTANCE.getWireMockTestHTTPSPort();
+
+	private static final int HTTP_PORT = TestPortProvider.DEFAULT_INSTANCE.getWireMockTestHTTPPort();
+
+	private static final String CHECKMARX_BASE_URL = "http://localhost:" + HTTP_PORT;
+
+	private static final String LOGIN_PATH = "/cxrestapi/auth/identity/connect/token";
+	private static final String PROJECTS_PATH = "/cxrestapi/projects";
+	private static final String SCAN_PATH = "/cxrestapi/sast/scans/1";
+
+	private static final String PROJECT_NAME = "project1";
+	private static final long CHECKMARX_PROJECT_ID = 4711;
+
+	@Rule
+	public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().port(HTTP_PORT).httpsPort(HTTPS_PORT));
+
+	private CheckmarxSessionCache cacheToTest;
+	private CheckmarxAdapterV1 adapter;
+	private CheckmarxAdapterConfig config;
+	private CheckmarxOAuthSupport oAuthSupport;
+	private CheckmarxProjectSupport projectSupport;
+
+	@Before
+	public void before() throws Exception {
+		cacheToTest = new CheckmarxSessionCache();
+		adapter = new CheckmarxAdapterV1();
+		oAuthSupport = new CheckmarxOAuthSupport();
+		projectSupport = new CheckmarxProjectSupport();
+
+		config = mock(CheckmarxAdapterConfig.class);
+		when(config.getTraceID()).thenReturn("sechub-trace-id");
+		when(config.getUser()).thenReturn("user1");
+		when(config.getPassword()).thenReturn("password1");
+		when(config.getProductBaseURL()).thenReturn(CHECKMARX_BASE_URL);
+		when(config.getProjectId()).thenReturn(PROJECT_NAME);
+		when(config.getTeamIdForNewProjects()).thenReturn("team1");
+
+		stubFor(get(urlPathEqualTo(PROJECTS_PATH)).willReturn(aResponse().withStatus(HttpStatus.OK.value()).withHeader("Content-Type", APPLICATION_JSON)
+				.withBody("[{\"id\":" + CHECKMARX_PROJECT_ID + ",\"name\":\"" + PROJECT_NAME + "\"}]")));
+	}
+
+	@After
+	public void after() {
+		/* pooled connections to wiremock server of this test are no longer valid */
+		HttpClientPoolRegistry.DEFAULT_INSTANCE.closeAll();
+	}
+
+	@Test
+	public void three_scans_do_only_one_login_and_one_project_lookup() throws Exception {
+		/* prepare */
+		stubLogin(86400, 0);
+
+		/* execute */
+		for (int i = 0; i < 3; i++) {
+			CheckmarxContext context = newContext();
+			oAuthSupport.loginAndGetOAuthToken(context);
+			projectSupport.ensureProjectExists(context);
+
+			/* test */
+			assertTrue(context.isOAuthenticated());
+			assertEquals("Bearer token1", context.getAuthorizationHeaderValue());
+			assertEquals(CHECKMARX_PROJECT_ID, context.getSessionData().getProjectId());
+			assertFalse(context.isNewProject());
+			assertEquals(i > 0, context.isSessionDataFromCache());
+		}
+		verify(1, postRequestedFor(urlEqualTo(LOGIN_PATH)));
+		verify(1, getRequestedFor(urlPathEqualTo(PROJECTS_PATH)));
+	}
+
+	@Test
+	public void token_near_expiry_is_refreshed_by_next_scan() throws Exception {
+		/* prepare - token expires immediately, so not enough lifetime remains */
+		stubLogin(0, 0);
+
+		/* execute */
+		oAuthSupport.loginAndGetOAuthToken(newContext());
+		oAuthSupport.loginAndGetOAuthToken(newContext());
+
+		/* test */
+		verify(2, postRequestedFor(urlEqualTo(LOGIN_PATH)));
+	}
+
+	@Test
+	public void token_rejected_with_401_is_evicted() throws Exception {
+		/* prepare */
+		stubLogin(86400, 0);
+		stubFor(get(urlEqualTo(SCAN_PATH)).willReturn(aResponse().withStatus(HttpStatus.UNAUTHORIZED.value())));
+
+		CheckmarxContext context = newContext();
+		oAuthSupport.loginAndGetOAuthToken(context);
+
+		/* execute */
+		try {
+			context.getRestOperations().getForEntity(CHECKMARX_BASE_URL + SCAN_PATH, String.class);
+			fail("no 401 error");
+		} catch (HttpClientErrorException e) {
+			assertEquals(401, e.getRawStatusCode());
+		}
+		oAuthSupport.loginAndGetOAuthToken(newContext());
+
+		/* test */
+		verify(2, postRequestedFor(urlEqualTo(LOGIN_PATH)));
+	}
+
+	@Test
+	public void cached_project_rejected_with_404_is_evicted() throws Exception {
+		/* prepare */
+		stubLogin(86400, 0);
+		stubFor(get(urlEqualTo(SCAN_PATH)).willReturn(aResponse().withStatus(HttpStatus.NOT_FOUND.value())));
+
+		CheckmarxContext context1 = newContext();
+		oAuthSupport.loginAndGetOAuthToken(context1);
+		projectSupport.ensureProjectExists(context1);
+
+		CheckmarxContext context2 = newContext();
+		oAuthSupport.loginAndGetOAuthToken(context2);
+		projectSupport.ensureProjectExists(context2);
+		assertTrue(context2.isSessionDataFromCache());
+
+		/* execute */
+		try {
+			context2.getRestOperations().getForEntity(CHECKMARX_BASE_URL + SCAN_PATH, String.class);
+			fail("no 404 error");
+		} catch (HttpClientErrorException e) {
+			assertEquals(404, e.getRawStatusCode());
+		}
+		CheckmarxContext context3 = newContext();
+		oAuthSupport.loginAndGetOAuthToken(context3);
+		projectSupport.ensureProjectExists(context3);
+
+		/* test */
+		assertFalse(context3.isSessionDataFromCache());
+		verify(2, getRequestedFor(urlPathEqualTo(PROJECTS_PATH)));
+		verify(1, postRequestedFor(urlEqualTo(LOGIN_PATH)));
+	}
+
+	@Test
+	public void concurrent_scans_do_only_one_login() throws Exception {
+		/* prepare - slow login, so all scans wait for same login */
+		stubLogin(86400, 500);
+		int amountOfScans = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(amountOfScans);
+		List<Future<CheckmarxOAuthData>> futures = new ArrayList<>();
+
+		/* execute */
+		try {
+			for (int i = 0; i < amountOfScans; i++) {
+				futures.add(executor.submit((Callable<CheckmarxOAuthData>) () -> {
+					CheckmarxContext context = newContext();
+					oAuthSupport.loginAndGetOAuthToken(context);
+					return context.getOAuthData();
+				}));
+			}
+			CheckmarxOAuthData first = futures.get(0).get();
+
+			/* test */
+			for (Future<CheckmarxOAuthData> future : futures) {
+				assertSame(first, future.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		verify(1, postRequestedFor(urlEqualTo(LOGIN_PATH)));
+	}
+
+	private CheckmarxContext newContext() {
+		return new CheckmarxContext(config, adapter, cacheToTest);
+	}
+
+	private void stubLogin(long expiresIn, int delayMillis) {
+		stubFor(post(urlEqualTo(LOGIN_PATH)).willReturn(aResponse().withStatus(HttpStatus.OK.value()).withHeader("Content-Type", APPLICATION_JSON)
+				.withFixedDelay(delayMillis).withBody("{\"access_token\":\"token1\",\"expires_in\":" + expiresIn + ",\"token_type\":\"Bearer\"}")));
+	}
+
+}
@@ -26,6 +26,7 @@ import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.AdapterLogId;
 import com.daimler.sechub.adapter.AdapterProfiles;
 import com.daimler.sechub.adapter.WaitForStateSupport;
+import com.daimler.sechub.adapter.support.ProductResultDownloadSupport;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -41,6 +42,8 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 		implements NessusAdapter {
 
 	private static final Logger LOG = LoggerFactory.getLogger(NessusAdapterV1.class);
+
+	private ProductResultDownloadSupport downloadSupport = new ProductResultDownloadSupport();
 	private static final String APICALL_LOGIN = "/session";
 	private static final String APICALL_LOGOUT = APICALL_LOGIN;
 	private static final String APICALL_GET_POLICIES = "/editor/policy/templates";
@@ -428,14 +431,9 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 		protected void handleNoLongerWaitingState(String state, NessusAdapterContext context) throws Exception {
 			String apiUrl = createScanExportDownloadApiURL(context);
 
-			ResponseEntity<String> response = context.getRestOperations().getForEntity(apiUrl, String.class);
-			if (!OK.equals(response.getStatusCode())) {
-				throw new NessusRESTFailureException(response.getStatusCode(), response.getBody());
-			}
-
-			String result = response.getBody();
-			context.setResult(result);
-			LOG.debug("{} fetched export status, result={}", getAdapterLogId(context), context.getResult());
+			/* export can be very big - so streamed into result file when configured */
+			context.setResult(downloadSupport.download(context, apiUrl, null));
+			LOG.debug("{} fetched export, result={}", getAdapterLogId(context), context.getResult());
 
 		}
 
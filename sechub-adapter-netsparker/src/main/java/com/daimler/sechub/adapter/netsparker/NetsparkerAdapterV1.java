@@ -5,6 +5,9 @@ import static org.springframework.http.HttpStatus.*;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,7 @@ import com.daimler.sechub.adapter.AbstractAdapter;
 import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.AdapterProfiles;
 import com.daimler.sechub.adapter.WaitForStateSupport;
+import com.daimler.sechub.adapter.support.ProductResultDownloadSupport;
 
 /**
  * This component is able to handle Netsparker API V1
@@ -45,6 +49,8 @@ public class NetsparkerAdapterV1 extends AbstractAdapter<NetsparkerAdapterContex
 
 	private static final Logger LOG = LoggerFactory.getLogger(NetsparkerAdapterV1.class);
 
+	private ProductResultDownloadSupport downloadSupport = new ProductResultDownloadSupport();
+
 	@Override
 	public String start(NetsparkerAdapterConfig config) throws AdapterException {
 		try {
@@ -66,6 +72,57 @@ public class NetsparkerAdapterV1 extends AbstractAdapter<NetsparkerAdapterContex
 
 	}
 
+	/**
+	 * Starts scan by given executor and continues on the future of
+	 * {@link WaitForStateSupport} - no thread is blocked while netsparker is
+	 * scanning. The report is fetched by given executor.
+	 */
+	@Override
+	public CompletableFuture<String> startAsync(NetsparkerAdapterConfig config, Executor executor) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> startScanAndContinueAsync(config, executor, result));
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(asAdapterException("Start was rejected", e, config));
+		}
+		return result;
+	}
+
+	private void startScanAndContinueAsync(NetsparkerAdapterConfig config, Executor executor, CompletableFuture<String> result) {
+		if (result.isDone()) {
+			/* cancelled meanwhile */
+			return;
+		}
+		NetsparkerContext context;
+		try {
+			context = new NetsparkerContext(config, this);
+			ensureNetsparkerWebsiteConfigurationExists(context);
+			createNewScanAndFetchId(context);
+		} catch (Exception e) {
+			result.completeExceptionally(asAdapterException("Was not able to perform scan!", e, config));
+			return;
+		}
+		CompletableFuture<String> waiting = new NetsparkerWaitForStateSupport().waitForOKAsync(context, executor);
+		result.whenComplete((report, failure) -> {
+			if (result.isCancelled()) {
+				waiting.cancel(true);
+			}
+		});
+		/* state was handled by executor, so report is fetched by executor too */
+		waiting.whenComplete((state, failure) -> {
+			if (failure != null) {
+				result.completeExceptionally(failure);
+				return;
+			}
+			try {
+				fetchReport(context);
+				result.complete(context.getResult());
+			} catch (Exception e) {
+				result.completeExceptionally(asAdapterException("Was not able to fetch report!", e, config));
+			}
+		});
+	}
+
 	@Override
 	protected String getAPIPrefix() {
 		return "api/1.0";
@@ -107,19 +164,15 @@ public class NetsparkerAdapterV1 extends AbstractAdapter<NetsparkerAdapterContex
 		}
 	}
 
-	void fetchReport(NetsparkerAdapterContext context) {
+	void fetchReport(NetsparkerAdapterContext context) throws AdapterException {
 		String traceID = context.getConfig().getTraceID();
 		LOG.debug("{} try to fetch report", context.getConfig().getTraceID());
 
 		String apiUrl = createAPIURL(
 				APICALL_GET_SCAN_REPORT + context.getProductContextId() + "?Type=Vulnerabilities&Format=Xml",
 				context.getConfig());
-		ResponseEntity<String> response = context.getRestOperations().getForEntity(apiUrl, String.class);
-		if (!OK.equals(response.getStatusCode())) {
-			throw new NetsparkerRESTFailureException(response.getStatusCode(), response.getBody());
-		}
-		String body = response.getBody();
-		context.setResult(body);
+		/* report can be very big - so streamed into result file when configured */
+		context.setResult(downloadSupport.download(context, apiUrl, null));
 		LOG.debug("{} calling fetch report with '{}'", traceID, apiUrl);
 	}
 
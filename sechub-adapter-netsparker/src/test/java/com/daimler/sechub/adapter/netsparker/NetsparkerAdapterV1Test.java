@@ -7,8 +7,10 @@ import static org.mockito.Mockito.*;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import com.daimler.sechub.adapter.AdapterException;
@@ -37,21 +39,23 @@ public class NetsparkerAdapterV1Test {
 		when(context.json()).thenReturn(new JSONAdapterSupport(adapterToTest, context));
 	}
 
+	@SuppressWarnings("unchecked")
 	@Test
-	public void a_fetch_report__triggers_rest_tempate_with_correct_params() {
+	public void a_fetch_report__triggers_rest_tempate_with_correct_params() throws Exception {
 		/* prepare */
-
-		@SuppressWarnings("unchecked")
-		ResponseEntity<String> response = mock(ResponseEntity.class);
-		when(template.getForEntity(eq("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml"), eq(String.class))).thenReturn(response);
-		when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+		when(template.execute(eq("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml"), eq(HttpMethod.GET), isNull(),
+				any(ResponseExtractor.class))).thenAnswer(invocation -> {
+					ResponseExtractor<?> extractor = invocation.getArgument(3);
+					return extractor.extractData(new MockClientHttpResponse("<xml/>".getBytes(), HttpStatus.OK));
+				});
 
 		/* execute */
 		adapterToTest.fetchReport(context);
 
 		/* test */
-		verify(template).getForEntity("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml",
-				String.class);
+		verify(template).execute(eq("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml"), eq(HttpMethod.GET), isNull(),
+				any(ResponseExtractor.class));
+		verify(context).setResult("<xml/>");
 	}
 
 	@Test
@@ -7,6 +7,10 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Rule;
@@ -78,15 +82,20 @@ public class NetsparkerAdapterV1WireMockTest {
 
 	@Test
 	public void start_scan_returns_returns_result_when_using_agentgroup() throws Exception {
-		common_start_scan_returns_result(true);
+		common_start_scan_returns_result(true, false);
 	}
 
 	@Test
 	public void start_scan_returns_returns_result_when_using_agent() throws Exception {
-		common_start_scan_returns_result(false);
+		common_start_scan_returns_result(false, false);
+	}
+
+	@Test
+	public void start_async_scan_returns_result_by_future() throws Exception {
+		common_start_scan_returns_result(true, true);
 	}
 
-	private void common_start_scan_returns_result(boolean configHasAgentGroup) throws Exception {
+	private void common_start_scan_returns_result(boolean configHasAgentGroup, boolean async) throws Exception {
 		/* prepare */
 
 		when(config.hasAgentGroup()).thenReturn(configHasAgentGroup);
@@ -177,7 +186,17 @@ public class NetsparkerAdapterV1WireMockTest {
         /* @formatter:on */
 
         /* execute */
-        String result = adapterToTest.start(config);
+        String result;
+        if (async) {
+        	ExecutorService executor = Executors.newSingleThreadExecutor();
+        	try {
+        		result = adapterToTest.startAsync(config, executor).get(10, TimeUnit.SECONDS);
+        	} finally {
+        		executor.shutdownNow();
+        	}
+        } else {
+        	result = adapterToTest.start(config);
+        }
 
 		/* test */
 		verify(getRequestedFor(urlEqualTo("/netsparkertest_1/api/1.0/websites/get?query=" + WEBSITE_ID)));
@@ -27,6 +27,8 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 
 	String projectId;
 
+	String pathToResultFile;
+
 	LinkedHashSet<URI> targetURIs=new LinkedHashSet<>();
 	LinkedHashSet<URI> rootTargetUris = new LinkedHashSet<>();
 
@@ -169,4 +171,9 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 		return projectId;
 	}
 
+	@Override
+	public String getPathToResultFile() {
+		return pathToResultFile;
+	}
+
 }
@@ -55,6 +55,7 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 	private URIShrinkSupport uriShrinker;
 
 	private String projectId;
+	private String pathToResultFile;
 
 
 	protected AbstractAdapterConfigBuilder() {
@@ -192,6 +193,20 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 		return (B) this;
 	}
 
+	/**
+	 * Set path to file where product result shall be written to. Adapters
+	 * supporting this will stream the result into the file instead of returning it
+	 * as string.
+	 * 
+	 * @param pathToResultFile
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public B setPathToResultFile(String pathToResultFile) {
+		this.pathToResultFile = pathToResultFile;
+		return (B) this;
+	}
+
 	@SuppressWarnings("unchecked")
 	public B setTargetIP(InetAddress ipAdress) {
 		if (ipAdress==null) {
@@ -244,6 +259,7 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 		abstractAdapterConfig.traceID = traceID;
 		abstractAdapterConfig.projectId=projectId;
+		abstractAdapterConfig.pathToResultFile=pathToResultFile;
 
 		packageInternalCustomBuild(config);
 		customBuild(config);
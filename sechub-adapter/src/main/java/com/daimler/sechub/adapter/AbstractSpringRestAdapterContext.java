@@ -1,9 +1,6 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.net.Proxy.Type;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,13 +9,12 @@ import java.util.Set;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
-import com.daimler.sechub.adapter.support.TrustAllSupport;
+import com.daimler.sechub.adapter.support.HttpClientPoolRegistry;
 
 /**
  * Context for REST execution per spring REST templates (per default with a simple String as result).
@@ -58,30 +54,16 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
 	}
 	
 	private ClientHttpRequestFactory createRequestFactory(C config) {
-		ClientHttpRequestFactory factory = null;
-		if (! config.isTrustAllCertificatesEnabled()) {
-			factory = createStandardSpringRequestFactory(config);
-		}else {
-			factory = new TrustAllSupport(getAdapter(),config).createTrustAllFactory();
-			
+		/* connections are pooled and shared between all contexts for same product server */
+		ClientHttpRequestFactory factory = HttpClientPoolRegistry.DEFAULT_INSTANCE.getRequestFactory(getAdapter(), config);
+		if (!TraceLogClientHTTPRequestInterceptor.isTraceLoggingEnabled()) {
+			/* no buffering, so large responses are not held in memory */
+			return factory;
 		}
-		/* we create buffering variant, so we can do trace logging if necessary - see TraceLogClientHTTPRequestInterceptor*/
+		/* we create buffering variant, so we can do trace logging - see TraceLogClientHTTPRequestInterceptor*/
 		return new BufferingClientHttpRequestFactory(factory);
 	}
 
-	private SimpleClientHttpRequestFactory createStandardSpringRequestFactory(C config) {
-		/* use standard Spring way, so uses configured trusted certificates etc. etc. */
-		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		if (config.isProxyDefined()) {
-			Proxy proxy = new Proxy(Type.SOCKS,
-					new InetSocketAddress(config.getProxyHostname(), config.getProxyPort()));
-			requestFactory.setProxy(proxy);
-		}
-		return requestFactory;
-	}
-
-	
-
 	private Set<HttpMessageConverter<?>> createMessageConverters() {
 		Set<HttpMessageConverter<?>> set = new HashSet<>();
 		addClientHttpRequestInterceptors(set);
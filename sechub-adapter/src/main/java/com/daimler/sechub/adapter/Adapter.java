@@ -2,6 +2,9 @@
 package com.daimler.sechub.adapter;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Marker interface for SecHub adapters
@@ -31,4 +34,39 @@ public interface Adapter<C extends AdapterConfig> {
 	 * @throws NessusAdapterException
 	 */
 	String start(C config) throws AdapterException;
+
+	/**
+	 * Starts asynchronous and returns future result. The default implementation
+	 * calls {@link #start(AdapterConfig)} by given executor, so the executing
+	 * thread is blocked until the product has finished. Adapters able to wait for
+	 * the product without blocking a thread override this.
+	 * 
+	 * @param config
+	 * @param executor executor used for adapter operations, e.g. creating scans or
+	 *                 downloading results
+	 * @return future result, will complete exceptionally with an
+	 *         {@link AdapterException} on failures. Cancelling the future stops
+	 *         the execution when the adapter supports it.
+	 */
+	default CompletableFuture<String> startAsync(C config, Executor executor) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				if (result.isDone()) {
+					/* cancelled meanwhile */
+					return;
+				}
+				try {
+					result.complete(start(config));
+				} catch (AdapterException e) {
+					result.completeExceptionally(e);
+				} catch (RuntimeException e) {
+					result.completeExceptionally(asAdapterException("Was not able to perform scan!", e, config));
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(asAdapterException("Start was rejected", e, config));
+		}
+		return result;
+	}
 }
@@ -112,4 +112,15 @@ public interface AdapterConfig extends TrustAllConfig, TraceIdProvider{
 	 */
 	String getProjectId();
 
+	/**
+	 * Returns path to a file where the product result shall be written to. When
+	 * defined, adapters supporting this stream the result directly into the file
+	 * and return <code>null</code> as result - so big reports are not held in
+	 * memory.
+	 * 
+	 * @return path to result file or <code>null</code> when result shall be
+	 *         returned as string
+	 */
+	String getPathToResultFile();
+
 }
\ No newline at end of file
@@ -36,8 +36,16 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
 		return response;
 	}
 
+	/**
+	 * @return <code>true</code> when communication will be logged - response
+	 *         bodies must be buffered in this case
+	 */
+	public static boolean isTraceLoggingEnabled() {
+		return LOG.isDebugEnabled();
+	}
+
 	private void log(HttpRequest request, byte[] body, ClientHttpResponse response) throws IOException {
-		if (!LOG.isDebugEnabled()) {
+		if (!isTraceLoggingEnabled()) {
 			/* no output wanted - just do nothing and return. we use debug level, because this is the 
 			 * standard log level when executing as wiremock too - currently not able to change the log
 			 * level for those tests because wiremock... does something special with logging in this case...
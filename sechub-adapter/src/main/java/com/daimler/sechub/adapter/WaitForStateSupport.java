@@ -1,10 +1,18 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.client.HttpClientErrorException;
 
+import com.daimler.sechub.adapter.support.PollingScheduler;
+import com.daimler.sechub.adapter.support.PollingStrategy;
+
 /**
  * Abstract class to support waiting for given states
  * 
@@ -18,6 +26,7 @@ import org.springframework.web.client.HttpClientErrorException;
 public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends AdapterConfig> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(WaitForStateSupport.class);
+	private static final double DEFAULT_JITTER = 0.1;
 	protected Adapter<?> adapter;
 
 	public WaitForStateSupport(Adapter<?> adapter) {
@@ -51,46 +60,148 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 
 	/**
 	 * Waits for OK state or another wellknown state. Does also support time out
-	 * handling depending on context
+	 * handling depending on context. Only the state check is done by
+	 * {@link PollingScheduler}, the no longer waiting state is handled by the
+	 * calling thread.<br>
+	 * <br>
+	 * The calling thread is blocked until the product has finished. Callers which
+	 * shall not be pinned while waiting must use
+	 * {@link #waitForOKAsync(AdapterContext, Executor)} instead.
 	 * 
 	 * @param context
 	 * @throws Exception
 	 */
 	public final void waitForOK(X context) throws AdapterException {
 		AdapterConfig config = context.getConfig();
-		LOG.debug("{} wait for OK", adapter.getAdapterLogId(config));
-		String state = null;
+		CompletableFuture<String> future = waitForOKAsync(context);
+		String state;
 		try {
-			while (isWaitingForOKWhenInState(state = getCurrentState(context), context)) {
-				if (context.isTimeOut()) {
-					throw adapter.asAdapterException(
-							"Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
-				}
-				waitForResult(context);
+			state = future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw adapter.asAdapterException("Waiting was interrupted", e, config);
+		} catch (ExecutionException e) {
+			throw asAdapterException("Waiting for result failed", e.getCause(), config);
+		}
+		handleState(state, context);
+	}
+
+	/**
+	 * Waits asynchronous for OK state or another wellknown state and handles the
+	 * no longer waiting state by given executor. No thread is blocked while
+	 * waiting, so this is the entry point for adapters which continue on the
+	 * returned future instead of waiting inside a thread.
+	 * 
+	 * @param context
+	 * @param executor executor used to handle the no longer waiting state - long
+	 *                 running operations there do not block polling threads
+	 * @return future containing handled state, will complete exceptionally with
+	 *         an {@link AdapterException} on time out or failures. Cancelling the
+	 *         future stops polling.
+	 */
+	public final CompletableFuture<String> waitForOKAsync(X context, Executor executor) {
+		AdapterConfig config = context.getConfig();
+		CompletableFuture<String> waiting = waitForOKAsync(context);
+		CompletableFuture<String> handled = new CompletableFuture<>();
+		handled.whenComplete((state, failure) -> {
+			if (handled.isCancelled()) {
+				waiting.cancel(true);
+			}
+		});
+		waiting.whenComplete((state, failure) -> {
+			if (failure != null) {
+				handled.completeExceptionally(asAdapterException("Waiting for result failed", failure, config));
+				return;
 			}
+			try {
+				executor.execute(() -> {
+					if (handled.isDone()) {
+						/* cancelled meanwhile */
+						return;
+					}
+					try {
+						handleState(state, context);
+						handled.complete(state);
+					} catch (AdapterException e) {
+						handled.completeExceptionally(e);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				handled.completeExceptionally(asAdapterException("Handling state " + state + " was rejected", e, config));
+			}
+		});
+		return handled;
+	}
+
+	private void handleState(String state, X context) throws AdapterException {
+		try {
 			handleNoLongerWaitingState(state, context);
-			
-		} catch (HttpClientErrorException e) {
-			throw adapter.asAdapterException("Waiting for result failed - response body was: "+e.getResponseBodyAsString(), e, config);
 		} catch (Exception e) {
-			throw adapter.asAdapterException("Waiting for result failed", e, config);
+			throw asAdapterException("Handling state " + state + " failed", e, context.getConfig());
 		}
 	}
 
-	private void waitForResult(X context) throws AdapterException {
+	/**
+	 * Waits asynchronous for OK state or another wellknown state. The current
+	 * thread is not blocked - states are polled by shared
+	 * {@link PollingScheduler}. The no longer waiting state is NOT handled here,
+	 * this is done by {@link #waitForOKAsync(AdapterContext, Executor)} or
+	 * {@link #waitForOK(AdapterContext)}.
+	 * 
+	 * @param context
+	 * @return future containing last state, will complete exceptionally on time
+	 *         out or failures. Cancelling the future stops polling and interrupts
+	 *         a running state check.
+	 */
+	public final CompletableFuture<String> waitForOKAsync(X context) {
 		AdapterConfig config = context.getConfig();
 		if (config == null) {
 			throw new IllegalStateException("config is null!");
 		}
-		try {
-			LOG.trace("{}  wait for result-STARTED", adapter.getAdapterLogId(config));
-			Thread.sleep(config.getTimeToWaitForNextCheckOperationInMilliseconds());
-			LOG.trace("{}  wait for result-DONE", adapter.getAdapterLogId(config));
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw adapter.asAdapterException("Waiting was interrupted", e, config);
+		LOG.debug("{} wait for OK", adapter.getAdapterLogId(config));
+
+		return getPollingScheduler().schedule(() -> {
+			String state = getCurrentState(context);
+			if (!isWaitingForOKWhenInState(state, context)) {
+				/* state can be null - but null would mean "continue polling" */
+				return state == null ? "" : state;
+			}
+			if (context.isTimeOut()) {
+				throw adapter.asAdapterException("Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
+			}
+			LOG.trace("{} wait for result, state was:{}", adapter.getAdapterLogId(config), state);
+			return null;
+		}, createPollingStrategy(context));
+	}
+
+	private AdapterException asAdapterException(String message, Throwable cause, AdapterConfig config) {
+		if (cause instanceof HttpClientErrorException) {
+			HttpClientErrorException httpClientErrorException = (HttpClientErrorException) cause;
+			return adapter.asAdapterException(message + " - response body was: " + httpClientErrorException.getResponseBodyAsString(), cause, config);
 		}
+		return adapter.asAdapterException(message, cause, config);
+	}
+
+	/**
+	 * Creates polling strategy. Per default the time to wait between checks is
+	 * defined by configuration, with a small jitter. Time outs are handled by
+	 * context. Can be overriden, e.g. to support backoff.
+	 * 
+	 * @param context
+	 * @return strategy, never <code>null</code>
+	 */
+	protected PollingStrategy createPollingStrategy(X context) {
+		/* @formatter:off */
+		return PollingStrategy.builder().
+				setDelayInMilliseconds(context.getConfig().getTimeToWaitForNextCheckOperationInMilliseconds()).
+				setJitter(DEFAULT_JITTER).
+				build();
+		/* @formatter:on */
+	}
 
+	protected PollingScheduler getPollingScheduler() {
+		return PollingScheduler.shared();
 	}
 
 }
@@ -0,0 +1,223 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterConfig;
+
+/**
+ * Registry for HTTP connection pools used by adapters. Adapter contexts are
+ * created for every scan, but the pools inside this registry are shared - so
+ * connections (and TLS sessions) to same product server are reused by
+ * following scans.<br>
+ * <br>
+ * A pool is identified by scheme, host and port of the product base URL
+ * together with trust all and proxy setup. Idle connections are evicted and
+ * keep alive time is limited, so stale connections do not stay forever.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class HttpClientPoolRegistry {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HttpClientPoolRegistry.class);
+
+	public static final int DEFAULT_MAX_TOTAL = 50;
+	public static final int DEFAULT_MAX_PER_ROUTE = 10;
+	public static final int DEFAULT_IDLE_EVICTION_SECONDS = 30;
+	public static final int DEFAULT_KEEP_ALIVE_SECONDS = 60;
+
+	public static final HttpClientPoolRegistry DEFAULT_INSTANCE = new HttpClientPoolRegistry();
+
+	private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+
+	private volatile int maxTotal = DEFAULT_MAX_TOTAL;
+	private volatile int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+	private volatile int idleEvictionSeconds = DEFAULT_IDLE_EVICTION_SECONDS;
+	private volatile int keepAliveSeconds = DEFAULT_KEEP_ALIVE_SECONDS;
+
+	/**
+	 * Resolves request factory for given config. When no pool exists for the
+	 * product server of the config a new one is created.
+	 *
+	 * @param adapter used to create adapter exceptions when necessary
+	 * @param config
+	 * @return request factory using a shared connection pool, never
+	 *         <code>null</code>
+	 */
+	public ClientHttpRequestFactory getRequestFactory(Adapter<?> adapter, AdapterConfig config) {
+		PoolKey key = new PoolKey(config);
+		return pools.computeIfAbsent(key, k -> createPool(k, adapter, config)).requestFactory;
+	}
+
+	/**
+	 * Changes pool setup. Only pools created afterwards are affected.
+	 */
+	public void configure(int maxTotal, int maxPerRoute, int idleEvictionSeconds, int keepAliveSeconds) {
+		this.maxTotal = maxTotal;
+		this.maxPerRoute = maxPerRoute;
+		this.idleEvictionSeconds = idleEvictionSeconds;
+		this.keepAliveSeconds = keepAliveSeconds;
+	}
+
+	/**
+	 * @return statistics for every pool
+	 */
+	public List<HttpClientPoolStatistics> getStatistics() {
+		List<HttpClientPoolStatistics> list = new ArrayList<>();
+		for (Map.Entry<PoolKey, Pool> entry : pools.entrySet()) {
+			PoolStats stats = entry.getValue().connectionManager.getTotalStats();
+			list.add(new HttpClientPoolStatistics(entry.getKey().toString(), stats.getLeased(), stats.getAvailable(), stats.getPending(),
+					stats.getMax()));
+		}
+		return list;
+	}
+
+	/**
+	 * Closes all pools. Following requests will create new ones.
+	 */
+	public void closeAll() {
+		for (PoolKey key : new ArrayList<>(pools.keySet())) {
+			Pool pool = pools.remove(key);
+			if (pool == null) {
+				continue;
+			}
+			try {
+				pool.httpClient.close();
+			} catch (IOException e) {
+				LOG.warn("Was not able to close http client pool for {}", key, e);
+			}
+		}
+	}
+
+	private Pool createPool(PoolKey key, Adapter<?> adapter, AdapterConfig config) {
+		HostnameVerifier hostnameVerifier = config.isTrustAllCertificatesEnabled() ? NoopHostnameVerifier.INSTANCE
+				: SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+
+		TrustAllSupport support = new TrustAllSupport(adapter, config);
+		PoolingHttpClientConnectionManager connectionManager = support.createConnectionManager(hostnameVerifier);
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+		CloseableHttpClient httpClient = support.createHttpClientBuilder().setConnectionManager(connectionManager).setKeepAliveStrategy(createKeepAliveStrategy())
+				.evictExpiredConnections().evictIdleConnections(idleEvictionSeconds, TimeUnit.SECONDS).build();
+
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+
+		LOG.info("Created http client pool for {}, max total={}, max per route={}", key, maxTotal, maxPerRoute);
+		return new Pool(connectionManager, httpClient, requestFactory);
+	}
+
+	private ConnectionKeepAliveStrategy createKeepAliveStrategy() {
+		long maxKeepAliveMillis = keepAliveSeconds * 1000L;
+		return (response, context) -> {
+			long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			if (keepAlive <= 0 || keepAlive > maxKeepAliveMillis) {
+				/* server did not define keep alive time, or a longer one */
+				return maxKeepAliveMillis;
+			}
+			return keepAlive;
+		};
+	}
+
+	private static class Pool {
+		private final PoolingHttpClientConnectionManager connectionManager;
+		private final CloseableHttpClient httpClient;
+		private final ClientHttpRequestFactory requestFactory;
+
+		private Pool(PoolingHttpClientConnectionManager connectionManager, CloseableHttpClient httpClient, ClientHttpRequestFactory requestFactory) {
+			this.connectionManager = connectionManager;
+			this.httpClient = httpClient;
+			this.requestFactory = requestFactory;
+		}
+	}
+
+	private static class PoolKey {
+		private final String scheme;
+		private final String host;
+		private final int port;
+		private final boolean trustAll;
+		private final String proxyHostname;
+		private final int proxyPort;
+
+		private PoolKey(AdapterConfig config) {
+			URI uri = toURI(config.getProductBaseURL());
+			this.scheme = uri == null ? null : uri.getScheme();
+			this.host = uri == null ? null : uri.getHost();
+			this.port = uri == null ? -1 : uri.getPort();
+			this.trustAll = config.isTrustAllCertificatesEnabled();
+			boolean proxyDefined = config.isProxyDefined();
+			this.proxyHostname = proxyDefined ? config.getProxyHostname() : null;
+			this.proxyPort = proxyDefined ? config.getProxyPort() : -1;
+		}
+
+		private static URI toURI(String productBaseURL) {
+			if (productBaseURL == null) {
+				return null;
+			}
+			try {
+				return new URI(productBaseURL);
+			} catch (URISyntaxException e) {
+				/* will fail later on first request - so same pool for all of those */
+				return null;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(scheme, host, port, trustAll, proxyHostname, proxyPort);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PoolKey)) {
+				return false;
+			}
+			PoolKey other = (PoolKey) obj;
+			return port == other.port && trustAll == other.trustAll && proxyPort == other.proxyPort && Objects.equals(scheme, other.scheme)
+					&& Objects.equals(host, other.host) && Objects.equals(proxyHostname, other.proxyHostname);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(scheme).append("://").append(host);
+			if (port != -1) {
+				sb.append(':').append(port);
+			}
+			if (trustAll) {
+				sb.append(" (trust all)");
+			}
+			if (proxyHostname != null) {
+				sb.append(" (proxy ").append(proxyHostname).append(':').append(proxyPort).append(')');
+			}
+			return sb.toString();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Configures the shared {@link HttpClientPoolRegistry} used by all adapters,
+ * provides its statistics and logs them periodically.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class HttpClientPoolSetupService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HttpClientPoolSetupService.class);
+
+	@Value("${sechub.adapter.http.pool.max.total:" + HttpClientPoolRegistry.DEFAULT_MAX_TOTAL + "}")
+	int maxTotal = HttpClientPoolRegistry.DEFAULT_MAX_TOTAL;
+
+	@Value("${sechub.adapter.http.pool.max.per.route:" + HttpClientPoolRegistry.DEFAULT_MAX_PER_ROUTE + "}")
+	int maxPerRoute = HttpClientPoolRegistry.DEFAULT_MAX_PER_ROUTE;
+
+	@Value("${sechub.adapter.http.pool.idle.eviction.seconds:" + HttpClientPoolRegistry.DEFAULT_IDLE_EVICTION_SECONDS + "}")
+	int idleEvictionSeconds = HttpClientPoolRegistry.DEFAULT_IDLE_EVICTION_SECONDS;
+
+	@Value("${sechub.adapter.http.pool.keep.alive.seconds:" + HttpClientPoolRegistry.DEFAULT_KEEP_ALIVE_SECONDS + "}")
+	int keepAliveSeconds = HttpClientPoolRegistry.DEFAULT_KEEP_ALIVE_SECONDS;
+
+	HttpClientPoolRegistry registry = HttpClientPoolRegistry.DEFAULT_INSTANCE;
+	@PostConstruct
+	void configure() {
+		registry.configure(maxTotal, maxPerRoute, idleEvictionSeconds, keepAliveSeconds);
+	}
+
+	@PreDestroy
+	void close() {
+		registry.closeAll();
+	}
+
+	/**
+	 * @return statistics for every product server connection pool
+	 */
+	public List<HttpClientPoolStatistics> getStatistics() {
+		return registry.getStatistics();
+	}
+
+	/**
+	 * Logs statistics of all product server connection pools - default is every
+	 * 5 minutes. Nothing is logged when no pool exists.
+	 */
+	@Scheduled(initialDelayString = "${sechub.adapter.http.pool.statistics.log.millis:300000}", fixedDelayString = "${sechub.adapter.http.pool.statistics.log.millis:300000}")
+	public void logStatistics() {
+		for (HttpClientPoolStatistics statistics : getStatistics()) {
+			LOG.info("Http client pool statistics: {}", statistics);
+		}
+	}
+}
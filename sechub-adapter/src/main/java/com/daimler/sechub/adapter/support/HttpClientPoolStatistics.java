@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+/**
+ * Snapshot of one connection pool inside {@link HttpClientPoolRegistry}
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class HttpClientPoolStatistics {
+
+	private final String pool;
+	private final int leased;
+	private final int available;
+	private final int pending;
+	private final int max;
+
+	HttpClientPoolStatistics(String pool, int leased, int available, int pending, int max) {
+		this.pool = pool;
+		this.leased = leased;
+		this.available = available;
+		this.pending = pending;
+		this.max = max;
+	}
+
+	/**
+	 * @return description of pool - e.g. "https://checkmarx.example.org:443"
+	 */
+	public String getPool() {
+		return pool;
+	}
+
+	/**
+	 * @return amount of connections currently in use
+	 */
+	public int getLeased() {
+		return leased;
+	}
+
+	/**
+	 * @return amount of idle connections which can be reused
+	 */
+	public int getAvailable() {
+		return available;
+	}
+
+	/**
+	 * @return amount of requests waiting for a connection
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	public int getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return pool + ": leased=" + leased + ", available=" + available + ", pending=" + pending + ", max=" + max;
+	}
+}
@@ -0,0 +1,22 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+/**
+ * A check executed by {@link PollingScheduler}
+ *
+ * @author Albert Tregnaghi
+ *
+ * @param <T> result type
+ */
+@FunctionalInterface
+public interface PollingCheck<T> {
+
+	/**
+	 * Polls current state
+	 *
+	 * @return result when polling is done, <code>null</code> when polling must be
+	 *         continued
+	 * @throws Exception when polling failed, polling will not be continued
+	 */
+	public T poll() throws Exception;
+}
@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Scheduler for polling product states. Every poll is scheduled on a small,
+ * shared thread pool and the result is provided as a {@link CompletableFuture}.
+ * Only callers continuing on the future (e.g. by
+ * {@link com.daimler.sechub.adapter.WaitForStateSupport#waitForOKAsync(com.daimler.sechub.adapter.AdapterContext, java.util.concurrent.Executor)})
+ * need no thread while waiting - callers waiting for the future still block
+ * their own thread.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class PollingScheduler {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PollingScheduler.class);
+
+	private static final int SHARED_THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private static final PollingScheduler SHARED = new PollingScheduler(SHARED_THREAD_COUNT, "sechub-adapter-polling-");
+
+	private ScheduledExecutorService executorService;
+
+	private AtomicInteger activeChecks = new AtomicInteger();
+
+	/**
+	 * Creates a new scheduler - normally {@link #shared()} should be used
+	 *
+	 * @param threadCount
+	 * @param threadNamePrefix
+	 */
+	public PollingScheduler(int threadCount, String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadCount, threadFactory);
+		executor.setRemoveOnCancelPolicy(true);
+		this.executorService = executor;
+	}
+
+	/**
+	 * @return scheduler shared by all adapters
+	 */
+	public static PollingScheduler shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Schedules given check until it returns a result, fails or time out is
+	 * reached. Cancelling the returned future stops polling - a currently
+	 * running check is interrupted.
+	 *
+	 * @param check
+	 * @param strategy
+	 * @return future containing result of check. Will complete exceptionally with
+	 *         failure of check or a {@link TimeoutException}
+	 */
+	public <T> CompletableFuture<T> schedule(PollingCheck<T> check, PollingStrategy strategy) {
+		if (check == null) {
+			throw new IllegalArgumentException("check may not be null");
+		}
+		if (strategy == null) {
+			throw new IllegalArgumentException("strategy may not be null");
+		}
+		PollingExecution<T> execution = new PollingExecution<>(check, strategy);
+		activeChecks.incrementAndGet();
+		/* necessary for cancellation from outside */
+		execution.future.whenComplete((result, failure) -> {
+			execution.release();
+			if (execution.future.isCancelled()) {
+				execution.cancelScheduled();
+			}
+		});
+
+		execution.scheduleNext(strategy.getInitialDelayInMilliseconds());
+		return execution.future;
+	}
+
+	/**
+	 * @return amount of checks currently polled by this scheduler
+	 */
+	public int getActiveCheckCount() {
+		return activeChecks.get();
+	}
+
+	/**
+	 * Shutdown scheduler, running checks are not continued
+	 */
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	private class PollingExecution<T> implements Runnable {
+
+		private PollingCheck<T> check;
+		private PollingStrategy strategy;
+		private CompletableFuture<T> future = new CompletableFuture<>();
+		private long started = System.currentTimeMillis();
+		private int pollCount;
+		private AtomicBoolean released = new AtomicBoolean();
+		private volatile ScheduledFuture<?> scheduled;
+
+		private PollingExecution(PollingCheck<T> check, PollingStrategy strategy) {
+			this.check = check;
+			this.strategy = strategy;
+		}
+
+		@Override
+		public void run() {
+			if (future.isDone()) {
+				/* cancelled from outside */
+				return;
+			}
+			try {
+				pollCount++;
+				T result = check.poll();
+				if (result != null) {
+					release();
+					future.complete(result);
+					return;
+				}
+				long timeOut = strategy.getTimeOutInMilliseconds();
+				long millisecondsRun = System.currentTimeMillis() - started;
+				if (timeOut > 0 && millisecondsRun > timeOut) {
+					release();
+					future.completeExceptionally(new TimeoutException("Time out reached:" + millisecondsRun + " millis run."));
+					return;
+				}
+				scheduleNext(strategy.calculateDelayInMilliseconds(pollCount));
+			} catch (Exception e) {
+				release();
+				future.completeExceptionally(e);
+			} catch (Error e) {
+				release();
+				future.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		/**
+		 * Marks check as no longer active - must be done before future is completed,
+		 * otherwise callers waiting for the future could still see this check as
+		 * active
+		 */
+		private void release() {
+			if (released.compareAndSet(false, true)) {
+				activeChecks.decrementAndGet();
+			}
+		}
+
+		/**
+		 * Cancels next scheduled check - or interrupts check when currently running
+		 */
+		private void cancelScheduled() {
+			ScheduledFuture<?> current = scheduled;
+			if (current != null) {
+				current.cancel(true);
+			}
+		}
+
+		private void scheduleNext(long delayInMilliseconds) {
+			try {
+				scheduled = executorService.schedule(this, delayInMilliseconds, TimeUnit.MILLISECONDS);
+				if (future.isCancelled()) {
+					/* cancelled while scheduling */
+					cancelScheduled();
+				}
+			} catch (RejectedExecutionException e) {
+				LOG.error("Polling scheduler did not accept check - seems to be shut down");
+				release();
+				future.completeExceptionally(e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines when the next poll of a {@link PollingScheduler} check shall happen
+ * and when polling ends with a time out.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class PollingStrategy {
+
+	private long initialDelayInMilliseconds;
+	private long delayInMilliseconds;
+	private double backoffMultiplier = 1.0;
+	private long maximumDelayInMilliseconds = -1;
+	private double jitter;
+	private long timeOutInMilliseconds = -1;
+
+	private PollingStrategy() {
+	}
+
+	public static PollingStrategyBuilder builder() {
+		return new PollingStrategyBuilder();
+	}
+
+	public long getInitialDelayInMilliseconds() {
+		return initialDelayInMilliseconds;
+	}
+
+	public long getDelayInMilliseconds() {
+		return delayInMilliseconds;
+	}
+
+	public double getBackoffMultiplier() {
+		return backoffMultiplier;
+	}
+
+	public long getMaximumDelayInMilliseconds() {
+		return maximumDelayInMilliseconds;
+	}
+
+	public double getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * @return time out in milliseconds, values lower than 1 mean no time out
+	 */
+	public long getTimeOutInMilliseconds() {
+		return timeOutInMilliseconds;
+	}
+
+	/**
+	 * Calculates delay before next poll
+	 *
+	 * @param pollCount amount of polls already done (1 after first poll)
+	 * @return delay in milliseconds
+	 */
+	public long calculateDelayInMilliseconds(int pollCount) {
+		double delay = delayInMilliseconds;
+		for (int i = 1; i < pollCount; i++) {
+			delay = delay * backoffMultiplier;
+			if (maximumDelayInMilliseconds > 0 && delay >= maximumDelayInMilliseconds) {
+				break;
+			}
+		}
+		if (maximumDelayInMilliseconds > 0) {
+			delay = Math.min(delay, maximumDelayInMilliseconds);
+		}
+		if (jitter > 0 && delay > 0) {
+			double jitterRange = delay * jitter;
+			delay = delay + ThreadLocalRandom.current().nextDouble(-jitterRange, jitterRange);
+		}
+		return Math.max(0, (long) delay);
+	}
+
+	public static class PollingStrategyBuilder {
+
+		private PollingStrategy strategy = new PollingStrategy();
+
+		private PollingStrategyBuilder() {
+		}
+
+		/**
+		 * Set delay before first poll. Default is 0, so first poll is done
+		 * immediately.
+		 */
+		public PollingStrategyBuilder setInitialDelayInMilliseconds(long initialDelayInMilliseconds) {
+			strategy.initialDelayInMilliseconds = initialDelayInMilliseconds;
+			return this;
+		}
+
+		/**
+		 * Set delay between polls
+		 */
+		public PollingStrategyBuilder setDelayInMilliseconds(long delayInMilliseconds) {
+			strategy.delayInMilliseconds = delayInMilliseconds;
+			return this;
+		}
+
+		/**
+		 * Set backoff - after every poll delay is multiplied with given multiplier
+		 * until maximum delay is reached. Default multiplier is 1.0, means no backoff.
+		 */
+		public PollingStrategyBuilder setBackoff(double multiplier, long maximumDelayInMilliseconds) {
+			if (multiplier < 1.0) {
+				throw new IllegalArgumentException("Backoff multiplier must be >=1.0 but was " + multiplier);
+			}
+			strategy.backoffMultiplier = multiplier;
+			strategy.maximumDelayInMilliseconds = maximumDelayInMilliseconds;
+			return this;
+		}
+
+		/**
+		 * Set jitter - e.g. 0.1 will randomly change every delay by up to 10 percent.
+		 * So checks started at same time will not poll products at same time
+		 * forever.
+		 */
+		public PollingStrategyBuilder setJitter(double jitter) {
+			if (jitter < 0 || jitter >= 1) {
+				throw new IllegalArgumentException("Jitter must be >=0 and <1 but was " + jitter);
+			}
+			strategy.jitter = jitter;
+			return this;
+		}
+
+		/**
+		 * Set time out. Values lower than 1 mean no time out
+		 */
+		public PollingStrategyBuilder setTimeOutInMilliseconds(long timeOutInMilliseconds) {
+			strategy.timeOutInMilliseconds = timeOutInMilliseconds;
+			return this;
+		}
+
+		public PollingStrategy build() {
+			PollingStrategy result = strategy;
+			strategy = new PollingStrategy();
+			return result;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream skipping everything in front of a start marker - e.g. garbage
+ * in front of "&lt;?xml". The marker is only searched inside the first
+ * <code>maxPrefixSize</code> bytes, so memory usage is limited. When the marker
+ * is not found there, the stream content is provided unchanged.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class PrefixSkippingInputStream extends FilterInputStream {
+
+	public static final int DEFAULT_MAX_PREFIX_SIZE = 64 * 1024;
+
+	private final byte[] marker;
+	private final int maxPrefixSize;
+
+	private byte[] pending;
+	private int pendingPos;
+	private int pendingEnd;
+	private boolean prefixHandled;
+
+	public PrefixSkippingInputStream(InputStream in, byte[] marker) {
+		this(in, marker, DEFAULT_MAX_PREFIX_SIZE);
+	}
+
+	public PrefixSkippingInputStream(InputStream in, byte[] marker, int maxPrefixSize) {
+		super(in);
+		if (marker == null || marker.length == 0) {
+			throw new IllegalArgumentException("marker may not be null or empty");
+		}
+		if (maxPrefixSize < marker.length) {
+			throw new IllegalArgumentException("max prefix size must not be smaller than marker");
+		}
+		this.marker = marker;
+		this.maxPrefixSize = maxPrefixSize;
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] single = new byte[1];
+		int read = read(single, 0, 1);
+		if (read == -1) {
+			return -1;
+		}
+		return single[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		handlePrefix();
+		if (pendingPos < pendingEnd) {
+			int amount = Math.min(len, pendingEnd - pendingPos);
+			System.arraycopy(pending, pendingPos, b, off, amount);
+			pendingPos += amount;
+			if (pendingPos == pendingEnd) {
+				pending = null;
+			}
+			return amount;
+		}
+		return super.read(b, off, len);
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		byte[] buffer = new byte[(int) Math.min(n, 8192)];
+		int read = read(buffer, 0, buffer.length);
+		return read == -1 ? 0 : read;
+	}
+
+	@Override
+	public int available() throws IOException {
+		if (pending != null) {
+			return pendingEnd - pendingPos;
+		}
+		return super.available();
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		/* not supported */
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+
+	private void handlePrefix() throws IOException {
+		if (prefixHandled) {
+			return;
+		}
+		prefixHandled = true;
+
+		byte[] buffer = new byte[maxPrefixSize];
+		int size = 0;
+		int markerIndex = -1;
+		while (size < buffer.length) {
+			int read = in.read(buffer, size, buffer.length - size);
+			if (read == -1) {
+				break;
+			}
+			/* marker can start inside former read part */
+			int searchStart = Math.max(0, size - marker.length + 1);
+			size += read;
+			markerIndex = indexOfMarker(buffer, searchStart, size);
+			if (markerIndex != -1) {
+				break;
+			}
+		}
+		pendingPos = markerIndex == -1 ? 0 : markerIndex;
+		pendingEnd = size;
+		pending = pendingPos < pendingEnd ? buffer : null;
+	}
+
+	private int indexOfMarker(byte[] buffer, int start, int end) {
+		int last = end - marker.length;
+		for (int i = start; i <= last; i++) {
+			int j = 0;
+			while (j < marker.length && buffer[i + j] == marker[j]) {
+				j++;
+			}
+			if (j == marker.length) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
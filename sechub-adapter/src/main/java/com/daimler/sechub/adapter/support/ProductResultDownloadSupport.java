@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.daimler.sechub.adapter.AdapterConfig;
+import com.daimler.sechub.adapter.AdapterContext;
+import com.daimler.sechub.adapter.AdapterException;
+
+/**
+ * Downloads product results (reports) without holding them completely in
+ * memory. When the adapter configuration defines a result file (see
+ * {@link AdapterConfig#getPathToResultFile()}) the response body is streamed
+ * directly into this file - always UTF-8 encoded, so content in other
+ * charsets is transcoded while streaming. Otherwise the result is returned as
+ * string - former behaviour.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ProductResultDownloadSupport {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProductResultDownloadSupport.class);
+
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Downloads product result by HTTP GET
+	 *
+	 * @param context
+	 * @param url
+	 * @param startMarker when not <code>null</code> all content in front of this
+	 *                    marker is skipped - e.g. "&lt;?xml"
+	 * @return result as string or <code>null</code> when result was written into
+	 *         result file of adapter configuration
+	 * @throws AdapterException when response status is not 200 or writing failed
+	 */
+	public String download(AdapterContext<?> context, String url, String startMarker) throws AdapterException {
+		String pathToResultFile = context.getConfig().getPathToResultFile();
+		Path resultFile = pathToResultFile == null ? null : Paths.get(pathToResultFile);
+
+		Download download = context.getRestOperations().execute(url, HttpMethod.GET, null, response -> extract(response, resultFile, startMarker));
+		if (download == null || !HttpStatus.OK.equals(download.status)) {
+			throw context.asAdapterException("Response HTTP status not as expected: " + (download == null ? null : download.status), null);
+		}
+		if (resultFile != null) {
+			LOG.debug("{} wrote product result with {} bytes into {}", context.getConfig().getTraceID(), download.size, resultFile);
+		}
+		return download.text;
+	}
+
+	private Download extract(ClientHttpResponse response, Path resultFile, String startMarker) throws IOException {
+		Download download = new Download();
+		download.status = response.getStatusCode();
+		if (!HttpStatus.OK.equals(download.status)) {
+			return download;
+		}
+		Charset charset = resolveCharset(response);
+		try (InputStream body = createInputStream(response.getBody(), startMarker, charset)) {
+			if (resultFile == null) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				download.size = copy(body, out);
+				download.text = new String(out.toByteArray(), charset);
+			} else {
+				download.size = write(body, charset, resultFile);
+			}
+		}
+		return download;
+	}
+
+	private InputStream createInputStream(InputStream body, String startMarker, Charset charset) {
+		if (startMarker == null) {
+			return body;
+		}
+		return new PrefixSkippingInputStream(body, startMarker.getBytes(charset));
+	}
+
+	private long write(InputStream body, Charset charset, Path resultFile) throws IOException {
+		Path parent = resultFile.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (OutputStream out = Files.newOutputStream(resultFile)) {
+			if (StandardCharsets.UTF_8.equals(charset)) {
+				return copy(body, out);
+			}
+			transcodeToUTF8(body, charset, out);
+		} catch (IOException e) {
+			Files.deleteIfExists(resultFile);
+			throw e;
+		}
+		return Files.size(resultFile);
+	}
+
+	private void transcodeToUTF8(InputStream body, Charset charset, OutputStream out) throws IOException {
+		Reader reader = new InputStreamReader(body, charset);
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		char[] buffer = new char[BUFFER_SIZE];
+		int read;
+		while ((read = reader.read(buffer)) != -1) {
+			writer.write(buffer, 0, read);
+		}
+		writer.flush();
+	}
+
+	private long copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long size = 0;
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+			size += read;
+		}
+		return size;
+	}
+
+	private Charset resolveCharset(ClientHttpResponse response) {
+		MediaType contentType = response.getHeaders().getContentType();
+		if (contentType != null && contentType.getCharset() != null) {
+			return contentType.getCharset();
+		}
+		/* same default as used by string http message converter */
+		return StandardCharsets.ISO_8859_1;
+	}
+
+	private static class Download {
+		private HttpStatus status;
+		private String text;
+		private long size;
+	}
+}
@@ -14,7 +14,6 @@ import java.security.cert.X509Certificate;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
@@ -29,6 +28,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
@@ -63,17 +63,43 @@ public class TrustAllSupport {
 	}
 
 	public ClientHttpRequestFactory createTrustAllFactory() {
-		HttpClientBuilder clientBuilder = HttpClients.custom();
-		SSLContext sslContext = null;
-		if (config.isTrustAllCertificatesEnabled()) {
-			try {
-				sslContext = createTrustAllSSLContext(adapter);
-			} catch (AdapterException e) {
-				throw new IllegalStateException("Should not happen! See trace", e);
-			}
-		} else {
-			sslContext = SSLContexts.createSystemDefault();
+		HttpClientBuilder clientBuilder = createHttpClientBuilder();
+		clientBuilder.setConnectionManager(createConnectionManager(NoopHostnameVerifier.INSTANCE));
+
+		CloseableHttpClient httpClient = clientBuilder.build();
+
+		HttpComponentsClientHttpRequestFactory requestFactory2 = new HttpComponentsClientHttpRequestFactory();
+		requestFactory2.setHttpClient(httpClient);
+		return requestFactory2;
+	}
+
+	/**
+	 * Creates a http client builder. Cookies are not managed, because clients
+	 * are shared between adapter contexts and a session cookie of one scan must
+	 * not be sent by another one. When no SOCKS proxy is configured, the JVM
+	 * proxy settings (http.proxyHost, https.proxyHost, http.nonProxyHosts etc.)
+	 * are used. With a SOCKS proxy the connection socket factories do the
+	 * proxy handling, so the default route planner is used.
+	 * 
+	 * @return builder
+	 */
+	public HttpClientBuilder createHttpClientBuilder() {
+		HttpClientBuilder clientBuilder = HttpClients.custom().disableCookieManagement().useSystemProperties();
+		if (config.isProxyDefined()) {
+			clientBuilder.setRoutePlanner(new DefaultRoutePlanner(null));
 		}
+		return clientBuilder;
+	}
+
+	/**
+	 * Creates a pooling connection manager supporting the proxy and trust all
+	 * setup of the config
+	 * 
+	 * @param hostnameVerifier verifier used for https connections
+	 * @return connection manager
+	 */
+	public PoolingHttpClientConnectionManager createConnectionManager(HostnameVerifier hostnameVerifier) {
+		SSLContext sslContext = createSSLContext();
 		if (config.isProxyDefined()) {
 			// proxy with socks not working with standard HTTPHost,
 			// clientBuilder.setProxy(..)
@@ -81,24 +107,25 @@ public class TrustAllSupport {
 			// https://stackoverflow.com/questions/22937983/how-to-use-socks-5-proxy-with-apache-http-client-4
 			Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
 					.register("http", new SocksProxyConnectionSocketFactory())
-					.register("https", new SocksProxySSLConnectionSocketFactory(sslContext)).build();
-
-			PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
-			clientBuilder.setConnectionManager(cm);
-		} else {
-			clientBuilder.setSSLContext(sslContext);
-			clientBuilder.setSSLHostnameVerifier(new HostnameVerifier() {
-				public boolean verify(String hostname, SSLSession session) {
-					return /* NOSONAR - we know what we do here! */true;
-				}
-			});
-		}
+					.register("https", new SocksProxySSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
 
-		CloseableHttpClient httpClient = clientBuilder.build();
+			return new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
+		}
+		Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+		return new PoolingHttpClientConnectionManager(reg);
+	}
 
-		HttpComponentsClientHttpRequestFactory requestFactory2 = new HttpComponentsClientHttpRequestFactory();
-		requestFactory2.setHttpClient(httpClient);
-		return requestFactory2;
+	private SSLContext createSSLContext() {
+		if (!config.isTrustAllCertificatesEnabled()) {
+			return SSLContexts.createSystemDefault();
+		}
+		try {
+			return createTrustAllSSLContext(adapter);
+		} catch (AdapterException e) {
+			throw new IllegalStateException("Should not happen! See trace", e);
+		}
 	}
 
 	private SSLContext createTrustAllSSLContext(Adapter<?> adapter) throws AdapterException {
@@ -161,9 +188,8 @@ public class TrustAllSupport {
 
 	private class SocksProxySSLConnectionSocketFactory extends SSLConnectionSocketFactory {
 
-		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext) {
-			// You may need this verifier if target site's certificate is not secure
-			super(sslContext, NoopHostnameVerifier.INSTANCE);
+		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+			super(sslContext, hostnameVerifier);
 		}
 
 		@Override
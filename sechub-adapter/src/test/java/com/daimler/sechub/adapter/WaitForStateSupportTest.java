@@ -0,0 +1,222 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.daimler.sechub.adapter.testclasses.TestAdapter;
+import com.daimler.sechub.adapter.testclasses.TestAdapterConfigInterface;
+import com.daimler.sechub.adapter.testclasses.TestAdapterContextInterface;
+
+public class WaitForStateSupportTest {
+
+	private TestAdapterContextInterface context;
+	private TestAdapterConfigInterface config;
+	private TestWaitForStateSupport supportToTest;
+
+	@Before
+	public void before() throws Exception {
+		config = mock(TestAdapterConfigInterface.class);
+		when(config.getTimeToWaitForNextCheckOperationInMilliseconds()).thenReturn(5);
+
+		context = mock(TestAdapterContextInterface.class);
+		when(context.getConfig()).thenReturn(config);
+
+		supportToTest = new TestWaitForStateSupport();
+	}
+
+	@Test
+	public void waitForOK_returns_when_state_is_ok_and_handles_no_longer_waiting_state() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("running", "running", "ok").iterator();
+
+		/* execute */
+		supportToTest.waitForOK(context);
+
+		/* test */
+		assertEquals("ok", supportToTest.handledState);
+		assertNotEquals(Thread.currentThread(), supportToTest.pollingThread);
+		/* handling (e.g. downloads) must not block polling threads */
+		assertEquals(Thread.currentThread(), supportToTest.handlingThread);
+	}
+
+	@Test
+	public void waitForOKAsync_does_not_block_and_completes_future_with_state_without_handling_it() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("running", "ok").iterator();
+
+		/* execute */
+		CompletableFuture<String> future = supportToTest.waitForOKAsync(context);
+
+		/* test */
+		assertEquals("ok", future.get(5, TimeUnit.SECONDS));
+		assertNull(supportToTest.handledState);
+	}
+
+	@Test
+	public void waitForOKAsync_with_executor_handles_state_by_executor_and_not_by_polling_thread() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("running", "ok").iterator();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		/* execute */
+		CompletableFuture<String> future;
+		try {
+			future = supportToTest.waitForOKAsync(context, executor);
+			assertEquals("ok", future.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		/* test */
+		assertEquals("ok", supportToTest.handledState);
+		assertNotEquals(supportToTest.pollingThread, supportToTest.handlingThread);
+		assertNotEquals(Thread.currentThread(), supportToTest.handlingThread);
+	}
+
+	@Test
+	public void waitForOKAsync_with_executor_completes_with_adapter_exception_thrown_by_handling() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("canceled").iterator();
+		AdapterException canceled = new AdapterCanceledByUserException(new AdapterLogId("test", "trace"));
+		supportToTest.handleFailure = canceled;
+
+		/* execute */
+		CompletableFuture<String> future = supportToTest.waitForOKAsync(context, Runnable::run);
+
+		/* test */
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("no exception");
+		} catch (ExecutionException e) {
+			assertEquals(canceled, e.getCause());
+		}
+	}
+
+	@Test
+	public void waitForOKAsync_with_executor_cancelled_stops_polling() throws Exception {
+		/* prepare */
+		supportToTest.states = new Iterator<String>() {
+			public boolean hasNext() {
+				return true;
+			}
+
+			public String next() {
+				return "running";
+			}
+		};
+		CompletableFuture<String> future = supportToTest.waitForOKAsync(context, Runnable::run);
+		Thread.sleep(20);
+
+		/* execute */
+		future.cancel(true);
+
+		/* test */
+		Thread.sleep(20);
+		Thread lastPollingThread = supportToTest.pollingThread;
+		supportToTest.pollingThread = null;
+		Thread.sleep(50);
+		assertNotNull(lastPollingThread);
+		assertNull(supportToTest.pollingThread);
+	}
+
+	@Test
+	public void waitForOK_throws_adapter_exception_when_time_out_reached() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("running", "running", "running").iterator();
+		when(context.isTimeOut()).thenReturn(true);
+
+		/* execute */
+		try {
+			supportToTest.waitForOK(context);
+			fail("no exception");
+		} catch (AdapterException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("Time out reached"));
+			assertNull(supportToTest.handledState);
+		}
+	}
+
+	@Test
+	public void waitForOK_adds_response_body_to_adapter_exception_on_http_client_error() throws Exception {
+		/* prepare */
+		supportToTest.failure = new HttpClientErrorException(HttpStatus.BAD_REQUEST, "bad", "body-content".getBytes(), null);
+
+		/* execute */
+		try {
+			supportToTest.waitForOK(context);
+			fail("no exception");
+		} catch (AdapterException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("body-content"));
+		}
+	}
+
+	@Test
+	public void adapter_exception_thrown_by_handle_no_longer_waiting_state_is_thrown_unchanged() throws Exception {
+		/* prepare */
+		supportToTest.states = Arrays.asList("canceled").iterator();
+		AdapterException canceled = new AdapterCanceledByUserException(new AdapterLogId("test", "trace"));
+		supportToTest.handleFailure = canceled;
+
+		/* execute */
+		try {
+			supportToTest.waitForOK(context);
+			fail("no exception");
+		} catch (AdapterException e) {
+			/* test */
+			assertEquals(canceled, e);
+		}
+	}
+
+	private class TestWaitForStateSupport extends WaitForStateSupport<TestAdapterContextInterface, TestAdapterConfigInterface> {
+
+		private Iterator<String> states;
+		private Exception failure;
+		private AdapterException handleFailure;
+		private volatile String handledState;
+		private volatile Thread pollingThread;
+		private volatile Thread handlingThread;
+
+		public TestWaitForStateSupport() {
+			super(new TestAdapter());
+		}
+
+		@Override
+		protected boolean isWaitingForOKWhenInState(String state, TestAdapterContextInterface context) throws Exception {
+			return "running".equals(state);
+		}
+
+		@Override
+		protected void handleNoLongerWaitingState(String state, TestAdapterContextInterface context) throws Exception {
+			handlingThread = Thread.currentThread();
+			if (handleFailure != null) {
+				throw handleFailure;
+			}
+			handledState = state;
+		}
+
+		@Override
+		protected String getCurrentState(TestAdapterContextInterface context) throws Exception {
+			pollingThread = Thread.currentThread();
+			if (failure != null) {
+				throw failure;
+			}
+			return states.next();
+		}
+	}
+
+}
@@ -0,0 +1,187 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterConfig;
+
+public class HttpClientPoolRegistryTest {
+
+	private HttpClientPoolRegistry registryToTest;
+	private KeepAliveHttpServer server;
+	private Adapter<?> adapter;
+
+	@Before
+	public void before() throws Exception {
+		registryToTest = new HttpClientPoolRegistry();
+		server = new KeepAliveHttpServer();
+		server.start();
+		adapter = mock(Adapter.class);
+	}
+
+	@After
+	public void after() throws Exception {
+		registryToTest.closeAll();
+		server.stop();
+	}
+
+	@Test
+	public void same_product_server_uses_same_request_factory() {
+		/* execute */
+		ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config("http://localhost:1234", false));
+		ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config("http://localhost:1234/other/path", false));
+
+		/* test */
+		assertSame(factory1, factory2);
+		assertEquals(1, registryToTest.getStatistics().size());
+	}
+
+	@Test
+	public void different_port_or_trust_setup_uses_different_pools() {
+		/* execute */
+		ClientHttpRequestFactory factory1 = registryToTest.getRequestFactory(adapter, config("http://localhost:1234", false));
+		ClientHttpRequestFactory factory2 = registryToTest.getRequestFactory(adapter, config("http://localhost:1235", false));
+		ClientHttpRequestFactory factory3 = registryToTest.getRequestFactory(adapter, config("http://localhost:1234", true));
+
+		/* test */
+		assertNotSame(factory1, factory2);
+		assertNotSame(factory1, factory3);
+		assertEquals(3, registryToTest.getStatistics().size());
+	}
+
+	@Test
+	public void connection_is_reused_by_requests_of_different_rest_templates() throws Exception {
+		/* prepare */
+		String baseURL = "http://localhost:" + server.getPort();
+
+		/* execute - simulate two scans, every scan has its own rest template */
+		for (int scan = 0; scan < 2; scan++) {
+			RestTemplate restTemplate = new RestTemplate(registryToTest.getRequestFactory(adapter, config(baseURL, false)));
+			for (int i = 0; i < 3; i++) {
+				assertEquals("ok", restTemplate.getForObject(baseURL + "/call" + i, String.class));
+			}
+		}
+
+		/* test */
+		assertEquals(6, server.requests.get());
+		assertEquals(1, server.connections.get());
+
+		List<HttpClientPoolStatistics> statistics = registryToTest.getStatistics();
+		assertEquals(1, statistics.size());
+		assertEquals(0, statistics.get(0).getLeased());
+		assertEquals(1, statistics.get(0).getAvailable());
+	}
+
+	@Test
+	public void cookies_set_by_product_server_are_not_sent_by_following_requests() throws Exception {
+		/* prepare */
+		String baseURL = "http://localhost:" + server.getPort();
+
+		/* execute */
+		for (int scan = 0; scan < 2; scan++) {
+			RestTemplate restTemplate = new RestTemplate(registryToTest.getRequestFactory(adapter, config(baseURL, false)));
+			restTemplate.getForObject(baseURL + "/call", String.class);
+		}
+
+		/* test */
+		assertEquals(2, server.requests.get());
+		assertEquals(0, server.requestsWithCookies.get());
+	}
+
+	@Test
+	public void closed_registry_has_no_pools() {
+		/* prepare */
+		registryToTest.getRequestFactory(adapter, config("http://localhost:1234", false));
+
+		/* execute */
+		registryToTest.closeAll();
+
+		/* test */
+		assertTrue(registryToTest.getStatistics().isEmpty());
+	}
+
+	private AdapterConfig config(String productBaseURL, boolean trustAll) {
+		AdapterConfig config = mock(AdapterConfig.class);
+		when(config.getProductBaseURL()).thenReturn(productBaseURL);
+		when(config.isTrustAllCertificatesEnabled()).thenReturn(trustAll);
+		return config;
+	}
+
+	/**
+	 * Minimal HTTP/1.1 server supporting keep alive - counts accepted connections,
+	 * so reuse can be checked
+	 */
+	private static class KeepAliveHttpServer {
+		private ServerSocket serverSocket;
+		private AtomicInteger connections = new AtomicInteger();
+		private AtomicInteger requests = new AtomicInteger();
+		private AtomicInteger requestsWithCookies = new AtomicInteger();
+
+		private void start() throws IOException {
+			serverSocket = new ServerSocket(0);
+			Thread acceptThread = new Thread(() -> {
+				while (!serverSocket.isClosed()) {
+					try {
+						Socket socket = serverSocket.accept();
+						connections.incrementAndGet();
+						Thread handler = new Thread(() -> handle(socket));
+						handler.setDaemon(true);
+						handler.start();
+					} catch (IOException e) {
+						/* closed */
+					}
+				}
+			});
+			acceptThread.setDaemon(true);
+			acceptThread.start();
+		}
+
+		private int getPort() {
+			return serverSocket.getLocalPort();
+		}
+
+		private void handle(Socket socket) {
+			try (Socket s = socket) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+				OutputStream out = s.getOutputStream();
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.toLowerCase().startsWith("cookie:")) {
+						requestsWithCookies.incrementAndGet();
+					}
+					if (!line.isEmpty()) {
+						continue;
+					}
+					/* end of request header - requests have no body */
+					requests.incrementAndGet();
+					out.write("HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nSet-Cookie: JSESSIONID=scan1; Path=/\r\nContent-Length: 2\r\n\r\nok".getBytes(StandardCharsets.US_ASCII));
+					out.flush();
+				}
+			} catch (IOException e) {
+				/* connection closed */
+			}
+		}
+
+		private void stop() throws IOException {
+			serverSocket.close();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PollingSchedulerTest {
+
+	private PollingScheduler schedulerToTest;
+
+	@Before
+	public void before() throws Exception {
+		schedulerToTest = new PollingScheduler(2, "test-polling-");
+	}
+
+	@After
+	public void after() throws Exception {
+		schedulerToTest.shutdown();
+	}
+
+	@Test
+	public void check_is_polled_until_result_available() throws Exception {
+		/* prepare */
+		AtomicInteger polls = new AtomicInteger();
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(5).build();
+
+		/* execute */
+		CompletableFuture<String> future = schedulerToTest.schedule(() -> polls.incrementAndGet() == 3 ? "done" : null, strategy);
+
+		/* test */
+		assertEquals("done", future.get(5, TimeUnit.SECONDS));
+		assertEquals(3, polls.get());
+		assertEquals(0, schedulerToTest.getActiveCheckCount());
+	}
+
+	@Test
+	public void failing_check_completes_future_exceptionally_and_polling_stops() throws Exception {
+		/* prepare */
+		AtomicInteger polls = new AtomicInteger();
+		IllegalStateException failure = new IllegalStateException("failed");
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(5).build();
+
+		/* execute */
+		CompletableFuture<String> future = schedulerToTest.schedule(() -> {
+			polls.incrementAndGet();
+			throw failure;
+		}, strategy);
+
+		/* test */
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("no exception");
+		} catch (ExecutionException e) {
+			assertEquals(failure, e.getCause());
+		}
+		Thread.sleep(50);
+		assertEquals(1, polls.get());
+	}
+
+	@Test
+	public void time_out_completes_future_with_timeout_exception() throws Exception {
+		/* prepare */
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(5).setTimeOutInMilliseconds(50).build();
+
+		/* execute */
+		CompletableFuture<String> future = schedulerToTest.schedule(() -> null, strategy);
+
+		/* test */
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("no exception");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+	}
+
+	@Test
+	public void cancelled_future_stops_polling() throws Exception {
+		/* prepare */
+		AtomicInteger polls = new AtomicInteger();
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(10).build();
+		CompletableFuture<String> future = schedulerToTest.schedule(() -> {
+			polls.incrementAndGet();
+			return null;
+		}, strategy);
+		Thread.sleep(50);
+
+		/* execute */
+		future.cancel(true);
+		int pollsAfterCancel = polls.get();
+		Thread.sleep(50);
+
+		/* test */
+		assertTrue(polls.get() <= pollsAfterCancel + 1);
+		assertEquals(0, schedulerToTest.getActiveCheckCount());
+	}
+
+	@Test
+	public void cancelled_future_interrupts_running_check() throws Exception {
+		/* prepare */
+		CountDownLatch checkStarted = new CountDownLatch(1);
+		CountDownLatch checkInterrupted = new CountDownLatch(1);
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(0).build();
+		CompletableFuture<String> future = schedulerToTest.schedule(() -> {
+			checkStarted.countDown();
+			try {
+				Thread.sleep(10000);
+			} catch (InterruptedException e) {
+				checkInterrupted.countDown();
+				throw e;
+			}
+			return "done";
+		}, strategy);
+		assertTrue(checkStarted.await(5, TimeUnit.SECONDS));
+
+		/* execute */
+		future.cancel(true);
+
+		/* test */
+		assertTrue("Running check was not interrupted", checkInterrupted.await(5, TimeUnit.SECONDS));
+		assertEquals(0, schedulerToTest.getActiveCheckCount());
+	}
+
+	@Test
+	public void thousand_checks_are_handled_by_two_threads() throws Exception {
+		/* prepare */
+		PollingStrategy strategy = PollingStrategy.builder().setDelayInMilliseconds(10).build();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[1000];
+
+		/* execute */
+		for (int i = 0; i < futures.length; i++) {
+			AtomicInteger polls = new AtomicInteger();
+			futures[i] = schedulerToTest.schedule(() -> polls.incrementAndGet() == 5 ? Boolean.TRUE : null, strategy);
+		}
+
+		/* test */
+		CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+		assertEquals(0, schedulerToTest.getActiveCheckCount());
+	}
+
+}
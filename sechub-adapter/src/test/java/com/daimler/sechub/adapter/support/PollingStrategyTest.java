@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class PollingStrategyTest {
+
+	@Test
+	public void without_backoff_delay_is_always_same() {
+		/* prepare */
+		PollingStrategy strategyToTest = PollingStrategy.builder().setDelayInMilliseconds(100).build();
+
+		/* execute + test */
+		assertEquals(100, strategyToTest.calculateDelayInMilliseconds(1));
+		assertEquals(100, strategyToTest.calculateDelayInMilliseconds(10));
+	}
+
+	@Test
+	public void backoff_multiplies_delay_until_maximum_reached() {
+		/* prepare */
+		PollingStrategy strategyToTest = PollingStrategy.builder().setDelayInMilliseconds(100).setBackoff(2.0, 500).build();
+
+		/* execute + test */
+		assertEquals(100, strategyToTest.calculateDelayInMilliseconds(1));
+		assertEquals(200, strategyToTest.calculateDelayInMilliseconds(2));
+		assertEquals(400, strategyToTest.calculateDelayInMilliseconds(3));
+		assertEquals(500, strategyToTest.calculateDelayInMilliseconds(4));
+		assertEquals(500, strategyToTest.calculateDelayInMilliseconds(100000));
+	}
+
+	@Test
+	public void jitter_keeps_delay_inside_range() {
+		/* prepare */
+		PollingStrategy strategyToTest = PollingStrategy.builder().setDelayInMilliseconds(1000).setJitter(0.1).build();
+
+		/* execute + test */
+		for (int i = 0; i < 100; i++) {
+			long delay = strategyToTest.calculateDelayInMilliseconds(1);
+			assertTrue("delay was " + delay, delay >= 900 && delay <= 1100);
+		}
+	}
+
+	@Test
+	public void jitter_with_zero_delay_returns_zero() {
+		/* prepare */
+		PollingStrategy strategyToTest = PollingStrategy.builder().setDelayInMilliseconds(0).setJitter(0.1).build();
+
+		/* execute + test */
+		assertEquals(0, strategyToTest.calculateDelayInMilliseconds(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void jitter_of_one_is_not_accepted() {
+		PollingStrategy.builder().setJitter(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void backoff_multiplier_lower_than_one_is_not_accepted() {
+		PollingStrategy.builder().setBackoff(0.5, 100);
+	}
+}
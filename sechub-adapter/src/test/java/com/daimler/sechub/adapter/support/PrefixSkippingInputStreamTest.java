@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PrefixSkippingInputStreamTest {
+
+	private static final byte[] MARKER = "<?xml".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void prefix_in_front_of_marker_is_skipped() throws Exception {
+		assertEquals("<?xml bla", read("\uFEFF<?xml bla", 1024));
+		assertEquals("<?xml bla<?xml", read("garbage<?xml bla<?xml", 1024));
+	}
+
+	@Test
+	public void content_starting_with_marker_is_unchanged() throws Exception {
+		assertEquals("<?xml bla", read("<?xml bla", 1024));
+	}
+
+	@Test
+	public void content_without_marker_is_unchanged() throws Exception {
+		assertEquals("", read("", 1024));
+		assertEquals("no xml", read("no xml", 1024));
+		assertEquals("<?xm", read("<?xm", 1024));
+	}
+
+	@Test
+	public void marker_after_max_prefix_size_is_not_searched() throws Exception {
+		assertEquals("0123456789<?xml bla", read("0123456789<?xml bla", 12));
+	}
+
+	@Test
+	public void marker_split_over_multiple_reads_is_found() throws Exception {
+		/* prepare */
+		InputStream oneByteEachRead = new FilterInputStream(new ByteArrayInputStream("abc<?xml bla".getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(1, len));
+			}
+		};
+
+		/* execute */
+		String result = readFully(new PrefixSkippingInputStream(oneByteEachRead, MARKER, 1024));
+
+		/* test */
+		assertEquals("<?xml bla", result);
+	}
+
+	@Test
+	public void single_byte_reads_are_supported() throws Exception {
+		/* prepare */
+		PrefixSkippingInputStream streamToTest = new PrefixSkippingInputStream(
+				new ByteArrayInputStream("xx<?xml".getBytes(StandardCharsets.UTF_8)), MARKER, 1024);
+
+		/* execute + test */
+		assertEquals('<', streamToTest.read());
+		assertEquals('?', streamToTest.read());
+		streamToTest.skip(3);
+		assertEquals(-1, streamToTest.read());
+		streamToTest.close();
+	}
+
+	private String read(String content, int maxPrefixSize) throws IOException {
+		return readFully(new PrefixSkippingInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), MARKER, maxPrefixSize));
+	}
+
+	private String readFully(InputStream inputStream) throws IOException {
+		try (InputStream in = inputStream) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[3];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
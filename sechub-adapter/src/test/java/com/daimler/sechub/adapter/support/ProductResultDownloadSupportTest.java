@@ -0,0 +1,246 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.daimler.sechub.adapter.AdapterConfig;
+import com.daimler.sechub.adapter.AdapterContext;
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.AdapterLogId;
+
+public class ProductResultDownloadSupportTest {
+
+	private static final String PREFIX = "\uFEFF";
+	private static final String XML_START = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><report>";
+	private static final String XML_FINDING = "<finding id=\"1\" severity=\"high\">SQL injection</finding>\n";
+	private static final String XML_END = "</report>";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ProductResultDownloadSupport supportToTest;
+	private ReportServer server;
+	private AdapterContext<AdapterConfig> context;
+	private AdapterConfig config;
+
+	@SuppressWarnings("unchecked")
+	@Before
+	public void before() throws Exception {
+		supportToTest = new ProductResultDownloadSupport();
+		server = new ReportServer();
+		server.start();
+
+		config = mock(AdapterConfig.class);
+		context = mock(AdapterContext.class);
+		when(context.getConfig()).thenReturn(config);
+		when(context.getRestOperations()).thenReturn(new RestTemplate(new HttpComponentsClientHttpRequestFactory()));
+		when(context.asAdapterException(any(), any())).thenAnswer(invocation -> new AdapterException(new AdapterLogId("test", "trace"), (String) invocation.getArgument(0)));
+	}
+
+	@After
+	public void after() throws Exception {
+		server.stop();
+	}
+
+	@Test
+	public void without_result_file_result_is_returned_as_string_without_prefix() throws Exception {
+		/* prepare */
+		server.findings = 3;
+
+		/* execute */
+		String result = supportToTest.download(context, server.getURL(), "<?xml");
+
+		/* test */
+		assertEquals(XML_START + XML_FINDING + XML_FINDING + XML_FINDING + XML_END, result);
+	}
+
+	@Test
+	public void with_result_file_result_is_written_into_file_without_prefix() throws Exception {
+		/* prepare */
+		server.findings = 3;
+		File resultFile = new File(folder.getRoot(), "job/result.xml");
+		when(config.getPathToResultFile()).thenReturn(resultFile.getAbsolutePath());
+
+		/* execute */
+		String result = supportToTest.download(context, server.getURL(), "<?xml");
+
+		/* test */
+		assertNull(result);
+		assertEquals(XML_START + XML_FINDING + XML_FINDING + XML_FINDING + XML_END,
+				new String(Files.readAllBytes(resultFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void not_ok_status_results_in_adapter_exception() throws Exception {
+		/* prepare */
+		server.status = "204 No Content";
+
+		/* execute */
+		try {
+			supportToTest.download(context, server.getURL(), "<?xml");
+			fail("no adapter exception");
+		} catch (AdapterException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("204"));
+		}
+	}
+
+	@Test
+	public void with_result_file_result_in_other_charset_is_written_as_utf8() throws Exception {
+		/* prepare */
+		server.findings = 2;
+		server.charset = StandardCharsets.ISO_8859_1;
+		server.finding = "<finding id=\"1\" severity=\"high\">Gr\u00f6\u00dfe \u00e4\u00fc</finding>\n";
+		File resultFile = new File(folder.getRoot(), "result.xml");
+		when(config.getPathToResultFile()).thenReturn(resultFile.getAbsolutePath());
+
+		/* execute */
+		supportToTest.download(context, server.getURL(), "<?xml");
+
+		/* test */
+		assertEquals(XML_START + server.finding + server.finding + XML_END, new String(Files.readAllBytes(resultFile.toPath()), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Server sends first part of report and waits until this part has been
+	 * written into result file before sending the rest. When download would
+	 * buffer the response, the file would stay empty until the end.
+	 */
+	@Test
+	public void report_is_streamed_into_file_before_download_has_finished() throws Exception {
+		/* prepare */
+		server.findings = 20000;
+		File resultFile = new File(folder.getRoot(), "streamed.xml");
+		server.fileToWaitFor = resultFile;
+		when(config.getPathToResultFile()).thenReturn(resultFile.getAbsolutePath());
+
+		/* execute */
+		supportToTest.download(context, server.getURL(), "<?xml");
+
+		/* test */
+		assertTrue("Result file was not written while downloading", server.partWrittenBeforeEnd);
+		long expectedSize = XML_START.length() + server.findings * XML_FINDING.length() + XML_END.length();
+		assertEquals(expectedSize, resultFile.length());
+	}
+
+	/**
+	 * Minimal HTTP server generating a report with prefix on the fly
+	 */
+	private static class ReportServer {
+		private ServerSocket serverSocket;
+		private volatile long findings;
+		private volatile String status = "200 OK";
+		private volatile Charset charset = StandardCharsets.UTF_8;
+		private volatile String finding = XML_FINDING;
+		private volatile File fileToWaitFor;
+		private volatile boolean partWrittenBeforeEnd;
+
+		private void start() throws IOException {
+			serverSocket = new ServerSocket(0);
+			Thread acceptThread = new Thread(() -> {
+				while (!serverSocket.isClosed()) {
+					try {
+						Socket socket = serverSocket.accept();
+						Thread handler = new Thread(() -> handle(socket));
+						handler.setDaemon(true);
+						handler.start();
+					} catch (IOException e) {
+						/* closed */
+					}
+				}
+			});
+			acceptThread.setDaemon(true);
+			acceptThread.start();
+		}
+
+		private String getURL() {
+			return "http://localhost:" + serverSocket.getLocalPort() + "/report";
+		}
+
+		private void handle(Socket socket) {
+			try (Socket s = socket) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+				String line;
+				while ((line = reader.readLine()) != null && !line.isEmpty()) {
+					/* ignore request header */
+				}
+				byte[] start = (PREFIX + XML_START).getBytes(charset);
+				byte[] findingBytes = finding.getBytes(charset);
+				byte[] end = XML_END.getBytes(charset);
+				boolean ok = status.startsWith("200");
+				long contentLength = ok ? start.length + findings * findingBytes.length + end.length : 0;
+
+				OutputStream out = s.getOutputStream();
+				out.write(("HTTP/1.1 " + status + "\r\nContent-Type: application/xml;charset=" + charset.name() + "\r\nContent-Length: " + contentLength
+						+ "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+				if (ok) {
+					writeBody(out, start, findingBytes, end);
+				}
+				out.flush();
+			} catch (IOException e) {
+				/* connection closed */
+			}
+		}
+
+		private void writeBody(OutputStream out, byte[] start, byte[] finding, byte[] end) throws IOException {
+			out.write(start);
+			/* write findings in chunks */
+			int findingsPerChunk = 1000;
+			byte[] chunk = new byte[finding.length * findingsPerChunk];
+			for (int i = 0; i < findingsPerChunk; i++) {
+				System.arraycopy(finding, 0, chunk, i * finding.length, finding.length);
+			}
+			long remaining = findings;
+			while (remaining > 0) {
+				int amount = (int) Math.min(findingsPerChunk, remaining);
+				out.write(chunk, 0, amount * finding.length);
+				remaining -= amount;
+				if (fileToWaitFor != null && !partWrittenBeforeEnd && remaining < findings / 2) {
+					out.flush();
+					partWrittenBeforeEnd = waitUntilFileHasContent(fileToWaitFor);
+				}
+			}
+			out.write(end);
+		}
+
+		private boolean waitUntilFileHasContent(File file) {
+			long timeOut = System.currentTimeMillis() + 10000;
+			while (System.currentTimeMillis() < timeOut) {
+				if (file.length() > 0) {
+					return true;
+				}
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+			return false;
+		}
+
+		private void stop() throws IOException {
+			serverSocket.close();
+		}
+	}
+}
@@ -41,6 +41,9 @@ public class AuthMessageHandler implements AsynchronMessageHandler {
 	@Autowired
 	AuthUserDeleteService userAuthDeleteService;
 
+	@Autowired
+	AuthUserCredentialCache credentialCache;
+
 	@Override
 	public void receiveAsyncMessage(DomainMessage request) {
 		MessageID messageId = request.getMessageId();
@@ -70,6 +73,7 @@ public class AuthMessageHandler implements AsynchronMessageHandler {
 	private void handleUserRolesChanged(DomainMessage request) {
 		UserMessage userMessage = request.get(MessageDataKeys.USER_ROLES_DATA);
 		userAuthUpdateRolesService.updateRoles(userMessage.getUserId(), userMessage.getRoles());
+		credentialCache.invalidate(userMessage.getUserId());
 
 	}
 
@@ -77,6 +81,7 @@ public class AuthMessageHandler implements AsynchronMessageHandler {
 	private void handleUserApiTokenChanged(DomainMessage request) {
 		UserMessage userMessage = request.get(MessageDataKeys.USER_API_TOKEN_DATA);
 		userAuthTokenUpdateService.updateAPIToken(userMessage.getUserId(), userMessage.getHashedApiToken());
+		credentialCache.invalidate(userMessage.getUserId());
 	}
 
 	@IsReceivingAsyncMessage(MessageID.USER_CREATED)
@@ -89,6 +94,7 @@ public class AuthMessageHandler implements AsynchronMessageHandler {
 	private void handleUserDeleted(DomainMessage request) {
 		UserMessage userMessage = request.get(MessageDataKeys.USER_DELETE_DATA);
 		userAuthDeleteService.deleteUser(userMessage.getUserId());
+		credentialCache.invalidate(userMessage.getUserId());
 	}
 
 }
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authentication provider for the REST API. Does same as default DAO
+ * authentication (user details service + password encoder) but api tokens
+ * already verified are resolved by {@link AuthUserCredentialCache}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class AuthUserCachingAuthenticationProvider implements AuthenticationProvider {
+
+	@Autowired
+	UserDetailsService userDetailsService;
+
+	@Autowired
+	PasswordEncoder passwordEncoder;
+
+	@Autowired
+	AuthUserCredentialCache credentialCache;
+
+	private DaoAuthenticationProvider delegate;
+
+	@PostConstruct
+	void initialize() {
+		delegate = new DaoAuthenticationProvider();
+		delegate.setUserDetailsService(userDetailsService);
+		delegate.setPasswordEncoder(passwordEncoder);
+	}
+
+	@Override
+	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		String userId = authentication.getName();
+		String apiToken = authentication.getCredentials() == null ? null : authentication.getCredentials().toString();
+
+		UserDetails cached = credentialCache.get(userId, apiToken);
+		if (cached != null) {
+			UsernamePasswordAuthenticationToken result = new UsernamePasswordAuthenticationToken(cached, null, cached.getAuthorities());
+			result.setDetails(authentication.getDetails());
+			return result;
+		}
+		Authentication result = delegate.authenticate(authentication);
+		if (result != null && result.getPrincipal() instanceof UserDetails) {
+			credentialCache.put(userId, apiToken, (UserDetails) result.getPrincipal());
+		}
+		return result;
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return delegate.supports(authentication);
+	}
+
+}
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Cache for successfully verified API tokens. Instead of the token only a
+ * HMAC-SHA256 with a secret created at server start is kept. So an api call
+ * with an already verified token needs neither a database roundtrip nor a
+ * (slow by design) password encoder check.<br>
+ * <br>
+ * Entries are removed when time to live is reached or the user is deleted,
+ * its roles or its api token changed. Inside a cluster other servers only
+ * recognize those changes after time to live - so keep it short.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class AuthUserCredentialCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AuthUserCredentialCache.class);
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final int DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+	private static final int DEFAULT_MAXIMUM_ENTRIES = 1000;
+
+	@MustBeDocumented("Time to live in seconds for verified api tokens kept in memory. 0 disables the cache.")
+	@Value("${sechub.security.auth.cache.ttl.seconds:" + DEFAULT_TIME_TO_LIVE_SECONDS + "}")
+	int timeToLiveSeconds = DEFAULT_TIME_TO_LIVE_SECONDS;
+
+	@MustBeDocumented("Maximum amount of users having a verified api token kept in memory")
+	@Value("${sechub.security.auth.cache.maximum.entries:" + DEFAULT_MAXIMUM_ENTRIES + "}")
+	int maximumEntries = DEFAULT_MAXIMUM_ENTRIES;
+
+	private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+	private final SecretKeySpec secret;
+
+	public AuthUserCredentialCache() {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+	}
+
+	/**
+	 * Resolves user details for given user when given api token was verified
+	 * before and time to live is not reached
+	 *
+	 * @param userId
+	 * @param apiToken
+	 * @return user details or <code>null</code>
+	 */
+	public UserDetails get(String userId, String apiToken) {
+		if (userId == null || apiToken == null) {
+			return null;
+		}
+		CacheEntry entry = entries.get(userId);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(System.currentTimeMillis())) {
+			entries.remove(userId, entry);
+			return null;
+		}
+		if (!MessageDigest.isEqual(entry.hash, createHash(userId, apiToken))) {
+			return null;
+		}
+		return entry.userDetails;
+	}
+
+	/**
+	 * Marks given api token of user as verified
+	 *
+	 * @param userId
+	 * @param apiToken    the verified (plain) api token
+	 * @param userDetails resolved user details, without credentials
+	 */
+	public void put(String userId, String apiToken, UserDetails userDetails) {
+		if (timeToLiveSeconds <= 0 || userId == null || apiToken == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (entries.size() >= maximumEntries) {
+			removeExpired(now);
+			if (entries.size() >= maximumEntries) {
+				return;
+			}
+		}
+		entries.put(userId, new CacheEntry(createHash(userId, apiToken), userDetails, now + timeToLiveSeconds * 1000L));
+	}
+
+	/**
+	 * Removes verified api token of given user
+	 *
+	 * @param userId
+	 */
+	public void invalidate(String userId) {
+		if (userId == null) {
+			return;
+		}
+		if (entries.remove(userId) != null) {
+			LOG.debug("Removed verified credentials of user:{} from cache", userId);
+		}
+	}
+
+	private void removeExpired(long now) {
+		for (Iterator<CacheEntry> it = entries.values().iterator(); it.hasNext();) {
+			if (it.next().isExpired(now)) {
+				it.remove();
+			}
+		}
+	}
+
+	private byte[] createHash(String userId, String apiToken) {
+		try {
+			/* Mac instances are not thread safe, so always a new one */
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(secret);
+			mac.update(userId.getBytes(StandardCharsets.UTF_8));
+			mac.update((byte) 0);
+			return mac.doFinal(apiToken.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC not available", e);
+		}
+	}
+
+	private static class CacheEntry {
+		private final byte[] hash;
+		private final UserDetails userDetails;
+		private final long expiresAt;
+
+		private CacheEntry(byte[] hash, UserDetails userDetails, long expiresAt) {
+			this.hash = hash;
+			this.userDetails = userDetails;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
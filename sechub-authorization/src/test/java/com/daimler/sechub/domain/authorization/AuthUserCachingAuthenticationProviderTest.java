@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.daimler.sechub.sharedkernel.RoleConstants;
+
+public class AuthUserCachingAuthenticationProviderTest {
+
+	private static final String API_TOKEN = "api-token-1";
+
+	private AuthUserCachingAuthenticationProvider providerToTest;
+	private UserDetailsService userDetailsService;
+	private PasswordEncoder passwordEncoder;
+	private AuthUserCredentialCache credentialCache;
+
+	@Before
+	public void before() throws Exception {
+		passwordEncoder = spy(new BCryptPasswordEncoder(4));
+		String hashedApiToken = passwordEncoder.encode(API_TOKEN);
+
+		userDetailsService = mock(UserDetailsService.class);
+		when(userDetailsService.loadUserByUsername("user1"))
+				.thenAnswer(invocation -> User.builder().username("user1").password(hashedApiToken).authorities(RoleConstants.ROLE_USER).build());
+
+		credentialCache = new AuthUserCredentialCache();
+
+		providerToTest = new AuthUserCachingAuthenticationProvider();
+		providerToTest.userDetailsService = userDetailsService;
+		providerToTest.passwordEncoder = passwordEncoder;
+		providerToTest.credentialCache = credentialCache;
+		providerToTest.initialize();
+	}
+
+	@Test
+	public void verified_api_token_is_not_verified_again_on_next_authentication() {
+		/* execute */
+		Authentication auth1 = providerToTest.authenticate(token(API_TOKEN));
+		Authentication auth2 = providerToTest.authenticate(token(API_TOKEN));
+
+		/* test */
+		assertTrue(auth1.isAuthenticated());
+		assertTrue(auth2.isAuthenticated());
+		assertEquals("user1", auth2.getName());
+		assertEquals(RoleConstants.ROLE_USER, auth2.getAuthorities().iterator().next().getAuthority());
+		verify(userDetailsService, times(1)).loadUserByUsername("user1");
+		verify(passwordEncoder, times(1)).matches(eq(API_TOKEN), any());
+	}
+
+	@Test(expected = BadCredentialsException.class)
+	public void wrong_api_token_is_not_accepted_even_when_other_token_is_cached() {
+		/* prepare */
+		providerToTest.authenticate(token(API_TOKEN));
+
+		/* execute */
+		providerToTest.authenticate(token("wrong-token"));
+	}
+
+	@Test
+	public void invalidated_user_is_verified_again() {
+		/* prepare */
+		providerToTest.authenticate(token(API_TOKEN));
+
+		/* execute */
+		credentialCache.invalidate("user1");
+		providerToTest.authenticate(token(API_TOKEN));
+
+		/* test */
+		verify(userDetailsService, times(2)).loadUserByUsername("user1");
+	}
+
+	@Test
+	public void nothing_is_cached_when_time_to_live_is_zero() {
+		/* prepare */
+		credentialCache.timeToLiveSeconds = 0;
+
+		/* execute */
+		providerToTest.authenticate(token(API_TOKEN));
+		providerToTest.authenticate(token(API_TOKEN));
+
+		/* test */
+		verify(userDetailsService, times(2)).loadUserByUsername("user1");
+	}
+
+	@Test
+	public void no_entries_are_added_when_maximum_reached() {
+		/* prepare */
+		credentialCache.maximumEntries = 0;
+
+		/* execute */
+		providerToTest.authenticate(token(API_TOKEN));
+
+		/* test */
+		assertNull(credentialCache.get("user1", API_TOKEN));
+	}
+
+	private UsernamePasswordAuthenticationToken token(String apiToken) {
+		return new UsernamePasswordAuthenticationToken("user1", apiToken);
+	}
+}
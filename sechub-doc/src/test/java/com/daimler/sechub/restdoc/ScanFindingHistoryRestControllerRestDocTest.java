@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.restdoc;
+import static com.daimler.sechub.test.TestURLBuilder.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.daimler.sechub.docgen.util.RestDocPathFactory;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.domain.scan.report.ScanFindingAge;
+import com.daimler.sechub.domain.scan.report.ScanFindingHistory;
+import com.daimler.sechub.domain.scan.report.ScanFindingHistoryRestController;
+import com.daimler.sechub.domain.scan.report.ScanFindingHistoryService;
+import com.daimler.sechub.domain.scan.report.ScanReportTrendPoint;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserFetchesProjectFindingHistory;
+import com.daimler.sechub.test.ExampleConstants;
+import com.daimler.sechub.test.TestPortProvider;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(ScanFindingHistoryRestController.class)
+@ContextConfiguration(classes= {ScanFindingHistoryRestController.class, ScanFindingHistoryRestControllerRestDocTest.SimpleTestConfiguration.class})
+@AutoConfigureRestDocs(uriScheme="https",uriHost=ExampleConstants.URI_SECHUB_SERVER,uriPort=443)
+public class ScanFindingHistoryRestControllerRestDocTest {
+
+	private static final String PROJECT1_ID = "project1";
+
+	private static final int PORT_USED = TestPortProvider.DEFAULT_INSTANCE.getRestDocTestPort();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private ScanFindingHistoryService historyService;
+
+	@UseCaseRestDoc(useCase=UseCaseUserFetchesProjectFindingHistory.class,variant="History")
+	@Test
+	@WithMockUser
+	public void get_finding_history_returns_finding_ages_as_json() throws Exception {
+		/* prepare */
+		LocalDateTime lastSeen = LocalDateTime.of(2019, 8, 20, 10, 15);
+		ScanFindingHistory history = new ScanFindingHistory(PROJECT1_ID, "4f3c9a0e...");
+		history.markSeen(UUID.randomUUID(), lastSeen.minusDays(12), "Cross Site Scripting", Severity.HIGH);
+		history.markSeen(UUID.randomUUID(), lastSeen, "Cross Site Scripting", Severity.HIGH);
+		when(historyService.getFindingAges(PROJECT1_ID, null)).thenReturn(Arrays.asList(new ScanFindingAge(history)));
+
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetFindingHistoryUrl(PROJECT1_ID)).accept(MediaType.APPLICATION_JSON_UTF8).
+	    			contentType(MediaType.APPLICATION_JSON_UTF8)
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isOk()).
+	    			andExpect(jsonPath("$[0].name").value("Cross Site Scripting")).
+	    			andExpect(jsonPath("$[0].severity").value("HIGH")).
+	    			andExpect(jsonPath("$[0].ageInDays").value(12)).
+
+	    			andDo(document(RestDocPathFactory.createPath(UseCaseUserFetchesProjectFindingHistory.class, "History"))
+
+	    					);
+
+	    /* @formatter:on */
+	}
+
+	@UseCaseRestDoc(useCase=UseCaseUserFetchesProjectFindingHistory.class,variant="Trend")
+	@Test
+	@WithMockUser
+	public void get_finding_trend_returns_severity_counts_of_jobs_as_json() throws Exception {
+		/* prepare */
+		LocalDateTime ended = LocalDateTime.of(2019, 8, 20, 10, 15);
+		ScanReportTrendPoint point1 = new ScanReportTrendPoint(UUID.randomUUID(), ended.minusDays(1), 2, 1, 0, 0, 3, 5);
+		ScanReportTrendPoint point2 = new ScanReportTrendPoint(UUID.randomUUID(), ended, 1, 1, 0, 0, 3, 5);
+		when(historyService.getTrend(PROJECT1_ID, 90)).thenReturn(Arrays.asList(point1, point2));
+
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetFindingTrendUrl(PROJECT1_ID, 90)).accept(MediaType.APPLICATION_JSON_UTF8).
+	    			contentType(MediaType.APPLICATION_JSON_UTF8)
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isOk()).
+	    			andExpect(jsonPath("$[0].critical").value(2)).
+	    			andExpect(jsonPath("$[1].critical").value(1)).
+	    			andExpect(jsonPath("$[1].ended").value("2019-08-20T10:15:00")).
+
+	    			andDo(document(RestDocPathFactory.createPath(UseCaseUserFetchesProjectFindingHistory.class, "Trend"))
+
+	    					);
+
+	    /* @formatter:on */
+	}
+
+	@TestConfiguration
+	@EnableAutoConfiguration
+	public static class SimpleTestConfiguration{
+
+	}
+
+}
@@ -34,7 +34,11 @@ import com.daimler.sechub.domain.scan.SecHubResultService;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
+import com.daimler.sechub.domain.scan.report.ScanReportDiffService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportDiff;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLService;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
@@ -42,12 +46,13 @@ import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReport;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReportDiff;
 import com.daimler.sechub.test.ExampleConstants;
 import com.daimler.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
+@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportHTMLService.class, ScanReportHTMLCache.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
 @AutoConfigureRestDocs(uriScheme="https",uriHost=ExampleConstants.URI_SECHUB_SERVER,uriPort=443)
 public class ScanReportRestControllerRestDocTest {
 
@@ -64,6 +69,9 @@ public class ScanReportRestControllerRestDocTest {
 	@MockBean
 	private DownloadScanReportService downloadReportService;
 
+	@MockBean
+	private ScanReportDiffService diffService;
+
 	@MockBean
 	SecHubResultService secHubResultService;
 
@@ -119,7 +127,8 @@ public class ScanReportRestControllerRestDocTest {
 		report.setTrafficLight(TrafficLight.YELLOW);
 
 		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+		when(downloadReportService.getScanReport(PROJECT1_ID, randomUUID)).thenReturn(report);
+		when(downloadReportService.getScanReportResult(report)).thenReturn(result1);
 
 		/* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -139,6 +148,38 @@ public class ScanReportRestControllerRestDocTest {
         /* @formatter:on */
 	}
 
+	@UseCaseRestDoc(useCase=UseCaseUserDownloadsJobReportDiff.class)
+	@Test
+	@WithMockUser
+	public void get_report_diff_from_existing_job_returns_new_fixed_and_unchanged_findings_as_json() throws Exception {
+		/* prepare */
+		UUID previousUUID = UUID.randomUUID();
+		String json = "{\"jobUUID\":\""+randomUUID+"\",\"previousJobUUID\":\""+previousUUID+"\","
+				+ "\"newFindings\":[{\"id\":1,\"name\":\"Cross Site Scripting\",\"severity\":\"HIGH\"}],"
+				+ "\"fixedFindings\":[{\"id\":2,\"name\":\"SQL Injection\",\"severity\":\"HIGH\"}],"
+				+ "\"unchangedFindings\":[{\"id\":3,\"name\":\"Missing Header\",\"severity\":\"LOW\"}]}";
+		ScanReportDiff diff = ScanReportDiff.OBJECT.fromJSON(json);
+		when(diffService.getScanReportDiff(PROJECT1_ID, randomUUID)).thenReturn(diff);
+
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetJobReportDiffUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON_UTF8).
+	    			contentType(MediaType.APPLICATION_JSON_UTF8)
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isOk()).
+	    			andExpect(jsonPath("$.jobUUID").value(randomUUID.toString())).
+	    			andExpect(jsonPath("$.previousJobUUID").value(previousUUID.toString())).
+	    			andExpect(jsonPath("$.newFindings[0].name").value("Cross Site Scripting")).
+	    			andExpect(jsonPath("$.fixedFindings[0].name").value("SQL Injection")).
+	    			andExpect(jsonPath("$.unchangedFindings[0].name").value("Missing Header")).
+
+	    			andDo(document(RestDocPathFactory.createPath(UseCaseUserDownloadsJobReportDiff.class))
+
+	    					);
+
+	    /* @formatter:on */
+	}
+
 	@TestConfiguration
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration{
@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.restdoc;
+
+import static com.daimler.sechub.test.TestURLBuilder.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.daimler.sechub.docgen.util.RestDocPathFactory;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatusRestController;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatusService;
+import com.daimler.sechub.sharedkernel.Profiles;
+import com.daimler.sechub.sharedkernel.RoleConstants;
+import com.daimler.sechub.sharedkernel.configuration.AbstractAllowSecHubAPISecurityConfiguration;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
+import com.daimler.sechub.sharedkernel.usecases.job.UseCaseAdministratorFetchesSchedulerStatus;
+import com.daimler.sechub.test.ExampleConstants;
+import com.daimler.sechub.test.TestPortProvider;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(SchedulerStatusRestController.class)
+@ContextConfiguration(classes = { SchedulerStatusRestController.class,
+		SchedulerStatusRestControllerRestDocTest.SimpleTestConfiguration.class })
+@WithMockUser(authorities = RoleConstants.ROLE_SUPERADMIN)
+@ActiveProfiles(Profiles.TEST)
+@AutoConfigureRestDocs(uriScheme="https",uriHost=ExampleConstants.URI_SECHUB_SERVER,uriPort=443)
+public class SchedulerStatusRestControllerRestDocTest {
+
+	private static final int PORT_USED = TestPortProvider.DEFAULT_INSTANCE.getRestDocTestPort();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	SchedulerStatusService statusService;
+
+	@Before
+	public void before() {
+		/* @formatter:off */
+		String json = "{"
+				+ "\"claim\":{\"batchSize\":5,\"claims\":1200,\"emptyClaims\":1000,\"claimedJobs\":380,\"contentions\":3,"
+				+ "\"failures\":0,\"denied\":12,\"latencyAverageMillis\":8,\"latencyMaxMillis\":120,\"latencyLastMillis\":5},"
+				+ "\"execution\":{\"poolSize\":10,\"queueCapacity\":0,\"rejectionPolicy\":\"ABORT\",\"active\":7,\"queued\":0,"
+				+ "\"rejected\":0,\"freeCapacity\":3},"
+				+ "\"messaging\":{\"queuesEnabled\":true,\"queues\":[{\"messageId\":\"JOB_DONE\",\"threads\":2,\"capacity\":1000,"
+				+ "\"overflowPolicy\":\"BLOCK\",\"active\":1,\"queued\":4,\"handled\":380,\"dropped\":0,\"blocked\":0,\"callerRuns\":0,"
+				+ "\"latencyAverageMillis\":3,\"latencyMaxMillis\":42,\"latencyHistogram\":{\"<=1\":120,\"<=5\":200,\"<=10\":50,\"<=50\":10,"
+				+ "\"<=100\":0,\"<=500\":0,\"<=1000\":0,\"<=5000\":0,\"<=10000\":0,\">10000\":0}}]},"
+				+ "\"whitelist\":{\"projects\":12,\"entries\":340,\"trieNodes\":910,\"hits\":5300,\"misses\":48,\"invalidations\":3}"
+				+ "}";
+		/* @formatter:on */
+		when(statusService.fetchStatus()).thenReturn(SchedulerStatus.OBJECT.fromJSON(json));
+	}
+
+	@Test
+	@UseCaseRestDoc(useCase=UseCaseAdministratorFetchesSchedulerStatus.class)
+	public void restdoc_admin_fetches_scheduler_status() throws Exception {
+
+		/* execute + test @formatter:off */
+		this.mockMvc.perform(
+				get(https(PORT_USED).buildAdminFetchesSchedulerStatusUrl()).
+				contentType(MediaType.APPLICATION_JSON_UTF8_VALUE)
+				)./*
+		andDo(print()).
+				*/
+		andExpect(status().isOk()).
+		andDo(document(RestDocPathFactory.createPath(UseCaseAdministratorFetchesSchedulerStatus.class),
+				responseFields(
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_BATCHSIZE)).description("Maximum amount of jobs claimed by one trigger execution"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_CLAIMS)).description("Amount of claims done by this POD"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_EMPTY_CLAIMS)).description("Amount of claims where no job was available"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_CLAIMED_JOBS)).description("Amount of jobs claimed by this POD"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_CONTENTIONS)).description("Amount of claims failed because of concurrent access by other PODs"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_FAILURES)).description("Amount of claims failed because of fatal errors"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_DENIED)).description("Amount of claims not done, because job execution pool was full"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_LATENCY_AVERAGE_MILLIS)).description("Average time in milliseconds for one claim"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_LATENCY_MAX_MILLIS)).description("Maximum time in milliseconds for one claim"),
+						fieldWithPath(inClaim(SchedulerStatus.PROPERTY_CLAIM_LATENCY_LAST_MILLIS)).description("Time in milliseconds for last claim"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_POOL_SIZE)).description("Maximum amount of jobs executed in parallel by this POD"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_QUEUE_CAPACITY)).description("Maximum amount of jobs waiting for execution on this POD"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_REJECTION_POLICY)).description("Policy used when execution pool and queue are full"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_ACTIVE)).description("Amount of jobs currently executed"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_QUEUED)).description("Amount of jobs currently waiting for execution"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_REJECTED)).description("Amount of jobs rejected by execution pool"),
+						fieldWithPath(inExecution(SchedulerStatus.PROPERTY_EXECUTION_FREE_CAPACITY)).description("Amount of jobs this POD can accept at the moment"),
+						fieldWithPath(inMessaging(SchedulerStatus.PROPERTY_MESSAGING_QUEUES_ENABLED)).description("When true, every message id has its own bounded queue for asynchronous messages"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_MESSAGE_ID)).description("Message id handled by this queue"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_THREADS)).description("Maximum amount of threads handling messages of this queue"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_CAPACITY)).description("Maximum amount of messages waiting inside this queue"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_OVERFLOW_POLICY)).description("Policy used when queue is full"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_ACTIVE)).description("Amount of messages currently handled"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_QUEUED)).description("Amount of messages currently waiting (queue depth)"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_HANDLED)).description("Amount of handled messages"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_DROPPED)).description("Amount of messages dropped because queue was full"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_BLOCKED)).description("Amount of senders which had to wait because queue was full"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_CALLER_RUNS)).description("Amount of messages handled inside sender thread because queue was full"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_LATENCY_AVERAGE_MILLIS)).description("Average handler time in milliseconds"),
+						fieldWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_LATENCY_MAX_MILLIS)).description("Maximum handler time in milliseconds"),
+						subsectionWithPath(inMessagingQueues(SchedulerStatus.PROPERTY_MESSAGING_QUEUE_LATENCY_HISTOGRAM)).description("Amount of handled messages per handler time bucket. Key is the upper bound in milliseconds"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_PROJECTS)).description("Amount of projects having a cached whitelist index on this POD"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_ENTRIES)).description("Amount of whitelist entries of all cached indexes"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_TRIE_NODES)).description("Amount of path trie nodes of all cached indexes"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_HITS)).description("Amount of whitelist checks using a cached index"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_MISSES)).description("Amount of whitelist checks which had to build the index"),
+						fieldWithPath(inWhiteList(SchedulerStatus.PROPERTY_WHITELIST_INVALIDATIONS)).description("Amount of indexes removed because project whitelist was updated")
+					)
+				)
+
+				);
+
+		/* @formatter:on */
+	}
+
+	private static String inClaim(String field) {
+		return SchedulerStatus.PROPERTY_CLAIM+"."+field;
+	}
+
+	private static String inExecution(String field) {
+		return SchedulerStatus.PROPERTY_EXECUTION+"."+field;
+	}
+
+	private static String inMessaging(String field) {
+		return SchedulerStatus.PROPERTY_MESSAGING+"."+field;
+	}
+
+	private static String inMessagingQueues(String field) {
+		return inMessaging(SchedulerStatus.PROPERTY_MESSAGING_QUEUES)+"[]."+field;
+	}
+
+	private static String inWhiteList(String field) {
+		return SchedulerStatus.PROPERTY_WHITELIST+"."+field;
+	}
+
+	@EnableAutoConfiguration
+	public static class SimpleTestConfiguration extends AbstractAllowSecHubAPISecurityConfiguration {
+
+	}
+
+}
@@ -19,6 +19,7 @@ import com.daimler.sechub.domain.scan.TargetRegistry.TargetRegistryInfo;
 import com.daimler.sechub.domain.scan.product.AbstractCodeScanProductExecutor;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.ProductResultFileService;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.storage.JobStorage;
@@ -45,6 +46,9 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 	
 	@Autowired
 	StorageService storageService;
+
+	@Autowired
+	ProductResultFileService productResultFileService;
 	
 	@Override
 	protected List<ProductResult> executeWithAdapter(SecHubExecutionContext context, CheckmarxInstallSetup setup, TargetRegistryInfo data)
@@ -57,6 +61,7 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 		JobStorage storage = storageService.getJobStorage(projectId, jobUUID);
 		String path = storage.getAbsolutePath("sourcecode.zip");
 		String projectName = context.getConfiguration().getProjectId();
+		String pathToResultFile = productResultFileService.createPathToResultFile(context, getIdentifier());
 		
 		/* @formatter:off */
 		
@@ -75,12 +80,13 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 				setTraceID(context.getTraceLogIdAsString()).
 				/* TODO Albert Tregnaghi, 2018-10-09:policy id - always default id - what about config.getPoliciyID() ?!?! */
 				setProductBaseUrl(setup.getBaseURL()).
+				setPathToResultFile(pathToResultFile).
 				build();
 		/* @formatter:on */
 
 		/* execute nessus by adapter and return product result */
 		String xml = checkmarxAdapter.start(nessusConfig);
-		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
+		ProductResult result = productResultFileService.createProductResult(context, getIdentifier(), xml, pathToResultFile);
 		return Collections.singletonList(result);
 	}
 
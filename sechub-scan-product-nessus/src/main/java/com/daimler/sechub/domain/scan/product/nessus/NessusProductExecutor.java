@@ -21,6 +21,8 @@ import com.daimler.sechub.domain.scan.TargetType;
 import com.daimler.sechub.domain.scan.product.AbstractInfrastructureScanProductExecutor;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.ProductResultFileService;
+import com.daimler.sechub.domain.scan.product.TargetTypeExecutionFailureMode;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubInfrastructureScanConfiguration;
@@ -48,11 +50,22 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_TIMEOUT)
 	private int scanResultCheckTimeOutInMinutes;
 	
+	@Value("${sechub.adapter.nessus.targettype.concurrency:1}")
+	@MustBeDocumented(DOCUMENT_INFO_TARGETTYPE_CONCURRENCY)
+	int maximumConcurrentTargetTypeExecutions = 1;
+
+	@Value("${sechub.adapter.nessus.targettype.failure.mode:FAIL_FAST}")
+	@MustBeDocumented(DOCUMENT_INFO_TARGETTYPE_FAILURE_MODE)
+	TargetTypeExecutionFailureMode targetTypeExecutionFailureMode = TargetTypeExecutionFailureMode.FAIL_FAST;
+
 	@Autowired
 	NessusAdapter nessusAdapter;
 
 	@Autowired
 	NessusInstallSetup installSetup;
+
+	@Autowired
+	ProductResultFileService productResultFileService;
 	
 	@Override
 	protected List<ProductResult> executeWithAdapter(SecHubExecutionContext context, NessusInstallSetup setup, TargetRegistryInfo data)
@@ -62,6 +75,7 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 		}
 		TargetType targetType = data.getTargetType();
 		LOG.debug("Trigger nessus adapter execution for target type {} and setup {} ", targetType ,setup);
+		String pathToResultFile = productResultFileService.createPathToResultFile(context, getIdentifier());
 		/* @formatter:off */
 		NessusAdapterConfig nessusConfig = NessusConfig.builder().
 				setTimeToWaitForNextCheckOperationInMinutes(scanResultCheckPeriodInMinutes).
@@ -76,15 +90,26 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 				setPolicyID(setup.getDefaultPolicyId()).
 				setProductBaseUrl(setup.getBaseURL(targetType)).
 				setTargetIPs(data.getIPs()).
+				setPathToResultFile(pathToResultFile).
 				setTargetURIs(data.getURIs()).build();
 		/* @formatter:on */
 
 		/* execute nessus by adapter and return product result */
 		String xml = nessusAdapter.start(nessusConfig);
-		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
+		ProductResult result = productResultFileService.createProductResult(context, getIdentifier(), xml, pathToResultFile);
 		return Collections.singletonList(result);
 	}
 
+	@Override
+	protected int getMaximumConcurrentTargetTypeExecutions() {
+		return maximumConcurrentTargetTypeExecutions;
+	}
+
+	@Override
+	protected TargetTypeExecutionFailureMode getTargetTypeExecutionFailureMode() {
+		return targetTypeExecutionFailureMode;
+	}
+
 	@Override
 	public ProductIdentifier getIdentifier() {
 		return ProductIdentifier.NESSUS;
@@ -19,6 +19,8 @@ import org.junit.Test;
 import com.daimler.sechub.adapter.nessus.NessusAdapter;
 import com.daimler.sechub.domain.scan.Target;
 import com.daimler.sechub.domain.scan.TargetType;
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.ProductResultFileService;
 import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubInfrastructureScanConfiguration;
@@ -69,6 +71,10 @@ public class NessusProductExecutorTest {
 
 		executorToTest = new TestNessusProductExecutor();
 		executorToTest.installSetup=installSetup;
+		ProductResultFileService productResultFileService = mock(ProductResultFileService.class);
+		when(productResultFileService.createProductResult(any(), any(), any(), any()))
+				.thenAnswer(invocation -> new ProductResult(UUID.randomUUID(), invocation.getArgument(1), invocation.getArgument(2)));
+		executorToTest.productResultFileService=productResultFileService;
 
 		executorToTest.nessusAdapter = nessusAdapter;
 
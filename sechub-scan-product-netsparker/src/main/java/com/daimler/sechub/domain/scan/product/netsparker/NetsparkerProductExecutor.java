@@ -4,12 +4,16 @@ package com.daimler.sechub.domain.scan.product.netsparker;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.adapter.netsparker.NetsparkerAdapter;
@@ -20,6 +24,9 @@ import com.daimler.sechub.domain.scan.TargetType;
 import com.daimler.sechub.domain.scan.product.AbstractWebScanProductExecutor;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.ProductResultFileService;
+import com.daimler.sechub.domain.scan.product.TargetTypeExecutionFailureMode;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 
 @Service
@@ -27,17 +34,32 @@ public class NetsparkerProductExecutor extends AbstractWebScanProductExecutor<Ne
 
 	private static final Logger LOG = LoggerFactory.getLogger(NetsparkerProductExecutor.class);
 
+	@Value("${sechub.adapter.netsparker.targettype.concurrency:1}")
+	@MustBeDocumented(DOCUMENT_INFO_TARGETTYPE_CONCURRENCY)
+	int maximumConcurrentTargetTypeExecutions = 1;
+
+	@Value("${sechub.adapter.netsparker.targettype.failure.mode:FAIL_FAST}")
+	@MustBeDocumented(DOCUMENT_INFO_TARGETTYPE_FAILURE_MODE)
+	TargetTypeExecutionFailureMode targetTypeExecutionFailureMode = TargetTypeExecutionFailureMode.FAIL_FAST;
+
 	@Autowired
 	NetsparkerAdapter netsparkerAdapter;
 	
 	@Autowired
 	NetsparkerInstallSetup installSetup;
 
+	@Autowired
+	ProductResultFileService productResultFileService;
+
 	@Override
 	protected NetsparkerInstallSetup getInstallSetup() {
 		return installSetup;
 	}
 
+	/**
+	 * Blocking variant, the product executor itself uses
+	 * {@link #executeWithAdapterAsync(SecHubExecutionContext, NetsparkerInstallSetup, TargetRegistryInfo, Executor)}
+	 */
 	@Override
 	protected List<ProductResult> executeWithAdapter(SecHubExecutionContext context, NetsparkerInstallSetup setup,
 			TargetRegistryInfo info) throws Exception{
@@ -54,31 +76,110 @@ public class NetsparkerProductExecutor extends AbstractWebScanProductExecutor<Ne
 		 * start NETSPARKER multiple times for each target URI
 		 */
 		for (URI targetURI: targetURIs) {
-			/* @formatter:off */
-			NetsparkerAdapterConfig netsparkerConfig = NetsparkerConfig.builder().
-					setTimeToWaitForNextCheckOperationInMinutes(setup.getScanResultCheckPeriodInMinutes()).
-					setScanResultTimeOutInMinutes(setup.getScanResultCheckTimeOutInMinutes()).
-					setTrustAllCertificates(setup.isHavingUntrustedCertificate()).
-					setUser(setup.getUserId()).
-					setApiToken(setup.getPassword()).
-					setTraceID(context.getTraceLogIdAsString()).
-					setAgentName(setup.getAgentName()).
-					setAgentGroupName(setup.getIdentifier(targetType)).
-					/* TODO Albert Tregnaghi, 2018-02-13:policy id - always default id - what about config.getPoliciyID() ?!?! */
-					setPolicyID(setup.getDefaultPolicyId()).
-					setProductBaseUrl(setup.getBaseURL()).
-					setLicenseID(setup.getNetsparkerLicenseId()).
-					setTargetURI(targetURI).build();
-			/* @formatter:on */
+			String pathToResultFile = productResultFileService.createPathToResultFile(context, getIdentifier());
+			NetsparkerAdapterConfig netsparkerConfig = createAdapterConfig(context, setup, targetType, targetURI, pathToResultFile);
 			
 			/* execute NETSPARKER by adapter and return product result */
 			String xml = netsparkerAdapter.start(netsparkerConfig);
-			ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
+			ProductResult result = productResultFileService.createProductResult(context, getIdentifier(), xml, pathToResultFile);
 			results.add(result);
 		}
 		return results;
 	}
 
+	/**
+	 * Netsparker adapter waits for scan results without blocking a thread. So
+	 * target URIs are scanned one after another by continuing on the adapter
+	 * futures - the report download and result creation is done by calling
+	 * thread executor.
+	 */
+	@Override
+	protected CompletableFuture<List<ProductResult>> executeWithAdapterAsync(SecHubExecutionContext context, NetsparkerInstallSetup setup,
+			TargetRegistryInfo info, Executor callingThreadExecutor) {
+		TargetType targetType = info.getTargetType();
+		LOG.debug("Trigger async netsparker adapter execution for target {} and setup {} ", targetType, setup);
+
+		CompletableFuture<List<ProductResult>> results = new CompletableFuture<>();
+		/* NETSPARKER is not able to scan multiple targets, so we 
+		 * start NETSPARKER multiple times for each target URI
+		 */
+		Iterator<URI> targetURIs = new ArrayList<>(info.getURIs()).iterator();
+		executeNextTargetAsync(context, setup, targetType, targetURIs, new ArrayList<>(), results, callingThreadExecutor);
+		return results;
+	}
+
+	private void executeNextTargetAsync(SecHubExecutionContext context, NetsparkerInstallSetup setup, TargetType targetType, Iterator<URI> targetURIs,
+			List<ProductResult> productResults, CompletableFuture<List<ProductResult>> results, Executor executor) {
+		if (results.isDone()) {
+			/* cancelled meanwhile */
+			return;
+		}
+		if (!targetURIs.hasNext()) {
+			results.complete(productResults);
+			return;
+		}
+		URI targetURI = targetURIs.next();
+		String pathToResultFile;
+		CompletableFuture<String> adapterResult;
+		try {
+			pathToResultFile = productResultFileService.createPathToResultFile(context, getIdentifier());
+			NetsparkerAdapterConfig netsparkerConfig = createAdapterConfig(context, setup, targetType, targetURI, pathToResultFile);
+			adapterResult = netsparkerAdapter.startAsync(netsparkerConfig, executor);
+		} catch (RuntimeException e) {
+			results.completeExceptionally(e);
+			return;
+		}
+		results.whenComplete((ignored, failure) -> {
+			if (results.isCancelled()) {
+				adapterResult.cancel(true);
+			}
+		});
+		adapterResult.whenComplete((xml, failure) -> {
+			if (failure != null) {
+				results.completeExceptionally(failure);
+				return;
+			}
+			try {
+				productResults.add(productResultFileService.createProductResult(context, getIdentifier(), xml, pathToResultFile));
+			} catch (Exception e) {
+				results.completeExceptionally(e);
+				return;
+			}
+			executeNextTargetAsync(context, setup, targetType, targetURIs, productResults, results, executor);
+		});
+	}
+
+	private NetsparkerAdapterConfig createAdapterConfig(SecHubExecutionContext context, NetsparkerInstallSetup setup, TargetType targetType,
+			URI targetURI, String pathToResultFile) {
+		/* @formatter:off */
+		return NetsparkerConfig.builder().
+				setTimeToWaitForNextCheckOperationInMinutes(setup.getScanResultCheckPeriodInMinutes()).
+				setScanResultTimeOutInMinutes(setup.getScanResultCheckTimeOutInMinutes()).
+				setTrustAllCertificates(setup.isHavingUntrustedCertificate()).
+				setUser(setup.getUserId()).
+				setApiToken(setup.getPassword()).
+				setTraceID(context.getTraceLogIdAsString()).
+				setAgentName(setup.getAgentName()).
+				setAgentGroupName(setup.getIdentifier(targetType)).
+				/* TODO Albert Tregnaghi, 2018-02-13:policy id - always default id - what about config.getPoliciyID() ?!?! */
+				setPolicyID(setup.getDefaultPolicyId()).
+				setProductBaseUrl(setup.getBaseURL()).
+				setLicenseID(setup.getNetsparkerLicenseId()).
+				setPathToResultFile(pathToResultFile).
+				setTargetURI(targetURI).build();
+		/* @formatter:on */
+	}
+
+	@Override
+	protected int getMaximumConcurrentTargetTypeExecutions() {
+		return maximumConcurrentTargetTypeExecutions;
+	}
+
+	@Override
+	protected TargetTypeExecutionFailureMode getTargetTypeExecutionFailureMode() {
+		return targetTypeExecutionFailureMode;
+	}
+
 	@Override
 	public ProductIdentifier getIdentifier() {
 		return ProductIdentifier.NETSPARKER;
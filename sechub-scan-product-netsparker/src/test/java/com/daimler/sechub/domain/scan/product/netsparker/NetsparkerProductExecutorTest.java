@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.netsparker;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -10,13 +11,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.AdapterLogId;
 import com.daimler.sechub.adapter.netsparker.NetsparkerAdapter;
 import com.daimler.sechub.domain.scan.Target;
 import com.daimler.sechub.domain.scan.TargetType;
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.product.ProductResultFileService;
 import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubWebScanConfiguration;
@@ -55,6 +65,7 @@ public class NetsparkerProductExecutorTest {
 		when(targetResolver.resolveTarget(URI_3_INTERNET)).thenReturn(target3);
 		
 		netsparkerAdapter =mock(NetsparkerAdapter.class);
+		when(netsparkerAdapter.startAsync(any(), any())).thenReturn(CompletableFuture.completedFuture("xml"));
 
 		when(context.getConfiguration()).thenReturn(config);
 		when(context.getSechubJobUUID()).thenReturn(UUID.randomUUID());
@@ -70,6 +81,10 @@ public class NetsparkerProductExecutorTest {
 		when(installSetup.getNetsparkerLicenseId()).thenReturn("license1");
 		
 		executorToTest.installSetup=installSetup;
+		ProductResultFileService productResultFileService = mock(ProductResultFileService.class);
+		when(productResultFileService.createProductResult(any(), any(), any(), any()))
+				.thenAnswer(invocation -> new ProductResult(UUID.randomUUID(), invocation.getArgument(1), invocation.getArgument(2)));
+		executorToTest.productResultFileService=productResultFileService;
 		
 	}
 	
@@ -85,7 +100,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(3)).start(any());
+		verify(netsparkerAdapter,times(3)).startAsync(any(), any());
 	}
 	
 	@Test
@@ -103,7 +118,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(3)).start(any());
+		verify(netsparkerAdapter,times(3)).startAsync(any(), any());
 	}
 	
 	@Test
@@ -122,7 +137,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(2)).start(any());
+		verify(netsparkerAdapter,times(2)).startAsync(any(), any());
 	}
 
 	@Test
@@ -136,9 +151,65 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 		
 		/* test */
+		verify(netsparkerAdapter,never()).startAsync(any(), any());
+	}
+
+	@Test
+	public void adapter_futures_completed_later_by_other_thread_are_continued_one_target_after_another() throws Exception {
+		/* prepare */
+		when(installSetup.isAbleToScan(TargetType.INTERNET)).thenReturn(true); 
+		when(installSetup.isAbleToScan(TargetType.INTRANET)).thenReturn(false); 
+		prepareWebScanWithThreeInternetURIs();
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		ScheduledExecutorService productSimulation = Executors.newSingleThreadScheduledExecutor();
+		when(netsparkerAdapter.startAsync(any(), any())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			CompletableFuture<String> future = new CompletableFuture<>();
+			productSimulation.schedule(() -> {
+				running.decrementAndGet();
+				future.complete("xml");
+			}, 50, TimeUnit.MILLISECONDS);
+			return future;
+		});
+
+		/* execute */
+		List<ProductResult> results;
+		try {
+			results = executorToTest.execute(context);
+		} finally {
+			productSimulation.shutdownNow();
+		}
+
+		/* test */
+		assertEquals(3, results.size());
+		assertEquals(1, maxRunning.get());
 		verify(netsparkerAdapter,never()).start(any());
 	}
 
+	@Test
+	public void adapter_future_failure_is_thrown_as_execution_exception() throws Exception {
+		/* prepare */
+		when(installSetup.isAbleToScan(TargetType.INTERNET)).thenReturn(true); 
+		prepareWebScanWithThreeInternetURIs();
+
+		CompletableFuture<String> failed = new CompletableFuture<>();
+		AdapterException failure = new AdapterException(new AdapterLogId("netsparker", "trace"), "failed");
+		failed.completeExceptionally(failure);
+		when(netsparkerAdapter.startAsync(any(), any())).thenReturn(failed);
+
+		/* execute */
+		try {
+			executorToTest.execute(context);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals(failure, e.getCause());
+			verify(netsparkerAdapter,times(1)).startAsync(any(), any());
+		}
+	}
+
 	private void prepareWebScanWithThreeInternetURIs() throws URISyntaxException, SecHubExecutionException {
 		SecHubWebScanConfiguration webscan = mock(SecHubWebScanConfiguration.class);
 		when(config.getWebScan()).thenReturn(Optional.of(webscan));
@@ -4,7 +4,9 @@ package com.daimler.sechub.domain.scan.product.sereco;
 import static com.daimler.sechub.sereco.ImportParameter.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +19,8 @@ import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportProductExecutor;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
+import com.daimler.sechub.sereco.ImportParameter;
 import com.daimler.sechub.sereco.Sereco;
 import com.daimler.sechub.sereco.Workspace;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
@@ -34,6 +38,9 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 	@Autowired
 	Sereco sechubReportCollector;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
 	@Override
 	public ProductIdentifier getIdentifier() {
 		return ProductIdentifier.SERECO;
@@ -71,16 +78,28 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 			List<ProductResult> foundProductResults) {
 		Workspace workspace = sechubReportCollector.createWorkspace(projectId);
 
-		for (ProductResult productResult : foundProductResults) {
-			importProductResult(traceLogId, workspace, productResult);
+		List<ImportParameter> importParameters = new ArrayList<>(foundProductResults.size());
+		for (ProductResult productResult : sortedByProductAndUUID(foundProductResults)) {
+			importParameters.add(createImportParameter(traceLogId, productResult));
+		}
+		try {
+			workspace.doImport(importParameters);
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Import into workspace failed for job:" + secHubJobUUID, e);
 		}
 		String json = workspace.createReport();
 		/* fetch + return all vulnerabilities as JSON */
 		return new ProductResult(secHubJobUUID, getIdentifier(), json);
 	}
 
-	private void importProductResult(UUIDTraceLogID traceLogId, Workspace workspace, ProductResult productResult) {
-		String importData = productResult.getResult();
+	/* database does not guarantee any order, so we sort to get always same report */
+	private List<ProductResult> sortedByProductAndUUID(List<ProductResult> productResults) {
+		List<ProductResult> sorted = new ArrayList<>(productResults);
+		sorted.sort(Comparator.comparing(ProductResult::getProductIdentifier).thenComparing(ProductResult::getUUID));
+		return sorted;
+	}
+
+	private ImportParameter createImportParameter(UUIDTraceLogID traceLogId, ProductResult productResult) {
 		String productId = productResult.getProductIdentifier().name();
 
 		LOG.debug("{} found product result for '{}'", traceLogId, productId);
@@ -90,15 +109,12 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 		LOG.debug("{} start to import result '{}' from product '{}'", traceLogId, docId, productId);
 
 		/* @formatter:off */
-		try {
-			workspace.doImport(builder().
-						productId(productId).
-						importData(importData).
-						importId(docId)
-					.build());
-		} catch (IOException e) {
-			throw new SecHubRuntimeException("Import into workspace failed:" + docId, e);
-		}
+		return builder().
+					productId(productId).
+					/* result is streamed by importer, so no full copy in memory */
+					importDataSource(() -> resultBlobService.openResult(productResult)).
+					importId(docId)
+				.build();
 		/* @formatter:on */
 	}
 
@@ -1,7 +1,9 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.sereco;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +24,8 @@ public class SerecoReportToSecHubResultTransformer implements ScanReportToSecHub
 
 	private static final Logger LOG = LoggerFactory.getLogger(SerecoReportToSecHubResultTransformer.class);
 
+	private static final Map<com.daimler.sechub.sereco.metadata.Severity, Severity> SEVERITY_MAPPING = createSeverityMapping();
+
 	@Override
 	public SecHubResult transform(String origin) throws SecHubExecutionException {
 		MetaData data = JSONConverter.get().fromJSON(MetaData.class, origin);
@@ -46,13 +50,25 @@ public class SerecoReportToSecHubResultTransformer implements ScanReportToSecHub
 			LOG.error("Missing Sereco Severity cannot transformed {} to sechub result! So returning unclassified!",metaSeverity);
 			return Severity.UNCLASSIFIED;
 		}
-		for (Severity severity : Severity.values()) {
-			if (severity.name().equals(metaSeverity.name())) {
-				return severity;
+		Severity severity = SEVERITY_MAPPING.get(metaSeverity);
+		if (severity==null) {
+			LOG.error("Was not able to tranform Sereco Severity:{} to sechub result! So returning unclassified!",metaSeverity);
+			return Severity.UNCLASSIFIED;
+		}
+		return severity;
+	}
+
+	/* mapping by name is done only one time and not for every finding */
+	private static Map<com.daimler.sechub.sereco.metadata.Severity, Severity> createSeverityMapping() {
+		Map<com.daimler.sechub.sereco.metadata.Severity, Severity> mapping = new EnumMap<>(com.daimler.sechub.sereco.metadata.Severity.class);
+		for (com.daimler.sechub.sereco.metadata.Severity metaSeverity : com.daimler.sechub.sereco.metadata.Severity.values()) {
+			for (Severity severity : Severity.values()) {
+				if (severity.name().equals(metaSeverity.name())) {
+					mapping.put(metaSeverity, severity);
+				}
 			}
 		}
-		LOG.error("Was not able to tranform Sereco Severity:{} to sechub result! So returning unclassified!",metaSeverity);
-		return Severity.UNCLASSIFIED;
+		return mapping;
 	}
 
 	@Override
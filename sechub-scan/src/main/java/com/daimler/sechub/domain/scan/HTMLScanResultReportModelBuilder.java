@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -66,11 +67,13 @@ public class HTMLScanResultReportModelBuilder {
 		
 		SecHubResult result = scanResult.getResult();
 		
+		Map<TrafficLight, List<SecHubFinding>> grouped = trafficLightCalculator.groupFindingsByTrafficLight(result);
+
 		Map<String, Object> model = new HashMap<>();
 		model.put("result", scanResult.getResult());
-		model.put("redList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.RED));
-		model.put("yellowList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.YELLOW));
-		model.put("greenList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.GREEN));
+		model.put("redList", grouped.get(TrafficLight.RED));
+		model.put("yellowList", grouped.get(TrafficLight.YELLOW));
+		model.put("greenList", grouped.get(TrafficLight.GREEN));
 		
 		model.put("trafficlight", trafficLight);
 
@@ -106,6 +109,10 @@ public class HTMLScanResultReportModelBuilder {
 
 	}
 	
+	public boolean isWebDesignMode() {
+		return webDesignMode;
+	}
+
 	public String getEmbeddedCSS() {
 		if (embeddedCSS!=null) {
 			return embeddedCSS;
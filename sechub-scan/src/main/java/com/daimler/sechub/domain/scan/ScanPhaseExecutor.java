@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.scan.product.ProductExectionStoreService;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+
+/**
+ * Executes scan phases (code scan, web scan, infrastructure scan) in parallel
+ * on a dedicated bounded thread pool. The caller is blocked until all phases
+ * are done. When one phase fails or runs into the timeout, all other phases are
+ * cancelled (interrupted). Failures of all phases are aggregated into one
+ * {@link SecHubExecutionException}.<br>
+ * <br>
+ * When the pool and its queue are full, the phase is executed inside the
+ * calling thread - so scans will be slower but never rejected.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanPhaseExecutor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanPhaseExecutor.class);
+
+	private static final int DEFAULT_POOL_SIZE = 30;
+	private static final int DEFAULT_QUEUE_CAPACITY = 30;
+
+	@MustBeDocumented("Maximum amount of scan phases executed in parallel by one POD. Only used when parallel scan phases are enabled.")
+	@Value("${sechub.config.scan.phases.pool.size:" + DEFAULT_POOL_SIZE + "}")
+	int poolSize = DEFAULT_POOL_SIZE;
+
+	@MustBeDocumented("Amount of scan phases queued when all workers of the scan phase pool are busy. When queue is full the phase is executed by the scan thread itself.")
+	@Value("${sechub.config.scan.phases.pool.queue.capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+	int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	@MustBeDocumented("Time in minutes after which a running scan phase will be cancelled and the scan marked as failed. Values lower than 1 mean no timeout.")
+	@Value("${sechub.config.scan.phases.timeout.minutes:-1}")
+	long phaseTimeout = -1;
+
+	TimeUnit phaseTimeoutUnit = TimeUnit.MINUTES;
+
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	void initialize() {
+		if (poolSize < 1) {
+			LOG.warn("Wrong configured scan phase pool size:{}, will use 1", poolSize);
+			poolSize = 1;
+		}
+		if (queueCapacity < 0) {
+			LOG.warn("Wrong configured scan phase queue capacity:{}, will use 0", queueCapacity);
+			queueCapacity = 0;
+		}
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("sechub-scan-phase-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+	}
+
+	/**
+	 * Executes all given phases in parallel and waits until all are done
+	 *
+	 * @param context
+	 * @param phases  map with phase name as key and execution service as value
+	 * @throws SecHubExecutionException when at least one phase failed, timed out
+	 *                                  or current thread was interrupted
+	 */
+	public void executeParallel(SecHubExecutionContext context, Map<String, ? extends ProductExectionStoreService> phases) throws SecHubExecutionException {
+		UUIDTraceLogID traceLogID = context.getTraceLogId();
+
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+		for (Map.Entry<String, ? extends ProductExectionStoreService> entry : phases.entrySet()) {
+			ProductExectionStoreService service = entry.getValue();
+			futures.put(entry.getKey(), executor.submit(() -> {
+				service.executeProductsAndStoreResults(context);
+				return null;
+			}));
+		}
+		long deadline = phaseTimeout > 0 ? System.nanoTime() + phaseTimeoutUnit.toNanos(phaseTimeout) : -1;
+
+		List<String> failedPhases = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+			String phase = entry.getKey();
+			Future<?> future = entry.getValue();
+			try {
+				if (deadline == -1) {
+					future.get();
+				} else {
+					future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				}
+				continue;
+			} catch (ExecutionException e) {
+				LOG.error("Scan phase {} failed {}", phase, traceLogID);
+				failures.add(e.getCause());
+			} catch (TimeoutException e) {
+				LOG.error("Scan phase {} did not finish in {} {} {}", phase, phaseTimeout, phaseTimeoutUnit, traceLogID);
+				failures.add(new TimeoutException("Scan phase " + phase + " timed out"));
+			} catch (CancellationException e) {
+				/* cancelled because of another failed phase - reason already added */
+				continue;
+			} catch (InterruptedException e) {
+				LOG.warn("Interrupted while waiting for scan phase {} {}", phase, traceLogID);
+				Thread.currentThread().interrupt();
+				failures.add(e);
+			}
+			failedPhases.add(phase);
+			cancelAll(futures);
+
+			if (Thread.currentThread().isInterrupted()) {
+				break;
+			}
+		}
+		if (failures.isEmpty()) {
+			return;
+		}
+		SecHubExecutionException exception = new SecHubExecutionException("Scan phases failed:" + failedPhases, failures.get(0));
+		for (int i = 1; i < failures.size(); i++) {
+			exception.addSuppressed(failures.get(i));
+		}
+		throw exception;
+	}
+
+	private void cancelAll(Map<String, Future<?>> futures) {
+		for (Future<?> future : futures.values()) {
+			future.cancel(true);
+		}
+	}
+
+}
@@ -5,20 +5,25 @@ import static com.daimler.sechub.sharedkernel.messaging.DomainDataTraceLogID.*;
 import static com.daimler.sechub.sharedkernel.messaging.MessageDataKeys.*;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.daimler.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.daimler.sechub.domain.scan.product.ProductExectionStoreService;
 import com.daimler.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
 import com.daimler.sechub.domain.scan.report.ScanReportException;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
@@ -61,6 +66,13 @@ public class ScanService implements SynchronMessageHandler {
 	@Autowired
 	ProjectScanLogService scanLogService;
 
+	@Autowired
+	ScanPhaseExecutor scanPhaseExecutor;
+
+	@MustBeDocumented("When enabled code scan, web scan and infrastructure scan phases of one job are executed in parallel. Default is sequential execution.")
+	@Value("${sechub.config.scan.phases.parallel:false}")
+	boolean parallelPhases;
+
 	@IsSendingSyncMessageAnswer(value = MessageID.SCAN_DONE, answeringTo = MessageID.START_SCAN, branchName="success")
 	@IsSendingSyncMessageAnswer(value = MessageID.SCAN_FAILED, answeringTo = MessageID.START_SCAN, branchName="failure")
 	DomainMessageSynchronousResult startScan(DomainMessage request) {
@@ -97,9 +109,13 @@ public class ScanService implements SynchronMessageHandler {
 		}
 		UUID logUUID = scanLogService.logScanStarted(context);
 		try {
-			codeScanProductExecutionService.executeProductsAndStoreResults(context);
-			webScanProductExecutionService.executeProductsAndStoreResults(context);
-			infraScanProductExecutionService.executeProductsAndStoreResults(context);
+			if (parallelPhases) {
+				scanPhaseExecutor.executeParallel(context, createPhases());
+			} else {
+				codeScanProductExecutionService.executeProductsAndStoreResults(context);
+				webScanProductExecutionService.executeProductsAndStoreResults(context);
+				infraScanProductExecutionService.executeProductsAndStoreResults(context);
+			}
 			scanLogService.logScanEnded(logUUID);
 		}catch(Exception e) {
 			scanLogService.logScanFailed(logUUID);
@@ -108,6 +124,14 @@ public class ScanService implements SynchronMessageHandler {
 
 	}
 
+	private Map<String, ProductExectionStoreService> createPhases() {
+		Map<String, ProductExectionStoreService> phases = new LinkedHashMap<>();
+		phases.put("codescan", codeScanProductExecutionService);
+		phases.put("webscan", webScanProductExecutionService);
+		phases.put("infrascan", infraScanProductExecutionService);
+		return phases;
+	}
+
 	/*
 	 * Cleans storage for current job
 	 */
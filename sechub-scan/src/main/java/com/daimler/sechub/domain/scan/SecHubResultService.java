@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportToSecHubResultTransformer;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
@@ -37,6 +38,9 @@ public class SecHubResultService {
 	@Autowired
 	List<ScanReportToSecHubResultTransformer> transformers;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
 	/**
 	 * Will fetch output from report products for wanted sechub job and returns
 	 * result
@@ -62,7 +66,7 @@ public class SecHubResultService {
 			for (ScanReportToSecHubResultTransformer transformer : transformers) {
 				if (transformer.canTransform(productResult.getProductIdentifier())) {
 					LOG.info("Transformer {} is used to transform result", transformer.getClass().getSimpleName());
-					return transformer.transform(productResult.getResult());
+					return transformer.transform(resultBlobService.loadResult(productResult));
 				}
 			}
 		}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Severity statistics of findings - counts, maximum severity and findings per
+ * severity are calculated in one single pass. Findings without severity are
+ * handled as {@link Severity#UNCLASSIFIED}.<br>
+ * <br>
+ * The maximum severity is defined by order of
+ * {@link Severities#getAllOrderedFromHighToLow()}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SeverityStatistics {
+
+	private static final int[] RANK = createRanks();
+
+	private final Map<Severity, List<SecHubFinding>> findings = new EnumMap<>(Severity.class);
+	private Severity maximumSeverity;
+	private int total;
+
+	private SeverityStatistics() {
+		for (Severity severity : Severity.values()) {
+			findings.put(severity, new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Calculates statistics for given result
+	 *
+	 * @param result
+	 * @return statistics, never <code>null</code>
+	 * @throws IllegalArgumentException when result is <code>null</code>
+	 */
+	public static SeverityStatistics of(SecHubResult result) {
+		if (result == null) {
+			throw new IllegalArgumentException("SecHub result may not be null!");
+		}
+		return of(result.getFindings());
+	}
+
+	/**
+	 * Calculates statistics for given findings
+	 *
+	 * @param findings - <code>null</code> entries are ignored
+	 * @return statistics, never <code>null</code>
+	 */
+	public static SeverityStatistics of(List<SecHubFinding> findings) {
+		SeverityStatistics statistics = new SeverityStatistics();
+		if (findings == null) {
+			return statistics;
+		}
+		for (SecHubFinding finding : findings) {
+			if (finding == null) {
+				continue;
+			}
+			statistics.add(finding);
+		}
+		return statistics;
+	}
+
+	private void add(SecHubFinding finding) {
+		Severity severity = finding.getSeverity();
+		if (severity == null) {
+			severity = Severity.UNCLASSIFIED;
+		}
+		findings.get(severity).add(finding);
+		total++;
+
+		if (maximumSeverity == null || RANK[severity.ordinal()] < RANK[maximumSeverity.ordinal()]) {
+			maximumSeverity = severity;
+		}
+	}
+
+	/**
+	 * @return highest severity found or <code>null</code> when there are no
+	 *         findings
+	 */
+	public Severity getMaximumSeverity() {
+		return maximumSeverity;
+	}
+
+	/**
+	 * @return amount of all findings
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	public int getCount(Severity severity) {
+		return findings.get(severity).size();
+	}
+
+	/**
+	 * @param severity
+	 * @return unmodifiable list of findings with given severity, never
+	 *         <code>null</code>
+	 */
+	public List<SecHubFinding> getFindings(Severity severity) {
+		return Collections.unmodifiableList(findings.get(severity));
+	}
+
+	private static int[] createRanks() {
+		int[] ranks = new int[Severity.values().length];
+		Severity[] ordered = Severities.getAllOrderedFromHighToLow();
+		for (int i = 0; i < ordered.length; i++) {
+			ranks[ordered[i].ordinal()] = i;
+		}
+		return ranks;
+	}
+
+}
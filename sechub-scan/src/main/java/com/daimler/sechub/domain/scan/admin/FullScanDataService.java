@@ -15,6 +15,7 @@ import com.daimler.sechub.domain.scan.log.ProjectScanLog;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultService;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.usecases.admin.project.UseCaseAdministratorDownloadsFullScanDataForJob;
@@ -31,6 +32,9 @@ public class FullScanDataService {
 	@Autowired
 	ProductResultService productResultService;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
 	@UseCaseAdministratorDownloadsFullScanDataForJob(@Step(number=2, name="Collect all scan data"))
 	public FullScanData getFullScanData(UUID sechubJobUUID) {
 		LOG.debug("Start getting full scan data for {}",sechubJobUUID);
@@ -45,7 +49,7 @@ public class FullScanDataService {
 		for (ProductResult result:results) {
 			ScanData d = new ScanData();
 			d.productId=result.getProductIdentifier().toString();
-			d.result=result.getResult();
+			d.result=resultBlobService.loadResult(result);
 
 			data.allScanData.add(d);
 		}
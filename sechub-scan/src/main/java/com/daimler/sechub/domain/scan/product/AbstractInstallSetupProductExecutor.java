@@ -5,11 +5,25 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.daimler.sechub.domain.scan.InstallSetup;
 import com.daimler.sechub.domain.scan.Target;
@@ -27,7 +41,14 @@ import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
  * identification of targets by install setup. The different target types are
  * separated and the
  * {@link #executeWithAdapter(SecHubExecutionContext, InstallSetup, TargetRegistryInfo)}
- * method will be called for each found target type once.<br>
+ * method will be called for each found target type once - sequential or in
+ * parallel, see {@link #getMaximumConcurrentTargetTypeExecutions()}. Parallel
+ * executions of all jobs share one bounded pool per product executor. When the
+ * pool and its queue are full, the target type is executed inside the calling
+ * thread. Product executors with adapters able to wait without blocking a
+ * thread can override
+ * {@link #executeWithAdapterAsync(SecHubExecutionContext, InstallSetup, TargetRegistryInfo, Executor)}
+ * - then no pooled thread is used at all.<br>
  * <br>
  * Implementations have to handle the execution for a target type and also the
  * creation of an {@link InstallSetup}.
@@ -40,9 +61,40 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractInstallSetupProductExecutor.class);
 
+	public static final String DOCUMENT_INFO_TARGETTYPE_CONCURRENCY = "Maximum amount of target types (e.g. intranet and internet) scanned in parallel by this product. The pool is shared by all jobs, when it is exhausted the job thread scans the target type itself. Default is 1, means sequential execution.";
+	public static final String DOCUMENT_INFO_TARGETTYPE_FAILURE_MODE = "Failure mode for target type executions. `FAIL_FAST` cancels other target type executions on first failure, `COLLECT_ALL` uses results of successful executions and fails only when all target type executions failed.";
+
 	@Autowired
 	protected TargetResolver targetResolver;
 
+	private ThreadPoolTaskExecutor targetTypeExecutor;
+
+	@PostConstruct
+	void initTargetTypeExecutor() {
+		int poolSize = getMaximumConcurrentTargetTypeExecutions();
+		if (poolSize <= 1) {
+			/* sequential execution - no pool necessary */
+			return;
+		}
+		targetTypeExecutor = new ThreadPoolTaskExecutor();
+		targetTypeExecutor.setCorePoolSize(poolSize);
+		targetTypeExecutor.setMaxPoolSize(poolSize);
+		targetTypeExecutor.setQueueCapacity(poolSize);
+		targetTypeExecutor.setAllowCoreThreadTimeOut(true);
+		targetTypeExecutor.setThreadNamePrefix("sechub-" + getIdentifier() + "-");
+		targetTypeExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		targetTypeExecutor.initialize();
+	}
+
+	@PreDestroy
+	void shutdownTargetTypeExecutor() {
+		if (targetTypeExecutor == null) {
+			return;
+		}
+		targetTypeExecutor.shutdown();
+		targetTypeExecutor = null;
+	}
+
 	@Override
 	public final List<ProductResult> execute(SecHubExecutionContext context) throws SecHubExecutionException {
 		UUIDTraceLogID traceLogId = context.getTraceLogId();
@@ -132,7 +184,10 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	protected abstract List<InetAddress> resolveInetAdressForTarget(SecHubConfiguration config);
 
 	/**
-	 * Execute the scan by product
+	 * Execute the scan by product. Adapter calls for different target types are
+	 * executed in parallel when
+	 * {@link #getMaximumConcurrentTargetTypeExecutions()} is greater than one. The
+	 * results are always merged in order of {@link TargetType}.
 	 *
 	 * @param context
 	 * @param registry
@@ -143,46 +198,259 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	 */
 	protected List<ProductResult> execute(SecHubExecutionContext context, TargetRegistry registry, S setup)
 			throws Exception /* NOSONAR */ {
-		List<ProductResult> result = new ArrayList<>();
 
 		/* we handle here automatically all known targets and call the adapters */
+		Map<TargetType, TargetRegistryInfo> executables = new LinkedHashMap<>();
 		for (TargetType type: TargetType.values()) {
 			if (!type.isValid()) {
 				/* not executable*/
 				continue;
 			}
-			executeAdapterWhenTargetTypeSupported(context, registry, setup, result, type);
+			TargetRegistryInfo registryInfo = createRegistryInfoWhenTargetTypeSupported(context, registry, setup, type);
+			if (registryInfo != null) {
+				executables.put(type, registryInfo);
+			}
+		}
+		int concurrency = Math.min(executables.size(), getMaximumConcurrentTargetTypeExecutions());
+		CallingThreadExecutor callingThreadExecutor = new CallingThreadExecutor();
+		if (concurrency <= 1 || targetTypeExecutor == null) {
+			return executeSequential(context, setup, executables, callingThreadExecutor);
 		}
+		return executeParallel(context, setup, executables, concurrency, callingThreadExecutor);
+
+	}
+
+	/**
+	 * @return maximum amount of target types handled in parallel by this product
+	 *         executor. Default is 1, so target types are handled one after
+	 *         another. Products which can handle multiple scans at same time
+	 *         should override this. The value is used as size of the target
+	 *         type pool which is created on bean initialization.
+	 */
+	protected int getMaximumConcurrentTargetTypeExecutions() {
+		return 1;
+	}
 
+	/**
+	 * @return failure mode when adapter execution for a target type fails, never
+	 *         <code>null</code>. Default is
+	 *         {@link TargetTypeExecutionFailureMode#FAIL_FAST}
+	 */
+	protected TargetTypeExecutionFailureMode getTargetTypeExecutionFailureMode() {
+		return TargetTypeExecutionFailureMode.FAIL_FAST;
+	}
+
+	private List<ProductResult> executeSequential(SecHubExecutionContext context, S setup, Map<TargetType, TargetRegistryInfo> executables,
+			CallingThreadExecutor callingThreadExecutor) throws Exception {
+		List<ProductResult> result = new ArrayList<>();
+		List<Exception> failures = new ArrayList<>();
+
+		for (TargetRegistryInfo registryInfo : executables.values()) {
+			TargetTypeExecution execution = startExecution(context, setup, registryInfo, callingThreadExecutor);
+			try {
+				callingThreadExecutor.runUntilDone(execution.future);
+				result.addAll(execution.getResults());
+			} catch (InterruptedException e) {
+				throw e;
+			} catch (Exception e) {
+				if (!isCollectingAllFailures()) {
+					throw e;
+				}
+				LOG.error("{} Execution of {} for target type {} failed", context.getTraceLogId(), getIdentifier(), registryInfo.getTargetType(), e);
+				failures.add(e);
+			} finally {
+				execution.future.cancel(true);
+			}
+		}
+		handleCollectedFailures(context, executables.size(), failures);
 		return result;
+	}
+
+	private List<ProductResult> executeParallel(SecHubExecutionContext context, S setup, Map<TargetType, TargetRegistryInfo> executables,
+			int concurrency, CallingThreadExecutor callingThreadExecutor) throws Exception {
+		LOG.debug("{} Execute {} target types with {} in parallel, concurrency:{}", context.getTraceLogId(), executables.size(), getIdentifier(),
+				concurrency);
 
+		List<TargetTypeExecution> executions = new ArrayList<>();
+		AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+		CompletableFuture<Void> failed = new CompletableFuture<>();
+		try {
+			for (TargetRegistryInfo registryInfo : executables.values()) {
+				TargetTypeExecution execution = startExecution(context, setup, registryInfo, callingThreadExecutor);
+				execution.future.whenComplete((productResults, failure) -> {
+					if (failure != null && firstFailure.compareAndSet(null, failure)) {
+						failed.complete(null);
+					}
+				});
+				executions.add(execution);
+			}
+			CompletableFuture<?>[] futures = executions.stream().map(execution -> execution.future).toArray(CompletableFuture[]::new);
+			CompletableFuture<?> done = CompletableFuture.allOf(futures);
+			if (!isCollectingAllFailures()) {
+				done = CompletableFuture.anyOf(done, failed);
+			}
+			callingThreadExecutor.runUntilDone(done);
+
+			if (!isCollectingAllFailures() && firstFailure.get() != null) {
+				throw asException(firstFailure.get());
+			}
+			/* results are merged in order of target types, not in order of completion */
+			List<ProductResult> result = new ArrayList<>();
+			List<Exception> failures = new ArrayList<>();
+			for (TargetTypeExecution execution : executions) {
+				try {
+					result.addAll(execution.getResults());
+				} catch (Exception e) {
+					LOG.error("{} Execution of {} for target type {} failed", context.getTraceLogId(), getIdentifier(), execution.targetType, e);
+					failures.add(e);
+				}
+			}
+			handleCollectedFailures(context, executables.size(), failures);
+			return result;
+		} finally {
+			/* stops still running adapter calls - e.g. on fail fast or when interrupted */
+			for (TargetTypeExecution execution : executions) {
+				execution.future.cancel(true);
+			}
+		}
 	}
 
-	private void executeAdapterWhenTargetTypeSupported(SecHubExecutionContext context, TargetRegistry registry, S setup,
-			List<ProductResult> result, TargetType targetType) throws Exception {
+	private boolean isCollectingAllFailures() {
+		return getTargetTypeExecutionFailureMode() == TargetTypeExecutionFailureMode.COLLECT_ALL;
+	}
+
+	private void handleCollectedFailures(SecHubExecutionContext context, int executionAmount, List<Exception> failures) throws Exception {
+		if (failures.isEmpty()) {
+			return;
+		}
+		if (failures.size() < executionAmount) {
+			LOG.warn("{} {} of {} target type executions failed for {}, will use results of the others", context.getTraceLogId(), failures.size(),
+					executionAmount, getIdentifier());
+			return;
+		}
+		Exception first = failures.get(0);
+		for (int i = 1; i < failures.size(); i++) {
+			first.addSuppressed(failures.get(i));
+		}
+		throw first;
+	}
+
+	private TargetRegistryInfo createRegistryInfoWhenTargetTypeSupported(SecHubExecutionContext context, TargetRegistry registry, S setup,
+			TargetType targetType) {
 		if (!setup.isAbleToScan(targetType)) {
 			LOG.debug("{} Setup says its not able to scan target type {} with {}", context.getTraceLogId(), targetType,
 					getIdentifier());
-			return;
+			return null;
 		}
 		TargetRegistryInfo registryInfo = registry.createRegistryInfo(targetType);
 
 		if (!registryInfo.containsAtLeastOneTarget()) {
 			LOG.debug("{} Did not found any IP, URI, or identifier defined for target type '{}' for {}", context.getTraceLogId(),
 					targetType, getIdentifier());
-			return;
+			return null;
+		}
+		return registryInfo;
+	}
+
+	private TargetTypeExecution startExecution(SecHubExecutionContext context, S setup, TargetRegistryInfo registryInfo,
+			CallingThreadExecutor callingThreadExecutor) {
+		TargetTypeExecution execution = new TargetTypeExecution(registryInfo.getTargetType());
+		execution.future = executeWithAdapterAsync(context, setup, registryInfo, callingThreadExecutor);
+		execution.future.whenComplete((productResults, failure) -> execution.ended = LocalDateTime.now());
+		return execution;
+	}
+
+	/**
+	 * Executes the adapter for given target type asynchronous. The default
+	 * implementation calls
+	 * {@link #executeWithAdapter(SecHubExecutionContext, InstallSetup, TargetRegistryInfo)}
+	 * inside the target type pool or - when there is no pool - inside the calling
+	 * thread. So a thread is blocked until the adapter has finished.<br>
+	 * <br>
+	 * Implementations using adapters which are able to wait without blocking a
+	 * thread should override this and continue on the futures of the adapters.
+	 * Work after waiting (e.g. result downloads) should be given to the calling
+	 * thread executor.
+	 *
+	 * @param context
+	 * @param setup
+	 * @param targetData
+	 * @param callingThreadExecutor executor running tasks inside the thread
+	 *                              waiting for the target type executions
+	 * @return future result, cancelling the future must stop the adapter
+	 *         execution
+	 */
+	protected CompletableFuture<List<ProductResult>> executeWithAdapterAsync(SecHubExecutionContext context, S setup, TargetRegistryInfo targetData,
+			Executor callingThreadExecutor) {
+		CompletableFuture<List<ProductResult>> result = new CompletableFuture<>();
+		Runnable adapterCall = () -> {
+			if (result.isDone()) {
+				/* cancelled meanwhile */
+				return;
+			}
+			try {
+				result.complete(executeWithAdapter(context, setup, targetData));
+			} catch (Exception e) {
+				result.completeExceptionally(e);
+			} catch (Error e) {
+				result.completeExceptionally(e);
+				throw e;
+			}
+		};
+		ThreadPoolTaskExecutor pool = targetTypeExecutor;
+		if (pool == null) {
+			callingThreadExecutor.execute(adapterCall);
+			return result;
+		}
+		Future<?> task = pool.submit(adapterCall);
+		/* cancelling the result interrupts the running adapter call */
+		result.whenComplete((productResults, failure) -> {
+			if (result.isCancelled()) {
+				task.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	private static Exception asException(Throwable failure) {
+		Throwable cause = failure;
+		if (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof Exception) {
+			return (Exception) cause;
 		}
+		return new ExecutionException(cause);
+	}
+
+	private static class TargetTypeExecution {
 
-		LocalDateTime started = LocalDateTime.now();
-		List<ProductResult> productResults = executeWithAdapter(context, setup, registryInfo);
-		LocalDateTime ended = LocalDateTime.now();
+		private TargetType targetType;
+		private LocalDateTime started = LocalDateTime.now();
+		private volatile LocalDateTime ended;
+		private CompletableFuture<List<ProductResult>> future;
 
-		if (productResults != null) {
-			for (ProductResult pr: productResults) {
+		private TargetTypeExecution(TargetType targetType) {
+			this.targetType = targetType;
+		}
+
+		private List<ProductResult> getResults() throws Exception {
+			List<ProductResult> productResults;
+			try {
+				productResults = future.get();
+			} catch (ExecutionException e) {
+				throw asException(e.getCause());
+			}
+			if (productResults == null) {
+				return Collections.emptyList();
+			}
+			/* completion callback can still be running */
+			LocalDateTime endedOrNow = ended != null ? ended : LocalDateTime.now();
+			for (ProductResult pr : productResults) {
 				pr.setStarted(started);
-				pr.setEnded(ended);
+				pr.setEnded(endedOrNow);
 			}
-			result.addAll(productResults);
+			return productResults;
 		}
 	}
 
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -34,6 +35,9 @@ public abstract class AbstractProductExecutionService implements ProductExection
 	@Autowired
 	ProductResultRepository productResultRepository;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
 	/**
 	 * Registers given product executors which shall be executed
 	 *
@@ -148,6 +152,7 @@ public abstract class AbstractProductExecutionService implements ProductExection
 			getMockableLog().error("Product executor {} returned null as one of the results {}", productExecutor.getIdentifier(), traceLogID);
 			return;
 		}
+		resultBlobService.moveResultToStorage(productResult);
 		productResultRepository.save(productResult);
 	}
 
@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor running given tasks inside the thread which waits for target type
+ * executions, see {@link #runUntilDone(CompletableFuture)}. Adapters continuing
+ * on futures can so create scans or download results without using a pooled
+ * thread - the waiting thread does this work between its waits.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class CallingThreadExecutor implements Executor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CallingThreadExecutor.class);
+
+	private static final Runnable WAKE_UP = () -> {
+		/* only wakes up waiting thread */
+	};
+
+	private BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+	@Override
+	public void execute(Runnable task) {
+		tasks.add(task);
+	}
+
+	/**
+	 * Runs tasks given to this executor until future is done
+	 *
+	 * @param future
+	 * @throws InterruptedException
+	 */
+	void runUntilDone(CompletableFuture<?> future) throws InterruptedException {
+		future.whenComplete((result, failure) -> tasks.add(WAKE_UP));
+		while (!future.isDone()) {
+			Runnable task = tasks.take();
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				LOG.error("Task failed inside calling thread", e);
+			}
+		}
+	}
+}
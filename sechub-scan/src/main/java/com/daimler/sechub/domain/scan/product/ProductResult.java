@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -17,6 +18,9 @@ import javax.persistence.Version;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
+import com.daimler.sechub.domain.scan.storage.ResultBlob;
+import com.daimler.sechub.domain.scan.storage.ResultBlobHolder;
+
 /**
  * Represents a product result for a SecHub job UUID
  *
@@ -25,7 +29,7 @@ import org.hibernate.annotations.Type;
  */
 @Entity
 @Table(name = ProductResult.TABLE_NAME)
-public class ProductResult {
+public class ProductResult implements ResultBlobHolder {
 
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ SQL ......................................+ */
@@ -69,6 +73,12 @@ public class ProductResult {
 	@Column(name = COLUMN_RESULT)
 	private String result;
 
+	/**
+	 * Contains reference, size and hash when result is not stored inline
+	 */
+	@Embedded
+	private ResultBlob resultBlob;
+
 	@Column(name = COLUMN_SECHUB_JOB_UUID, updatable = false, nullable = false)
 	UUID secHubJobUUID;
 
@@ -111,14 +121,35 @@ public class ProductResult {
 		return productIdentifier;
 	}
 
+	@Override
 	public UUID getSecHubJobUUID() {
 		return secHubJobUUID;
 	}
 
+	/**
+	 * @return inline result or <code>null</code> when result is stored as blob -
+	 *         use <code>ResultBlobService</code> to load results
+	 */
+	@Override
 	public String getResult() {
 		return result;
 	}
 
+	@Override
+	public void setResult(String result) {
+		this.result = result;
+	}
+
+	@Override
+	public ResultBlob getResultBlob() {
+		return resultBlob;
+	}
+
+	@Override
+	public void setResultBlob(ResultBlob resultBlob) {
+		this.resultBlob = resultBlob;
+	}
+
 	public void setStarted(LocalDateTime started) {
 		this.started = started;
 	}
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.storage.JobStorage;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
+
+/**
+ * Product executors use this service to let adapters write product results
+ * directly into job storage. Afterwards the result file is streamed into result
+ * blob storage - so big product reports are never held completely in memory.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ProductResultFileService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProductResultFileService.class);
+
+	@Autowired
+	StorageService storageService;
+
+	@Autowired
+	ResultBlobService resultBlobService;
+
+	/**
+	 * Creates a new path for a result file inside job storage. Every call returns
+	 * another path, so parallel adapter executions for same job do not conflict.
+	 *
+	 * @param context
+	 * @param productIdentifier
+	 * @return absolute path to result file (file does not exist)
+	 */
+	public String createPathToResultFile(SecHubExecutionContext context, ProductIdentifier productIdentifier) {
+		JobStorage storage = storageService.getJobStorage(context.getConfiguration().getProjectId(), context.getSechubJobUUID());
+		return storage.getAbsolutePath(productIdentifier.name().toLowerCase() + "_result_" + UUID.randomUUID() + ".txt");
+	}
+
+	/**
+	 * Creates product result. When given result is <code>null</code> and the
+	 * result file exists, the result file content is stored as result. The result
+	 * file is always deleted afterwards.
+	 *
+	 * @param context
+	 * @param productIdentifier
+	 * @param result            result returned by adapter or <code>null</code>
+	 * @param pathToResultFile  path created by
+	 *                          {@link #createPathToResultFile(SecHubExecutionContext, ProductIdentifier)}
+	 * @return product result, never <code>null</code>
+	 */
+	public ProductResult createProductResult(SecHubExecutionContext context, ProductIdentifier productIdentifier, String result,
+			String pathToResultFile) {
+		ProductResult productResult = new ProductResult(context.getSechubJobUUID(), productIdentifier, result);
+		Path resultFile = Paths.get(pathToResultFile);
+		try {
+			if (result == null && Files.exists(resultFile)) {
+				try (InputStream inputStream = Files.newInputStream(resultFile)) {
+					resultBlobService.storeResult(productResult, inputStream);
+				}
+				LOG.debug("{} stored result file of {} with {} bytes", context.getTraceLogId(), productIdentifier, Files.size(resultFile));
+			}
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to store result file of " + productIdentifier + " for job:" + context.getSechubJobUUID(), e);
+		} finally {
+			deleteQuietly(resultFile);
+		}
+		return productResult;
+	}
+
+	private void deleteQuietly(Path resultFile) {
+		try {
+			Files.deleteIfExists(resultFile);
+		} catch (IOException e) {
+			LOG.warn("Was not able to delete result file {}", resultFile, e);
+		}
+	}
+}
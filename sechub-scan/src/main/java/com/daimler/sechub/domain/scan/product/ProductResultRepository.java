@@ -1,10 +1,17 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProductResultRepository extends JpaRepository<ProductResult, UUID>, ProductResultRepositoryCustom {
 
+	/**
+	 * @return product results still having their result stored inline (not
+	 *         migrated to a result blob storage)
+	 */
+	public List<ProductResult> findByResultBlobStorageTypeIsNullAndResultIsNotNull(Pageable pageable);
 }
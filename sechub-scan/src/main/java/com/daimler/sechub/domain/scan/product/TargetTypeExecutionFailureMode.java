@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+/**
+ * Defines how an {@link AbstractInstallSetupProductExecutor} reacts when the
+ * adapter execution for one target type fails.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum TargetTypeExecutionFailureMode {
+
+	/**
+	 * First failing target type execution cancels all other running ones and the
+	 * failure is thrown
+	 */
+	FAIL_FAST,
+
+	/**
+	 * All target type executions are done. Failures are logged and results of
+	 * successful executions are returned. Only when every execution failed, the
+	 * failures are thrown
+	 */
+	COLLECT_ALL;
+
+}
@@ -0,0 +1,145 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Base class for bounded in memory caches of data created from scan reports,
+ * keyed by SecHub job UUID. Least recently used entries are evicted when the
+ * estimated size of all entries exceeds the maximum.<br>
+ * <br>
+ * An entry is only returned for the same report (UUID and version) it was
+ * created for - so reports recreated by another server are never served from
+ * an outdated entry. Cached values are shared and must not be changed.
+ * Statistics of the cache are logged periodically.
+ *
+ * @author Albert Tregnaghi
+ *
+ * @param <T> cached value
+ */
+public abstract class AbstractScanReportCache<T> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AbstractScanReportCache.class);
+
+	private final LinkedHashMap<UUID, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long estimatedBytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * @return maximum estimated bytes of all entries, 0 disables the cache
+	 */
+	protected abstract long getMaximumBytes();
+
+	/**
+	 * Resolves cached value for given report
+	 *
+	 * @param report
+	 * @return cached value or <code>null</code> when not cached
+	 */
+	public synchronized T get(ScanReport report) {
+		CacheEntry<T> entry = entries.get(report.getSecHubJobUUID());
+		if (entry == null || !entry.isFor(report)) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry.value;
+	}
+
+	/**
+	 * Adds value for given report to cache
+	 *
+	 * @param report
+	 * @param value
+	 * @param estimated estimated memory consumption of the value in bytes
+	 */
+	protected synchronized void putEstimated(ScanReport report, T value, long estimated) {
+		long maximumBytes = getMaximumBytes();
+		if (estimated > maximumBytes) {
+			/* would evict all other entries or cache is disabled */
+			return;
+		}
+		UUID jobUUID = report.getSecHubJobUUID();
+		remove(jobUUID);
+
+		entries.put(jobUUID, new CacheEntry<>(report, value, estimated));
+		estimatedBytes += estimated;
+
+		Iterator<CacheEntry<T>> it = entries.values().iterator();
+		while (estimatedBytes > maximumBytes && it.hasNext()) {
+			CacheEntry<T> eldest = it.next();
+			it.remove();
+			estimatedBytes -= eldest.estimatedBytes;
+			evictions++;
+		}
+	}
+
+	/**
+	 * Removes cached value for given job
+	 *
+	 * @param jobUUID
+	 */
+	public synchronized void invalidate(UUID jobUUID) {
+		if (remove(jobUUID)) {
+			LOG.debug("{} invalidated entry for job {}", getClass().getSimpleName(), jobUUID);
+		}
+	}
+
+	public synchronized ScanReportCacheStatistics getStatistics() {
+		return new ScanReportCacheStatistics(entries.size(), estimatedBytes, hits, misses, evictions);
+	}
+
+	/**
+	 * Logs statistics of this cache - default is every 5 minutes. Nothing is
+	 * logged when the cache was never used.
+	 */
+	@MustBeDocumented("Scan report cache statistics (entries, estimated bytes, hits, misses, evictions) are logged periodically - default is every 5 minutes.")
+	@Scheduled(initialDelayString = "${sechub.config.scan.report.cache.statistics.log.millis:300000}", fixedDelayString = "${sechub.config.scan.report.cache.statistics.log.millis:300000}")
+	public void logStatistics() {
+		ScanReportCacheStatistics statistics = getStatistics();
+		if (statistics.getHits() == 0 && statistics.getMisses() == 0) {
+			return;
+		}
+		LOG.info("{} statistics: {}", getClass().getSimpleName(), statistics);
+	}
+
+	private boolean remove(UUID jobUUID) {
+		CacheEntry<T> removed = entries.remove(jobUUID);
+		if (removed == null) {
+			return false;
+		}
+		estimatedBytes -= removed.estimatedBytes;
+		return true;
+	}
+
+	private static class CacheEntry<T> {
+		private final UUID reportUUID;
+		private final Integer reportVersion;
+		private final T value;
+		private final long estimatedBytes;
+
+		private CacheEntry(ScanReport report, T value, long estimatedBytes) {
+			this.reportUUID = report.getUUID();
+			this.reportVersion = report.version;
+			this.value = value;
+			this.estimatedBytes = estimatedBytes;
+		}
+
+		private boolean isFor(ScanReport report) {
+			return Objects.equals(reportUUID, report.getUUID()) && Objects.equals(reportVersion, report.version);
+		}
+	}
+
+}
@@ -10,11 +10,15 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.scan.SecHubResult;
 import com.daimler.sechub.domain.scan.SecHubResultService;
+import com.daimler.sechub.domain.scan.SeverityStatistics;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
@@ -24,6 +28,8 @@ public class CreateScanReportService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CreateScanReportService.class);
 
+	static final int MAX_FINDING_HISTORY_UPDATE_TRIES = 3;
+
 	@Autowired
 	SecHubResultService secHubResultService;
 
@@ -36,6 +42,21 @@ public class CreateScanReportService {
 	@Autowired
 	ScanReportRepository reportRepository;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
+	@Autowired
+	ScanReportResultCache resultCache;
+
+	@Autowired
+	ScanReportHTMLCache htmlCache;
+
+	@Autowired
+	ScanReportDiffService diffService;
+
+	@Autowired
+	ScanFindingHistoryService historyService;
+
 	/**
 	 * Creates a report based on product results. There is no security check because its only called internally from system.
 	 *
@@ -71,15 +92,56 @@ public class CreateScanReportService {
 			throw new ScanReportException("Was not able to build sechub result", e);
 		}
 
+		/* calculate statistics only one time and persist them together with report */
+		SeverityStatistics statistics = SeverityStatistics.of(secHubResult);
+		report.setSeverityCounts(ScanReportSeverityCounts.from(statistics));
+
 		/* create and set the traffic light */
-		TrafficLight trafficLight = trafficLightCalculator.calculateTrafficLight(secHubResult);
+		TrafficLight trafficLight = trafficLightCalculator.calculateTrafficLightFromStatistics(statistics);
 		report.setTrafficLight(trafficLight);
 
+		/* compare with previous job only one time and persist summary together with report */
+		diffService.createSummary(report, secHubResult);
+
 		/* update time stamp*/
 		report.setEnded(LocalDateTime.now());
 
 		/* persist */
-		return reportRepository.save(report);
+		resultBlobService.moveResultToStorage(report);
+		ScanReport savedReport = reportRepository.save(report);
+
+		/* update finding history - a failure must not break report creation */
+		updateFindingHistory(savedReport, secHubResult);
+
+		/* former parsed result and html of this job are outdated now */
+		resultCache.invalidate(sechubJobUUID);
+		htmlCache.invalidate(sechubJobUUID);
+		return savedReport;
+	}
+
+	/**
+	 * Jobs of same project finishing at same time can update the same history
+	 * entries concurrently. The transaction of the 'looser' is rolled back
+	 * (unique index or optimistic lock), so it is retried and will see the
+	 * entries of the other job.
+	 */
+	private void updateFindingHistory(ScanReport report, SecHubResult secHubResult) {
+		UUID sechubJobUUID = report.getSecHubJobUUID();
+		for (int tries = 1; tries <= MAX_FINDING_HISTORY_UPDATE_TRIES; tries++) {
+			try {
+				historyService.updateHistory(report, secHubResult);
+				return;
+			} catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+				if (tries == MAX_FINDING_HISTORY_UPDATE_TRIES) {
+					LOG.warn("{} was not able to update finding history, concurrent updates failed {} times", traceLogID(sechubJobUUID), tries, e);
+					return;
+				}
+				LOG.debug("{} finding history was updated concurrently, will retry", traceLogID(sechubJobUUID));
+			} catch (RuntimeException e) {
+				LOG.warn("{} was not able to update finding history", traceLogID(sechubJobUUID), e);
+				return;
+			}
+		}
 	}
 
 }
@@ -9,7 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.scan.ScanAssertService;
+import com.daimler.sechub.domain.scan.SecHubResult;
 import com.daimler.sechub.domain.scan.SecHubResultService;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.error.NotFoundException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
@@ -27,9 +29,15 @@ public class DownloadScanReportService {
 	@Autowired
 	ScanReportRepository reportRepository;
 
+	@Autowired
+	ResultBlobService resultBlobService;
+
 	@Autowired
 	AuditLogService auditLogService;
 
+	@Autowired
+	ScanReportResultCache resultCache;
+
 	/**
 	 * There must be a a security check because useable from outside
 	 * @param projectId
@@ -38,6 +46,17 @@ public class DownloadScanReportService {
 	 */
 	@UseCaseUserDownloadsJobReport(@Step(number=3, name="Resolve scan report result"))
 	public ScanReportResult getScanReportResult(String projectId, UUID jobUUID) {
+		return getScanReportResult(getScanReport(projectId, jobUUID));
+	}
+
+	/**
+	 * Resolves scan report - there is a security check inside, so useable from outside
+	 * @param projectId
+	 * @param jobUUID
+	 * @return report, never <code>null</code>
+	 * @throws NotFoundException when report not found or user has no access
+	 */
+	public ScanReport getScanReport(String projectId, UUID jobUUID) {
 		notNull(projectId, "projectId may not be null!");
 		notNull(jobUUID, "job uuid may not be null!");
 
@@ -49,7 +68,27 @@ public class DownloadScanReportService {
 		if (report == null) {
 			throw new NotFoundException("Report not found or you have no access to report!");
 		}
-		return new ScanReportResult(report);
+		return report;
+	}
+
+	/**
+	 * Resolves result of given report. There is NO security check, so report must be fetched by
+	 * {@link #getScanReport(String, UUID)} before
+	 * @param report
+	 * @return result, never <code>null</code>
+	 */
+	public ScanReportResult getScanReportResult(ScanReport report) {
+		SecHubResult cachedResult = resultCache.get(report);
+		if (cachedResult != null) {
+			return new ScanReportResult(report, cachedResult);
+		}
+		String reportResult = resultBlobService.loadResult(report);
+		ScanReportResult scanReportResult = new ScanReportResult(report, reportResult);
+		if (scanReportResult.getInfo() == null && reportResult != null) {
+			/* only valid results are cached - corrupt data shall be reported on every access */
+			resultCache.put(report, scanReportResult.getResult(), reportResult.length());
+		}
+		return scanReportResult;
 	}
 
 }
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import com.daimler.sechub.sharedkernel.MustBeKeptStable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Age of a finding inside a project - is returned by REST API
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@MustBeKeptStable("This is returned from REST API to cli and other systems. So has to be stable")
+public class ScanFindingAge {
+
+	public static final String PROPERTY_FINGERPRINT = "fingerprint";
+	public static final String PROPERTY_NAME = "name";
+	public static final String PROPERTY_SEVERITY = "severity";
+	public static final String PROPERTY_FIRST_SEEN = "firstSeen";
+	public static final String PROPERTY_FIRST_JOBUUID = "firstJobUUID";
+	public static final String PROPERTY_LAST_SEEN = "lastSeen";
+	public static final String PROPERTY_LAST_JOBUUID = "lastJobUUID";
+	public static final String PROPERTY_AGE_IN_DAYS = "ageInDays";
+
+	String fingerprint;
+	String name;
+	String severity;
+	String firstSeen;
+	UUID firstJobUUID;
+	String lastSeen;
+	UUID lastJobUUID;
+	long ageInDays;
+
+	ScanFindingAge() {
+	}
+
+	public ScanFindingAge(ScanFindingHistory history) {
+		this.fingerprint = history.getFingerprint();
+		this.name = history.getName();
+		this.severity = history.getSeverity() == null ? "" : history.getSeverity().name();
+		this.firstSeen = convertToString(history.getFirstSeen());
+		this.firstJobUUID = history.getFirstSecHubJobUUID();
+		this.lastSeen = convertToString(history.getLastSeen());
+		this.lastJobUUID = history.getLastSecHubJobUUID();
+		if (history.getFirstSeen() != null && history.getLastSeen() != null) {
+			this.ageInDays = Duration.between(history.getFirstSeen(), history.getLastSeen()).toDays();
+		}
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getSeverity() {
+		return severity;
+	}
+
+	public String getFirstSeen() {
+		return firstSeen;
+	}
+
+	public UUID getFirstJobUUID() {
+		return firstJobUUID;
+	}
+
+	public String getLastSeen() {
+		return lastSeen;
+	}
+
+	public UUID getLastJobUUID() {
+		return lastJobUUID;
+	}
+
+	/**
+	 * @return days between first and last time the finding was seen
+	 */
+	public long getAgeInDays() {
+		return ageInDays;
+	}
+
+	static String convertToString(LocalDateTime localDateTime) {
+		if (localDateTime == null) {
+			return "";
+		}
+		return localDateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+	}
+
+}
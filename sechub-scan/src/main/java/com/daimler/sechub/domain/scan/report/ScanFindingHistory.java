@@ -0,0 +1,187 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static javax.persistence.EnumType.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.GenericGenerator;
+
+import com.daimler.sechub.domain.scan.Severity;
+
+/**
+ * History entry of one finding (identified by its fingerprint) inside a
+ * project. Entries are updated on every report creation, so questions about
+ * finding age can be answered without loading former scan reports.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ScanFindingHistory.TABLE_NAME)
+public class ScanFindingHistory {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCAN_FINDING_HISTORY";
+
+	public static final String COLUMN_UUID = "UUID";
+	public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
+	public static final String COLUMN_FINGERPRINT = "FINGERPRINT";
+	public static final String COLUMN_NAME = "NAME";
+	public static final String COLUMN_SEVERITY = "SEVERITY";
+	public static final String COLUMN_FIRST_SEEN = "FIRST_SEEN";
+	public static final String COLUMN_FIRST_SECHUB_JOB_UUID = "FIRST_SECHUB_JOB_UUID";
+	public static final String COLUMN_LAST_SEEN = "LAST_SEEN";
+	public static final String COLUMN_LAST_SECHUB_JOB_UUID = "LAST_SECHUB_JOB_UUID";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String CLASS_NAME = ScanFindingHistory.class.getSimpleName();
+
+	public static final int MAX_NAME_LENGTH = 255;
+
+	@Id
+	@GeneratedValue(generator = "UUID")
+	@GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+	@Column(name = COLUMN_UUID, updatable = false, nullable = false)
+	UUID uUID;
+
+	@Column(name = COLUMN_PROJECT_ID, nullable = false)
+	String projectId;
+
+	@Column(name = COLUMN_FINGERPRINT, nullable = false)
+	String fingerprint;
+
+	@Column(name = COLUMN_NAME)
+	String name;
+
+	@Enumerated(STRING)
+	@Column(name = COLUMN_SEVERITY)
+	Severity severity;
+
+	@Column(name = COLUMN_FIRST_SEEN) // remark: we setup hibernate to use UTC settings - see application.properties
+	LocalDateTime firstSeen;
+
+	@Column(name = COLUMN_FIRST_SECHUB_JOB_UUID)
+	UUID firstSecHubJobUUID;
+
+	@Column(name = COLUMN_LAST_SEEN) // remark: we setup hibernate to use UTC settings - see application.properties
+	LocalDateTime lastSeen;
+
+	@Column(name = COLUMN_LAST_SECHUB_JOB_UUID)
+	UUID lastSecHubJobUUID;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ScanFindingHistory() {
+		// JPA only
+	}
+
+	public ScanFindingHistory(String projectId, String fingerprint) {
+		this.projectId = projectId;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Marks finding as seen by given job. Jobs can be marked in any order (e.g.
+	 * on concurrent updates), name and severity are always from the job seen
+	 * last.
+	 *
+	 * @param secHubJobUUID
+	 * @param seen
+	 * @param name
+	 * @param severity      severity found by given job
+	 */
+	public void markSeen(UUID secHubJobUUID, LocalDateTime seen, String name, Severity severity) {
+		if (firstSeen == null || seen.isBefore(firstSeen)) {
+			firstSeen = seen;
+			firstSecHubJobUUID = secHubJobUUID;
+		}
+		if (lastSeen != null && seen.isBefore(lastSeen)) {
+			/* a later job has already been marked */
+			return;
+		}
+		lastSeen = seen;
+		lastSecHubJobUUID = secHubJobUUID;
+		this.severity = severity;
+		if (name != null && name.length() > MAX_NAME_LENGTH) {
+			name = name.substring(0, MAX_NAME_LENGTH);
+		}
+		this.name = name;
+	}
+
+	public UUID getUUID() {
+		return uUID;
+	}
+
+	public String getProjectId() {
+		return projectId;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Severity getSeverity() {
+		return severity;
+	}
+
+	public LocalDateTime getFirstSeen() {
+		return firstSeen;
+	}
+
+	public UUID getFirstSecHubJobUUID() {
+		return firstSecHubJobUUID;
+	}
+
+	public LocalDateTime getLastSeen() {
+		return lastSeen;
+	}
+
+	public UUID getLastSecHubJobUUID() {
+		return lastSecHubJobUUID;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((uUID == null) ? 0 : uUID.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ScanFindingHistory other = (ScanFindingHistory) obj;
+		if (uUID == null) {
+			if (other.uUID != null)
+				return false;
+		} else if (!uUID.equals(other.uUID))
+			return false;
+		return true;
+	}
+}
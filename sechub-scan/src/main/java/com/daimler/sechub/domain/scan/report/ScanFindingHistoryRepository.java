@@ -0,0 +1,32 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.daimler.sechub.domain.scan.Severity;
+
+public interface ScanFindingHistoryRepository extends JpaRepository<ScanFindingHistory, UUID> {
+
+	public List<ScanFindingHistory> findByProjectIdAndFingerprintIn(String projectId, Collection<String> fingerprints);
+
+	public List<ScanFindingHistory> findByProjectIdOrderByFirstSeenAsc(String projectId);
+
+	public List<ScanFindingHistory> findByProjectIdAndSeverityOrderByFirstSeenAsc(String projectId, Severity severity);
+
+	/**
+	 * Deletes all history entries not seen since given time stamp
+	 *
+	 * @param lastSeen
+	 * @return amount of deleted entries
+	 */
+	@Modifying
+	@Query("DELETE FROM ScanFindingHistory h where h.lastSeen < ?1")
+	public int deleteNotSeenSince(LocalDateTime lastSeen);
+}
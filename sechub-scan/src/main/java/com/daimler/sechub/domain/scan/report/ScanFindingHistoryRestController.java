@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.List;
+
+import javax.annotation.security.RolesAllowed;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.sharedkernel.APIConstants;
+import com.daimler.sechub.sharedkernel.RoleConstants;
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserFetchesProjectFindingHistory;
+
+/**
+ * The rest API for finding history of a project
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@RestController
+@EnableAutoConfiguration
+@RequestMapping(APIConstants.API_PROJECT + "{projectId}")
+@RolesAllowed({ RoleConstants.ROLE_USER, RoleConstants.ROLE_SUPERADMIN })
+public class ScanFindingHistoryRestController {
+
+	private static final String DEFAULT_TREND_DAYS = "90";
+
+	@Autowired
+	private ScanFindingHistoryService historyService;
+
+	/* @formatter:off */
+	@UseCaseUserFetchesProjectFindingHistory(@Step(number=1,next= {3},name="REST API call to get finding history",needsRestDoc=true))
+	@RequestMapping(path = "/findings/history", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_UTF8_VALUE,MediaType.APPLICATION_JSON_VALUE})
+	public List<ScanFindingAge> getFindingHistory(
+			@PathVariable("projectId") String projectId,
+			@RequestParam(value="severity", required=false) Severity severity
+			) {
+		/* @formatter:on */
+		return historyService.getFindingAges(projectId, severity);
+	}
+
+	/* @formatter:off */
+	@UseCaseUserFetchesProjectFindingHistory(@Step(number=2,next= {4},name="REST API call to get finding trend",needsRestDoc=true))
+	@RequestMapping(path = "/findings/trend", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_UTF8_VALUE,MediaType.APPLICATION_JSON_VALUE})
+	public List<ScanReportTrendPoint> getFindingTrend(
+			@PathVariable("projectId") String projectId,
+			@RequestParam(value="days", required=false, defaultValue=DEFAULT_TREND_DAYS) int days
+			) {
+		/* @formatter:on */
+		return historyService.getTrend(projectId, days);
+	}
+
+}
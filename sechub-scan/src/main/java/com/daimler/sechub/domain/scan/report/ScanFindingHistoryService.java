@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static com.daimler.sechub.sharedkernel.UUIDTraceLogID.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.daimler.sechub.domain.scan.ScanAssertService;
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserFetchesProjectFindingHistory;
+
+/**
+ * Maintains finding history of projects. The history is updated on report
+ * creation, so finding age and severity trends can be resolved without loading
+ * any former report result.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScanFindingHistoryService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanFindingHistoryService.class);
+
+	private static final int DEFAULT_RETENTION_DAYS = 365;
+
+	/* keeps IN clauses of fingerprint queries small */
+	static final int FINGERPRINT_CHUNK_SIZE = 500;
+
+	@MustBeDocumented("Finding history entries not seen for this amount of days are deleted. Trends can not be fetched for more days.")
+	@Value("${sechub.config.scan.findinghistory.retention.days:" + DEFAULT_RETENTION_DAYS + "}")
+	int retentionDays = DEFAULT_RETENTION_DAYS;
+
+	@Autowired
+	ScanFindingHistoryRepository historyRepository;
+
+	@Autowired
+	ScanReportRepository reportRepository;
+
+	@Autowired
+	ScanReportDiffEngine diffEngine;
+
+	@Autowired
+	ScanAssertService assertService;
+
+	@PostConstruct
+	void initialize() {
+		if (retentionDays < 1) {
+			LOG.warn("Wrong configured finding history retention days:{}, will use 1", retentionDays);
+			retentionDays = 1;
+		}
+	}
+
+	/**
+	 * Updates finding history of report project by findings of given result.
+	 * There is no security check because its only called internally from system.
+	 *
+	 * @param report
+	 * @param result
+	 */
+	@Transactional
+	public void updateHistory(ScanReport report, SecHubResult result) {
+		UUID secHubJobUUID = report.getSecHubJobUUID();
+		LocalDateTime seen = report.getEnded() != null ? report.getEnded() : LocalDateTime.now();
+
+		/* same finding can be found multiple times inside one job - we use the highest severity */
+		Map<String, SecHubFinding> findingsByFingerprint = new LinkedHashMap<>();
+		List<SecHubFinding> findings = result.getFindings();
+		List<String> fingerprints = diffEngine.createFingerprints(findings);
+		for (int i = 0; i < findings.size(); i++) {
+			findingsByFingerprint.merge(fingerprints.get(i), findings.get(i), this::higherSeverity);
+		}
+
+		List<String> allFingerprints = new ArrayList<>(findingsByFingerprint.keySet());
+		List<ScanFindingHistory> toSave = new ArrayList<>(allFingerprints.size());
+		for (int start = 0; start < allFingerprints.size(); start += FINGERPRINT_CHUNK_SIZE) {
+			List<String> chunk = allFingerprints.subList(start, Math.min(start + FINGERPRINT_CHUNK_SIZE, allFingerprints.size()));
+
+			Map<String, ScanFindingHistory> existing = new HashMap<>();
+			for (ScanFindingHistory history : historyRepository.findByProjectIdAndFingerprintIn(report.getProjectId(), chunk)) {
+				existing.put(history.getFingerprint(), history);
+			}
+			for (String fingerprint : chunk) {
+				ScanFindingHistory history = existing.get(fingerprint);
+				if (history == null) {
+					history = new ScanFindingHistory(report.getProjectId(), fingerprint);
+				}
+				SecHubFinding finding = findingsByFingerprint.get(fingerprint);
+				history.markSeen(secHubJobUUID, seen, finding.getName(), finding.getSeverity());
+				toSave.add(history);
+			}
+		}
+		historyRepository.saveAll(toSave);
+		LOG.debug("{} finding history updated for {} fingerprints", traceLogID(secHubJobUUID), toSave.size());
+	}
+
+	/**
+	 * Resolves age of all findings of given project. There is a security check
+	 * inside, so useable from outside
+	 *
+	 * @param projectId
+	 * @param severity  when not <code>null</code> only findings having this
+	 *                  severity are returned
+	 * @return list of finding ages, ordered by first seen
+	 */
+	@UseCaseUserFetchesProjectFindingHistory(@Step(number = 3, name = "Resolve finding history"))
+	public List<ScanFindingAge> getFindingAges(String projectId, Severity severity) {
+		assertService.assertUserHasAccessToProject(projectId);
+
+		List<ScanFindingHistory> histories;
+		if (severity == null) {
+			histories = historyRepository.findByProjectIdOrderByFirstSeenAsc(projectId);
+		} else {
+			histories = historyRepository.findByProjectIdAndSeverityOrderByFirstSeenAsc(projectId, severity);
+		}
+		List<ScanFindingAge> ages = new ArrayList<>(histories.size());
+		for (ScanFindingHistory history : histories) {
+			ages.add(new ScanFindingAge(history));
+		}
+		return ages;
+	}
+
+	/**
+	 * Resolves severity counts of all jobs of given project ended inside given
+	 * days. There is a security check inside, so useable from outside
+	 *
+	 * @param projectId
+	 * @param days      amount of days, limited by retention days
+	 * @return trend points ordered by job end
+	 */
+	@UseCaseUserFetchesProjectFindingHistory(@Step(number = 4, name = "Resolve finding trend"))
+	public List<ScanReportTrendPoint> getTrend(String projectId, int days) {
+		assertService.assertUserHasAccessToProject(projectId);
+
+		int limitedDays = Math.max(1, Math.min(days, retentionDays));
+		return reportRepository.findTrendPoints(projectId, LocalDateTime.now().minusDays(limitedDays));
+	}
+
+	@MustBeDocumented("Finding history entries older than retention days are deleted by a cron job operation - default is every day at 03:00.")
+	@Scheduled(cron = "${sechub.config.scan.findinghistory.cleanup.cron:0 0 3 * * *}")
+	@Transactional
+	public void deleteOutdatedHistory() {
+		int deleted = historyRepository.deleteNotSeenSince(LocalDateTime.now().minusDays(retentionDays));
+		LOG.info("Deleted {} finding history entries not seen for {} days", deleted, retentionDays);
+	}
+
+	private SecHubFinding higherSeverity(SecHubFinding finding1, SecHubFinding finding2) {
+		if (finding1.getSeverity() == null) {
+			return finding2;
+		}
+		if (finding2.getSeverity() == null) {
+			return finding1;
+		}
+		return finding2.getSeverity().ordinal() > finding1.getSeverity().ordinal() ? finding2 : finding1;
+	}
+}
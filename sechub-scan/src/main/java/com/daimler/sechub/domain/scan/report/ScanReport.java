@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -17,11 +18,13 @@ import javax.persistence.Version;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
+import com.daimler.sechub.domain.scan.storage.ResultBlob;
+import com.daimler.sechub.domain.scan.storage.ResultBlobHolder;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 
 @Entity
 @Table(name = ScanReport.TABLE_NAME)
-public class ScanReport {
+public class ScanReport implements ResultBlobHolder {
 
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ SQL ......................................+ */
@@ -58,11 +61,31 @@ public class ScanReport {
 	@Column(name = COLUMN_RESULT)
 	private String result;
 
+	/**
+	 * Contains reference, size and hash when result is not stored inline
+	 */
+	@Embedded
+	private ResultBlob resultBlob;
+
 
 	@Enumerated(STRING)
 	@Column(name = COLUMN_TRAFFIC_LIGHT, nullable = true)
 	private TrafficLight trafficLight;
 
+	/**
+	 * Severity counts of result, <code>null</code> for reports created before
+	 * counts were persisted
+	 */
+	@Embedded
+	private ScanReportSeverityCounts severityCounts;
+
+	/**
+	 * Difference to previous successful job of same project, <code>null</code> for
+	 * reports created before differences were persisted
+	 */
+	@Embedded
+	private ScanReportDiffSummary diffSummary;
+
 	@Column(name = COLUMN_PROJECT_ID, nullable = false)
 	private String projectId;
 
@@ -85,10 +108,16 @@ public class ScanReport {
 		this.projectId = projectId;
 	}
 
+	@Override
 	public UUID getSecHubJobUUID() {
 		return secHubJobUUID;
 	}
 
+	/**
+	 * @return inline result or <code>null</code> when result is stored as blob -
+	 *         use <code>ResultBlobService</code> to load results
+	 */
+	@Override
 	public String getResult() {
 		return result;
 	}
@@ -101,6 +130,22 @@ public class ScanReport {
 		this.trafficLight = trafficLight;
 	}
 
+	public ScanReportSeverityCounts getSeverityCounts() {
+		return severityCounts;
+	}
+
+	public void setSeverityCounts(ScanReportSeverityCounts severityCounts) {
+		this.severityCounts = severityCounts;
+	}
+
+	public ScanReportDiffSummary getDiffSummary() {
+		return diffSummary;
+	}
+
+	public void setDiffSummary(ScanReportDiffSummary diffSummary) {
+		this.diffSummary = diffSummary;
+	}
+
 	public String getTrafficLightAsString() {
 		if (trafficLight == null) {
 			return null;
@@ -112,10 +157,21 @@ public class ScanReport {
 		return uUID;
 	}
 
+	@Override
 	public void setResult(String result) {
 		this.result = result;
 	}
 
+	@Override
+	public ResultBlob getResultBlob() {
+		return resultBlob;
+	}
+
+	@Override
+	public void setResultBlob(ResultBlob resultBlob) {
+		this.resultBlob = resultBlob;
+	}
+
 	public void setStarted(LocalDateTime started) {
 		this.started = started;
 	}
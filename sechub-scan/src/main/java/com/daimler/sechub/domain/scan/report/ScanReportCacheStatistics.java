@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+/**
+ * Snapshot of scan report cache statistics
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportCacheStatistics {
+	private final int entries;
+	private final long estimatedBytes;
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+
+	ScanReportCacheStatistics(int entries, long estimatedBytes, long hits, long misses, long evictions) {
+		this.entries = entries;
+		this.estimatedBytes = estimatedBytes;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	public int getEntries() {
+		return entries;
+	}
+
+	public long getEstimatedBytes() {
+		return estimatedBytes;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getEvictions() {
+		return evictions;
+	}
+
+	@Override
+	public String toString() {
+		return "entries=" + entries + ", estimatedBytes=" + estimatedBytes + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions;
+	}
+}
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.sharedkernel.MustBeKeptStable;
+import com.daimler.sechub.sharedkernel.util.JSONable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Difference between findings of a sechub job and the findings of the
+ * previous successful job of same project.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@MustBeKeptStable("This is the result returend from REST API to cli and other systems. So has to be stable")
+public class ScanReportDiff implements JSONable<ScanReportDiff> {
+
+	public static final String PROPERTY_JOBUUID = "jobUUID";
+	public static final String PROPERTY_PREVIOUS_JOBUUID = "previousJobUUID";
+	public static final String PROPERTY_NEW_FINDINGS = "newFindings";
+	public static final String PROPERTY_FIXED_FINDINGS = "fixedFindings";
+	public static final String PROPERTY_UNCHANGED_FINDINGS = "unchangedFindings";
+
+	public static final ScanReportDiff OBJECT = new ScanReportDiff();
+
+	UUID jobUUID;
+
+	UUID previousJobUUID;
+
+	List<SecHubFinding> newFindings = new ArrayList<>();
+
+	List<SecHubFinding> fixedFindings = new ArrayList<>();
+
+	List<SecHubFinding> unchangedFindings = new ArrayList<>();
+
+	ScanReportDiff() {
+	}
+
+	public UUID getJobUUID() {
+		return jobUUID;
+	}
+
+	/**
+	 * @return job uuid of compared previous job or <code>null</code> when there
+	 *         was no previous job
+	 */
+	public UUID getPreviousJobUUID() {
+		return previousJobUUID;
+	}
+
+	/**
+	 * @return findings only existing in current job
+	 */
+	public List<SecHubFinding> getNewFindings() {
+		return newFindings;
+	}
+
+	/**
+	 * @return findings only existing in previous job
+	 */
+	public List<SecHubFinding> getFixedFindings() {
+		return fixedFindings;
+	}
+
+	/**
+	 * @return findings of current job existing also in previous job
+	 */
+	public List<SecHubFinding> getUnchangedFindings() {
+		return unchangedFindings;
+	}
+
+	@Override
+	public Class<ScanReportDiff> getJSONTargetClass() {
+		return ScanReportDiff.class;
+	}
+
+}
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Type;
+
+/**
+ * Persisted difference between findings of a sechub job and the findings of
+ * the previous successful job of same project. Only positions of the findings
+ * inside the results are stored - so the difference is calculated only one
+ * time and resolving it needs no fingerprint calculation.<br>
+ * <br>
+ * Positions are stored as comma separated list, following positions are
+ * combined to ranges - e.g. "0-3,7,9-12".
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ScanReportDiffData.TABLE_NAME)
+public class ScanReportDiffData {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCAN_REPORT_DIFF";
+
+	public static final String COLUMN_SECHUB_JOB_UUID = "SECHUB_JOB_UUID";
+	public static final String COLUMN_PREVIOUS_SECHUB_JOB_UUID = "PREVIOUS_SECHUB_JOB_UUID";
+	public static final String COLUMN_NEW_FINDINGS = "NEW_FINDINGS";
+	public static final String COLUMN_FIXED_FINDINGS = "FIXED_FINDINGS";
+	public static final String COLUMN_UNCHANGED_FINDINGS = "UNCHANGED_FINDINGS";
+
+	@Id
+	@Column(name = COLUMN_SECHUB_JOB_UUID, updatable = false, nullable = false)
+	UUID secHubJobUUID;
+
+	@Column(name = COLUMN_PREVIOUS_SECHUB_JOB_UUID)
+	UUID previousSecHubJobUUID;
+
+	@Type(type = "text") // same as for scan report result, see ScanReport
+	@Column(name = COLUMN_NEW_FINDINGS)
+	String newFindings;
+
+	@Type(type = "text")
+	@Column(name = COLUMN_FIXED_FINDINGS)
+	String fixedFindings;
+
+	@Type(type = "text")
+	@Column(name = COLUMN_UNCHANGED_FINDINGS)
+	String unchangedFindings;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ScanReportDiffData() {
+		// JPA only
+	}
+
+	public ScanReportDiffData(UUID secHubJobUUID) {
+		this.secHubJobUUID = secHubJobUUID;
+	}
+
+	/**
+	 * Sets previous job and positions
+	 *
+	 * @param previousSecHubJobUUID previous job or <code>null</code> when there
+	 *                              was no previous job
+	 * @param positions
+	 */
+	public void setDiff(UUID previousSecHubJobUUID, ScanReportDiffPositions positions) {
+		this.previousSecHubJobUUID = previousSecHubJobUUID;
+		this.newFindings = encode(positions.getNewFindings());
+		this.fixedFindings = encode(positions.getFixedFindings());
+		this.unchangedFindings = encode(positions.getUnchangedFindings());
+	}
+
+	public UUID getSecHubJobUUID() {
+		return secHubJobUUID;
+	}
+
+	/**
+	 * @return job uuid of compared previous job or <code>null</code> when there
+	 *         was no previous job
+	 */
+	public UUID getPreviousSecHubJobUUID() {
+		return previousSecHubJobUUID;
+	}
+
+	/**
+	 * @return <code>true</code> when previous job had findings not existing in
+	 *         this job
+	 */
+	public boolean hasFixedFindings() {
+		return fixedFindings != null && !fixedFindings.isEmpty();
+	}
+
+	/**
+	 * @return stored positions, never <code>null</code>
+	 */
+	public ScanReportDiffPositions getPositions() {
+		ScanReportDiffPositions positions = new ScanReportDiffPositions();
+		positions.newFindings = decode(newFindings);
+		positions.fixedFindings = decode(fixedFindings);
+		positions.unchangedFindings = decode(unchangedFindings);
+		return positions;
+	}
+
+	static String encode(List<Integer> positions) {
+		StringBuilder sb = new StringBuilder();
+		int i = 0;
+		while (i < positions.size()) {
+			int start = positions.get(i);
+			int end = start;
+			while (i + 1 < positions.size() && positions.get(i + 1) == end + 1) {
+				end++;
+				i++;
+			}
+			if (sb.length() > 0) {
+				sb.append(',');
+			}
+			sb.append(start);
+			if (end > start) {
+				sb.append('-').append(end);
+			}
+			i++;
+		}
+		return sb.toString();
+	}
+
+	static List<Integer> decode(String encoded) {
+		List<Integer> positions = new ArrayList<>();
+		if (encoded == null || encoded.isEmpty()) {
+			return positions;
+		}
+		for (String part : encoded.split(",")) {
+			int rangeIndex = part.indexOf('-');
+			if (rangeIndex == -1) {
+				positions.add(Integer.valueOf(part));
+				continue;
+			}
+			int start = Integer.parseInt(part.substring(0, rangeIndex));
+			int end = Integer.parseInt(part.substring(rangeIndex + 1));
+			for (int position = start; position <= end; position++) {
+				positions.add(position);
+			}
+		}
+		return positions;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((secHubJobUUID == null) ? 0 : secHubJobUUID.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ScanReportDiffData other = (ScanReportDiffData) obj;
+		if (secHubJobUUID == null) {
+			if (other.secHubJobUUID != null)
+				return false;
+		} else if (!secHubJobUUID.equals(other.secHubJobUUID))
+			return false;
+		return true;
+	}
+}
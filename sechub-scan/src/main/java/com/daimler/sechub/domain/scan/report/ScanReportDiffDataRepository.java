@@ -0,0 +1,10 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ScanReportDiffDataRepository extends JpaRepository<ScanReportDiffData, UUID> {
+
+}
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+
+/**
+ * Compares findings of two sechub results by stable finding fingerprints. A
+ * fingerprint is a SHA-256 hash over the finding fields identifying a finding
+ * between scans (name, description, target, website, path, parameter name,
+ * method and service). Finding id, creation date, severity and request/response
+ * data can change from scan to scan, so they are not part of the fingerprint.
+ * <br>
+ * <br>
+ * Findings having same fingerprint are treated as a multi set - e.g. when
+ * previous result had a finding three times and current result has it two
+ * times, two findings are unchanged and one is fixed.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanReportDiffEngine {
+
+	private static final String ALGORITHM = "SHA-256";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Compares given results
+	 *
+	 * @param previous previous result, can be <code>null</code> (means no
+	 *                 previous findings)
+	 * @param current  current result, can be <code>null</code> (means no current
+	 *                 findings)
+	 * @return diff, never <code>null</code>
+	 */
+	public ScanReportDiff diff(SecHubResult previous, SecHubResult current) {
+		return diffPositions(previous, current).resolve(previous, current);
+	}
+
+	/**
+	 * Compares given results and returns only the positions of the findings
+	 * inside the results. Positions are small and can be persisted, so the
+	 * difference must not be calculated again.
+	 *
+	 * @param previous previous result, can be <code>null</code> (means no
+	 *                 previous findings)
+	 * @param current  current result, can be <code>null</code> (means no current
+	 *                 findings)
+	 * @return positions, never <code>null</code>
+	 */
+	public ScanReportDiffPositions diffPositions(SecHubResult previous, SecHubResult current) {
+		MessageDigest digest = createDigest();
+
+		List<SecHubFinding> previousFindings = findingsOf(previous);
+		List<SecHubFinding> currentFindings = findingsOf(current);
+
+		List<String> previousFingerprints = createFingerprints(digest, previousFindings);
+		Map<String, int[]> remaining = new HashMap<>(previousFindings.size() * 2);
+		for (String fingerprint : previousFingerprints) {
+			remaining.computeIfAbsent(fingerprint, key -> new int[1])[0]++;
+		}
+
+		ScanReportDiffPositions positions = new ScanReportDiffPositions();
+		for (int i = 0; i < currentFindings.size(); i++) {
+			int[] count = remaining.get(createFingerprint(digest, currentFindings.get(i)));
+			if (count != null && count[0] > 0) {
+				count[0]--;
+				positions.unchangedFindings.add(i);
+			} else {
+				positions.newFindings.add(i);
+			}
+		}
+		/* all previous findings not consumed by current ones are fixed */
+		for (int i = 0; i < previousFindings.size(); i++) {
+			int[] count = remaining.get(previousFingerprints.get(i));
+			if (count[0] > 0) {
+				count[0]--;
+				positions.fixedFindings.add(i);
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Creates fingerprint for given finding
+	 *
+	 * @param finding
+	 * @return fingerprint as hex string, never <code>null</code>
+	 */
+	public String createFingerprint(SecHubFinding finding) {
+		return createFingerprint(createDigest(), finding);
+	}
+
+	/**
+	 * Creates fingerprints for given findings
+	 *
+	 * @param findings
+	 * @return list containing fingerprint for each finding at same index
+	 */
+	public List<String> createFingerprints(List<SecHubFinding> findings) {
+		return createFingerprints(createDigest(), findings);
+	}
+
+	private List<String> createFingerprints(MessageDigest digest, List<SecHubFinding> findings) {
+		List<String> fingerprints = new ArrayList<>(findings.size());
+		for (SecHubFinding finding : findings) {
+			fingerprints.add(createFingerprint(digest, finding));
+		}
+		return fingerprints;
+	}
+
+	private String createFingerprint(MessageDigest digest, SecHubFinding finding) {
+		digest.reset();
+		update(digest, finding.getName());
+		update(digest, finding.getDescription());
+		update(digest, finding.getTarget());
+		update(digest, finding.getWebsite());
+		update(digest, finding.getPath());
+		update(digest, finding.getParameterName());
+		update(digest, finding.getMethod());
+		update(digest, finding.getService());
+		return toHex(digest.digest());
+	}
+
+	private void update(MessageDigest digest, String value) {
+		if (value == null) {
+			/* marker, so null and empty strings have different fingerprints */
+			digest.update((byte) 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		/* length prefix avoids same fingerprint when content moves between fields */
+		digest.update((byte) 1);
+		digest.update((byte) (bytes.length >>> 24));
+		digest.update((byte) (bytes.length >>> 16));
+		digest.update((byte) (bytes.length >>> 8));
+		digest.update((byte) bytes.length);
+		digest.update(bytes);
+	}
+
+	static List<SecHubFinding> findingsOf(SecHubResult result) {
+		if (result == null || result.getFindings() == null) {
+			return new ArrayList<>();
+		}
+		return result.getFindings();
+	}
+
+	private String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+
+	private MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(ALGORITHM + " not supported", e);
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+
+/**
+ * Difference between two sechub results, described only by positions of the
+ * findings inside their result. New and unchanged findings are positions
+ * inside the current result, fixed findings are positions inside the previous
+ * result.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportDiffPositions {
+
+	List<Integer> newFindings = new ArrayList<>();
+
+	List<Integer> fixedFindings = new ArrayList<>();
+
+	List<Integer> unchangedFindings = new ArrayList<>();
+
+	public List<Integer> getNewFindings() {
+		return newFindings;
+	}
+
+	public List<Integer> getFixedFindings() {
+		return fixedFindings;
+	}
+
+	public List<Integer> getUnchangedFindings() {
+		return unchangedFindings;
+	}
+
+	/**
+	 * Resolves findings at positions from given results
+	 *
+	 * @param previous previous result, can be <code>null</code> - then fixed
+	 *                 findings cannot be resolved
+	 * @param current  current result, can be <code>null</code>
+	 * @return diff, never <code>null</code>
+	 */
+	public ScanReportDiff resolve(SecHubResult previous, SecHubResult current) {
+		List<SecHubFinding> previousFindings = ScanReportDiffEngine.findingsOf(previous);
+		List<SecHubFinding> currentFindings = ScanReportDiffEngine.findingsOf(current);
+
+		ScanReportDiff diff = new ScanReportDiff();
+		addFindings(diff.newFindings, currentFindings, newFindings);
+		addFindings(diff.fixedFindings, previousFindings, fixedFindings);
+		addFindings(diff.unchangedFindings, currentFindings, unchangedFindings);
+		return diff;
+	}
+
+	private void addFindings(List<SecHubFinding> target, List<SecHubFinding> findings, List<Integer> positions) {
+		for (Integer position : positions) {
+			if (position < findings.size()) {
+				target.add(findings.get(position));
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static com.daimler.sechub.sharedkernel.UUIDTraceLogID.*;
+
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReportDiff;
+
+/**
+ * Resolves difference between findings of a sechub job and the findings of the
+ * previous successful job of same project.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScanReportDiffService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanReportDiffService.class);
+
+	@Autowired
+	ScanReportRepository reportRepository;
+
+	@Autowired
+	ScanReportDiffDataRepository diffDataRepository;
+
+	@Autowired
+	DownloadScanReportService downloadReportService;
+
+	@Autowired
+	ScanReportDiffEngine diffEngine;
+
+	/**
+	 * Calculates difference to previous successful job of same project, sets
+	 * summary to given report and persists the difference. Is called on report
+	 * creation, so there is no security check. A failing calculation does not
+	 * break report creation - the summary stays <code>null</code> and the
+	 * difference is calculated on first download.
+	 *
+	 * @param report report to create summary for
+	 * @param result result of the report
+	 */
+	public void createSummary(ScanReport report, SecHubResult result) {
+		try {
+			ScanReport previousReport = findPreviousReport(report);
+			ScanReportDiffPositions positions = diffEngine.diffPositions(resolveResult(previousReport), result);
+			UUID previousJobUUID = previousReport == null ? null : previousReport.getSecHubJobUUID();
+
+			persistDiffData(report.getSecHubJobUUID(), previousJobUUID, positions);
+
+			ScanReportDiffSummary summary = ScanReportDiffSummary.from(previousJobUUID, positions);
+			report.setDiffSummary(summary);
+			LOG.debug("{} diff summary created: {}", traceLogID(report.getSecHubJobUUID()), summary);
+
+		} catch (RuntimeException e) {
+			LOG.warn("{} was not able to create diff summary for report", traceLogID(report.getSecHubJobUUID()), e);
+		}
+	}
+
+	/**
+	 * Resolves difference for given job from persisted difference. There is a
+	 * security check inside, so useable from outside
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @return difference, never <code>null</code>
+	 */
+	@UseCaseUserDownloadsJobReportDiff(@Step(number = 2, name = "Resolve scan report diff"))
+	public ScanReportDiff getScanReportDiff(String projectId, UUID jobUUID) {
+		ScanReport report = downloadReportService.getScanReport(projectId, jobUUID);
+		SecHubResult result = resolveResult(report);
+
+		ScanReportDiffData diffData = diffDataRepository.findById(jobUUID).orElse(null);
+		if (diffData == null) {
+			/* report was created before differences were persisted - calculate only one time */
+			diffData = calculateDiffData(report, result);
+		}
+		UUID previousJobUUID = diffData.getPreviousSecHubJobUUID();
+		SecHubResult previousResult = null;
+		if (diffData.hasFixedFindings()) {
+			/* previous result is only necessary for fixed findings */
+			previousResult = resolveResult(reportRepository.findBySecHubJobUUID(previousJobUUID));
+		}
+		ScanReportDiff diff = diffData.getPositions().resolve(previousResult, result);
+		diff.jobUUID = jobUUID;
+		diff.previousJobUUID = previousJobUUID;
+		return diff;
+	}
+
+	private ScanReportDiffData calculateDiffData(ScanReport report, SecHubResult result) {
+		ScanReport previousReport = findPreviousReport(report);
+		ScanReportDiffPositions positions = diffEngine.diffPositions(resolveResult(previousReport), result);
+		UUID previousJobUUID = previousReport == null ? null : previousReport.getSecHubJobUUID();
+		try {
+			return persistDiffData(report.getSecHubJobUUID(), previousJobUUID, positions);
+		} catch (RuntimeException e) {
+			/* e.g. persisted meanwhile by another download */
+			LOG.warn("{} was not able to persist calculated diff", traceLogID(report.getSecHubJobUUID()), e);
+			ScanReportDiffData diffData = new ScanReportDiffData(report.getSecHubJobUUID());
+			diffData.setDiff(previousJobUUID, positions);
+			return diffData;
+		}
+	}
+
+	private ScanReportDiffData persistDiffData(UUID jobUUID, UUID previousJobUUID, ScanReportDiffPositions positions) {
+		/* a restarted job can create its report again */
+		ScanReportDiffData diffData = diffDataRepository.findById(jobUUID).orElseGet(() -> new ScanReportDiffData(jobUUID));
+		diffData.setDiff(previousJobUUID, positions);
+		return diffDataRepository.save(diffData);
+	}
+
+	private ScanReport findPreviousReport(ScanReport report) {
+		if (report.getStarted() == null) {
+			return null;
+		}
+		return reportRepository.findFirstByProjectIdAndSecHubJobUUIDNotAndTrafficLightIsNotNullAndEndedBeforeOrderByEndedDesc(report.getProjectId(),
+				report.getSecHubJobUUID(), report.getStarted());
+	}
+
+	private SecHubResult resolveResult(ScanReport report) {
+		if (report == null) {
+			return null;
+		}
+		/* previous results are normally still cached from former report downloads */
+		return downloadReportService.getScanReportResult(report).getResult();
+	}
+
+}
@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * Summary of difference to previous successful job of same project. Is
+ * calculated once on report creation and persisted together with the report.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Embeddable
+public class ScanReportDiffSummary {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String COLUMN_PREVIOUS_SECHUB_JOB_UUID = "PREVIOUS_SECHUB_JOB_UUID";
+	public static final String COLUMN_COUNT_NEW_FINDINGS = "COUNT_NEW_FINDINGS";
+	public static final String COLUMN_COUNT_FIXED_FINDINGS = "COUNT_FIXED_FINDINGS";
+	public static final String COLUMN_COUNT_UNCHANGED_FINDINGS = "COUNT_UNCHANGED_FINDINGS";
+
+	@Column(name = COLUMN_PREVIOUS_SECHUB_JOB_UUID)
+	UUID previousSecHubJobUUID;
+
+	@Column(name = COLUMN_COUNT_NEW_FINDINGS)
+	Integer newFindings;
+
+	@Column(name = COLUMN_COUNT_FIXED_FINDINGS)
+	Integer fixedFindings;
+
+	@Column(name = COLUMN_COUNT_UNCHANGED_FINDINGS)
+	Integer unchangedFindings;
+
+	ScanReportDiffSummary() {
+		// JPA only
+	}
+
+	public static ScanReportDiffSummary from(UUID previousSecHubJobUUID, ScanReportDiffPositions positions) {
+		ScanReportDiffSummary summary = new ScanReportDiffSummary();
+		summary.previousSecHubJobUUID = previousSecHubJobUUID;
+		summary.newFindings = positions.getNewFindings().size();
+		summary.fixedFindings = positions.getFixedFindings().size();
+		summary.unchangedFindings = positions.getUnchangedFindings().size();
+		return summary;
+	}
+
+	/**
+	 * @return job uuid of previous job or <code>null</code> when there was no
+	 *         previous job
+	 */
+	public UUID getPreviousSecHubJobUUID() {
+		return previousSecHubJobUUID;
+	}
+
+	public Integer getNewFindings() {
+		return newFindings;
+	}
+
+	public Integer getFixedFindings() {
+		return fixedFindings;
+	}
+
+	public Integer getUnchangedFindings() {
+		return unchangedFindings;
+	}
+
+	@Override
+	public String toString() {
+		return "ScanReportDiffSummary [previousSecHubJobUUID=" + previousSecHubJobUUID + ", newFindings=" + newFindings + ", fixedFindings="
+				+ fixedFindings + ", unchangedFindings=" + unchangedFindings + "]";
+	}
+
+}
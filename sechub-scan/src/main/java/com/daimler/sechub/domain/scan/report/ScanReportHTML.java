@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.daimler.sechub.sharedkernel.util.ChecksumEngine;
+import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
+
+/**
+ * A rendered HTML scan report. Content is kept gzip compressed, the ETag is
+ * calculated from the uncompressed content - so it is same on every server.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportHTML {
+
+	private final byte[] compressed;
+	private final int size;
+	private final String eTag;
+
+	private ScanReportHTML(byte[] compressed, int size, String eTag) {
+		this.compressed = compressed;
+		this.size = size;
+		this.eTag = eTag;
+	}
+
+	/**
+	 * Creates compressed HTML report
+	 *
+	 * @param html
+	 * @return report HTML, never <code>null</code>
+	 */
+	public static ScanReportHTML create(String html) {
+		byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+		String eTag = "\"" + ChecksumEngine.toHex(ChecksumEngine.SHA256.createMessageDigest().digest(bytes)) + "\"";
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to compress html report", e);
+		}
+		return new ScanReportHTML(out.toByteArray(), bytes.length, eTag);
+	}
+
+	/**
+	 * @return quoted entity tag
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * @return gzip compressed UTF-8 content - must not be changed
+	 */
+	public byte[] getCompressed() {
+		return compressed;
+	}
+
+	/**
+	 * @return uncompressed size in bytes
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return uncompressed UTF-8 content
+	 */
+	public byte[] getUncompressed() {
+		byte[] result = new byte[size];
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			int pos = 0;
+			int read;
+			while (pos < size && (read = in.read(result, pos, size - pos)) != -1) {
+				pos += read;
+			}
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to uncompress html report", e);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if given value of an "If-None-Match" header matches this report
+	 *
+	 * @param ifNoneMatch header value, can be <code>null</code>
+	 * @return <code>true</code> when client has already this content
+	 */
+	public boolean isMatching(String ifNoneMatch) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String tag : ifNoneMatch.split(",")) {
+			String trimmed = tag.trim();
+			if (trimmed.startsWith("W/")) {
+				trimmed = trimmed.substring(2);
+			}
+			if (trimmed.equals("*") || trimmed.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
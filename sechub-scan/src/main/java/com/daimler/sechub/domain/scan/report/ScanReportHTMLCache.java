@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Bounded in memory cache for rendered and compressed HTML scan reports.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanReportHTMLCache extends AbstractScanReportCache<ScanReportHTML> {
+
+	private static final long DEFAULT_MAXIMUM_BYTES = 32 * 1024 * 1024;
+
+	@MustBeDocumented("Maximum memory in bytes used for rendered and compressed html scan reports. 0 disables the cache.")
+	@Value("${sechub.config.scan.report.html.cache.maximum.bytes:" + DEFAULT_MAXIMUM_BYTES + "}")
+	long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+	@Override
+	protected long getMaximumBytes() {
+		return maximumBytes;
+	}
+
+	/**
+	 * Adds rendered html of given report to cache
+	 *
+	 * @param report
+	 * @param html
+	 */
+	public void put(ScanReport report, ScanReportHTML html) {
+		putEstimated(report, html, html.getCompressed().length);
+	}
+
+}
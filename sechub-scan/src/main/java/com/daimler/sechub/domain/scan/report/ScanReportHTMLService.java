@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+
+/**
+ * Provides HTML scan reports. A report is rendered only on first request, the
+ * compressed result is kept inside {@link ScanReportHTMLCache} for further
+ * requests.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScanReportHTMLService {
+
+	static final String TEMPLATE_NAME = "report/html/scanresult";
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanReportHTMLService.class);
+
+	@Autowired
+	DownloadScanReportService downloadReportService;
+
+	@Autowired
+	HTMLScanResultReportModelBuilder htmlModelBuilder;
+
+	@Autowired
+	ITemplateEngine templateEngine;
+
+	@Autowired
+	ScanReportHTMLCache htmlCache;
+
+	/**
+	 * Resolves HTML report - there is a security check inside, so useable from
+	 * outside
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @return html report, never <code>null</code>
+	 */
+	public ScanReportHTML getScanReportHTML(String projectId, UUID jobUUID) {
+		ScanReport report = downloadReportService.getScanReport(projectId, jobUUID);
+
+		ScanReportHTML html = htmlCache.get(report);
+		if (html != null) {
+			return html;
+		}
+		ScanReportResult scanResult = downloadReportService.getScanReportResult(report);
+		Map<String, Object> model = htmlModelBuilder.build(scanResult);
+
+		long start = System.currentTimeMillis();
+		html = ScanReportHTML.create(templateEngine.process(TEMPLATE_NAME, new Context(Locale.ENGLISH, model)));
+		LOG.debug("Rendered html report for job {} in {} ms, size:{}, compressed:{}", jobUUID, System.currentTimeMillis() - start, html.getSize(),
+				html.getCompressed().length);
+
+		if (!htmlModelBuilder.isWebDesignMode()) {
+			/* in web design mode css changes shall be visible without restart */
+			htmlCache.put(report, html);
+		}
+		return html;
+	}
+
+}
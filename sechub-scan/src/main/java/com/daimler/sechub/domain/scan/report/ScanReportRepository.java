@@ -1,11 +1,43 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.report;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ScanReportRepository extends JpaRepository<ScanReport, UUID> {
 
 	public ScanReport findBySecHubJobUUID(UUID secHubJobUUID);
+
+	/**
+	 * @return scan reports still having their result stored inline (not migrated
+	 *         to a result blob storage)
+	 */
+	public List<ScanReport> findByResultBlobStorageTypeIsNullAndResultIsNotNull(Pageable pageable);
+
+	/**
+	 * @return latest successful report of given project ended before given time
+	 *         stamp and not created for given job, or <code>null</code>
+	 */
+	public ScanReport findFirstByProjectIdAndSecHubJobUUIDNotAndTrafficLightIsNotNullAndEndedBeforeOrderByEndedDesc(String projectId, UUID secHubJobUUID,
+			LocalDateTime endedBefore);
+
+	/**
+	 * Resolves severity counts of all reports of given project ended since given
+	 * time stamp. Reports created before counts were persisted are ignored.
+	 *
+	 * @return trend points ordered by end time stamp
+	 */
+	/* @formatter:off */
+	@Query("SELECT new com.daimler.sechub.domain.scan.report.ScanReportTrendPoint("
+			+ "r.secHubJobUUID, r.ended, r.severityCounts.critical, r.severityCounts.high, r.severityCounts.medium, "
+			+ "r.severityCounts.unclassified, r.severityCounts.low, r.severityCounts.info) "
+			+ "FROM ScanReport r where r.projectId = ?1 and r.ended >= ?2 and r.severityCounts.critical is not null "
+			+ "order by r.ended")
+	/* @formatter:on */
+	public List<ScanReportTrendPoint> findTrendPoints(String projectId, LocalDateTime endedSince);
 }
@@ -1,26 +1,29 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.report;
 
-import java.util.Map;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
 
-import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
 import com.daimler.sechub.sharedkernel.APIConstants;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReport;
+import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReportDiff;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserStartsSynchronousScanByClient;
 
 /**
@@ -37,11 +40,14 @@ import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserStartsSy
 public class ScanReportRestController {
 
 	@Autowired
-	private HTMLScanResultReportModelBuilder htmlModelBuilder;
+	private ScanReportHTMLService htmlReportService;
 
 	@Autowired
 	private DownloadScanReportService downloadReportService;
 
+	@Autowired
+	private ScanReportDiffService diffService;
+
 
 	/* @formatter:off */
 	@UseCaseUserDownloadsJobReport(@Step(number=1,next= {3},name="REST API call to get JSON report",needsRestDoc=true))
@@ -60,20 +66,81 @@ public class ScanReportRestController {
 	@UseCaseUserDownloadsJobReport(@Step(number=2,next= {3},name="REST API call to get HTML report",needsRestDoc=true))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {"application/xhtml+xml", "text/html","text/html;charset=UTF-8"})
 	@ResponseBody
-	public ModelAndView getScanReportResultHTML(
+	public ResponseEntity<byte[]> getScanReportResultHTML(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			@RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch,
+			@RequestHeader(value=HttpHeaders.ACCEPT_ENCODING, required=false) String acceptEncoding
 			) {
 		/* @formatter:on */
-		ScanReportResult scanResult = fetchScanReportResult(projectId, jobUUID);
+		ScanReportHTML html = htmlReportService.getScanReportHTML(projectId, jobUUID);
+
+		if (html.isMatching(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(html.getETag()).build();
+		}
+		BodyBuilder builder = ResponseEntity.ok().
+				eTag(html.getETag()).
+				contentType(MediaType.parseMediaType("text/html;charset=UTF-8")).
+				header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
 
-		Map<String, Object> model = htmlModelBuilder.build(scanResult);
-		return new ModelAndView("report/html/scanresult", model);
+		if (isGzipAccepted(acceptEncoding)) {
+			/* stored compressed, so no need to compress again */
+			return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(html.getCompressed());
+		}
+		return builder.body(html.getUncompressed());
+	}
+
+	/* @formatter:off */
+	@UseCaseUserDownloadsJobReportDiff(@Step(number=1,next= {2},name="REST API call to get JSON report diff",needsRestDoc=true))
+	@RequestMapping(path = "/report/{jobUUID}/diff", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_UTF8_VALUE,MediaType.APPLICATION_JSON_VALUE})
+	public ScanReportDiff getScanReportDiffJSON(
+			@PathVariable("projectId") String projectId,
+			@PathVariable("jobUUID") UUID jobUUID
+			) {
+		/* @formatter:on */
+		return diffService.getScanReportDiff(projectId, jobUUID);
 	}
 
 	private ScanReportResult fetchScanReportResult(String projectId, UUID jobUUID) {
 		return downloadReportService.getScanReportResult(projectId, jobUUID);
 	}
 
+	/**
+	 * Checks accept encoding header for gzip - an explicit gzip entry wins over a
+	 * wildcard, a quality value of 0 means "not acceptable"
+	 */
+	private boolean isGzipAccepted(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		boolean wildcardAccepted = false;
+		for (String encoding : acceptEncoding.split(",")) {
+			String[] parts = encoding.split(";");
+			String coding = parts[0].trim().toLowerCase();
+			if (coding.equals("gzip") || coding.equals("x-gzip")) {
+				return hasPositiveQuality(parts);
+			}
+			if (coding.equals("*")) {
+				wildcardAccepted = hasPositiveQuality(parts);
+			}
+		}
+		return wildcardAccepted;
+	}
+
+	private boolean hasPositiveQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim().toLowerCase();
+			if (!parameter.startsWith("q=")) {
+				continue;
+			}
+			try {
+				return Double.parseDouble(parameter.substring(2).trim()) > 0;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 
 }
@@ -58,21 +58,42 @@ public class ScanReportResult implements JSONable<ScanReportResult>{
 	}
 	
 	public ScanReportResult(ScanReport report) {
+		this(report, report == null ? null : report.getResult());
+	}
+
+	/**
+	 * Creates report result
+	 * @param report
+	 * @param reportResult the result of the report (necessary when report result is stored as blob)
+	 */
+	public ScanReportResult(ScanReport report, String reportResult) {
 		notNull(report, "Report may not be null!");
 		jobUUID = report.getSecHubJobUUID();
 		trafficLight = report.getTrafficLightAsString();
 		try {
-			result = SecHubResult.OBJECT.fromJSON(report.getResult());
+			result = SecHubResult.OBJECT.fromJSON(reportResult);
 		} catch (JSONConverterException e) {
 			/* Should never happen, because we set secHubResult to database as string from report
 			 * If this happens. We got a data corruption and are NOT backward compatible on changes.
 			 * Must be then fixed!
 			 */
-			LOG.error("{} FATAL PROBLEM! Failed to create sechub result for origin:\n{}",UUIDTraceLogID.traceLogID(jobUUID), report.getResult());
+			LOG.error("{} FATAL PROBLEM! Failed to create sechub result for origin:\n{}",UUIDTraceLogID.traceLogID(jobUUID), reportResult);
 			info="Origin result data problems! Please inform administrators about this problem.";
 		}
 	}
 	
+	/**
+	 * Creates report result for an already parsed result
+	 * @param report
+	 * @param result parsed result of the report
+	 */
+	public ScanReportResult(ScanReport report, SecHubResult result) {
+		notNull(report, "Report may not be null!");
+		this.jobUUID = report.getSecHubJobUUID();
+		this.trafficLight = report.getTrafficLightAsString();
+		this.result = result;
+	}
+
 	@Override
 	public Class<ScanReportResult> getJSONTargetClass() {
 		return ScanReportResult.class;
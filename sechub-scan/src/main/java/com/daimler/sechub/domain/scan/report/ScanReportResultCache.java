@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Bounded in memory cache for parsed {@link SecHubResult} objects of scan
+ * reports, used for report downloads.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScanReportResultCache extends AbstractScanReportCache<SecHubResult> {
+
+	private static final long DEFAULT_MAXIMUM_BYTES = 64 * 1024 * 1024;
+
+	@MustBeDocumented("Maximum estimated memory in bytes used for parsed scan report results cached for downloads. 0 disables the cache.")
+	@Value("${sechub.config.scan.report.cache.maximum.bytes:" + DEFAULT_MAXIMUM_BYTES + "}")
+	long maximumBytes = DEFAULT_MAXIMUM_BYTES;
+
+	@Override
+	protected long getMaximumBytes() {
+		return maximumBytes;
+	}
+
+	/**
+	 * Adds parsed result of given report to cache
+	 *
+	 * @param report
+	 * @param result
+	 * @param resultJSONLength length of the origin JSON, used to estimate memory
+	 *                         consumption
+	 */
+	public void put(ScanReport report, SecHubResult result, int resultJSONLength) {
+		/* parsed objects need roughly the memory of the JSON as UTF-16 string */
+		putEstimated(report, result, 2L * resultJSONLength);
+	}
+
+}
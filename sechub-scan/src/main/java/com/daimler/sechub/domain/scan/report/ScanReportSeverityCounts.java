@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static javax.persistence.EnumType.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.Enumerated;
+
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.domain.scan.SeverityStatistics;
+
+/**
+ * Severity counts of a scan report, persisted together with the report - so
+ * they never need to be calculated again from the result.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Embeddable
+public class ScanReportSeverityCounts {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String COLUMN_COUNT_CRITICAL = "COUNT_CRITICAL";
+	public static final String COLUMN_COUNT_HIGH = "COUNT_HIGH";
+	public static final String COLUMN_COUNT_MEDIUM = "COUNT_MEDIUM";
+	public static final String COLUMN_COUNT_UNCLASSIFIED = "COUNT_UNCLASSIFIED";
+	public static final String COLUMN_COUNT_LOW = "COUNT_LOW";
+	public static final String COLUMN_COUNT_INFO = "COUNT_INFO";
+	public static final String COLUMN_MAXIMUM_SEVERITY = "MAXIMUM_SEVERITY";
+
+	@Column(name = COLUMN_COUNT_CRITICAL)
+	Integer critical;
+
+	@Column(name = COLUMN_COUNT_HIGH)
+	Integer high;
+
+	@Column(name = COLUMN_COUNT_MEDIUM)
+	Integer medium;
+
+	@Column(name = COLUMN_COUNT_UNCLASSIFIED)
+	Integer unclassified;
+
+	@Column(name = COLUMN_COUNT_LOW)
+	Integer low;
+
+	@Column(name = COLUMN_COUNT_INFO)
+	Integer info;
+
+	@Enumerated(STRING)
+	@Column(name = COLUMN_MAXIMUM_SEVERITY)
+	Severity maximumSeverity;
+
+	ScanReportSeverityCounts() {
+		// JPA only
+	}
+
+	public static ScanReportSeverityCounts from(SeverityStatistics statistics) {
+		ScanReportSeverityCounts counts = new ScanReportSeverityCounts();
+		counts.critical = statistics.getCount(Severity.CRITICAL);
+		counts.high = statistics.getCount(Severity.HIGH);
+		counts.medium = statistics.getCount(Severity.MEDIUM);
+		counts.unclassified = statistics.getCount(Severity.UNCLASSIFIED);
+		counts.low = statistics.getCount(Severity.LOW);
+		counts.info = statistics.getCount(Severity.INFO);
+		counts.maximumSeverity = statistics.getMaximumSeverity();
+		return counts;
+	}
+
+	/**
+	 * @param severity
+	 * @return count for given severity or <code>null</code> when not calculated
+	 *         (older reports)
+	 */
+	public Integer getCount(Severity severity) {
+		switch (severity) {
+		case CRITICAL:
+			return critical;
+		case HIGH:
+			return high;
+		case MEDIUM:
+			return medium;
+		case UNCLASSIFIED:
+			return unclassified;
+		case LOW:
+			return low;
+		case INFO:
+			return info;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * @return maximum severity or <code>null</code> when there are no findings
+	 */
+	public Severity getMaximumSeverity() {
+		return maximumSeverity;
+	}
+
+	@Override
+	public String toString() {
+		return "ScanReportSeverityCounts [critical=" + critical + ", high=" + high + ", medium=" + medium + ", unclassified=" + unclassified + ", low="
+				+ low + ", info=" + info + ", maximumSeverity=" + maximumSeverity + "]";
+	}
+
+}
@@ -2,7 +2,9 @@
 package com.daimler.sechub.domain.scan.report;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import com.daimler.sechub.domain.scan.SecHubFinding;
 import com.daimler.sechub.domain.scan.SecHubResult;
 import com.daimler.sechub.domain.scan.Severities;
 import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.domain.scan.SeverityStatistics;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 
 @Component
@@ -19,25 +22,25 @@ public class ScanReportTrafficLightCalculator {
 		if (result == null) {
 			throw new IllegalArgumentException("SecHub result may not be null!");
 		}
-		TrafficLight trafficLight = null;
-		for (Severity severity: Severities.getAllOrderedFromHighToLow()) {
-			trafficLight = resolveTrafficLightWhenOneEntryWithSuchSeverity(result, trafficLight, severity);
-		}
-		if (trafficLight!=null) {
-			return trafficLight;
-		}
-		/* when no severities...*/
-		return TrafficLight.GREEN;
+		return calculateTrafficLightFromStatistics(SeverityStatistics.of(result));
 	}
 
-	TrafficLight resolveTrafficLightWhenOneEntryWithSuchSeverity(SecHubResult result, TrafficLight found, Severity severity) {
-		if (found != null) {
-			return found;
+	/**
+	 * Calculates traffic light by already calculated statistics
+	 *
+	 * @param statistics
+	 * @return traffic light, never <code>null</code>
+	 */
+	public TrafficLight calculateTrafficLightFromStatistics(SeverityStatistics statistics) {
+		if (statistics == null) {
+			throw new IllegalArgumentException("Severity statistics may not be null!");
 		}
-		if (!hasResultOneFindingWith(result, severity)) {
-			return null;
+		Severity maximumSeverity = statistics.getMaximumSeverity();
+		if (maximumSeverity == null) {
+			/* when no severities...*/
+			return TrafficLight.GREEN;
 		}
-		return mapToTrafficLight(severity);
+		return mapToTrafficLight(maximumSeverity);
 	}
 
 	TrafficLight mapToTrafficLight(Severity severity) {
@@ -67,23 +70,38 @@ public class ScanReportTrafficLightCalculator {
 		return filteredResult;
 	}
 
-	private boolean hasResultOneFindingWith(SecHubResult result, Severity severity) {
-		if (severity == null) {
-			return false;
+	/**
+	 * Groups all findings of given result by their traffic light - in one single
+	 * pass.
+	 *
+	 * @param result
+	 * @return map containing a list for every traffic light, never
+	 *         <code>null</code>
+	 */
+	public Map<TrafficLight, List<SecHubFinding>> groupFindingsByTrafficLight(SecHubResult result) {
+		if (result == null) {
+			return groupFindingsByTrafficLightFromStatistics(SeverityStatistics.of((List<SecHubFinding>) null));
 		}
-		List<SecHubFinding> findings = result.getFindings();
-		if (findings == null || findings.isEmpty()) {
-			return false;
+		return groupFindingsByTrafficLightFromStatistics(SeverityStatistics.of(result));
+	}
+
+	/**
+	 * Groups findings of given statistics by their traffic light. Inside a traffic
+	 * light the findings are ordered by severity - highest first.
+	 *
+	 * @param statistics
+	 * @return map containing a list for every traffic light, never
+	 *         <code>null</code>
+	 */
+	public Map<TrafficLight, List<SecHubFinding>> groupFindingsByTrafficLightFromStatistics(SeverityStatistics statistics) {
+		Map<TrafficLight, List<SecHubFinding>> grouped = new EnumMap<>(TrafficLight.class);
+		for (TrafficLight trafficLight : TrafficLight.values()) {
+			grouped.put(trafficLight, new ArrayList<>());
 		}
-		for (SecHubFinding finding : findings) {
-			if (finding == null) {
-				continue;
-			}
-			if (severity.equals(finding.getSeverity())) {
-				return true;
-			}
+		for (Severity severity : Severities.getAllOrderedFromHighToLow()) {
+			grouped.get(mapToTrafficLight(severity)).addAll(statistics.getFindings(severity));
 		}
-		return false;
+		return grouped;
 	}
 
 }
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.daimler.sechub.sharedkernel.MustBeKeptStable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Severity counts of one job inside a project trend - is returned by REST API.
+ * Created by query directly from persisted severity counts, so no report result
+ * must be loaded.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@MustBeKeptStable("This is returned from REST API to cli and other systems. So has to be stable")
+public class ScanReportTrendPoint {
+
+	public static final String PROPERTY_JOBUUID = "jobUUID";
+	public static final String PROPERTY_ENDED = "ended";
+	public static final String PROPERTY_CRITICAL = "critical";
+	public static final String PROPERTY_HIGH = "high";
+	public static final String PROPERTY_MEDIUM = "medium";
+	public static final String PROPERTY_UNCLASSIFIED = "unclassified";
+	public static final String PROPERTY_LOW = "low";
+	public static final String PROPERTY_INFO = "info";
+
+	UUID jobUUID;
+	String ended;
+	Integer critical;
+	Integer high;
+	Integer medium;
+	Integer unclassified;
+	Integer low;
+	Integer info;
+
+	ScanReportTrendPoint() {
+	}
+
+	/* used by JPQL constructor expression inside ScanReportRepository */
+	public ScanReportTrendPoint(UUID jobUUID, LocalDateTime ended, Integer critical, Integer high, Integer medium, Integer unclassified, Integer low,
+			Integer info) {
+		this.jobUUID = jobUUID;
+		this.ended = ScanFindingAge.convertToString(ended);
+		this.critical = critical;
+		this.high = high;
+		this.medium = medium;
+		this.unclassified = unclassified;
+		this.low = low;
+		this.info = info;
+	}
+
+	public UUID getJobUUID() {
+		return jobUUID;
+	}
+
+	public String getEnded() {
+		return ended;
+	}
+
+	public Integer getCritical() {
+		return critical;
+	}
+
+	public Integer getHigh() {
+		return high;
+	}
+
+	public Integer getMedium() {
+		return medium;
+	}
+
+	public Integer getUnclassified() {
+		return unclassified;
+	}
+
+	public Integer getLow() {
+		return low;
+	}
+
+	public Integer getInfo() {
+		return info;
+	}
+
+}
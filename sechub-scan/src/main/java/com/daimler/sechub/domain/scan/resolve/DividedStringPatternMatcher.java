@@ -37,19 +37,50 @@ public class DividedStringPatternMatcher {
 		if (given==null) {
 			return false;
 		}
-		String target = given.toLowerCase();
-		String[] targetPart = splitByDivider(target);
-		if (targetPart == null) {
-			return false;
+		/*
+		 * same as splitting given string by divider and comparing lower cased parts,
+		 * but without regular expressions and new string instances. Like
+		 * String.split(..) trailing empty parts are not counted.
+		 */
+		int end = given.length();
+		if (end > 0) {
+			while (end > 0 && given.charAt(end - 1) == divider) {
+				end--;
+			}
+			if (end == 0) {
+				/* only dividers - so no parts at all */
+				return patternParts.length == 0;
+			}
 		}
-		if (targetPart.length != patternParts.length) {
-			return false;
+		int partIndex = 0;
+		int start = 0;
+		while (true) {
+			if (partIndex >= patternParts.length) {
+				return false;
+			}
+			int dividerPos = given.indexOf(divider, start);
+			int partEnd = dividerPos == -1 || dividerPos > end ? end : dividerPos;
+			if (!isPartMatching(patternParts[partIndex], given, start, partEnd)) {
+				return false;
+			}
+			partIndex++;
+			if (partEnd == end) {
+				break;
+			}
+			start = partEnd + 1;
+		}
+		return partIndex == patternParts.length;
+	}
+
+	private boolean isPartMatching(String patternPart, String given, int start, int end) {
+		if (patternPart.equals("*")) {
+			return true;
 		}
-		boolean accepted = true;
-		for (int i = 0; i < patternParts.length && accepted; i++) {
-			accepted = patternParts[i].equals("*") || patternParts[i].equals(targetPart[i]);
+		int length = end - start;
+		if (patternPart.length() != length) {
+			return false;
 		}
-		return accepted;
+		return given.regionMatches(true, start, patternPart, 0, length);
 	}
 
 	private String[] splitByDivider(String pattern) {
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.resolve;
+
+import java.util.Arrays;
+
+/**
+ * Compiled variant of multiple hostname endings. Endings are stored reversed
+ * (last character first) inside a trie, so checking a hostname is one walk
+ * from its last character backwards - independent of amount of endings.
+ * Comparison is case insensitive and done on character level, so same as
+ * <code>hostname.toLowerCase().endsWith(ending)</code> for every ending.<br>
+ * <br>
+ * A tree must be completely built before it is shared with other threads - it
+ * is not changed afterwards, so reading is thread safe without locks.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class HostnameSuffixTree {
+
+	private final Node root = new Node();
+	private int endings;
+
+	/**
+	 * Adds given hostname ending
+	 *
+	 * @param ending
+	 * @return <code>true</code> when added, <code>false</code> when ending was
+	 *         <code>null</code> or empty
+	 */
+	boolean add(String ending) {
+		if (ending == null || ending.isEmpty()) {
+			return false;
+		}
+		Node node = root;
+		for (int i = ending.length() - 1; i >= 0 && !node.terminal; i--) {
+			node = node.child(Character.toLowerCase(ending.charAt(i)));
+		}
+		if (!node.terminal) {
+			node.accept();
+		}
+		endings++;
+		return true;
+	}
+
+	/**
+	 * @return amount of endings added to this tree
+	 */
+	public int getEndings() {
+		return endings;
+	}
+
+	public boolean isMatching(String hostname) {
+		if (hostname == null) {
+			return false;
+		}
+		Node node = root;
+		for (int i = hostname.length() - 1; i >= 0; i--) {
+			node = node.find(Character.toLowerCase(hostname.charAt(i)));
+			if (node == null) {
+				return false;
+			}
+			if (node.terminal) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class Node {
+		private static final char[] NO_CHARS = new char[0];
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		/* sparse children, sorted by character */
+		private char[] chars = NO_CHARS;
+		private Node[] children = NO_CHILDREN;
+		private boolean terminal;
+
+		private Node find(char c) {
+			int index = Arrays.binarySearch(chars, c);
+			return index < 0 ? null : children[index];
+		}
+
+		private Node child(char c) {
+			int index = Arrays.binarySearch(chars, c);
+			if (index >= 0) {
+				return children[index];
+			}
+			int insert = -index - 1;
+			Node child = new Node();
+
+			char[] newChars = Arrays.copyOf(chars, chars.length + 1);
+			System.arraycopy(chars, insert, newChars, insert + 1, chars.length - insert);
+			newChars[insert] = c;
+			chars = newChars;
+
+			Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+			System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+			newChildren[insert] = child;
+			children = newChildren;
+			return child;
+		}
+
+		private void accept() {
+			terminal = true;
+			/* longer endings are accepted by this one as well */
+			chars = NO_CHARS;
+			children = NO_CHILDREN;
+		}
+	}
+}
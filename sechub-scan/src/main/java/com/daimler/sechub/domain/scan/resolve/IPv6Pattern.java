@@ -22,6 +22,10 @@ public class IPv6Pattern implements InetAddressPattern{
 		return valid;
 	}
 
+	String[] getPatternParts() {
+		return matcher.getPatternParts();
+	}
+
 	private void validate(String pattern) {
 		String[] parts = matcher.getPatternParts();
 		this.valid=false;
@@ -0,0 +1,233 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.resolve;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.Arrays;
+
+/**
+ * Compiled variant of multiple IPv4 and IPv6 patterns. Patterns are stored
+ * byte wise inside a radix tree (one tree for IPv4, one for IPv6), so matching
+ * an address needs only a walk over its raw address bytes - no string
+ * conversion, splitting or lower casing is necessary and time does not depend
+ * on amount of patterns.<br>
+ * <br>
+ * Supported patterns:
+ * <ul>
+ * <li>IPv4 with wildcards - e.g. <code>192.168.*.*</code> (see
+ * {@link IPv4Pattern})</li>
+ * <li>IPv6 long form with wildcards - e.g. <code>2001:db8:0:0:0:0:*:*</code>
+ * (see {@link IPv6Pattern}), optional surrounded by brackets</li>
+ * <li>CIDR notation for both, e.g. <code>10.0.0.0/8</code> or
+ * <code>2001:db8:0:0:0:0:0:0/32</code></li>
+ * </ul>
+ * A tree must be completely built before it is shared with other threads - it
+ * is not changed afterwards, so reading is thread safe without locks.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class InetAddressPatternTree {
+
+	private static final int IPV4_BYTES = 4;
+
+	private final Node ipv4Root = new Node();
+	private final Node ipv6Root = new Node();
+	private int patterns;
+
+	/**
+	 * Adds given pattern
+	 *
+	 * @param pattern
+	 * @return <code>true</code> when pattern was valid and added, otherwise
+	 *         <code>false</code>
+	 */
+	boolean add(String pattern) {
+		if (pattern == null) {
+			return false;
+		}
+		String trimmed = pattern.trim();
+		if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+			trimmed = trimmed.substring(1, trimmed.length() - 1);
+		}
+		int prefixBits = -1;
+		int slash = trimmed.indexOf('/');
+		if (slash != -1) {
+			try {
+				prefixBits = Integer.parseInt(trimmed.substring(slash + 1));
+			} catch (NumberFormatException e) {
+				return false;
+			}
+			trimmed = trimmed.substring(0, slash);
+			if (trimmed.indexOf('*') != -1) {
+				/* CIDR and wildcards cannot be combined */
+				return false;
+			}
+		}
+		IPv4Pattern ipv4Pattern = new IPv4Pattern(trimmed);
+		if (ipv4Pattern.isValid()) {
+			return add(ipv4Root, toBytes(ipv4Pattern.getPatternParts(), 10, 1), prefixBits);
+		}
+		IPv6Pattern ipv6Pattern = new IPv6Pattern(trimmed);
+		if (ipv6Pattern.isValid()) {
+			return add(ipv6Root, toBytes(ipv6Pattern.getPatternParts(), 16, 2), prefixBits);
+		}
+		return false;
+	}
+
+	/**
+	 * @return amount of patterns added to this tree
+	 */
+	public int getPatterns() {
+		return patterns;
+	}
+
+	public boolean isMatching(InetAddress address) {
+		if (address == null) {
+			return false;
+		}
+		byte[] bytes = address.getAddress();
+		if (bytes == null) {
+			return false;
+		}
+		Node root = address instanceof Inet4Address || bytes.length == IPV4_BYTES ? ipv4Root : ipv6Root;
+		return isMatching(root, bytes, 0);
+	}
+
+	private boolean isMatching(Node node, byte[] bytes, int pos) {
+		if (node.terminal) {
+			return true;
+		}
+		if (pos == bytes.length) {
+			return false;
+		}
+		int index = node.indexOf(bytes[pos] & 0xFF);
+		if (index >= 0 && isMatching(node.children[index], bytes, pos + 1)) {
+			return true;
+		}
+		if (node.any != null) {
+			return isMatching(node.any, bytes, pos + 1);
+		}
+		return false;
+	}
+
+	/**
+	 * @param values - every entry is a byte value or <code>-1</code> for any
+	 *               value
+	 */
+	private boolean add(Node root, int[] values, int prefixBits) {
+		int bits = prefixBits == -1 ? values.length * 8 : prefixBits;
+		if (bits < 0 || bits > values.length * 8) {
+			return false;
+		}
+		/* trailing wildcards are same as a shorter prefix */
+		int fullBytes = bits / 8;
+		while (fullBytes > 0 && values[fullBytes - 1] == -1 && bits == fullBytes * 8) {
+			fullBytes--;
+			bits -= 8;
+		}
+		Node node = root;
+		for (int i = 0; i < fullBytes && !node.terminal; i++) {
+			node = node.child(values[i]);
+		}
+		if (node.terminal) {
+			/* already accepted by a shorter pattern */
+			patterns++;
+			return true;
+		}
+		int remainingBits = bits - fullBytes * 8;
+		if (remainingBits == 0) {
+			node.accept();
+		} else {
+			int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+			int first = values[fullBytes] & mask;
+			int last = first | (~mask & 0xFF);
+			for (int value = first; value <= last; value++) {
+				node.child(value).accept();
+			}
+		}
+		patterns++;
+		return true;
+	}
+
+	/**
+	 * Converts pattern parts to byte values.
+	 *
+	 * @param parts        valid pattern parts
+	 * @param radix        radix of parts
+	 * @param bytesPerPart amount of bytes for one part
+	 * @return byte values, wildcard parts are represented by <code>-1</code>
+	 */
+	private static int[] toBytes(String[] parts, int radix, int bytesPerPart) {
+		int[] values = new int[parts.length * bytesPerPart];
+		int pos = 0;
+		for (String part : parts) {
+			if ("*".equals(part)) {
+				for (int i = 0; i < bytesPerPart; i++) {
+					values[pos++] = -1;
+				}
+				continue;
+			}
+			int value = Integer.parseInt(part, radix);
+			for (int i = bytesPerPart - 1; i >= 0; i--) {
+				values[pos++] = (value >> (8 * i)) & 0xFF;
+			}
+		}
+		return values;
+	}
+
+	private static class Node {
+		private static final int[] NO_VALUES = new int[0];
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		/* sparse children, sorted by value - most nodes have only one child */
+		private int[] values = NO_VALUES;
+		private Node[] children = NO_CHILDREN;
+		private Node any;
+		private boolean terminal;
+
+		private Node child(int value) {
+			if (value == -1) {
+				if (any == null) {
+					any = new Node();
+				}
+				return any;
+			}
+			int index = indexOf(value);
+			if (index >= 0) {
+				return children[index];
+			}
+			int insert = -index - 1;
+			Node child = new Node();
+			values = insert(values, insert, value);
+			Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+			System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+			newChildren[insert] = child;
+			children = newChildren;
+			return child;
+		}
+
+		/**
+		 * @return index of child for given value, or
+		 *         <code>(-(insertion point) - 1)</code> when there is none
+		 */
+		private int indexOf(int value) {
+			return Arrays.binarySearch(values, value);
+		}
+
+		private void accept() {
+			terminal = true;
+			/* everything below is accepted now */
+			values = NO_VALUES;
+			children = NO_CHILDREN;
+			any = null;
+		}
+
+		private static int[] insert(int[] array, int index, int value) {
+			int[] result = Arrays.copyOf(array, array.length + 1);
+			System.arraycopy(array, index, result, index + 1, array.length - index);
+			result[index] = value;
+			return result;
+		}
+	}
+}
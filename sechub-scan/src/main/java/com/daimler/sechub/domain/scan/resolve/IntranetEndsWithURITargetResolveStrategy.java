@@ -2,9 +2,9 @@
 package com.daimler.sechub.domain.scan.resolve;
 
 import java.net.URI;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.domain.scan.Target;
@@ -14,8 +14,10 @@ import com.daimler.sechub.domain.scan.TargetType;
 public class IntranetEndsWithURITargetResolveStrategy implements URITargetResolveStrategy {
 
 	public static final String PREFIX = "intranet-hostname-ends-with:";
-	private Set<String> endsWithList = new LinkedHashSet<String>();
+	private static final Logger LOG = LoggerFactory.getLogger(IntranetEndsWithURITargetResolveStrategy.class);
 
+	/* replaced on every initialization, so readers need no lock */
+	private volatile HostnameSuffixTree endsWithTree = new HostnameSuffixTree();
 
 	public boolean initialize(String uriPattern) {
 		if (uriPattern==null) {
@@ -28,10 +30,14 @@ public class IntranetEndsWithURITargetResolveStrategy implements URITargetResolv
 		if (values.isEmpty()) {
 			return false;
 		}
+		HostnameSuffixTree tree = new HostnameSuffixTree();
 		String[] uriEndings = values.split(",");
 		for (String uriEnding: uriEndings) {
-			endsWithList.add(uriEnding.trim());
+			if (!tree.add(uriEnding.trim())) {
+				LOG.warn("Empty hostname ending found inside '{}' - is ignored",uriPattern);
+			}
 		}
+		endsWithTree = tree;
 		return true;
 
 	}
@@ -42,11 +48,8 @@ public class IntranetEndsWithURITargetResolveStrategy implements URITargetResolv
 		if (host==null) {
 			return new Target(uri, TargetType.UNKNOWN);
 		}
-		String hostNameLowercased = host.toLowerCase();
-		for (String endsWith: endsWithList) {
-			if (hostNameLowercased.endsWith(endsWith)) {
-				return new Target(uri,TargetType.INTRANET);
-			}
+		if (endsWithTree.isMatching(host)) {
+			return new Target(uri,TargetType.INTRANET);
 		}
 		return new Target(uri,TargetType.INTERNET);
 	}
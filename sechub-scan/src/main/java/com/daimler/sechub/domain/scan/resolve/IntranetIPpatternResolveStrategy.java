@@ -2,8 +2,6 @@
 package com.daimler.sechub.domain.scan.resolve;
 
 import java.net.InetAddress;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +16,8 @@ public class IntranetIPpatternResolveStrategy implements InetAdressTargetResolve
 	public static final String PREFIX = "intranet-ip-pattern:";
 	private static final Logger LOG = LoggerFactory.getLogger(IntranetEndsWithURITargetResolveStrategy.class);
 
-	private Set<InetAddressPattern> patterns = new LinkedHashSet<>();
+	/* replaced on every initialization, so readers need no lock */
+	private volatile InetAddressPatternTree patternTree = new InetAddressPatternTree();
 
 	public boolean initialize(String uriPattern) {
 		if (uriPattern == null) {
@@ -32,45 +31,28 @@ public class IntranetIPpatternResolveStrategy implements InetAdressTargetResolve
 			LOG.warn("{} used, bot no content found!",PREFIX);
 			return false;
 		}
+		InetAddressPatternTree tree = new InetAddressPatternTree();
 		String[] uriEndings = values.split(",");
 		for (String uriEnding : uriEndings) {
 			String pattern = uriEnding.trim();
-
-			/* first try ipv4*/
-			IPv4Pattern ipv4Pattern = new IPv4Pattern(pattern);
-			if (ipv4Pattern.isValid()) {
-				LOG.info("Intranet detection by ipv4 pattern:'{}'",pattern);
-				patterns.add(ipv4Pattern);
-				continue;
-			}
-			/* next try ipv6*/
-			IPv6Pattern ipv6Pattern = new IPv6Pattern(pattern);
-			if (ipv6Pattern.isValid()) {
-				LOG.info("Intranet detection by ipv6 pattern:'{}'",pattern);
-				patterns.add(ipv6Pattern);
+			if (tree.add(pattern)) {
+				LOG.info("Intranet detection by ip pattern:'{}'",pattern);
 				continue;
 			}
 			/* we simply ignore not matching patterns, so no special handling*/
 			LOG.warn("Invalid pattern:'{}' - is ignored",pattern);
 		}
+		patternTree = tree;
 		return true;
 
 	}
 
 	@Override
 	public Target resolveTargetFor(InetAddress inetAdress) {
-		Target result = null;
-
-		for (InetAddressPattern p: patterns) {
-			if (p.isMatching(inetAdress)) {
-				result = new Target(inetAdress,TargetType.INTRANET);
-				break;
-			}
-		}
-		if (result == null) {
-			result = new Target(inetAdress, TargetType.INTERNET);
+		if (patternTree.isMatching(inetAdress)) {
+			return new Target(inetAdress,TargetType.INTRANET);
 		}
-		return result;
+		return new Target(inetAdress, TargetType.INTERNET);
 	}
 
 }
@@ -16,7 +16,12 @@ import com.daimler.sechub.sharedkernel.MustBeDocumented;
 
 /**
  * Service for target resolving. Fallback target types for IP and URIs will
- * be always INTERNET.
+ * be always INTERNET.<br>
+ * <br>
+ * Strategies are initialized only once (on first resolve) and compile their
+ * configuration. Resolving itself needs no locks. When configuration changes at
+ * runtime {@link #reload(String, String)} can be used to replace the used
+ * strategies without a restart.
  * @author Albert Tregnaghi
  *
  */
@@ -39,7 +44,7 @@ public class TargetResolverService implements TargetResolver {
 	@Value("${sechub.target.resolve.strategy.ip:}")
 	@MustBeDocumented(value = "*Strategy to decide target types by given IP.* +\n"
 			+ "Starts always with strategy-identifer, colon and value(s). Currently only 'intranet-ip-pattern' is supported as strategy. For example: "
-			+ "`intranet-ip-pattern:192.168.178.*,[2001:db8:85a3:0:0:8a2e:370:*]`. Other IPs are interpreted as being inside INTERNET. "
+			+ "`intranet-ip-pattern:192.168.178.*,[2001:db8:85a3:0:0:8a2e:370:*]`. CIDR notation like `10.0.0.0/8` is supported as well. Other IPs are interpreted as being inside INTERNET. "
 			+ "But no matter if strategy is defined or not: loopback addresses are always illegal and so ignored")
 	String definedInetAddressStrategy;
 
@@ -49,9 +54,7 @@ public class TargetResolverService implements TargetResolver {
 	@Autowired
 	List<URITargetResolveStrategy> uriTargetResolveStrategies = new ArrayList<>();
 
-	private URITargetResolveStrategy usedUriTargetResolveStrategy;
-	private InetAdressTargetResolveStrategy usedInetAddressTargetResolveStrategy;
-	private boolean initialized;
+	private volatile UsedStrategies usedStrategies;
 
 	public TargetResolverService() {
 	}
@@ -68,7 +71,7 @@ public class TargetResolverService implements TargetResolver {
 
 	@Override
 	public Target resolveTarget(URI uri) {
-		ensureInitialized();
+		URITargetResolveStrategy usedUriTargetResolveStrategy = ensureInitialized().uriStrategy;
 
 		if (uri == null) {
 			return new Target(uri, TargetType.UNKNOWN);
@@ -90,7 +93,7 @@ public class TargetResolverService implements TargetResolver {
 
 	@Override
 	public Target resolveTarget(InetAddress inetAdress) {
-		ensureInitialized();
+		InetAdressTargetResolveStrategy usedInetAddressTargetResolveStrategy = ensureInitialized().inetAddressStrategy;
 
 		if (inetAdress == null) {
 			return new Target(inetAdress, TargetType.UNKNOWN);
@@ -110,30 +113,60 @@ public class TargetResolverService implements TargetResolver {
 		return resolved;
 	}
 
-	private void ensureInitialized() {
-		if (initialized) {
-			return;
+	/**
+	 * Reloads strategies with given definitions. Resolving done in parallel is not
+	 * blocked and uses the former strategies until the new ones are compiled.
+	 *
+	 * @param uriStrategy         new uri strategy definition
+	 * @param inetAddressStrategy new IP strategy definition
+	 */
+	public synchronized void reload(String uriStrategy, String inetAddressStrategy) {
+		this.definedUriStrategy = uriStrategy;
+		this.definedInetAddressStrategy = inetAddressStrategy;
+		this.usedStrategies = createUsedStrategies();
+	}
+
+	private UsedStrategies ensureInitialized() {
+		UsedStrategies strategies = usedStrategies;
+		if (strategies != null) {
+			return strategies;
+		}
+		synchronized (this) {
+			if (usedStrategies == null) {
+				usedStrategies = createUsedStrategies();
+			}
+			return usedStrategies;
 		}
-		initInetAddressStrategy();
-		initURIStrategy();
 	}
 
-	private void initURIStrategy() {
+	private UsedStrategies createUsedStrategies() {
+		UsedStrategies strategies = new UsedStrategies();
+		strategies.inetAddressStrategy = initInetAddressStrategy();
+		strategies.uriStrategy = initURIStrategy();
+		return strategies;
+	}
+
+	private URITargetResolveStrategy initURIStrategy() {
 		for (URITargetResolveStrategy strategy : uriTargetResolveStrategies) {
 			if (strategy.initialize(definedUriStrategy)) {
-				usedUriTargetResolveStrategy = strategy;
-				break;
+				return strategy;
 			}
 		}
+		return null;
 	}
 
-	private void initInetAddressStrategy() {
+	private InetAdressTargetResolveStrategy initInetAddressStrategy() {
 		for (InetAdressTargetResolveStrategy strategy : inetAddressTargetResolveStrategies) {
 			if (strategy.initialize(definedInetAddressStrategy)) {
-				usedInetAddressTargetResolveStrategy = strategy;
-				break;
+				return strategy;
 			}
 		}
+		return null;
+	}
+
+	private static class UsedStrategies {
+		private URITargetResolveStrategy uriStrategy;
+		private InetAdressTargetResolveStrategy inetAddressStrategy;
 	}
 
 }
@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.zip.GZIPOutputStream;
+
+import com.daimler.sechub.sharedkernel.util.ChecksumEngine;
+
+/**
+ * Base class for storages writing results gzip compressed. Size and hash of
+ * the uncompressed data are calculated while writing, so data is read only
+ * once.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public abstract class AbstractGzipResultBlobStorage implements ResultBlobStorage {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Override
+	public final ResultBlob write(String key, InputStream data) throws IOException {
+		ResultBlob blob = new ResultBlob();
+		blob.storageType = getType();
+
+		MessageDigest digest = ChecksumEngine.SHA256.createMessageDigest();
+		long size = 0;
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		try (OutputStream target = openTarget(blob, key); GZIPOutputStream gzip = new GZIPOutputStream(target, BUFFER_SIZE)) {
+			int read;
+			while ((read = data.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+				gzip.write(buffer, 0, read);
+				size += read;
+			}
+		} catch (IOException | RuntimeException e) {
+			delete(blob);
+			throw e;
+		}
+		blob.size = size;
+		blob.hash = ChecksumEngine.toHex(digest.digest());
+
+		targetWritten(blob);
+		return blob;
+	}
+
+	/**
+	 * Opens target stream for compressed data of given blob
+	 *
+	 * @param blob blob, storage type already set
+	 * @param key
+	 * @return target stream, will be closed after writing
+	 * @throws IOException
+	 */
+	protected abstract OutputStream openTarget(ResultBlob blob, String key) throws IOException;
+
+	/**
+	 * Called after target has been written and closed. Does nothing per default
+	 *
+	 * @param blob
+	 */
+	protected void targetWritten(ResultBlob blob) {
+		/* per default nothing to do */
+	}
+
+}
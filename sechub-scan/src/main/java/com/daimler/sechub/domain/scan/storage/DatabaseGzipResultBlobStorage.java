@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores results gzip compressed as binary data inside database. The data is
+ * kept in its own table ({@link ResultBlobData}), the entity contains only the
+ * reference (UUID of the data row).
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class DatabaseGzipResultBlobStorage extends AbstractGzipResultBlobStorage {
+
+	@Autowired
+	ResultBlobDataRepository repository;
+
+	@Override
+	public ResultBlobStorageType getType() {
+		return ResultBlobStorageType.DATABASE_GZIP;
+	}
+
+	@Override
+	protected OutputStream openTarget(ResultBlob blob, String key) throws IOException {
+		return new ByteArrayOutputStream() {
+			private boolean closed;
+
+			@Override
+			public void close() throws IOException {
+				/* closed by gzip stream and by try-with-resources - but must be saved only once */
+				if (closed) {
+					return;
+				}
+				closed = true;
+				super.close();
+				ResultBlobData data = repository.save(new ResultBlobData(UUID.randomUUID(), toByteArray()));
+				blob.reference = data.getUUID().toString();
+			}
+		};
+	}
+
+	@Override
+	public InputStream read(ResultBlob blob) throws IOException {
+		Optional<ResultBlobData> data = findData(blob);
+		if (!data.isPresent()) {
+			throw new IOException("Blob data not found:" + blob);
+		}
+		return new GZIPInputStream(new ByteArrayInputStream(data.get().data));
+	}
+
+	@Override
+	public void delete(ResultBlob blob) throws IOException {
+		findData(blob).ifPresent(repository::delete);
+	}
+
+	private Optional<ResultBlobData> findData(ResultBlob blob) throws IOException {
+		if (blob.reference == null) {
+			return Optional.empty();
+		}
+		try {
+			return repository.findById(UUID.fromString(blob.reference));
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Blob reference is not a valid UUID:" + blob.reference, e);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import static javax.persistence.EnumType.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.Enumerated;
+
+/**
+ * Describes a result stored by a {@link ResultBlobStorage}. Contains only the
+ * reference to the stored data - never the data itself. Size and hash are
+ * always calculated for the uncompressed result.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Embeddable
+public class ResultBlob {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String COLUMN_STORAGE_TYPE = "RESULT_STORAGE";
+	public static final String COLUMN_REFERENCE = "RESULT_REFERENCE";
+	public static final String COLUMN_SIZE = "RESULT_SIZE";
+	public static final String COLUMN_HASH = "RESULT_HASH";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String PROPERTY_STORAGE_TYPE = "storageType";
+
+	@Enumerated(STRING)
+	@Column(name = COLUMN_STORAGE_TYPE)
+	ResultBlobStorageType storageType;
+
+	@Column(name = COLUMN_REFERENCE)
+	String reference;
+
+	@Column(name = COLUMN_SIZE)
+	Long size;
+
+	@Column(name = COLUMN_HASH)
+	String hash;
+
+	public ResultBlobStorageType getStorageType() {
+		return storageType;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	/**
+	 * @return size of uncompressed result in bytes
+	 */
+	public Long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return SHA-256 hash of uncompressed result
+	 */
+	public String getHash() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "ResultBlob [storageType=" + storageType + ", reference=" + reference + ", size=" + size + ", hash=" + hash + "]";
+	}
+
+}
@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Compressed data of a result blob stored inside database. Kept in its own
+ * table, so loading product results or scan reports does not load the data.
+ * The {@link ResultBlob#getReference()} contains the UUID of this entity.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ResultBlobData.TABLE_NAME)
+public class ResultBlobData {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCAN_RESULT_BLOB";
+
+	public static final String COLUMN_UUID = "UUID";
+	public static final String COLUMN_DATA = "DATA";
+
+	@Id
+	@Column(name = COLUMN_UUID, updatable = false, nullable = false)
+	UUID uUID;
+
+	@Column(name = COLUMN_DATA, nullable = false)
+	byte[] data;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ResultBlobData() {
+		// JPA only
+	}
+
+	ResultBlobData(UUID uUID, byte[] data) {
+		this.uUID = uUID;
+		this.data = data;
+	}
+
+	public UUID getUUID() {
+		return uUID;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((uUID == null) ? 0 : uUID.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ResultBlobData other = (ResultBlobData) obj;
+		if (uUID == null) {
+			if (other.uUID != null)
+				return false;
+		} else if (!uUID.equals(other.uUID))
+			return false;
+		return true;
+	}
+
+}
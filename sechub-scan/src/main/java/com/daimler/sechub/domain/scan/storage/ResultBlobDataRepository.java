@@ -0,0 +1,10 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ResultBlobDataRepository extends JpaRepository<ResultBlobData, UUID> {
+
+}
@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.util.UUID;
+
+/**
+ * An entity containing a result which can be stored by {@link ResultBlobService}
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public interface ResultBlobHolder {
+
+	UUID getSecHubJobUUID();
+
+	/**
+	 * @return inline result text or <code>null</code> when result is stored as
+	 *         blob
+	 */
+	String getResult();
+
+	void setResult(String result);
+
+	/**
+	 * @return blob or <code>null</code> when result is stored inline
+	 */
+	ResultBlob getResultBlob();
+
+	void setResultBlob(ResultBlob blob);
+}
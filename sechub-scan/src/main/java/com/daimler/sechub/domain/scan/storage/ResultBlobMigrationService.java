@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.domain.scan.product.ProductResultRepository;
+import com.daimler.sechub.domain.scan.report.ScanReportRepository;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Migrates product results and scan reports still stored inline (uncompressed
+ * text) into the configured result blob storage. Every entity is saved on its
+ * own, so a failing entity does not stop the migration and multiple servers
+ * migrating at the same time only lead to optimistic locking failures for
+ * single entities.<br>
+ * <br>
+ * Runs on server startup when enabled.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ResultBlobMigrationService implements CommandLineRunner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ResultBlobMigrationService.class);
+
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
+	@MustBeDocumented("When true, inline stored product results and scan reports are migrated into configured result storage on server startup")
+	@Value("${sechub.config.scan.result.storage.migration.enabled:false}")
+	boolean migrationEnabled;
+
+	@MustBeDocumented("Amount of entities loaded at once while migrating inline stored results")
+	@Value("${sechub.config.scan.result.storage.migration.batchsize:" + DEFAULT_BATCH_SIZE + "}")
+	int batchSize = DEFAULT_BATCH_SIZE;
+
+	@Autowired
+	ResultBlobService resultBlobService;
+
+	@Autowired
+	ProductResultRepository productResultRepository;
+
+	@Autowired
+	ScanReportRepository scanReportRepository;
+
+	@Override
+	public void run(String... args) {
+		if (!migrationEnabled) {
+			return;
+		}
+		migrateInlineResults();
+	}
+
+	/**
+	 * Migrates all inline stored results
+	 *
+	 * @return amount of migrated entities
+	 */
+	public int migrateInlineResults() {
+		if (resultBlobService.getStorageType() == ResultBlobStorageType.INLINE) {
+			LOG.info("Result storage is {}, so nothing to migrate", ResultBlobStorageType.INLINE);
+			return 0;
+		}
+		int productResults = migrateAll(productResultRepository, productResultRepository::findByResultBlobStorageTypeIsNullAndResultIsNotNull);
+		int scanReports = migrateAll(scanReportRepository, scanReportRepository::findByResultBlobStorageTypeIsNullAndResultIsNotNull);
+
+		LOG.info("Migrated {} product results and {} scan reports to result storage {}", productResults, scanReports, resultBlobService.getStorageType());
+		return productResults + scanReports;
+	}
+
+	private <T extends ResultBlobHolder> int migrateAll(JpaRepository<T, ?> repository, Function<Pageable, List<T>> finder) {
+		int migrated = 0;
+		int size = batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+		while (true) {
+			/* migrated entities are no longer found, so always first page */
+			List<T> entities = finder.apply(PageRequest.of(0, size));
+			if (entities.isEmpty()) {
+				break;
+			}
+			int migratedInBatch = 0;
+			for (T entity : entities) {
+				if (migrateEntity(repository, entity)) {
+					migratedInBatch++;
+				}
+			}
+			migrated += migratedInBatch;
+			if (migratedInBatch == 0) {
+				LOG.warn("No entity of last batch could be migrated, stop migration");
+				break;
+			}
+		}
+		return migrated;
+	}
+
+	private <T extends ResultBlobHolder> boolean migrateEntity(JpaRepository<T, ?> repository, T entity) {
+		try {
+			resultBlobService.moveResultToStorage(entity);
+			repository.save(entity);
+			return true;
+		} catch (RuntimeException e) {
+			LOG.error("Was not able to migrate result of {} for job {}", entity.getClass().getSimpleName(), entity.getSecHubJobUUID(), e);
+			resultBlobService.deleteResult(entity);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
+
+/**
+ * Service to store and load results of {@link ResultBlobHolder} entities. Which
+ * storage is used for new results is configurable. Results are always loaded
+ * from the storage they were written to - so old inline results are still
+ * readable.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ResultBlobService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ResultBlobService.class);
+
+	@MustBeDocumented("Storage used for new product results and scan reports. INLINE: uncompressed text in database (former behaviour), DATABASE_GZIP: compressed binary in database, SHARED_VOLUME: compressed file on shared volume")
+	@Value("${sechub.config.scan.result.storage:DATABASE_GZIP}")
+	ResultBlobStorageType storageType = ResultBlobStorageType.DATABASE_GZIP;
+
+	@Autowired
+	List<ResultBlobStorage> storages;
+
+	private Map<ResultBlobStorageType, ResultBlobStorage> storageMap;
+
+	@PostConstruct
+	void initialize() {
+		storageMap = new EnumMap<>(ResultBlobStorageType.class);
+		for (ResultBlobStorage storage : storages) {
+			storageMap.put(storage.getType(), storage);
+		}
+		if (storageType != ResultBlobStorageType.INLINE && !storageMap.containsKey(storageType)) {
+			throw new IllegalStateException("No result blob storage available for type:" + storageType);
+		}
+	}
+
+	public ResultBlobStorageType getStorageType() {
+		return storageType;
+	}
+
+	/**
+	 * Moves the inline result of given holder into configured storage. Does
+	 * nothing when storage type is {@link ResultBlobStorageType#INLINE}, result is
+	 * <code>null</code> or result is already stored as blob.
+	 *
+	 * @param holder
+	 */
+	public void moveResultToStorage(ResultBlobHolder holder) {
+		if (storageType == ResultBlobStorageType.INLINE || holder.getResultBlob() != null) {
+			return;
+		}
+		String result = holder.getResult();
+		if (result == null) {
+			return;
+		}
+		storeResult(holder, new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Stores given data as result of holder - holder is changed but NOT
+	 * persisted. The input stream is read only once and is not closed.
+	 *
+	 * @param holder
+	 * @param data   UTF-8 encoded result
+	 */
+	public void storeResult(ResultBlobHolder holder, InputStream data) {
+		try {
+			if (storageType == ResultBlobStorageType.INLINE) {
+				holder.setResult(new String(readFully(data), StandardCharsets.UTF_8));
+				holder.setResultBlob(null);
+				return;
+			}
+			ResultBlob blob = getStorage(storageType).write(createKey(holder), data);
+			holder.setResultBlob(blob);
+			holder.setResult(null);
+
+			LOG.debug("Stored result for job {} in {}, size:{}", holder.getSecHubJobUUID(), storageType, blob.getSize());
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to store result for job:" + holder.getSecHubJobUUID(), e);
+		}
+	}
+
+	/**
+	 * Opens stream to read result of given holder. Caller must close the stream.
+	 *
+	 * @param holder
+	 * @return stream with UTF-8 encoded result, never <code>null</code>
+	 */
+	public InputStream openResult(ResultBlobHolder holder) {
+		ResultBlob blob = holder.getResultBlob();
+		if (blob == null || blob.getStorageType() == null || blob.getStorageType() == ResultBlobStorageType.INLINE) {
+			String result = holder.getResult();
+			return new ByteArrayInputStream(result == null ? new byte[0] : result.getBytes(StandardCharsets.UTF_8));
+		}
+		try {
+			return getStorage(blob.getStorageType()).read(blob);
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to read result for job:" + holder.getSecHubJobUUID(), e);
+		}
+	}
+
+	/**
+	 * Loads complete result of given holder
+	 *
+	 * @param holder
+	 * @return result or <code>null</code> when no result available
+	 */
+	public String loadResult(ResultBlobHolder holder) {
+		ResultBlob blob = holder.getResultBlob();
+		if (blob == null || blob.getStorageType() == null || blob.getStorageType() == ResultBlobStorageType.INLINE) {
+			return holder.getResult();
+		}
+		try (InputStream inputStream = openResult(holder)) {
+			return new String(readFully(inputStream), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new SecHubRuntimeException("Was not able to read result for job:" + holder.getSecHubJobUUID(), e);
+		}
+	}
+
+	/**
+	 * Deletes stored blob of given holder (if there is one)
+	 *
+	 * @param holder
+	 */
+	public void deleteResult(ResultBlobHolder holder) {
+		ResultBlob blob = holder.getResultBlob();
+		if (blob == null || blob.getStorageType() == null || blob.getStorageType() == ResultBlobStorageType.INLINE) {
+			return;
+		}
+		try {
+			getStorage(blob.getStorageType()).delete(blob);
+		} catch (IOException e) {
+			LOG.warn("Was not able to delete result blob {}", blob, e);
+		}
+	}
+
+	private ResultBlobStorage getStorage(ResultBlobStorageType type) {
+		ResultBlobStorage storage = storageMap.get(type);
+		if (storage == null) {
+			throw new IllegalStateException("No result blob storage available for type:" + type);
+		}
+		return storage;
+	}
+
+	private String createKey(ResultBlobHolder holder) {
+		String kind = holder.getClass().getSimpleName().toLowerCase();
+		return kind + "/" + holder.getSecHubJobUUID() + "/" + UUID.randomUUID();
+	}
+
+	private byte[] readFully(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage for result blobs
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public interface ResultBlobStorage {
+
+	ResultBlobStorageType getType();
+
+	/**
+	 * Writes data as new blob. The input stream is read only once and is not
+	 * closed.
+	 *
+	 * @param key  unique key for the blob
+	 * @param data
+	 * @return blob, never <code>null</code>
+	 * @throws IOException
+	 */
+	ResultBlob write(String key, InputStream data) throws IOException;
+
+	/**
+	 * Opens stream to read uncompressed data of given blob. Caller must close the
+	 * stream.
+	 *
+	 * @param blob
+	 * @return stream
+	 * @throws IOException
+	 */
+	InputStream read(ResultBlob blob) throws IOException;
+
+	/**
+	 * Deletes given blob - does nothing when blob does not exist
+	 *
+	 * @param blob
+	 * @throws IOException
+	 */
+	void delete(ResultBlob blob) throws IOException;
+}
@@ -0,0 +1,29 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+/**
+ * Defines where results (product results, scan reports) are stored
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum ResultBlobStorageType {
+
+	/**
+	 * Result is stored as uncompressed text inside the entity table (former
+	 * behaviour)
+	 */
+	INLINE,
+
+	/**
+	 * Result is stored gzip compressed as binary inside the entity table
+	 */
+	DATABASE_GZIP,
+
+	/**
+	 * Result is stored gzip compressed on shared volume, entity contains only a
+	 * reference
+	 */
+	SHARED_VOLUME,
+
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.storage.SharedVolumeStorageService;
+
+/**
+ * Stores results gzip compressed as files on shared volume. The entity
+ * contains only the reference (relative path) to the file.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SharedVolumeResultBlobStorage extends AbstractGzipResultBlobStorage {
+
+	@Autowired
+	SharedVolumeStorageService storageService;
+
+	@Override
+	public ResultBlobStorageType getType() {
+		return ResultBlobStorageType.SHARED_VOLUME;
+	}
+
+	@Override
+	protected OutputStream openTarget(ResultBlob blob, String key) throws IOException {
+		blob.reference = key + ".gz";
+		Path path = resolve(blob);
+		Files.createDirectories(path.getParent());
+		return Files.newOutputStream(path);
+	}
+
+	@Override
+	public InputStream read(ResultBlob blob) throws IOException {
+		return new GZIPInputStream(Files.newInputStream(resolve(blob)));
+	}
+
+	@Override
+	public void delete(ResultBlob blob) throws IOException {
+		if (blob.reference == null) {
+			return;
+		}
+		Files.deleteIfExists(resolve(blob));
+	}
+
+	private Path resolve(ResultBlob blob) throws IOException {
+		Path root = storageService.getResultBlobLocation().toAbsolutePath().normalize();
+		Path path = root.resolve(blob.reference).normalize();
+		if (!path.startsWith(root)) {
+			// This is a security check
+			throw new IOException("Result blob reference outside result location:" + blob.reference);
+		}
+		return path;
+	}
+
+}
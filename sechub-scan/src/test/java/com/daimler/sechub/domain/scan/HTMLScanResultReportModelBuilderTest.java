@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -53,9 +54,11 @@ public class HTMLScanResultReportModelBuilderTest {
 		redList=new ArrayList<>();
 		yellowList=new ArrayList<>();
 		
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.RED)).thenReturn(redList);
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.YELLOW)).thenReturn(yellowList);
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.GREEN)).thenReturn(greenList);
+		Map<TrafficLight, List<SecHubFinding>> grouped = new EnumMap<>(TrafficLight.class);
+		grouped.put(TrafficLight.RED, redList);
+		grouped.put(TrafficLight.YELLOW, yellowList);
+		grouped.put(TrafficLight.GREEN, greenList);
+		when(trafficLightCalculator.groupFindingsByTrafficLight(result)).thenReturn(grouped);
 	}
 
 	@Test
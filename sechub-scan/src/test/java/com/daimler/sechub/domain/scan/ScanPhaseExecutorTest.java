@@ -0,0 +1,177 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.domain.scan.product.ProductExectionStoreService;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+
+public class ScanPhaseExecutorTest {
+
+	private static final long PHASE_DURATION_MILLIS = 300;
+
+	private ScanPhaseExecutor executorToTest;
+	private SecHubExecutionContext context;
+	private ProductExectionStoreService phase1;
+	private ProductExectionStoreService phase2;
+	private ProductExectionStoreService phase3;
+	private Map<String, ProductExectionStoreService> phases;
+
+	@Before
+	public void before() throws Exception {
+		context = new SecHubExecutionContext(java.util.UUID.randomUUID(), null, "user");
+
+		phase1 = mock(ProductExectionStoreService.class);
+		phase2 = mock(ProductExectionStoreService.class);
+		phase3 = mock(ProductExectionStoreService.class);
+
+		phases = new LinkedHashMap<>();
+		phases.put("phase1", phase1);
+		phases.put("phase2", phase2);
+		phases.put("phase3", phase3);
+
+		executorToTest = new ScanPhaseExecutor();
+		executorToTest.phaseTimeoutUnit = TimeUnit.MILLISECONDS;
+		executorToTest.initialize();
+	}
+
+	@After
+	public void after() {
+		executorToTest.shutdown();
+	}
+
+	@Test
+	public void all_phases_are_executed() throws Exception {
+		/* execute */
+		executorToTest.executeParallel(context, phases);
+
+		/* test */
+		verify(phase1).executeProductsAndStoreResults(context);
+		verify(phase2).executeProductsAndStoreResults(context);
+		verify(phase3).executeProductsAndStoreResults(context);
+	}
+
+	@Test
+	public void three_slow_phases_need_less_time_than_sequential_execution() throws Exception {
+		/* prepare */
+		doAnswer(invocation -> sleep(PHASE_DURATION_MILLIS)).when(phase1).executeProductsAndStoreResults(any());
+		doAnswer(invocation -> sleep(PHASE_DURATION_MILLIS)).when(phase2).executeProductsAndStoreResults(any());
+		doAnswer(invocation -> sleep(PHASE_DURATION_MILLIS)).when(phase3).executeProductsAndStoreResults(any());
+
+		/* execute */
+		long start = System.currentTimeMillis();
+		executorToTest.executeParallel(context, phases);
+		long elapsed = System.currentTimeMillis() - start;
+
+		/* test */
+		assertTrue("Elapsed time was " + elapsed, elapsed >= PHASE_DURATION_MILLIS);
+		assertTrue("Elapsed time was " + elapsed, elapsed < 2 * PHASE_DURATION_MILLIS);
+	}
+
+	@Test
+	public void pool_size_one_and_no_queue_still_executes_all_phases() throws Exception {
+		/* prepare */
+		executorToTest.shutdown();
+		executorToTest.poolSize = 1;
+		executorToTest.queueCapacity = 0;
+		executorToTest.initialize();
+
+		/* execute */
+		executorToTest.executeParallel(context, phases);
+
+		/* test */
+		verify(phase1).executeProductsAndStoreResults(context);
+		verify(phase2).executeProductsAndStoreResults(context);
+		verify(phase3).executeProductsAndStoreResults(context);
+	}
+
+	@Test
+	public void failing_phases_are_aggregated_into_one_exception() throws Exception {
+		/* prepare */
+		SecHubExecutionException failure1 = new SecHubExecutionException("failure1");
+		SecHubExecutionException failure3 = new SecHubExecutionException("failure3");
+		doThrow(failure1).when(phase1).executeProductsAndStoreResults(any());
+		doThrow(failure3).when(phase3).executeProductsAndStoreResults(any());
+
+		/* execute */
+		try {
+			executorToTest.executeParallel(context, phases);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals(failure1, e.getCause());
+			assertTrue(e.getMessage().contains("phase1"));
+		}
+	}
+
+	@Test
+	public void failing_phase_cancels_other_running_phases() throws Exception {
+		/* prepare */
+		CountDownLatch interrupted = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			try {
+				Thread.sleep(10000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return null;
+		}).when(phase2).executeProductsAndStoreResults(any());
+		doAnswer(invocation -> {
+			Thread.sleep(50);
+			throw new SecHubExecutionException("failure1");
+		}).when(phase1).executeProductsAndStoreResults(any());
+
+		/* execute */
+		try {
+			executorToTest.executeParallel(context, phases);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void phase_running_longer_than_timeout_is_cancelled_and_execution_fails() throws Exception {
+		/* prepare */
+		executorToTest.phaseTimeout = 100;
+		CountDownLatch interrupted = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			try {
+				Thread.sleep(10000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return null;
+		}).when(phase3).executeProductsAndStoreResults(any());
+
+		/* execute */
+		try {
+			executorToTest.executeParallel(context, phases);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertTrue(e.getCause() instanceof TimeoutException);
+			assertTrue(e.getMessage().contains("phase3"));
+			assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		}
+	}
+
+	private Object sleep(long millis) throws InterruptedException {
+		Thread.sleep(millis);
+		return null;
+	}
+}
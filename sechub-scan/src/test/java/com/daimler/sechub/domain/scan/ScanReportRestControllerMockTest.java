@@ -2,16 +2,21 @@
 package com.daimler.sechub.domain.scan;
 import static com.daimler.sechub.test.TestURLBuilder.*;
 import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -21,16 +26,21 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StreamUtils;
 
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
+import com.daimler.sechub.domain.scan.report.ScanReportDiffService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLCache;
+import com.daimler.sechub.domain.scan.report.ScanReportHTMLService;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
@@ -41,7 +51,7 @@ import com.daimler.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class})
+@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportHTMLService.class, ScanReportHTMLCache.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class})
 public class ScanReportRestControllerMockTest {
 
 	private static final String PROJECT1_ID = "project1";
@@ -57,6 +67,9 @@ public class ScanReportRestControllerMockTest {
 	@MockBean
 	private DownloadScanReportService downloadReportService;
 
+	@MockBean
+	private ScanReportDiffService diffService;
+
 	@MockBean
 	SecHubResultService secHubResultService;
 
@@ -116,6 +129,94 @@ public class ScanReportRestControllerMockTest {
 	}
 
 
+	@Test
+	@WithMockUser
+	public void get_html_report_with_matching_etag_returns_304_NOT_MODIFIED_and_renders_only_once() throws Exception {
+		/* prepare */
+		prepareHTMLReport();
+		String eTag = this.mockMvc.perform(
+				get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML)
+				).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		/* execute + test @formatter:off */
+        this.mockMvc.perform(
+        		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+        			header(HttpHeaders.IF_NONE_MATCH, eTag)
+        		).
+        			andExpect(status().isNotModified()).
+        			andExpect(header().string(HttpHeaders.ETAG, eTag)
+        		);
+        /* @formatter:on */
+		verify(modelBuilder, times(1)).build(any());
+	}
+
+	@Test
+	@WithMockUser
+	public void get_html_report_accepting_gzip_returns_compressed_content() throws Exception {
+		/* prepare */
+		prepareHTMLReport();
+
+		/* execute */
+		byte[] content = this.mockMvc.perform(
+				get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+					header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+				).
+					andExpect(status().isOk()).
+					andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip")).
+					andReturn().getResponse().getContentAsByteArray();
+
+		/* test */
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+			String html = StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+			assertTrue(html.contains(randomUUID.toString()));
+		}
+	}
+
+	@Test
+	@WithMockUser
+	public void get_html_report_not_accepting_gzip_by_quality_zero_returns_uncompressed_content() throws Exception {
+		/* prepare */
+		prepareHTMLReport();
+
+		/* execute */
+		byte[] content = this.mockMvc.perform(
+				get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+					header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5")
+				).
+					andExpect(status().isOk()).
+					andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING)).
+					andReturn().getResponse().getContentAsByteArray();
+
+		/* test */
+		assertTrue(new String(content, StandardCharsets.UTF_8).contains(randomUUID.toString()));
+	}
+
+	@Test
+	@WithMockUser
+	public void get_html_report_accepting_gzip_by_quality_value_or_wildcard_returns_compressed_content() throws Exception {
+		/* prepare */
+		prepareHTMLReport();
+
+		/* execute + test */
+		for (String acceptEncoding : new String[] { "deflate, GZIP;q=0.5", "identity, *" }) {
+			this.mockMvc.perform(
+					get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.TEXT_HTML).
+						header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+					).
+						andExpect(status().isOk()).
+						andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+		}
+	}
+
+	private void prepareHTMLReport() {
+		ScanReport report = new ScanReport(randomUUID,PROJECT1_ID);
+		report.setResult("{'count':'1'}");
+		report.setTrafficLight(TrafficLight.YELLOW);
+
+		when(downloadReportService.getScanReport(PROJECT1_ID, randomUUID)).thenReturn(report);
+		when(downloadReportService.getScanReportResult(report)).thenReturn(new ScanReportResult(report));
+	}
+
 	private void internalTestAcceptedAndReturnsJSON(MediaType acceptedType) throws Exception {
 		/* prepare */
 		ScanReport report = new ScanReport(randomUUID,PROJECT1_ID);
@@ -144,7 +245,8 @@ public class ScanReportRestControllerMockTest {
 		report.setTrafficLight(TrafficLight.YELLOW);
 
 		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+		when(downloadReportService.getScanReport(PROJECT1_ID, randomUUID)).thenReturn(report);
+		when(downloadReportService.getScanReportResult(report)).thenReturn(result1);
 
 		/* execute + test @formatter:off */
         this.mockMvc.perform(
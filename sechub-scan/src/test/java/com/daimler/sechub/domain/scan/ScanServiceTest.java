@@ -7,14 +7,17 @@ import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.task.TaskExecutor;
 
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.daimler.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.daimler.sechub.domain.scan.product.ProductExectionStoreService;
 import com.daimler.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
@@ -45,6 +48,7 @@ public class ScanServiceTest {
 	private StorageService storageService;
 	private JobStorage jobStorage;
 	private ProjectScanLogService scanLogService;
+	private ScanPhaseExecutor scanPhaseExecutor;
 
 	@Before
 	public void before() throws Exception {
@@ -70,6 +74,52 @@ public class ScanServiceTest {
 		serviceToTest.reportService = reportService;
 		serviceToTest.storageService=storageService;
 		serviceToTest.scanLogService=scanLogService;
+		serviceToTest.scanPhaseExecutor=scanPhaseExecutor=mock(ScanPhaseExecutor.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scanservice_in_parallel_mode_uses_scan_phase_executor_for_all_phases() throws Exception {
+		/* prepare */
+		serviceToTest.parallelPhases=true;
+
+		/* execute */
+		DomainMessageSynchronousResult result = serviceToTest.receiveSynchronMessage(prepareValidRequest());
+
+		/* test */
+		assertFalse(result.hasFailed());
+		ArgumentCaptor<Map<String, ProductExectionStoreService>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(scanPhaseExecutor).executeParallel(any(), captor.capture());
+		Map<String, ProductExectionStoreService> phases = captor.getValue();
+		assertEquals(3, phases.size());
+		assertTrue(phases.containsValue(codeScanProductExecutionService));
+		assertTrue(phases.containsValue(webScanProductExecutionService));
+		assertTrue(phases.containsValue(infrastructureScanProductExecutionService));
+		verify(reportService).createReport(any());
+	}
+
+	@Test
+	public void scanservice_in_parallel_mode_does_NOT_execute_reportservice_when_phase_fails() throws Exception {
+		/* prepare */
+		serviceToTest.parallelPhases=true;
+		doThrow(new SecHubExecutionException("ups...")).when(scanPhaseExecutor).executeParallel(any(), any());
+
+		/* execute */
+		DomainMessageSynchronousResult result = serviceToTest.receiveSynchronMessage(prepareValidRequest());
+
+		/* test */
+		assertTrue(result.hasFailed());
+		verify(reportService, never()).createReport(any());
+		verify(jobStorage).deleteAll();
+	}
+
+	@Test
+	public void scanservice_in_sequential_mode_does_not_use_scan_phase_executor() throws Exception {
+		/* execute */
+		serviceToTest.receiveSynchronMessage(prepareValidRequest());
+
+		/* test */
+		verify(scanPhaseExecutor,never()).executeParallel(any(), any());
 	}
 
 	@Test
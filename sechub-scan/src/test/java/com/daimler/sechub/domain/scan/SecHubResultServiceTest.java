@@ -19,6 +19,8 @@ import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportToSecHubResultTransformer;
+import com.daimler.sechub.domain.scan.storage.ResultBlobHolder;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
@@ -46,6 +48,8 @@ public class SecHubResultServiceTest {
 		serviceToTest = new SecHubResultService();
 		serviceToTest.transformers = Collections.singletonList(reportTransformer);
 		serviceToTest.productResultRepository = productResultRepository;
+		serviceToTest.resultBlobService = mock(ResultBlobService.class);
+		when(serviceToTest.resultBlobService.loadResult(any())).thenAnswer(invocation -> ((ResultBlobHolder) invocation.getArgument(0)).getResult());
 	}
 
 	@Test
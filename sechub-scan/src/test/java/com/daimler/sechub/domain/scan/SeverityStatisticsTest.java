@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SeverityStatisticsTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SeverityStatisticsTest.class);
+
+	@Test
+	public void counts_and_findings_are_calculated_per_severity() {
+		/* prepare */
+		SecHubFinding high1 = createFinding(Severity.HIGH);
+		SecHubFinding high2 = createFinding(Severity.HIGH);
+		SecHubFinding info = createFinding(Severity.INFO);
+
+		/* execute */
+		SeverityStatistics statistics = SeverityStatistics.of(Arrays.asList(high1, info, null, high2));
+
+		/* test */
+		assertEquals(3, statistics.getTotal());
+		assertEquals(2, statistics.getCount(Severity.HIGH));
+		assertEquals(1, statistics.getCount(Severity.INFO));
+		assertEquals(0, statistics.getCount(Severity.CRITICAL));
+		assertEquals(Arrays.asList(high1, high2), statistics.getFindings(Severity.HIGH));
+		assertEquals(Severity.HIGH, statistics.getMaximumSeverity());
+	}
+
+	@Test
+	public void maximum_severity_uses_severities_order_so_unclassified_is_higher_than_low() {
+		/* execute */
+		SeverityStatistics statistics = SeverityStatistics.of(Arrays.asList(createFinding(Severity.LOW), createFinding(Severity.UNCLASSIFIED)));
+
+		/* test */
+		assertEquals(Severity.UNCLASSIFIED, statistics.getMaximumSeverity());
+	}
+
+	@Test
+	public void finding_without_severity_is_handled_as_unclassified() {
+		/* execute */
+		SeverityStatistics statistics = SeverityStatistics.of(Arrays.asList(createFinding(null)));
+
+		/* test */
+		assertEquals(1, statistics.getCount(Severity.UNCLASSIFIED));
+		assertEquals(Severity.UNCLASSIFIED, statistics.getMaximumSeverity());
+	}
+
+	@Test
+	public void no_findings_has_no_maximum_severity() {
+		/* execute */
+		SeverityStatistics statistics = SeverityStatistics.of(new SecHubResult());
+
+		/* test */
+		assertNull(statistics.getMaximumSeverity());
+		assertEquals(0, statistics.getTotal());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void null_result_is_not_accepted() {
+		SeverityStatistics.of((SecHubResult) null);
+	}
+
+	@Test
+	public void statistics_for_100000_findings_are_calculated() {
+		/* prepare */
+		List<SecHubFinding> findings = new ArrayList<>();
+		Severity[] severities = Severity.values();
+		for (int i = 0; i < 100000; i++) {
+			findings.add(createFinding(severities[i % severities.length]));
+		}
+
+		/* execute */
+		long start = System.nanoTime();
+		SeverityStatistics statistics = SeverityStatistics.of(findings);
+		long millis = (System.nanoTime() - start) / 1000000;
+
+		/* test */
+		LOG.info("Calculated severity statistics for 100000 findings in {} ms", millis);
+		assertEquals(100000, statistics.getTotal());
+		assertEquals(Severity.CRITICAL, statistics.getMaximumSeverity());
+	}
+
+	private SecHubFinding createFinding(Severity severity) {
+		SecHubFinding finding = new SecHubFinding();
+		finding.setSeverity(severity);
+		return finding;
+	}
+}
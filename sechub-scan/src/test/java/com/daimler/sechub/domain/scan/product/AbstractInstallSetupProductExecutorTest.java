@@ -8,9 +8,18 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -21,6 +30,7 @@ import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.domain.scan.TargetType;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
 public class AbstractInstallSetupProductExecutorTest {
 	private static final InetAddress IP_ADRESS1;
@@ -71,6 +81,11 @@ public class AbstractInstallSetupProductExecutorTest {
 		executorToTest = new TestInstallSetupProductExecutor();
 		executorToTest.targetResolver=targetResolver;
 	}
+
+	@After
+	public void after() {
+		executorToTest.shutdownTargetTypeExecutor();
+	}
 	
 	@Test
 	public void code_is_always_scannable() {
@@ -185,12 +200,214 @@ public class AbstractInstallSetupProductExecutorTest {
 		assertTrue(result.isEmpty());
 	}
 
+	@Test
+	public void parallel_execution_calls_adapter_for_both_target_types_at_same_time_and_merges_results_in_target_type_order() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		/* intranet is first target type but finishes last */
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 400L);
+		executorToTest.adapterDurationMillis.put(TargetType.INTERNET, 200L);
+
+		/* execute */
+		long start = System.currentTimeMillis();
+		List<ProductResult> result = executorToTest.execute(context);
+		long elapsed = System.currentTimeMillis() - start;
+
+		/* test */
+		assertEquals(2, executorToTest.adapterExecutionCallAmount);
+		assertTrue("Elapsed time was " + elapsed, elapsed < 600);
+		assertEquals(2, result.size());
+		assertEquals(TargetType.INTRANET.name(), result.get(0).getResult());
+		assertEquals(TargetType.INTERNET.name(), result.get(1).getResult());
+	}
+
+	@Test
+	public void parallel_execution_fail_fast_cancels_other_target_type_and_throws_failure() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 10000L);
+		/* fail a little bit later, so intranet execution is surely running and not only queued */
+		executorToTest.adapterDurationMillis.put(TargetType.INTERNET, 100L);
+		executorToTest.failingTargetTypes.add(TargetType.INTERNET);
+
+		/* execute */
+		try {
+			executorToTest.execute(context);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		Thread.sleep(100);
+		assertTrue(executorToTest.interruptedTargetTypes.contains(TargetType.INTRANET));
+	}
+
+	@Test
+	public void parallel_execution_collect_all_returns_results_of_successful_target_types() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		executorToTest.failureMode = TargetTypeExecutionFailureMode.COLLECT_ALL;
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 200L);
+		executorToTest.failingTargetTypes.add(TargetType.INTERNET);
+
+		/* execute */
+		List<ProductResult> result = executorToTest.execute(context);
+
+		/* test */
+		assertEquals(2, executorToTest.adapterExecutionCallAmount);
+		assertEquals(1, result.size());
+		assertEquals(TargetType.INTRANET.name(), result.get(0).getResult());
+		assertTrue(executorToTest.interruptedTargetTypes.isEmpty());
+	}
+
+	@Test
+	public void parallel_executions_reuse_threads_of_product_executor() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 50L);
+		executorToTest.adapterDurationMillis.put(TargetType.INTERNET, 50L);
+
+		/* execute */
+		for (int i = 0; i < 5; i++) {
+			executorToTest.execute(context);
+		}
+
+		/* test */
+		assertEquals(10, executorToTest.adapterExecutionCallAmount);
+		assertTrue("Used threads:" + executorToTest.adapterThreadNames, executorToTest.adapterThreadNames.size() <= 2);
+	}
+
+	@Test
+	public void parallel_configured_but_not_initialized_executor_executes_sequential() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		executorToTest.maximumConcurrentTargetTypeExecutions = 2;
+
+		/* execute */
+		List<ProductResult> result = executorToTest.execute(context);
+
+		/* test */
+		assertEquals(2, result.size());
+		assertEquals(Collections.singleton(Thread.currentThread().getName()), executorToTest.adapterThreadNames);
+	}
+
+	@Test
+	public void sequential_execution_collect_all_throws_when_all_target_types_fail() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		executorToTest.failureMode = TargetTypeExecutionFailureMode.COLLECT_ALL;
+		executorToTest.failingTargetTypes.add(TargetType.INTRANET);
+		executorToTest.failingTargetTypes.add(TargetType.INTERNET);
+
+		/* execute */
+		try {
+			executorToTest.execute(context);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals(2, executorToTest.adapterExecutionCallAmount);
+			assertEquals(1, e.getCause().getSuppressed().length);
+		}
+	}
+
+	@Test
+	public void sequential_execution_fail_fast_does_not_call_adapter_for_second_target_type() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		executorToTest.failingTargetTypes.add(TargetType.INTRANET);
+
+		/* execute */
+		try {
+			executorToTest.execute(context);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals(1, executorToTest.adapterExecutionCallAmount);
+		}
+	}
+
+	@Test
+	public void async_adapter_executions_run_in_parallel_without_pooled_threads_and_continue_in_calling_thread() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		executorToTest.asyncAdapter = true;
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 300L);
+		executorToTest.adapterDurationMillis.put(TargetType.INTERNET, 300L);
+
+		/* execute */
+		long start = System.currentTimeMillis();
+		List<ProductResult> result = executorToTest.execute(context);
+		long elapsed = System.currentTimeMillis() - start;
+
+		/* test */
+		assertTrue("Elapsed time was " + elapsed, elapsed < 600);
+		assertEquals(2, result.size());
+		assertEquals(TargetType.INTRANET.name(), result.get(0).getResult());
+		assertEquals(TargetType.INTERNET.name(), result.get(1).getResult());
+		assertEquals(Collections.singleton(Thread.currentThread().getName()), executorToTest.adapterThreadNames);
+	}
+
+	@Test
+	public void async_adapter_execution_fail_fast_cancels_future_of_other_target_type() throws Exception {
+		/* prepare */
+		prepareIntranetAndInternetTargets();
+		enableParallelExecution(2);
+		executorToTest.asyncAdapter = true;
+		executorToTest.adapterDurationMillis.put(TargetType.INTRANET, 10000L);
+		executorToTest.failingTargetTypes.add(TargetType.INTERNET);
+
+		/* execute */
+		try {
+			executorToTest.execute(context);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertTrue(executorToTest.asyncFutures.get(TargetType.INTRANET).isCancelled());
+	}
+
+	private void enableParallelExecution(int concurrency) {
+		executorToTest.maximumConcurrentTargetTypeExecutions = concurrency;
+		executorToTest.initTargetTypeExecutor();
+	}
+
+	private void prepareIntranetAndInternetTargets() {
+		when(installSetup.isAbleToScan(TargetType.INTERNET)).thenReturn(true);
+		when(installSetup.isAbleToScan(TargetType.INTRANET)).thenReturn(true);
+		urisForTarget.add(URI_1);
+		urisForTarget.add(URI_2);
+	}
+
 	
 	private class TestInstallSetupProductExecutor extends AbstractInstallSetupProductExecutor<InstallSetup>{
 
 	
 		private int adapterExecutionCallAmount;
-		
+		private int maximumConcurrentTargetTypeExecutions = 1;
+		private TargetTypeExecutionFailureMode failureMode = TargetTypeExecutionFailureMode.FAIL_FAST;
+		private Set<TargetType> failingTargetTypes = new HashSet<>();
+		private Map<TargetType, Long> adapterDurationMillis = new EnumMap<>(TargetType.class);
+		private Set<TargetType> interruptedTargetTypes = Collections.synchronizedSet(new HashSet<>());
+		private Set<String> adapterThreadNames = Collections.synchronizedSet(new HashSet<>());
+		private boolean asyncAdapter;
+		private Map<TargetType, CompletableFuture<List<ProductResult>>> asyncFutures = new ConcurrentHashMap<>();
+
+		@Override
+		protected int getMaximumConcurrentTargetTypeExecutions() {
+			return maximumConcurrentTargetTypeExecutions;
+		}
+
+		@Override
+		protected TargetTypeExecutionFailureMode getTargetTypeExecutionFailureMode() {
+			return failureMode;
+		}
+
 		@Override
 		public ProductIdentifier getIdentifier() {
 			return ProductIdentifier.FARRADAY;
@@ -210,12 +427,61 @@ public class AbstractInstallSetupProductExecutorTest {
 		protected List<ProductResult> executeWithAdapter(SecHubExecutionContext context, InstallSetup setup,
 				TargetRegistryInfo createInfo) throws Exception {
 			assertNotNull(createInfo);
-			adapterExecutionCallAmount++;
+			synchronized (this) {
+				adapterExecutionCallAmount++;
+			}
+			adapterThreadNames.add(Thread.currentThread().getName());
+			TargetType targetType = createInfo.getTargetType();
+			/* async simulation waits outside */
+			Long duration = asyncAdapter ? null : adapterDurationMillis.get(targetType);
+			if (duration != null) {
+				try {
+					Thread.sleep(duration);
+				} catch (InterruptedException e) {
+					interruptedTargetTypes.add(targetType);
+					throw e;
+				}
+			}
+			if (failingTargetTypes.contains(targetType)) {
+				throw new IllegalStateException("adapter failed for " + targetType);
+			}
 			List<ProductResult> data = new ArrayList<>();
-			data.add(new ProductResult());
+			data.add(new ProductResult(context.getSechubJobUUID(), getIdentifier(), targetType.name()));
 			return data;
 		}
 
+		@Override
+		protected CompletableFuture<List<ProductResult>> executeWithAdapterAsync(SecHubExecutionContext context, InstallSetup setup,
+				TargetRegistryInfo targetData, Executor callingThreadExecutor) {
+			if (!asyncAdapter) {
+				return super.executeWithAdapterAsync(context, setup, targetData, callingThreadExecutor);
+			}
+			/* simulates an adapter waiting without a thread: product finishes later, result is handled by calling thread */
+			CompletableFuture<List<ProductResult>> future = new CompletableFuture<>();
+			TargetType targetType = targetData.getTargetType();
+			asyncFutures.put(targetType, future);
+			long duration = adapterDurationMillis.getOrDefault(targetType, 0L);
+			CompletableFuture.runAsync(() -> callingThreadExecutor.execute(() -> {
+				try {
+					future.complete(executeWithAdapter(context, setup, targetData));
+				} catch (Exception e) {
+					future.completeExceptionally(e);
+				}
+			}), delayedExecutor(duration));
+			return future;
+		}
+
+		private Executor delayedExecutor(long delayMillis) {
+			return task -> new Thread(() -> {
+				try {
+					Thread.sleep(delayMillis);
+					task.run();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}).start();
+		}
+
 		@Override
 		protected InstallSetup getInstallSetup() {
 			return AbstractInstallSetupProductExecutorTest.this.installSetup;
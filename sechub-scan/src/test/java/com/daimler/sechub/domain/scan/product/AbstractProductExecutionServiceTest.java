@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.slf4j.Logger;
 
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -53,6 +54,7 @@ public class AbstractProductExecutionServiceTest {
 		when(context.getSechubJobUUID()).thenReturn(sechubJobUUID);
 		productResultRepository=mock(ProductResultRepository.class);
 		serviceToTest.productResultRepository=productResultRepository;
+		serviceToTest.resultBlobService=mock(ResultBlobService.class);
 	}
 
 	@Test
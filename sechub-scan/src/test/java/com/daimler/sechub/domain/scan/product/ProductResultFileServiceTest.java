@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
+import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.storage.JobStorage;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+
+public class ProductResultFileServiceTest {
+
+	private ProductResultFileService serviceToTest;
+	private ResultBlobService resultBlobService;
+	private Path rootLocation;
+	private SecHubExecutionContext context;
+	private UUID jobUUID;
+	private AtomicReference<String> storedResult;
+
+	@Before
+	public void before() throws Exception {
+		rootLocation = Files.createTempDirectory("product-result-file-service-test");
+		jobUUID = UUID.randomUUID();
+
+		StorageService storageService = mock(StorageService.class);
+		when(storageService.getJobStorage("project1", jobUUID)).thenReturn(new JobStorage(rootLocation, "project1", jobUUID));
+
+		storedResult = new AtomicReference<>();
+		resultBlobService = mock(ResultBlobService.class);
+		doAnswer(invocation -> {
+			InputStream data = invocation.getArgument(1);
+			storedResult.set(StreamUtils.copyToString(data, StandardCharsets.UTF_8));
+			return null;
+		}).when(resultBlobService).storeResult(any(), any());
+
+		SecHubConfiguration configuration = mock(SecHubConfiguration.class);
+		when(configuration.getProjectId()).thenReturn("project1");
+		context = mock(SecHubExecutionContext.class);
+		when(context.getConfiguration()).thenReturn(configuration);
+		when(context.getSechubJobUUID()).thenReturn(jobUUID);
+
+		serviceToTest = new ProductResultFileService();
+		serviceToTest.storageService = storageService;
+		serviceToTest.resultBlobService = resultBlobService;
+	}
+
+	@After
+	public void after() throws IOException {
+		FileSystemUtils.deleteRecursively(rootLocation);
+	}
+
+	@Test
+	public void result_file_paths_are_inside_job_storage_and_unique() {
+		/* execute */
+		String path1 = serviceToTest.createPathToResultFile(context, ProductIdentifier.NESSUS);
+		String path2 = serviceToTest.createPathToResultFile(context, ProductIdentifier.NESSUS);
+
+		/* test */
+		assertNotEquals(path1, path2);
+		assertTrue(Paths.get(path1).startsWith(rootLocation.resolve("project1").resolve(jobUUID.toString())));
+	}
+
+	@Test
+	public void result_file_is_stored_as_result_blob_and_deleted() throws Exception {
+		/* prepare */
+		String path = serviceToTest.createPathToResultFile(context, ProductIdentifier.CHECKMARX);
+		Path resultFile = Paths.get(path);
+		Files.createDirectories(resultFile.getParent());
+		Files.write(resultFile, "<?xml report".getBytes(StandardCharsets.UTF_8));
+
+		/* execute */
+		ProductResult result = serviceToTest.createProductResult(context, ProductIdentifier.CHECKMARX, null, path);
+
+		/* test */
+		verify(resultBlobService).storeResult(eq(result), any());
+		assertEquals(jobUUID, result.getSecHubJobUUID());
+		assertEquals("<?xml report", storedResult.get());
+		assertFalse(Files.exists(resultFile));
+	}
+
+	@Test
+	public void result_returned_by_adapter_is_used_when_no_result_file_written() {
+		/* prepare */
+		String path = serviceToTest.createPathToResultFile(context, ProductIdentifier.NETSPARKER);
+
+		/* execute */
+		ProductResult result = serviceToTest.createProductResult(context, ProductIdentifier.NETSPARKER, "<xml/>", path);
+
+		/* test */
+		verify(resultBlobService, never()).storeResult(any(), any());
+		assertEquals("<xml/>", result.getResult());
+	}
+}
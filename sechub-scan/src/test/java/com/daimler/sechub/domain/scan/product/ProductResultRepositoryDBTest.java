@@ -4,6 +4,10 @@ package com.daimler.sechub.domain.scan.product;
 import static com.daimler.sechub.domain.scan.product.ProductIdentifier.*;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,19 +16,27 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.StreamUtils;
 
 import com.daimler.sechub.domain.scan.ScanDomainTestFileSupport;
+import com.daimler.sechub.domain.scan.storage.DatabaseGzipResultBlobStorage;
+import com.daimler.sechub.domain.scan.storage.ResultBlobData;
+import com.daimler.sechub.domain.scan.storage.ResultBlobDataRepository;
+import com.daimler.sechub.domain.scan.storage.ResultBlobStorageType;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
 @SpringBootTest
-@ContextConfiguration(classes= {ProductResultRepository.class,ProductResultRepositoryDBTest.SimpleTestConfiguration.class})
+@ContextConfiguration(classes= {ProductResultRepository.class,ResultBlobDataRepository.class,DatabaseGzipResultBlobStorage.class,ProductResultRepositoryDBTest.SimpleTestConfiguration.class})
 public class ProductResultRepositoryDBTest {
 
 	@Autowired
@@ -33,6 +45,9 @@ public class ProductResultRepositoryDBTest {
 	@Autowired
 	private ProductResultRepository jobRepository;
 
+	@Autowired
+	private DatabaseGzipResultBlobStorage databaseGzipStorage;
+
 	@Before
 	public void before() {
 	}
@@ -40,6 +55,8 @@ public class ProductResultRepositoryDBTest {
 	
 	@TestConfiguration
 	@EnableAutoConfiguration
+	@EntityScan(basePackageClasses = { ProductResult.class, ResultBlobData.class })
+	@EnableJpaRepositories(basePackageClasses = { ProductResultRepository.class, ResultBlobDataRepository.class })
 	public static class SimpleTestConfiguration{
 		
 	}
@@ -132,4 +149,33 @@ public class ProductResultRepositoryDBTest {
 
 	}
 
+	@Test
+	public void product_result_stored_as_blob_is_persisted_and_not_found_as_inline_result() throws Exception {
+		/* prepare */
+		UUID secHubJobUUID = UUID.randomUUID();
+		ProductResult inlineResult = new ProductResult(secHubJobUUID, ProductIdentifier.NESSUS, "inline");
+		ProductResult blobResult = new ProductResult(secHubJobUUID, ProductIdentifier.NETSPARKER, null);
+		try {
+			blobResult.setResultBlob(databaseGzipStorage.write("key", new ByteArrayInputStream("blob".getBytes())));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		entityManager.persistAndFlush(inlineResult);
+		entityManager.persistAndFlush(blobResult);
+		entityManager.clear();
+
+		/* execute */
+		List<ProductResult> inlineResults = jobRepository.findByResultBlobStorageTypeIsNullAndResultIsNotNull(PageRequest.of(0, 10));
+		ProductResult loadedBlobResult = jobRepository.findById(blobResult.getUUID()).get();
+
+		/* test */
+		assertEquals(1, inlineResults.size());
+		assertEquals(inlineResult, inlineResults.get(0));
+		assertEquals(ResultBlobStorageType.DATABASE_GZIP, loadedBlobResult.getResultBlob().getStorageType());
+		assertEquals(Long.valueOf(4), loadedBlobResult.getResultBlob().getSize());
+		try (InputStream inputStream = databaseGzipStorage.read(loadedBlobResult.getResultBlob())) {
+			assertEquals("blob", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+		}
+	}
+
 }
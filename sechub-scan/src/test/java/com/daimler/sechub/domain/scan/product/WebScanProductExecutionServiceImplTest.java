@@ -13,6 +13,7 @@ import java.util.UUID;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubWebScanConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -49,6 +50,7 @@ public class WebScanProductExecutionServiceImplTest {
 
 		serviceToTest = new WebScanProductExecutionServiceImpl(executors);
 		serviceToTest.productResultRepository = productResultRepository;
+		serviceToTest.resultBlobService = mock(ResultBlobService.class);
 	}
 
 	@Test
@@ -25,6 +25,11 @@ class AssertCalculation {
 			assertTrue("Finding missing:"+finding,filtered.contains(finding)); // just same object. equals not custom implemented
 		}
 		assertEquals(findings.length, filtered.size());
+
+		/* grouping in one pass must result in same findings - but ordered by severity */
+		List<SecHubFinding> grouped = calculator.groupFindingsByTrafficLight(currentResult).get(wanted);
+		assertEquals(filtered.size(), grouped.size());
+		assertTrue(grouped.containsAll(filtered));
 		return this;
 
 	}
@@ -5,16 +5,25 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import com.daimler.sechub.domain.scan.SecHubFinding;
 import com.daimler.sechub.domain.scan.SecHubResult;
 import com.daimler.sechub.domain.scan.SecHubResultService;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.domain.scan.SeverityStatistics;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
+import com.daimler.sechub.domain.scan.storage.ResultBlobService;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
@@ -63,6 +72,11 @@ public class ReportServiceTest {
 		serviceToTest.secHubResultService = secHubResultService;
 		serviceToTest.trafficLightCalculator = trafficLightCalculator;
 		serviceToTest.reportRepository = reportRepository;
+		serviceToTest.resultBlobService = mock(ResultBlobService.class);
+		serviceToTest.resultCache = mock(ScanReportResultCache.class);
+		serviceToTest.htmlCache = mock(ScanReportHTMLCache.class);
+		serviceToTest.diffService = mock(ScanReportDiffService.class);
+		serviceToTest.historyService = mock(ScanFindingHistoryService.class);
 
 	}
 
@@ -81,7 +95,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_light_red_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.RED);
+		when(trafficLightCalculator.calculateTrafficLightFromStatistics(any(SeverityStatistics.class))).thenReturn(TrafficLight.RED);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -96,7 +110,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_light_yellow_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.YELLOW);
+		when(trafficLightCalculator.calculateTrafficLightFromStatistics(any(SeverityStatistics.class))).thenReturn(TrafficLight.YELLOW);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -111,7 +125,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_green_yellow_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.GREEN);
+		when(trafficLightCalculator.calculateTrafficLightFromStatistics(any(SeverityStatistics.class))).thenReturn(TrafficLight.GREEN);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -180,7 +194,97 @@ public class ReportServiceTest {
 		serviceToTest.createReport(context);
 
 		/* test */
-		verify(trafficLightCalculator).calculateTrafficLight(secHubResult);
+		verify(trafficLightCalculator).calculateTrafficLightFromStatistics(any(SeverityStatistics.class));
+	}
+
+	@Test
+	public void createReport_sets_severity_counts_of_result() throws Exception {
+		/* prepare */
+		List<SecHubFinding> findings = new ArrayList<>();
+		findings.add(createFinding(Severity.HIGH));
+		findings.add(createFinding(Severity.HIGH));
+		findings.add(createFinding(Severity.LOW));
+		when(secHubResult.getFindings()).thenReturn(findings);
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		ScanReportSeverityCounts counts = report.getSeverityCounts();
+		assertNotNull(counts);
+		assertEquals(Integer.valueOf(2), counts.getCount(Severity.HIGH));
+		assertEquals(Integer.valueOf(1), counts.getCount(Severity.LOW));
+		assertEquals(Integer.valueOf(0), counts.getCount(Severity.CRITICAL));
+		assertEquals(Severity.HIGH, counts.getMaximumSeverity());
+	}
+
+	@Test
+	public void createReport_calls_diff_service_to_create_summary_before_report_is_saved() throws Exception {
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		InOrder inOrder = inOrder(serviceToTest.diffService, reportRepository);
+		inOrder.verify(serviceToTest.diffService).createSummary(report, secHubResult);
+		inOrder.verify(reportRepository).save(report);
+	}
+
+	@Test
+	public void createReport_updates_finding_history_with_saved_report() throws Exception {
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		InOrder inOrder = inOrder(reportRepository, serviceToTest.historyService);
+		inOrder.verify(reportRepository).save(report);
+		inOrder.verify(serviceToTest.historyService).updateHistory(report, secHubResult);
+	}
+
+	@Test
+	public void createReport_returns_report_even_when_finding_history_update_fails() throws Exception {
+		/* prepare */
+		doThrow(new IllegalStateException("duplicate fingerprint")).when(serviceToTest.historyService).updateHistory(any(), any());
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		assertNotNull(report);
+		verify(serviceToTest.historyService, times(1)).updateHistory(any(), any());
+	}
+
+	@Test
+	public void createReport_retries_finding_history_update_after_concurrent_update() throws Exception {
+		/* prepare */
+		doThrow(new DataIntegrityViolationException("unique index violated")).doNothing().when(serviceToTest.historyService).updateHistory(any(),
+				any());
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		verify(serviceToTest.historyService, times(2)).updateHistory(report, secHubResult);
+	}
+
+	@Test
+	public void createReport_gives_up_finding_history_update_after_max_tries_but_returns_report() throws Exception {
+		/* prepare */
+		doThrow(new OptimisticLockingFailureException("version changed")).when(serviceToTest.historyService).updateHistory(any(), any());
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		assertNotNull(report);
+		verify(serviceToTest.historyService, times(CreateScanReportService.MAX_FINDING_HISTORY_UPDATE_TRIES)).updateHistory(report, secHubResult);
+	}
+
+	private SecHubFinding createFinding(Severity severity) {
+		SecHubFinding finding = new SecHubFinding();
+		finding.setSeverity(severity);
+		return finding;
 	}
 
 }
@@ -0,0 +1,200 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.domain.scan.SeverityStatistics;
+import com.daimler.sechub.sharedkernel.type.TrafficLight;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@SpringBootTest
+@ContextConfiguration(classes = { ScanFindingHistoryRepository.class, ScanReportRepository.class,
+		ScanFindingHistoryRepositoryDBTest.SimpleTestConfiguration.class })
+public class ScanFindingHistoryRepositoryDBTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanFindingHistoryRepositoryDBTest.class);
+
+	private static final String PROJECT1_ID = "project1";
+	private static final String PROJECT2_ID = "project2";
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ScanFindingHistoryRepository historyRepository;
+
+	@Autowired
+	private ScanReportRepository reportRepository;
+
+	private LocalDateTime now;
+
+	@Before
+	public void before() {
+		now = LocalDateTime.now();
+	}
+
+	@TestConfiguration
+	@EnableAutoConfiguration
+	public static class SimpleTestConfiguration {
+
+	}
+
+	@Test
+	public void findByProjectIdAndFingerprintIn_returns_only_entries_of_project() {
+		/* prepare */
+		createHistory(PROJECT1_ID, "fp1", Severity.HIGH, now.minusDays(2), now);
+		createHistory(PROJECT1_ID, "fp2", Severity.LOW, now.minusDays(1), now);
+		createHistory(PROJECT2_ID, "fp1", Severity.HIGH, now, now);
+
+		/* execute */
+		List<ScanFindingHistory> result = historyRepository.findByProjectIdAndFingerprintIn(PROJECT1_ID, Arrays.asList("fp1", "fp3"));
+
+		/* test */
+		assertEquals(1, result.size());
+		assertEquals(PROJECT1_ID, result.get(0).getProjectId());
+		assertEquals("fp1", result.get(0).getFingerprint());
+	}
+
+	@Test
+	public void findByProjectIdAndSeverity_returns_entries_ordered_by_first_seen() {
+		/* prepare */
+		createHistory(PROJECT1_ID, "fp1", Severity.CRITICAL, now.minusDays(1), now);
+		createHistory(PROJECT1_ID, "fp2", Severity.CRITICAL, now.minusDays(5), now);
+		createHistory(PROJECT1_ID, "fp3", Severity.LOW, now.minusDays(9), now);
+
+		/* execute */
+		List<ScanFindingHistory> result = historyRepository.findByProjectIdAndSeverityOrderByFirstSeenAsc(PROJECT1_ID, Severity.CRITICAL);
+
+		/* test */
+		assertEquals(2, result.size());
+		assertEquals("fp2", result.get(0).getFingerprint());
+		assertEquals("fp1", result.get(1).getFingerprint());
+	}
+
+	@Test
+	public void deleteNotSeenSince_deletes_only_outdated_entries() {
+		/* prepare */
+		createHistory(PROJECT1_ID, "fp1", Severity.HIGH, now.minusDays(400), now.minusDays(366));
+		createHistory(PROJECT1_ID, "fp2", Severity.HIGH, now.minusDays(400), now.minusDays(1));
+
+		/* execute */
+		int deleted = historyRepository.deleteNotSeenSince(now.minusDays(365));
+
+		/* test */
+		assertEquals(1, deleted);
+		List<ScanFindingHistory> remaining = historyRepository.findByProjectIdOrderByFirstSeenAsc(PROJECT1_ID);
+		assertEquals(1, remaining.size());
+		assertEquals("fp2", remaining.get(0).getFingerprint());
+	}
+
+	@Test
+	public void findTrendPoints_returns_severity_counts_of_project_reports_since_given_time() {
+		/* prepare */
+		createReport(PROJECT1_ID, now.minusDays(100), Severity.CRITICAL);
+		ScanReport report2 = createReport(PROJECT1_ID, now.minusDays(20), Severity.CRITICAL, Severity.CRITICAL, Severity.LOW);
+		ScanReport report3 = createReport(PROJECT1_ID, now.minusDays(10), Severity.HIGH);
+		createReport(PROJECT2_ID, now.minusDays(5), Severity.CRITICAL);
+
+		ScanReport reportWithoutCounts = new ScanReport(UUID.randomUUID(), PROJECT1_ID);
+		reportWithoutCounts.setEnded(now.minusDays(1));
+		entityManager.persist(reportWithoutCounts);
+		entityManager.flush();
+
+		/* execute */
+		List<ScanReportTrendPoint> points = reportRepository.findTrendPoints(PROJECT1_ID, now.minusDays(90));
+
+		/* test */
+		assertEquals(2, points.size());
+		assertEquals(report2.getSecHubJobUUID(), points.get(0).getJobUUID());
+		assertEquals(Integer.valueOf(2), points.get(0).getCritical());
+		assertEquals(Integer.valueOf(1), points.get(0).getLow());
+		assertEquals(report3.getSecHubJobUUID(), points.get(1).getJobUUID());
+		assertEquals(Integer.valueOf(0), points.get(1).getCritical());
+		assertEquals(Integer.valueOf(1), points.get(1).getHigh());
+	}
+
+	@Test
+	public void queries_for_project_with_thousands_of_jobs() {
+		/* prepare */
+		int jobs = 2000;
+		int fingerprints = 5000;
+		for (int i = 0; i < jobs; i++) {
+			createReport(PROJECT1_ID, now.minusHours(i), Severity.CRITICAL, Severity.HIGH);
+		}
+		List<ScanFindingHistory> histories = new ArrayList<>();
+		for (int i = 0; i < fingerprints; i++) {
+			ScanFindingHistory history = new ScanFindingHistory(PROJECT1_ID, "fingerprint" + i);
+			history.markSeen(UUID.randomUUID(), now.minusHours(i % jobs), "finding" + i, Severity.values()[i % Severity.values().length]);
+			histories.add(history);
+		}
+		historyRepository.saveAll(histories);
+		entityManager.flush();
+		entityManager.clear();
+		/* warm up - query compilation shall not be measured */
+		reportRepository.findTrendPoints(PROJECT2_ID, now.minusDays(90));
+		historyRepository.findByProjectIdAndSeverityOrderByFirstSeenAsc(PROJECT2_ID, Severity.CRITICAL);
+
+		/* execute */
+		long start = System.nanoTime();
+		List<ScanReportTrendPoint> points = reportRepository.findTrendPoints(PROJECT1_ID, now.minusDays(90));
+		long trendMillis = (System.nanoTime() - start) / 1000000;
+
+		start = System.nanoTime();
+		List<ScanFindingHistory> critical = historyRepository.findByProjectIdAndSeverityOrderByFirstSeenAsc(PROJECT1_ID, Severity.CRITICAL);
+		long historyMillis = (System.nanoTime() - start) / 1000000;
+
+		/* test */
+		assertEquals(jobs, points.size());
+		assertEquals(fingerprints / Severity.values().length, critical.size(), 1);
+		LOG.info("{} jobs, {} fingerprints - trend query took {} ms, history query took {} ms", jobs, fingerprints, trendMillis, historyMillis);
+	}
+
+	private ScanFindingHistory createHistory(String projectId, String fingerprint, Severity severity, LocalDateTime firstSeen, LocalDateTime lastSeen) {
+		ScanFindingHistory history = new ScanFindingHistory(projectId, fingerprint);
+		history.markSeen(UUID.randomUUID(), firstSeen, "name-" + fingerprint, severity);
+		history.markSeen(UUID.randomUUID(), lastSeen, "name-" + fingerprint, severity);
+		entityManager.persist(history);
+		entityManager.flush();
+		return history;
+	}
+
+	private ScanReport createReport(String projectId, LocalDateTime ended, Severity... severities) {
+		SecHubResult result = new SecHubResult();
+		for (Severity severity : severities) {
+			SecHubFinding finding = new SecHubFinding();
+			finding.setSeverity(severity);
+			result.getFindings().add(finding);
+		}
+		ScanReport report = new ScanReport(UUID.randomUUID(), projectId);
+		report.setSeverityCounts(ScanReportSeverityCounts.from(SeverityStatistics.of(result)));
+		report.setTrafficLight(TrafficLight.RED);
+		report.setStarted(ended.minusMinutes(1));
+		report.setEnded(ended);
+		entityManager.persist(report);
+		return report;
+	}
+}
@@ -0,0 +1,229 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.daimler.sechub.domain.scan.ScanAssertService;
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+
+public class ScanFindingHistoryServiceTest {
+
+	private static final String PROJECT1_ID = "project1";
+
+	private ScanFindingHistoryService serviceToTest;
+	private ScanFindingHistoryRepository historyRepository;
+	private ScanReportRepository reportRepository;
+	private ScanAssertService assertService;
+	private ScanReportDiffEngine diffEngine;
+	private ScanReport report;
+
+	@Before
+	public void before() {
+		historyRepository = mock(ScanFindingHistoryRepository.class);
+		reportRepository = mock(ScanReportRepository.class);
+		assertService = mock(ScanAssertService.class);
+		diffEngine = new ScanReportDiffEngine();
+
+		serviceToTest = new ScanFindingHistoryService();
+		serviceToTest.historyRepository = historyRepository;
+		serviceToTest.reportRepository = reportRepository;
+		serviceToTest.assertService = assertService;
+		serviceToTest.diffEngine = diffEngine;
+
+		report = new ScanReport(UUID.randomUUID(), PROJECT1_ID);
+		report.setEnded(LocalDateTime.now());
+	}
+
+	@Test
+	public void updateHistory_creates_new_entries_for_unknown_fingerprints() {
+		/* prepare */
+		SecHubResult result = createResult(createFinding("xss", Severity.HIGH), createFinding("sql", Severity.CRITICAL));
+
+		/* execute */
+		serviceToTest.updateHistory(report, result);
+
+		/* test */
+		List<ScanFindingHistory> saved = captureSaved();
+		assertEquals(2, saved.size());
+		ScanFindingHistory xss = saved.get(0);
+		assertEquals(PROJECT1_ID, xss.getProjectId());
+		assertEquals(diffEngine.createFingerprint(result.getFindings().get(0)), xss.getFingerprint());
+		assertEquals("xss", xss.getName());
+		assertEquals(Severity.HIGH, xss.getSeverity());
+		assertEquals(report.getEnded(), xss.getFirstSeen());
+		assertEquals(report.getEnded(), xss.getLastSeen());
+		assertEquals(report.getSecHubJobUUID(), xss.getFirstSecHubJobUUID());
+		assertEquals(report.getSecHubJobUUID(), xss.getLastSecHubJobUUID());
+	}
+
+	@Test
+	public void updateHistory_keeps_first_seen_of_existing_entries_and_updates_last_seen_and_severity() {
+		/* prepare */
+		SecHubFinding finding = createFinding("xss", Severity.LOW);
+		UUID firstJobUUID = UUID.randomUUID();
+		LocalDateTime firstSeen = report.getEnded().minusDays(10);
+		ScanFindingHistory existing = new ScanFindingHistory(PROJECT1_ID, diffEngine.createFingerprint(finding));
+		existing.markSeen(firstJobUUID, firstSeen, "xss", Severity.HIGH);
+		when(historyRepository.findByProjectIdAndFingerprintIn(eq(PROJECT1_ID), any())).thenReturn(Arrays.asList(existing));
+
+		/* execute */
+		serviceToTest.updateHistory(report, createResult(finding));
+
+		/* test */
+		List<ScanFindingHistory> saved = captureSaved();
+		assertEquals(1, saved.size());
+		assertSame(existing, saved.get(0));
+		assertEquals(firstSeen, existing.getFirstSeen());
+		assertEquals(firstJobUUID, existing.getFirstSecHubJobUUID());
+		assertEquals(report.getEnded(), existing.getLastSeen());
+		assertEquals(report.getSecHubJobUUID(), existing.getLastSecHubJobUUID());
+		assertEquals(Severity.LOW, existing.getSeverity());
+	}
+
+	@Test
+	public void updateHistory_by_job_ended_before_last_seen_keeps_last_seen_but_can_change_first_seen() {
+		/* prepare - happens when a concurrent update of a later job was committed first */
+		SecHubFinding finding = createFinding("xss", Severity.LOW);
+		UUID laterJobUUID = UUID.randomUUID();
+		LocalDateTime later = report.getEnded().plusMinutes(1);
+		ScanFindingHistory existing = new ScanFindingHistory(PROJECT1_ID, diffEngine.createFingerprint(finding));
+		existing.markSeen(laterJobUUID, later, "xss", Severity.HIGH);
+		when(historyRepository.findByProjectIdAndFingerprintIn(eq(PROJECT1_ID), any())).thenReturn(Arrays.asList(existing));
+
+		/* execute */
+		serviceToTest.updateHistory(report, createResult(finding));
+
+		/* test */
+		assertEquals(report.getEnded(), existing.getFirstSeen());
+		assertEquals(report.getSecHubJobUUID(), existing.getFirstSecHubJobUUID());
+		assertEquals(later, existing.getLastSeen());
+		assertEquals(laterJobUUID, existing.getLastSecHubJobUUID());
+		assertEquals(Severity.HIGH, existing.getSeverity());
+	}
+
+	@Test
+	public void updateHistory_same_finding_multiple_times_is_one_entry_with_highest_severity() {
+		/* prepare */
+		SecHubResult result = createResult(createFinding("xss", Severity.LOW), createFinding("xss", Severity.CRITICAL),
+				createFinding("xss", Severity.MEDIUM));
+
+		/* execute */
+		serviceToTest.updateHistory(report, result);
+
+		/* test */
+		List<ScanFindingHistory> saved = captureSaved();
+		assertEquals(1, saved.size());
+		assertEquals(Severity.CRITICAL, saved.get(0).getSeverity());
+	}
+
+	@Test
+	public void updateHistory_queries_existing_entries_in_chunks() {
+		/* prepare */
+		int amount = ScanFindingHistoryService.FINGERPRINT_CHUNK_SIZE * 2 + 1;
+		SecHubResult result = new SecHubResult();
+		for (int i = 0; i < amount; i++) {
+			result.getFindings().add(createFinding("finding" + i, Severity.INFO));
+		}
+
+		/* execute */
+		serviceToTest.updateHistory(report, result);
+
+		/* test */
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(historyRepository, times(3)).findByProjectIdAndFingerprintIn(eq(PROJECT1_ID), captor.capture());
+		assertEquals(ScanFindingHistoryService.FINGERPRINT_CHUNK_SIZE, captor.getAllValues().get(0).size());
+		assertEquals(1, captor.getAllValues().get(2).size());
+		assertEquals(amount, captureSaved().size());
+	}
+
+	@Test
+	public void getFindingAges_checks_access_and_filters_by_severity() {
+		/* prepare */
+		ScanFindingHistory history = new ScanFindingHistory(PROJECT1_ID, "fingerprint1");
+		history.markSeen(UUID.randomUUID(), report.getEnded().minusDays(3), "xss", Severity.CRITICAL);
+		history.markSeen(report.getSecHubJobUUID(), report.getEnded(), "xss", Severity.CRITICAL);
+		when(historyRepository.findByProjectIdAndSeverityOrderByFirstSeenAsc(PROJECT1_ID, Severity.CRITICAL)).thenReturn(Arrays.asList(history));
+
+		/* execute */
+		List<ScanFindingAge> ages = serviceToTest.getFindingAges(PROJECT1_ID, Severity.CRITICAL);
+
+		/* test */
+		verify(assertService).assertUserHasAccessToProject(PROJECT1_ID);
+		assertEquals(1, ages.size());
+		assertEquals("fingerprint1", ages.get(0).getFingerprint());
+		assertEquals("CRITICAL", ages.get(0).getSeverity());
+		assertEquals(3, ages.get(0).getAgeInDays());
+		assertEquals(report.getSecHubJobUUID(), ages.get(0).getLastJobUUID());
+	}
+
+	@Test
+	public void getTrend_checks_access_and_limits_days_by_retention() {
+		/* prepare */
+		serviceToTest.retentionDays = 30;
+		List<ScanReportTrendPoint> points = new ArrayList<>();
+		when(reportRepository.findTrendPoints(eq(PROJECT1_ID), any())).thenReturn(points);
+		LocalDateTime earliestExpected = LocalDateTime.now().minusDays(30).minusMinutes(1);
+
+		/* execute */
+		List<ScanReportTrendPoint> result = serviceToTest.getTrend(PROJECT1_ID, 1000);
+
+		/* test */
+		verify(assertService).assertUserHasAccessToProject(PROJECT1_ID);
+		assertSame(points, result);
+		ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(reportRepository).findTrendPoints(eq(PROJECT1_ID), captor.capture());
+		assertTrue(captor.getValue().isAfter(earliestExpected));
+	}
+
+	@Test
+	public void deleteOutdatedHistory_deletes_entries_not_seen_inside_retention_days() {
+		/* prepare */
+		serviceToTest.retentionDays = 10;
+		LocalDateTime expected = LocalDateTime.now().minusDays(10);
+
+		/* execute */
+		serviceToTest.deleteOutdatedHistory();
+
+		/* test */
+		ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(historyRepository).deleteNotSeenSince(captor.capture());
+		assertFalse(captor.getValue().isBefore(expected));
+		assertTrue(captor.getValue().isBefore(expected.plusMinutes(1)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ScanFindingHistory> captureSaved() {
+		ArgumentCaptor<List<ScanFindingHistory>> captor = ArgumentCaptor.forClass(List.class);
+		verify(historyRepository).saveAll(captor.capture());
+		return captor.getValue();
+	}
+
+	private SecHubResult createResult(SecHubFinding... findings) {
+		SecHubResult result = new SecHubResult();
+		result.getFindings().addAll(Arrays.asList(findings));
+		return result;
+	}
+
+	private SecHubFinding createFinding(String name, Severity severity) {
+		SecHubFinding finding = new SecHubFinding();
+		finding.setName(name);
+		finding.setSeverity(severity);
+		return finding;
+	}
+}
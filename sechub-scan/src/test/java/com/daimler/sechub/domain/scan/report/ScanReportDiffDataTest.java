@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class ScanReportDiffDataTest {
+
+	@Test
+	public void following_positions_are_encoded_as_ranges() {
+		/* execute + test */
+		assertEquals("0-3,7,9-10", ScanReportDiffData.encode(Arrays.asList(0, 1, 2, 3, 7, 9, 10)));
+		assertEquals("5", ScanReportDiffData.encode(Arrays.asList(5)));
+		assertEquals("", ScanReportDiffData.encode(Collections.emptyList()));
+	}
+
+	@Test
+	public void encoded_positions_are_decoded_to_same_positions() {
+		/* prepare */
+		List<Integer> positions = Arrays.asList(0, 1, 2, 3, 7, 9, 10, 100000);
+
+		/* execute */
+		List<Integer> decoded = ScanReportDiffData.decode(ScanReportDiffData.encode(positions));
+
+		/* test */
+		assertEquals(positions, decoded);
+		assertTrue(ScanReportDiffData.decode(null).isEmpty());
+		assertTrue(ScanReportDiffData.decode("").isEmpty());
+	}
+
+	@Test
+	public void diff_data_without_fixed_positions_has_no_fixed_findings() {
+		/* prepare */
+		ScanReportDiffPositions positions = new ScanReportDiffPositions();
+		positions.newFindings.add(0);
+		ScanReportDiffData data = new ScanReportDiffData(UUID.randomUUID());
+
+		/* execute */
+		data.setDiff(null, positions);
+
+		/* test */
+		assertFalse(data.hasFixedFindings());
+		assertEquals(Arrays.asList(0), data.getPositions().getNewFindings());
+	}
+
+}
@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.test.TestUtil;
+
+public class ScanReportDiffEngineTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanReportDiffEngineTest.class);
+
+	private ScanReportDiffEngine engineToTest;
+
+	@Before
+	public void before() {
+		engineToTest = new ScanReportDiffEngine();
+	}
+
+	@Test
+	public void fingerprint_ignores_id_created_severity_and_request_response() {
+		/* prepare */
+		SecHubFinding finding1 = createFinding("xss", "/path1");
+		finding1.setId(1);
+		finding1.setSeverity(Severity.HIGH);
+		finding1.setRequest("request1");
+		SecHubFinding finding2 = createFinding("xss", "/path1");
+		finding2.setId(2);
+		finding2.setCreated(new Date());
+		finding2.setSeverity(Severity.LOW);
+		finding2.setResponse("response2");
+
+		/* execute + test */
+		assertEquals(engineToTest.createFingerprint(finding1), engineToTest.createFingerprint(finding2));
+	}
+
+	@Test
+	public void fingerprint_differs_when_stable_fields_differ() {
+		/* prepare */
+		SecHubFinding finding1 = createFinding("xss", "/path1");
+		SecHubFinding finding2 = createFinding("xss", "/path2");
+		SecHubFinding finding3 = createFinding("xss", "/path1");
+		finding3.setService("service");
+
+		/* execute + test */
+		assertNotEquals(engineToTest.createFingerprint(finding1), engineToTest.createFingerprint(finding2));
+		assertNotEquals(engineToTest.createFingerprint(finding1), engineToTest.createFingerprint(finding3));
+	}
+
+	@Test
+	public void fingerprint_differs_when_content_moves_between_fields() {
+		/* prepare */
+		SecHubFinding finding1 = new SecHubFinding();
+		finding1.setName("ab");
+		finding1.setDescription("c");
+		SecHubFinding finding2 = new SecHubFinding();
+		finding2.setName("a");
+		finding2.setDescription("bc");
+		SecHubFinding finding3 = new SecHubFinding();
+		finding3.setName("");
+
+		/* execute + test */
+		assertNotEquals(engineToTest.createFingerprint(finding1), engineToTest.createFingerprint(finding2));
+		assertNotEquals(engineToTest.createFingerprint(new SecHubFinding()), engineToTest.createFingerprint(finding3));
+	}
+
+	@Test
+	public void diff_splits_findings_into_new_fixed_and_unchanged() {
+		/* prepare */
+		SecHubResult previous = createResult(createFinding("xss", "/a"), createFinding("sql", "/b"));
+		SecHubResult current = createResult(createFinding("sql", "/b"), createFinding("csrf", "/c"));
+
+		/* execute */
+		ScanReportDiff diff = engineToTest.diff(previous, current);
+
+		/* test */
+		assertEquals(1, diff.getNewFindings().size());
+		assertEquals("csrf", diff.getNewFindings().get(0).getName());
+		assertEquals(1, diff.getFixedFindings().size());
+		assertEquals("xss", diff.getFixedFindings().get(0).getName());
+		assertEquals(1, diff.getUnchangedFindings().size());
+		assertSame(current.getFindings().get(0), diff.getUnchangedFindings().get(0));
+	}
+
+	@Test
+	public void diff_handles_findings_with_same_fingerprint_as_multi_set() {
+		/* prepare */
+		SecHubResult previous = createResult(createFinding("xss", "/a"), createFinding("xss", "/a"), createFinding("xss", "/a"));
+		SecHubResult current = createResult(createFinding("xss", "/a"), createFinding("xss", "/a"));
+
+		/* execute */
+		ScanReportDiff diff = engineToTest.diff(previous, current);
+
+		/* test */
+		assertEquals(0, diff.getNewFindings().size());
+		assertEquals(1, diff.getFixedFindings().size());
+		assertEquals(2, diff.getUnchangedFindings().size());
+	}
+
+	@Test
+	public void diff_without_previous_result_marks_all_findings_as_new() {
+		/* prepare */
+		SecHubResult current = createResult(createFinding("xss", "/a"), createFinding("sql", "/b"));
+
+		/* execute */
+		ScanReportDiff diff = engineToTest.diff(null, current);
+
+		/* test */
+		assertEquals(2, diff.getNewFindings().size());
+		assertEquals(0, diff.getFixedFindings().size());
+		assertEquals(0, diff.getUnchangedFindings().size());
+	}
+
+	@Test
+	public void diff_of_1000_findings_with_changed_findings() {
+		/* prepare */
+		int amount = 1000;
+		int changed = amount / 10;
+		SecHubResult previous = createBigResult(amount, 0);
+		SecHubResult current = createBigResult(amount, changed);
+
+		/* execute */
+		ScanReportDiff diff = engineToTest.diff(previous, current);
+
+		/* test */
+		assertEquals(changed, diff.getNewFindings().size());
+		assertEquals(changed, diff.getFixedFindings().size());
+		assertEquals(amount - changed, diff.getUnchangedFindings().size());
+	}
+
+	@Test
+	public void diff_of_100000_findings_timing() {
+		assumeTrue("Timing test skipped, define -D" + TestUtil.SECHUB_TEST_LONG_RUNNING + "=true to enable", TestUtil.isLongRunningTestEnabled());
+
+		/* prepare */
+		int amount = 100000;
+		int changed = amount / 10;
+		SecHubResult previous = createBigResult(amount, 0);
+		SecHubResult current = createBigResult(amount, changed);
+		/* warm up */
+		engineToTest.diff(previous, current);
+
+		/* execute */
+		long start = System.nanoTime();
+		ScanReportDiff diff = engineToTest.diff(previous, current);
+		long millis = (System.nanoTime() - start) / 1000000;
+
+		/* test */
+		assertEquals(changed, diff.getNewFindings().size());
+		assertEquals(changed, diff.getFixedFindings().size());
+		assertEquals(amount - changed, diff.getUnchangedFindings().size());
+		LOG.info("diff of {} previous and {} current findings took {} ms", amount, amount, millis);
+	}
+
+	@Test
+	public void diff_positions_resolved_from_results_are_same_as_diff() {
+		/* prepare */
+		SecHubResult previous = createResult(createFinding("xss", "/path1"), createFinding("sql", "/path2"));
+		SecHubResult current = createResult(createFinding("sql", "/path2"), createFinding("csrf", "/path3"));
+
+		/* execute */
+		ScanReportDiffPositions positions = engineToTest.diffPositions(previous, current);
+
+		/* test */
+		assertEquals(Arrays.asList(1), positions.getNewFindings());
+		assertEquals(Arrays.asList(0), positions.getFixedFindings());
+		assertEquals(Arrays.asList(0), positions.getUnchangedFindings());
+		ScanReportDiff diff = positions.resolve(previous, current);
+		assertEquals("csrf", diff.getNewFindings().get(0).getName());
+		assertEquals("xss", diff.getFixedFindings().get(0).getName());
+		assertEquals("sql", diff.getUnchangedFindings().get(0).getName());
+	}
+
+	private SecHubResult createBigResult(int amount, int offset) {
+		SecHubResult result = new SecHubResult();
+		for (int i = 0; i < amount; i++) {
+			result.getFindings().add(createBigFinding(i + offset));
+		}
+		return result;
+	}
+
+	private SecHubFinding createBigFinding(int number) {
+		SecHubFinding finding = createFinding("Cross Site Scripting " + (number % 50), "/src/main/java/com/example/Class" + number + ".java");
+		finding.setDescription("A description of finding, which is typically longer than the name of the finding and can contain details.");
+		finding.setTarget("https://www.example.org");
+		finding.setParameterName("param" + (number % 7));
+		return finding;
+	}
+
+	private SecHubResult createResult(SecHubFinding... findings) {
+		SecHubResult result = new SecHubResult();
+		for (SecHubFinding finding : findings) {
+			result.getFindings().add(finding);
+		}
+		return result;
+	}
+
+	private SecHubFinding createFinding(String name, String path) {
+		SecHubFinding finding = new SecHubFinding();
+		finding.setName(name);
+		finding.setPath(path);
+		return finding;
+	}
+}
@@ -0,0 +1,204 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+
+public class ScanReportDiffServiceTest {
+
+	private static final String PROJECT1_ID = "project1";
+
+	private ScanReportDiffService serviceToTest;
+	private ScanReportRepository reportRepository;
+	private DownloadScanReportService downloadReportService;
+	private ScanReportDiffDataRepository diffDataRepository;
+	private Map<UUID, ScanReportDiffData> persistedDiffData;
+
+	private ScanReport previousReport;
+	private ScanReport currentReport;
+	private SecHubResult previousResult;
+	private SecHubResult currentResult;
+
+	@Before
+	public void before() {
+		reportRepository = mock(ScanReportRepository.class);
+		downloadReportService = mock(DownloadScanReportService.class);
+
+		serviceToTest = new ScanReportDiffService();
+		serviceToTest.reportRepository = reportRepository;
+		serviceToTest.downloadReportService = downloadReportService;
+		serviceToTest.diffEngine = spy(new ScanReportDiffEngine());
+
+		persistedDiffData = new HashMap<>();
+		diffDataRepository = mock(ScanReportDiffDataRepository.class);
+		when(diffDataRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(persistedDiffData.get(invocation.getArgument(0))));
+		when(diffDataRepository.save(any())).thenAnswer(invocation -> {
+			ScanReportDiffData data = invocation.getArgument(0);
+			persistedDiffData.put(data.getSecHubJobUUID(), data);
+			return data;
+		});
+		serviceToTest.diffDataRepository = diffDataRepository;
+
+		previousReport = new ScanReport(UUID.randomUUID(), PROJECT1_ID);
+		previousResult = createResult("xss", "sql");
+
+		currentReport = new ScanReport(UUID.randomUUID(), PROJECT1_ID);
+		currentReport.setStarted(LocalDateTime.now());
+		currentResult = createResult("sql", "csrf", "csrf");
+		/* reports are not persisted so they have no UUID and are equal - so answer by identity */
+		when(downloadReportService.getScanReportResult(any(ScanReport.class))).thenAnswer(invocation -> {
+			ScanReport report = invocation.getArgument(0);
+			return new ScanReportResult(report, report == previousReport ? previousResult : currentResult);
+		});
+		when(downloadReportService.getScanReport(PROJECT1_ID, currentReport.getSecHubJobUUID())).thenReturn(currentReport);
+	}
+
+	@Test
+	public void createSummary_sets_counts_and_previous_job_uuid_to_report() {
+		/* prepare */
+		mockPreviousReportFound(previousReport);
+
+		/* execute */
+		serviceToTest.createSummary(currentReport, currentResult);
+
+		/* test */
+		ScanReportDiffSummary summary = currentReport.getDiffSummary();
+		assertNotNull(summary);
+		assertEquals(previousReport.getSecHubJobUUID(), summary.getPreviousSecHubJobUUID());
+		assertEquals(Integer.valueOf(2), summary.getNewFindings());
+		assertEquals(Integer.valueOf(1), summary.getFixedFindings());
+		assertEquals(Integer.valueOf(1), summary.getUnchangedFindings());
+	}
+
+	@Test
+	public void createSummary_without_previous_report_marks_all_findings_as_new() {
+		/* execute */
+		serviceToTest.createSummary(currentReport, currentResult);
+
+		/* test */
+		ScanReportDiffSummary summary = currentReport.getDiffSummary();
+		assertNotNull(summary);
+		assertNull(summary.getPreviousSecHubJobUUID());
+		assertEquals(Integer.valueOf(3), summary.getNewFindings());
+		assertEquals(Integer.valueOf(0), summary.getFixedFindings());
+	}
+
+	@Test
+	public void createSummary_does_not_fail_when_previous_result_cannot_be_loaded() {
+		/* prepare */
+		mockPreviousReportFound(previousReport);
+		when(downloadReportService.getScanReportResult(any(ScanReport.class))).thenThrow(new IllegalStateException("storage not available"));
+
+		/* execute */
+		serviceToTest.createSummary(currentReport, currentResult);
+
+		/* test */
+		assertNull(currentReport.getDiffSummary());
+	}
+
+	@Test
+	public void createSummary_persists_diff_data() {
+		/* prepare */
+		mockPreviousReportFound(previousReport);
+
+		/* execute */
+		serviceToTest.createSummary(currentReport, currentResult);
+
+		/* test */
+		ScanReportDiffData diffData = persistedDiffData.get(currentReport.getSecHubJobUUID());
+		assertNotNull(diffData);
+		assertEquals(previousReport.getSecHubJobUUID(), diffData.getPreviousSecHubJobUUID());
+		assertEquals(Arrays.asList(1, 2), diffData.getPositions().getNewFindings());
+		assertEquals(Arrays.asList(0), diffData.getPositions().getFixedFindings());
+		assertEquals(Arrays.asList(0), diffData.getPositions().getUnchangedFindings());
+	}
+
+	@Test
+	public void getScanReportDiff_uses_persisted_diff_without_calculation_and_search() {
+		/* prepare */
+		mockPreviousReportFound(previousReport);
+		serviceToTest.createSummary(currentReport, currentResult);
+		reset(reportRepository, serviceToTest.diffEngine);
+		when(reportRepository.findBySecHubJobUUID(previousReport.getSecHubJobUUID())).thenReturn(previousReport);
+
+		/* execute */
+		ScanReportDiff diff = serviceToTest.getScanReportDiff(PROJECT1_ID, currentReport.getSecHubJobUUID());
+
+		/* test */
+		assertEquals(currentReport.getSecHubJobUUID(), diff.getJobUUID());
+		assertEquals(previousReport.getSecHubJobUUID(), diff.getPreviousJobUUID());
+		assertEquals(2, diff.getNewFindings().size());
+		assertEquals("xss", diff.getFixedFindings().get(0).getName());
+		assertEquals("sql", diff.getUnchangedFindings().get(0).getName());
+		verify(reportRepository, never()).findFirstByProjectIdAndSecHubJobUUIDNotAndTrafficLightIsNotNullAndEndedBeforeOrderByEndedDesc(any(), any(),
+				any());
+		verifyZeroInteractions(serviceToTest.diffEngine);
+	}
+
+	@Test
+	public void getScanReportDiff_does_not_load_previous_result_when_nothing_was_fixed() {
+		/* prepare */
+		previousResult = createResult("sql");
+		mockPreviousReportFound(previousReport);
+		serviceToTest.createSummary(currentReport, currentResult);
+		reset(reportRepository);
+
+		/* execute */
+		ScanReportDiff diff = serviceToTest.getScanReportDiff(PROJECT1_ID, currentReport.getSecHubJobUUID());
+
+		/* test */
+		assertEquals(previousReport.getSecHubJobUUID(), diff.getPreviousJobUUID());
+		assertTrue(diff.getFixedFindings().isEmpty());
+		assertEquals(1, diff.getUnchangedFindings().size());
+		verifyZeroInteractions(reportRepository);
+	}
+
+	@Test
+	public void getScanReportDiff_calculates_and_persists_diff_only_one_time_for_reports_without_diff_data() {
+		/* prepare */
+		mockPreviousReportFound(previousReport);
+		when(reportRepository.findBySecHubJobUUID(previousReport.getSecHubJobUUID())).thenReturn(previousReport);
+
+		/* execute */
+		ScanReportDiff diff = serviceToTest.getScanReportDiff(PROJECT1_ID, currentReport.getSecHubJobUUID());
+		ScanReportDiff diff2 = serviceToTest.getScanReportDiff(PROJECT1_ID, currentReport.getSecHubJobUUID());
+
+		/* test */
+		assertEquals(previousReport.getSecHubJobUUID(), diff.getPreviousJobUUID());
+		assertEquals(1, diff.getFixedFindings().size());
+		assertEquals(1, diff2.getFixedFindings().size());
+		assertTrue(persistedDiffData.containsKey(currentReport.getSecHubJobUUID()));
+		verify(reportRepository, times(1)).findFirstByProjectIdAndSecHubJobUUIDNotAndTrafficLightIsNotNullAndEndedBeforeOrderByEndedDesc(any(), any(),
+				any());
+		verify(serviceToTest.diffEngine, times(1)).diffPositions(any(), any());
+	}
+
+	private void mockPreviousReportFound(ScanReport report) {
+		when(reportRepository.findFirstByProjectIdAndSecHubJobUUIDNotAndTrafficLightIsNotNullAndEndedBeforeOrderByEndedDesc(PROJECT1_ID,
+				currentReport.getSecHubJobUUID(), currentReport.getStarted())).thenReturn(report);
+	}
+
+	private SecHubResult createResult(String... names) {
+		SecHubResult result = new SecHubResult();
+		for (String name : names) {
+			SecHubFinding finding = new SecHubFinding();
+			finding.setName(name);
+			result.getFindings().add(finding);
+		}
+		return result;
+	}
+}
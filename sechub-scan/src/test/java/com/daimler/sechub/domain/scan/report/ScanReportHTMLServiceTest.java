@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.sharedkernel.type.TrafficLight;
+import com.daimler.sechub.test.TestUtil;
+
+public class ScanReportHTMLServiceTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanReportHTMLServiceTest.class);
+
+	private ScanReportHTMLService serviceToTest;
+	private DownloadScanReportService downloadReportService;
+	private ScanReport report;
+	private UUID jobUUID;
+
+	@Before
+	public void before() throws Exception {
+		jobUUID = UUID.randomUUID();
+		report = new ScanReport(jobUUID, "project1");
+		report.setTrafficLight(TrafficLight.RED);
+
+		downloadReportService = mock(DownloadScanReportService.class);
+		when(downloadReportService.getScanReport("project1", jobUUID)).thenReturn(report);
+
+		ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+		resolver.setPrefix("templates/");
+		resolver.setSuffix(".html");
+		SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+		templateEngine.setTemplateResolver(resolver);
+
+		HTMLScanResultReportModelBuilder modelBuilder = mock(HTMLScanResultReportModelBuilder.class);
+		when(modelBuilder.build(any())).thenAnswer(invocation -> createModel(invocation.getArgument(0)));
+
+		serviceToTest = new ScanReportHTMLService();
+		serviceToTest.downloadReportService = downloadReportService;
+		serviceToTest.htmlModelBuilder = modelBuilder;
+		serviceToTest.templateEngine = templateEngine;
+		serviceToTest.htmlCache = new ScanReportHTMLCache();
+	}
+
+	@Test
+	public void html_is_rendered_only_once_for_same_report() {
+		/* prepare */
+		when(downloadReportService.getScanReportResult(report)).thenReturn(new ScanReportResult(report, createResult(10)));
+
+		/* execute */
+		ScanReportHTML html1 = serviceToTest.getScanReportHTML("project1", jobUUID);
+		ScanReportHTML html2 = serviceToTest.getScanReportHTML("project1", jobUUID);
+
+		/* test */
+		assertSame(html1, html2);
+		verify(downloadReportService, times(1)).getScanReportResult(report);
+		assertTrue(new String(html1.getUncompressed(), StandardCharsets.UTF_8).contains(jobUUID.toString()));
+	}
+
+	@Test
+	public void etag_is_matching_for_same_content_only() {
+		/* prepare */
+		ScanReportHTML html = ScanReportHTML.create("<html>1</html>");
+		ScanReportHTML other = ScanReportHTML.create("<html>2</html>");
+
+		/* test */
+		assertEquals(html.getETag(), ScanReportHTML.create("<html>1</html>").getETag());
+		assertTrue(html.isMatching(html.getETag()));
+		assertTrue(html.isMatching("W/" + html.getETag()));
+		assertTrue(html.isMatching(other.getETag() + ", " + html.getETag()));
+		assertTrue(html.isMatching("*"));
+		assertFalse(html.isMatching(other.getETag()));
+		assertFalse(html.isMatching(null));
+	}
+
+	@Test
+	public void html_for_1000_findings_is_rendered_and_compressed() {
+		/* prepare */
+		when(downloadReportService.getScanReportResult(report)).thenReturn(new ScanReportResult(report, createResult(1000)));
+
+		/* execute */
+		ScanReportHTML html = serviceToTest.getScanReportHTML("project1", jobUUID);
+
+		/* test */
+		assertRenderedAndCompressed(html);
+	}
+
+	@Test
+	public void html_for_50000_findings_is_rendered_and_compressed__timing() {
+		assumeTrue("Timing test skipped, define -D" + TestUtil.SECHUB_TEST_LONG_RUNNING + "=true to enable", TestUtil.isLongRunningTestEnabled());
+
+		/* prepare */
+		when(downloadReportService.getScanReportResult(report)).thenReturn(new ScanReportResult(report, createResult(50000)));
+
+		/* execute */
+		long start = System.currentTimeMillis();
+		ScanReportHTML html = serviceToTest.getScanReportHTML("project1", jobUUID);
+		long renderTime = System.currentTimeMillis() - start;
+
+		/* test */
+		LOG.info("Rendered 50000 findings in {} ms, size:{} bytes, compressed:{} bytes", renderTime, html.getSize(), html.getCompressed().length);
+		assertRenderedAndCompressed(html);
+	}
+
+	private void assertRenderedAndCompressed(ScanReportHTML html) {
+		assertTrue(html.getCompressed().length * 10 < html.getSize());
+		assertEquals(html.getSize(), html.getUncompressed().length);
+	}
+
+	private Map<String, Object> createModel(ScanReportResult scanResult) {
+		Map<TrafficLight, List<SecHubFinding>> grouped = new ScanReportTrafficLightCalculator().groupFindingsByTrafficLight(scanResult.getResult());
+
+		Map<String, Object> model = new HashMap<>();
+		model.put("jobuuid", scanResult.getJobUUID().toString());
+		model.put("redList", grouped.get(TrafficLight.RED));
+		model.put("yellowList", grouped.get(TrafficLight.YELLOW));
+		model.put("greenList", grouped.get(TrafficLight.GREEN));
+		model.put("styleRed", "opacity: 1.0");
+		model.put("styleYellow", "opacity: 0.25");
+		model.put("styleGreen", "opacity: 0.25");
+		model.put("isWebDesignMode", false);
+		model.put("embeddedCSS", "body{}");
+		return model;
+	}
+
+	private SecHubResult createResult(int amount) {
+		SecHubResult result = new SecHubResult();
+		Severity[] severities = Severity.values();
+		for (int i = 0; i < amount; i++) {
+			SecHubFinding finding = new SecHubFinding();
+			finding.setId(i);
+			finding.setName("finding" + i);
+			finding.setDescription("description of finding " + i);
+			finding.setSeverity(severities[i % severities.length]);
+			result.getFindings().add(finding);
+		}
+		result.setCount(amount);
+		return result;
+	}
+}
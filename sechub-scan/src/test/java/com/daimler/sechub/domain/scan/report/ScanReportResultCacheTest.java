@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.domain.scan.SecHubResult;
+
+public class ScanReportResultCacheTest {
+
+	private ScanReportResultCache cacheToTest;
+
+	@Before
+	public void before() {
+		cacheToTest = new ScanReportResultCache();
+		cacheToTest.maximumBytes = 1000;
+	}
+
+	@Test
+	public void cached_result_is_returned_for_same_report_and_counted_as_hit() {
+		/* prepare */
+		ScanReport report = createReport();
+		SecHubResult result = new SecHubResult();
+
+		/* execute */
+		SecHubResult before = cacheToTest.get(report);
+		cacheToTest.put(report, result, 100);
+		SecHubResult after = cacheToTest.get(report);
+
+		/* test */
+		assertNull(before);
+		assertSame(result, after);
+		assertEquals(1, cacheToTest.getStatistics().getHits());
+		assertEquals(1, cacheToTest.getStatistics().getMisses());
+		assertEquals(200, cacheToTest.getStatistics().getEstimatedBytes());
+	}
+
+	@Test
+	public void cached_result_is_not_returned_for_recreated_report_of_same_job() {
+		/* prepare */
+		ScanReport report = createReport();
+		cacheToTest.put(report, new SecHubResult(), 100);
+
+		ScanReport recreated = new ScanReport(report.getSecHubJobUUID(), "project1");
+		recreated.uUID = UUID.randomUUID();
+
+		/* execute + test */
+		assertNull(cacheToTest.get(recreated));
+	}
+
+	@Test
+	public void cached_result_is_not_returned_for_changed_report_version() {
+		/* prepare */
+		ScanReport report = createReport();
+		cacheToTest.put(report, new SecHubResult(), 100);
+
+		/* execute */
+		report.version = 1;
+
+		/* test */
+		assertNull(cacheToTest.get(report));
+	}
+
+	@Test
+	public void invalidated_result_is_no_longer_returned() {
+		/* prepare */
+		ScanReport report = createReport();
+		cacheToTest.put(report, new SecHubResult(), 100);
+
+		/* execute */
+		cacheToTest.invalidate(report.getSecHubJobUUID());
+
+		/* test */
+		assertNull(cacheToTest.get(report));
+		assertEquals(0, cacheToTest.getStatistics().getEntries());
+		assertEquals(0, cacheToTest.getStatistics().getEstimatedBytes());
+	}
+
+	@Test
+	public void least_recently_used_result_is_evicted_when_maximum_bytes_exceeded() {
+		/* prepare */
+		ScanReport report1 = createReport();
+		ScanReport report2 = createReport();
+		ScanReport report3 = createReport();
+		cacheToTest.put(report1, new SecHubResult(), 200);
+		cacheToTest.put(report2, new SecHubResult(), 200);
+		cacheToTest.get(report1); // report2 is now least recently used
+
+		/* execute */
+		cacheToTest.put(report3, new SecHubResult(), 200);
+
+		/* test */
+		assertNotNull(cacheToTest.get(report1));
+		assertNull(cacheToTest.get(report2));
+		assertNotNull(cacheToTest.get(report3));
+		assertEquals(1, cacheToTest.getStatistics().getEvictions());
+		assertEquals(800, cacheToTest.getStatistics().getEstimatedBytes());
+	}
+
+	@Test
+	public void result_bigger_than_maximum_is_not_cached() {
+		/* prepare */
+		ScanReport report = createReport();
+
+		/* execute */
+		cacheToTest.put(report, new SecHubResult(), 501);
+
+		/* test */
+		assertNull(cacheToTest.get(report));
+		assertEquals(0, cacheToTest.getStatistics().getEntries());
+	}
+
+	@Test
+	public void nothing_is_cached_when_maximum_is_zero() {
+		/* prepare */
+		cacheToTest.maximumBytes = 0;
+		ScanReport report = createReport();
+
+		/* execute */
+		cacheToTest.put(report, new SecHubResult(), 1);
+
+		/* test */
+		assertNull(cacheToTest.get(report));
+	}
+
+	private ScanReport createReport() {
+		ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+		report.uUID = UUID.randomUUID();
+		return report;
+	}
+}
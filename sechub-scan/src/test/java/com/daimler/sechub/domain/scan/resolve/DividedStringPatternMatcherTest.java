@@ -43,4 +43,26 @@ public class DividedStringPatternMatcherTest {
 		assertTrue(matcherToTest.isMatching("2001:DB8:0:0:8:800:200C:417B"));
 	}
 
+	@Test
+	public void matching_is_same_as_comparing_split_lower_cased_parts() {
+		String[] patterns = { "a.*.c", "*.*", "*", "", "a", "A.b", "a..c", "*.*.*." };
+		String[] given = { "", ".", "..", "a", "A", "a.b", "a.B", "a.b.c", "A.x.C", "a..c", "a.b.c.", "a.b.c..", ".b.", "x.y", "x.y.z" };
+		for (String pattern : patterns) {
+			/* prepare */
+			DividedStringPatternMatcher matcherToTest = new DividedStringPatternMatcher(pattern, '.');
+			String[] patternParts = pattern.toLowerCase().split("\\.");
+
+			for (String toTest : given) {
+				String[] parts = toTest.toLowerCase().split("\\.");
+				boolean expected = parts.length == patternParts.length;
+				for (int i = 0; expected && i < parts.length; i++) {
+					expected = patternParts[i].equals("*") || patternParts[i].equals(parts[i]);
+				}
+
+				/* test */
+				assertEquals("pattern:" + pattern + ", given:" + toTest, expected, matcherToTest.isMatching(toTest));
+			}
+		}
+	}
+
 }
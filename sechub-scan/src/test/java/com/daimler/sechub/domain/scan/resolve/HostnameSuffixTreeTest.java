@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.resolve;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class HostnameSuffixTreeTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HostnameSuffixTreeTest.class);
+
+	private HostnameSuffixTree treeToTest;
+
+	@Before
+	public void before() {
+		treeToTest = new HostnameSuffixTree();
+	}
+
+	@Test
+	public void empty_or_null_endings_are_not_added() {
+		assertFalse(treeToTest.add(null));
+		assertFalse(treeToTest.add(""));
+
+		assertEquals(0, treeToTest.getEndings());
+		assertFalse(treeToTest.isMatching("www.example.org"));
+	}
+
+	@Test
+	public void tree_has_same_results_as_ends_with() {
+		/* prepare */
+		String[] endings = { "intranet.example.org", "intx.example.com", ".example.net", "b.example.net", "Upper.Example.Org" };
+		String[] hostnames = { "intranet.example.org", "somewhere.intranet.example.org", "SOMEWHERE.INTRANET.EXAMPLE.ORG", "otherintranet.example.org",
+				"example.org", "intx.example.com", "a.intx.example.com", "example.net", "a.example.net", "b.example.net", "upper.example.org", "" };
+		for (String ending : endings) {
+			treeToTest.add(ending);
+		}
+
+		for (String hostname : hostnames) {
+			boolean expected = false;
+			for (String ending : endings) {
+				expected = expected || hostname.toLowerCase().endsWith(ending.toLowerCase());
+			}
+
+			/* test */
+			assertEquals("wrong result for:" + hostname, expected, treeToTest.isMatching(hostname));
+		}
+		assertFalse(treeToTest.isMatching(null));
+	}
+
+	/**
+	 * Simple throughput check - not a real benchmark but shows resolving time does
+	 * not grow with amount of endings
+	 */
+	@Test
+	public void resolves_per_second_for_10_1000_and_100000_endings() {
+		for (int amount : new int[] { 10, 1000, 100000 }) {
+			/* prepare */
+			HostnameSuffixTree tree = new HostnameSuffixTree();
+			for (int i = 0; i < amount; i++) {
+				tree.add(".intranet" + i + ".example.org");
+			}
+
+			/* execute */
+			int matches = 0;
+			int resolves = 200000;
+			long start = System.nanoTime();
+			for (int i = 0; i < resolves; i++) {
+				if (tree.isMatching((i % 2 == 0 ? "host.intranet" : "host.internet") + (i % amount) + ".example.org")) {
+					matches++;
+				}
+			}
+			long nanos = Math.max(1, System.nanoTime() - start);
+
+			/* test */
+			assertEquals(resolves / 2, matches);
+			LOG.info("hostname suffix tree with {} endings: {} resolves per second", amount, resolves * 1000000000L / nanos);
+		}
+	}
+}
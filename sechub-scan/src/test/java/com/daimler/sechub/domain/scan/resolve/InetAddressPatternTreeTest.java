@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.resolve;
+
+import static org.junit.Assert.*;
+
+import java.net.InetAddress;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InetAddressPatternTreeTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InetAddressPatternTreeTest.class);
+
+	private InetAddressPatternTree treeToTest;
+
+	@Before
+	public void before() {
+		treeToTest = new InetAddressPatternTree();
+	}
+
+	@Test
+	public void invalid_patterns_are_not_added() {
+		assertFalse(treeToTest.add(null));
+		assertFalse(treeToTest.add(""));
+		assertFalse(treeToTest.add("xxx"));
+		assertFalse(treeToTest.add("192.168.1"));
+		assertFalse(treeToTest.add("192.168.1.256"));
+		assertFalse(treeToTest.add("192.168.1.*/24"));
+		assertFalse(treeToTest.add("192.168.1.0/33"));
+		assertFalse(treeToTest.add("192.168.1.0/x"));
+		assertFalse(treeToTest.add("2001:db8:0:0:0:0:*"));
+		assertFalse(treeToTest.add("2001:db8:0:0:0:0:0:0/129"));
+
+		assertEquals(0, treeToTest.getPatterns());
+	}
+
+	@Test
+	public void ipv4_wildcard_patterns() throws Exception {
+		/* prepare */
+		treeToTest.add("192.168.178.*");
+		treeToTest.add("10.*.1.1");
+
+		/* test */
+		assertTrue(treeToTest.isMatching(ip("192.168.178.1")));
+		assertTrue(treeToTest.isMatching(ip("192.168.178.255")));
+		assertTrue(treeToTest.isMatching(ip("10.5.1.1")));
+		assertTrue(treeToTest.isMatching(ip("10.255.1.1")));
+
+		assertFalse(treeToTest.isMatching(ip("192.168.177.1")));
+		assertFalse(treeToTest.isMatching(ip("10.5.1.2")));
+		assertFalse(treeToTest.isMatching(ip("11.5.1.1")));
+		assertFalse(treeToTest.isMatching(null));
+	}
+
+	@Test
+	public void ipv4_cidr_patterns() throws Exception {
+		/* prepare */
+		treeToTest.add("10.0.0.0/8");
+		treeToTest.add("172.16.0.0/12");
+
+		/* test */
+		assertTrue(treeToTest.isMatching(ip("10.1.2.3")));
+		assertTrue(treeToTest.isMatching(ip("172.16.0.1")));
+		assertTrue(treeToTest.isMatching(ip("172.31.255.255")));
+
+		assertFalse(treeToTest.isMatching(ip("11.1.2.3")));
+		assertFalse(treeToTest.isMatching(ip("172.15.255.255")));
+		assertFalse(treeToTest.isMatching(ip("172.32.0.0")));
+	}
+
+	@Test
+	public void ipv6_patterns_with_and_without_brackets_and_cidr() throws Exception {
+		/* prepare */
+		treeToTest.add("2001:CA52:*:*:*:*:*:*");
+		treeToTest.add("[2001:db8:85a3:0:0:8a2e:370:*]");
+		treeToTest.add("fd00:0:0:0:0:0:0:0/8");
+
+		/* test */
+		assertTrue(treeToTest.isMatching(ip("2001:CA52:0:0:8:800:200C:417A")));
+		assertTrue(treeToTest.isMatching(ip("2001:db8:85a3::8a2e:370:7334")));
+		assertTrue(treeToTest.isMatching(ip("fd12:3456:789a:1::1")));
+
+		assertFalse(treeToTest.isMatching(ip("2001:CA53:0:0:8:800:200C:417A")));
+		assertFalse(treeToTest.isMatching(ip("2001:db8:85a3::8a2e:371:7334")));
+		assertFalse(treeToTest.isMatching(ip("fe80::1")));
+	}
+
+	@Test
+	public void ipv4_patterns_do_not_match_ipv6_addresses_and_vice_versa() throws Exception {
+		/* prepare */
+		treeToTest.add("*.*.*.*");
+
+		/* test */
+		assertTrue(treeToTest.isMatching(ip("1.2.3.4")));
+		assertFalse(treeToTest.isMatching(ip("2001:db8::1")));
+	}
+
+	@Test
+	public void tree_has_same_results_as_ipv4_pattern() throws Exception {
+		/* prepare */
+		Random random = new Random(4711);
+		String[] patterns = new String[50];
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = randomPart(random) + "." + randomPart(random) + "." + randomPart(random) + "." + randomPart(random);
+			treeToTest.add(patterns[i]);
+		}
+
+		for (int i = 0; i < 5000; i++) {
+			InetAddress address = ip(random.nextInt(4) + "." + random.nextInt(4) + "." + random.nextInt(4) + "." + random.nextInt(4));
+			boolean expected = false;
+			for (String pattern : patterns) {
+				expected = expected || new IPv4Pattern(pattern).isMatching(address);
+			}
+
+			/* test */
+			assertEquals("wrong result for:" + address, expected, treeToTest.isMatching(address));
+		}
+	}
+
+	/**
+	 * Simple throughput check - not a real benchmark but shows resolving time does
+	 * not grow with amount of patterns
+	 */
+	@Test
+	public void resolves_per_second_for_10_1000_and_100000_patterns() throws Exception {
+		InetAddress[] addresses = new InetAddress[1000];
+		for (int i = 0; i < addresses.length; i++) {
+			addresses[i] = ip("10." + (i % 256) + "." + (i / 256) + ".1");
+		}
+		for (int amount : new int[] { 10, 1000, 100000 }) {
+			/* prepare */
+			InetAddressPatternTree tree = new InetAddressPatternTree();
+			for (int i = 0; i < amount; i++) {
+				tree.add("10." + (i % 256) + "." + ((i / 256) % 256) + ".*");
+			}
+
+			/* execute */
+			int matches = 0;
+			int resolves = 200000;
+			long start = System.nanoTime();
+			for (int i = 0; i < resolves; i++) {
+				if (tree.isMatching(addresses[i % addresses.length])) {
+					matches++;
+				}
+			}
+			long nanos = Math.max(1, System.nanoTime() - start);
+
+			/* test */
+			assertTrue(matches > 0);
+			LOG.info("ip pattern tree with {} patterns: {} resolves per second", amount, resolves * 1000000000L / nanos);
+		}
+	}
+
+	private static String randomPart(Random random) {
+		int value = random.nextInt(5);
+		return value == 4 ? "*" : String.valueOf(value);
+	}
+
+	private static InetAddress ip(String literal) throws Exception {
+		return InetAddress.getByName(literal);
+	}
+}
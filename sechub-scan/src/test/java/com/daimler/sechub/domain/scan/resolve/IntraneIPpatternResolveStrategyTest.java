@@ -94,5 +94,17 @@ public class IntraneIPpatternResolveStrategyTest {
 		assertEquals(new Target(INET_4_ADR2, TargetType.INTERNET), strategyToTest.resolveTargetFor(INET_4_ADR2));
 	}
 
+	@Test
+	public void initialize_again_replaces_former_patterns() throws Exception {
+		/* prepare */
+		strategyToTest.initialize("intranet-ip-pattern:192.168.178.*");
+
+		/* execute */
+		strategyToTest.initialize("intranet-ip-pattern:54.3.0.0/16");
+
+		/* test */
+		assertEquals(new Target(INET_4_ADR1, TargetType.INTERNET), strategyToTest.resolveTargetFor(INET_4_ADR1));
+		assertEquals(new Target(INET_4_ADR2, TargetType.INTRANET), strategyToTest.resolveTargetFor(INET_4_ADR2));
+	}
 
 }
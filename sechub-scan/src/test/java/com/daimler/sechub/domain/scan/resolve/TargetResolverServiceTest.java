@@ -138,6 +138,34 @@ public class TargetResolverServiceTest {
 		assertEquals(uriTarget1, serviceToTest.resolveTarget(URI.create("https://example.com")));
 	}
 
+	@Test
+	public void strategies_are_initialized_only_once() throws Exception {
+		/* execute */
+		serviceToTest.resolveTarget(URI.create("https://example.com"));
+		serviceToTest.resolveTarget(URI.create("https://example.org"));
+		serviceToTest.resolveTarget(mock(InetAddress.class));
+
+		/* test */
+		verify(uriTestStrategy1, times(1)).initialize("uri-test-strategy-1");
+		verify(ipTestStrategy1, times(1)).initialize("ip-test-strategy-1");
+	}
+
+	@Test
+	public void reload_initializes_and_uses_new_strategies() throws Exception {
+		/* prepare */
+		Target uriTarget2 = mock(Target.class);
+		when(uriTestStrategy2.resolveTargetFor(any())).thenReturn(uriTarget2);
+		serviceToTest.resolveTarget(URI.create("https://example.com"));
+
+		/* execute */
+		serviceToTest.reload("uri-test-strategy-2", "ip-test-strategy-2");
+
+		/* test */
+		assertEquals(uriTarget2, serviceToTest.resolveTarget(URI.create("https://example.com")));
+		verify(uriTestStrategy2).initialize("uri-test-strategy-2");
+		verify(ipTestStrategy2).initialize("ip-test-strategy-2");
+	}
+
 	@Test
 	public void path_always_resolved_as_code() throws Exception {
 		assertEquals(new Target("x", TargetType.CODE_UPLOAD), serviceToTest.resolveTargetForPath("x"));
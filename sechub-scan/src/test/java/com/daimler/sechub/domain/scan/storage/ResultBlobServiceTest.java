@@ -0,0 +1,222 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.FileSystemUtils;
+
+import com.daimler.sechub.domain.scan.product.ProductIdentifier;
+import com.daimler.sechub.domain.scan.product.ProductResult;
+import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.sharedkernel.storage.SharedVolumeStorageService;
+import com.daimler.sechub.sharedkernel.util.ChecksumEngine;
+import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
+
+public class ResultBlobServiceTest {
+
+	private static final String RESULT = createResult();
+
+	private ResultBlobService serviceToTest;
+	private Path resultLocation;
+	private Map<UUID, ResultBlobData> databaseBlobs;
+
+	@Before
+	public void before() throws Exception {
+		resultLocation = Files.createTempDirectory("result-blob-service-test");
+
+		SharedVolumeStorageService storageService = mock(SharedVolumeStorageService.class);
+		when(storageService.getResultBlobLocation()).thenReturn(resultLocation);
+
+		SharedVolumeResultBlobStorage sharedVolumeStorage = new SharedVolumeResultBlobStorage();
+		sharedVolumeStorage.storageService = storageService;
+
+		databaseBlobs = new HashMap<>();
+		ResultBlobDataRepository blobDataRepository = mock(ResultBlobDataRepository.class);
+		when(blobDataRepository.save(any())).thenAnswer(invocation -> {
+			ResultBlobData data = invocation.getArgument(0);
+			databaseBlobs.put(data.getUUID(), data);
+			return data;
+		});
+		when(blobDataRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(databaseBlobs.get(invocation.getArgument(0))));
+		doAnswer(invocation -> databaseBlobs.remove(((ResultBlobData) invocation.getArgument(0)).getUUID())).when(blobDataRepository).delete(any());
+
+		DatabaseGzipResultBlobStorage databaseStorage = new DatabaseGzipResultBlobStorage();
+		databaseStorage.repository = blobDataRepository;
+
+		serviceToTest = new ResultBlobService();
+		serviceToTest.storages = Arrays.asList(databaseStorage, sharedVolumeStorage);
+		serviceToTest.initialize();
+	}
+
+	@After
+	public void after() throws IOException {
+		FileSystemUtils.deleteRecursively(resultLocation);
+	}
+
+	@Test
+	public void database_gzip_result_is_compressed_and_can_be_loaded_again() {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.DATABASE_GZIP;
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+
+		/* execute */
+		serviceToTest.moveResultToStorage(productResult);
+
+		/* test */
+		ResultBlob blob = productResult.getResultBlob();
+		assertNull(productResult.getResult());
+		assertEquals(ResultBlobStorageType.DATABASE_GZIP, blob.getStorageType());
+		assertEquals(1, databaseBlobs.size());
+		ResultBlobData data = databaseBlobs.get(UUID.fromString(blob.getReference()));
+		assertTrue(data.data.length < RESULT.length() / 10);
+		assertEquals(RESULT, serviceToTest.loadResult(productResult));
+	}
+
+	@Test
+	public void deleted_database_gzip_blob_data_does_no_longer_exist() {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.DATABASE_GZIP;
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+		serviceToTest.moveResultToStorage(productResult);
+
+		/* execute */
+		serviceToTest.deleteResult(productResult);
+
+		/* test */
+		assertTrue(databaseBlobs.isEmpty());
+	}
+
+	@Test
+	public void shared_volume_result_is_written_as_file_and_can_be_loaded_again() throws Exception {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.SHARED_VOLUME;
+		ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+		report.setResult(RESULT);
+
+		/* execute */
+		serviceToTest.moveResultToStorage(report);
+
+		/* test */
+		ResultBlob blob = report.getResultBlob();
+		assertNull(report.getResult());
+		assertTrue(databaseBlobs.isEmpty());
+		assertEquals(ResultBlobStorageType.SHARED_VOLUME, blob.getStorageType());
+		assertTrue(Files.exists(resultLocation.resolve(blob.getReference())));
+		assertEquals(RESULT, serviceToTest.loadResult(report));
+	}
+
+	@Test
+	public void size_and_hash_are_calculated_for_uncompressed_result() {
+		/* prepare */
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+		byte[] bytes = RESULT.getBytes(StandardCharsets.UTF_8);
+
+		/* execute */
+		serviceToTest.moveResultToStorage(productResult);
+
+		/* test */
+		ResultBlob blob = productResult.getResultBlob();
+		assertEquals(Long.valueOf(bytes.length), blob.getSize());
+		assertEquals(ChecksumEngine.toHex(ChecksumEngine.SHA256.createMessageDigest().digest(bytes)), blob.getHash());
+	}
+
+	@Test
+	public void inline_storage_type_keeps_result_inline() {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.INLINE;
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+
+		/* execute */
+		serviceToTest.moveResultToStorage(productResult);
+
+		/* test */
+		assertNull(productResult.getResultBlob());
+		assertEquals(RESULT, productResult.getResult());
+		assertEquals(RESULT, serviceToTest.loadResult(productResult));
+	}
+
+	@Test
+	public void result_stored_by_stream_can_be_read_by_stream() throws Exception {
+		/* prepare */
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, null);
+
+		/* execute */
+		serviceToTest.storeResult(productResult, new ByteArrayInputStream(RESULT.getBytes(StandardCharsets.UTF_8)));
+
+		/* test */
+		try (InputStream inputStream = serviceToTest.openResult(productResult)) {
+			byte[] buffer = new byte[RESULT.length() * 2];
+			int pos = 0;
+			int read;
+			while ((read = inputStream.read(buffer, pos, buffer.length - pos)) != -1) {
+				pos += read;
+			}
+			assertEquals(RESULT, new String(buffer, 0, pos, StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void legacy_inline_result_without_blob_can_be_loaded_with_any_storage_type() {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.SHARED_VOLUME;
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+
+		/* execute + test */
+		assertEquals(RESULT, serviceToTest.loadResult(productResult));
+	}
+
+	@Test
+	public void deleted_shared_volume_blob_file_does_no_longer_exist() {
+		/* prepare */
+		serviceToTest.storageType = ResultBlobStorageType.SHARED_VOLUME;
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, RESULT);
+		serviceToTest.moveResultToStorage(productResult);
+		Path file = resultLocation.resolve(productResult.getResultBlob().getReference());
+
+		/* execute */
+		serviceToTest.deleteResult(productResult);
+
+		/* test */
+		assertFalse(Files.exists(file));
+	}
+
+	@Test(expected = SecHubRuntimeException.class)
+	public void reference_outside_result_location_is_not_readable() {
+		/* prepare */
+		ProductResult productResult = new ProductResult(UUID.randomUUID(), ProductIdentifier.NESSUS, null);
+		ResultBlob blob = new ResultBlob();
+		blob.storageType = ResultBlobStorageType.SHARED_VOLUME;
+		blob.reference = "../../etc/passwd";
+		productResult.setResultBlob(blob);
+
+		/* execute */
+		serviceToTest.loadResult(productResult);
+	}
+
+	private static String createResult() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\"?><result>");
+		for (int i = 0; i < 10000; i++) {
+			sb.append("<finding id='").append(i).append("' severity='high'>Äöü finding</finding>");
+		}
+		sb.append("</result>");
+		return sb.toString();
+	}
+}
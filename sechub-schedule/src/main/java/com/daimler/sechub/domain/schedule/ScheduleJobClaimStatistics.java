@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects statistic data about claiming of next jobs to execute done by this
+ * POD. The data is only kept in memory and so reset on every restart.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScheduleJobClaimStatistics {
+
+	private final AtomicLong claimCount = new AtomicLong();
+	private final AtomicLong emptyClaimCount = new AtomicLong();
+	private final AtomicLong claimedJobCount = new AtomicLong();
+	private final AtomicLong contentionCount = new AtomicLong();
+	private final AtomicLong failedClaimCount = new AtomicLong();
+	private final AtomicLong deniedClaimCount = new AtomicLong();
+
+	private final AtomicLong claimLatencyTotalMillis = new AtomicLong();
+	private final AtomicLong claimLatencyMaxMillis = new AtomicLong();
+	private final AtomicLong claimLatencyLastMillis = new AtomicLong();
+
+	/**
+	 * Register a claim which was done without problems
+	 *
+	 * @param amountOfClaimedJobs amount of jobs marked as started
+	 * @param latencyMillis       time in milliseconds the claim did need
+	 */
+	public void claimDone(int amountOfClaimedJobs, long latencyMillis) {
+		claimCount.incrementAndGet();
+		if (amountOfClaimedJobs <= 0) {
+			emptyClaimCount.incrementAndGet();
+		} else {
+			claimedJobCount.addAndGet(amountOfClaimedJobs);
+		}
+		registerLatency(latencyMillis);
+	}
+
+	/**
+	 * Register a claim which failed because of concurrent access by another POD
+	 *
+	 * @param latencyMillis time in milliseconds until failure occurred
+	 */
+	public void claimContention(long latencyMillis) {
+		claimCount.incrementAndGet();
+		contentionCount.incrementAndGet();
+		registerLatency(latencyMillis);
+	}
+
+	/**
+	 * Register a claim which failed because of a fatal error
+	 *
+	 * @param latencyMillis time in milliseconds until failure occurred
+	 */
+	public void claimFailed(long latencyMillis) {
+		claimCount.incrementAndGet();
+		failedClaimCount.incrementAndGet();
+		registerLatency(latencyMillis);
+	}
+
+	/**
+	 * Register a claim which was not done, because this POD cannot execute more
+	 * jobs at the moment
+	 */
+	public void claimDenied() {
+		deniedClaimCount.incrementAndGet();
+	}
+
+	private void registerLatency(long latencyMillis) {
+		claimLatencyTotalMillis.addAndGet(latencyMillis);
+		claimLatencyLastMillis.set(latencyMillis);
+		claimLatencyMaxMillis.accumulateAndGet(latencyMillis, Math::max);
+	}
+
+	public long getClaimCount() {
+		return claimCount.get();
+	}
+
+	public long getEmptyClaimCount() {
+		return emptyClaimCount.get();
+	}
+
+	public long getClaimedJobCount() {
+		return claimedJobCount.get();
+	}
+
+	public long getContentionCount() {
+		return contentionCount.get();
+	}
+
+	public long getFailedClaimCount() {
+		return failedClaimCount.get();
+	}
+
+	public long getDeniedClaimCount() {
+		return deniedClaimCount.get();
+	}
+
+	public long getClaimLatencyMaxMillis() {
+		return claimLatencyMaxMillis.get();
+	}
+
+	public long getClaimLatencyLastMillis() {
+		return claimLatencyLastMillis.get();
+	}
+
+	/**
+	 * @return average latency in milliseconds for all claims, 0 when no claim
+	 *         was done
+	 */
+	public long getClaimLatencyAverageMillis() {
+		long count = claimCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		return claimLatencyTotalMillis.get() / count;
+	}
+
+}
@@ -2,6 +2,8 @@
 package com.daimler.sechub.domain.schedule;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -46,6 +48,38 @@ public class ScheduleJobMarkerService {
 			return null;
 		}
 		ScheduleSecHubJob secHubJob = secHubJobOptional.get();
+		return markStarted(secHubJob);
+	}
+
+	/**
+	 * Marks next jobs to execute - up to given maximum - as started by this POD.
+	 * The jobs are fetched with a row lock, so jobs currently claimed by other
+	 * PODs are skipped (when database supports this) instead of leading to
+	 * optimistic locking failures.
+	 *
+	 * @param maximum maximum amount of jobs to mark
+	 * @return list of marked jobs, never <code>null</code>. Empty when no job has
+	 *         to be executed
+	 */
+	@Transactional
+	public List<ScheduleSecHubJob> markNextJobsExecutedByThisPOD(int maximum) {
+
+		if (LOG.isTraceEnabled()) {
+			/*NOSONAR*/LOG.trace("Trigger execution of next jobs started, maximum:{}", maximum);
+		}
+
+		List<ScheduleSecHubJob> nextJobs = jobRepository.findNextJobsToExecute(maximum);
+		List<ScheduleSecHubJob> result = new ArrayList<>(nextJobs.size());
+		for (ScheduleSecHubJob secHubJob : nextJobs) {
+			result.add(markStarted(secHubJob));
+		}
+		if (LOG.isTraceEnabled()) {
+			/*NOSONAR*/LOG.trace("Marked {} jobs as started.", result.size());
+		}
+		return result;
+	}
+
+	private ScheduleSecHubJob markStarted(ScheduleSecHubJob secHubJob) {
 		secHubJob.setExecutionState(ExecutionState.STARTED);
 		secHubJob.setStarted(LocalDateTime.now());
 		return jobRepository.save(secHubJob);
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import com.daimler.sechub.domain.schedule.access.ScheduleGrantUserAccessToProjectService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessAtAllService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessFromProjectService;
+import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListIndexService;
 import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListUpdateService;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
@@ -36,6 +37,9 @@ public class ScheduleMessageHandler implements AsynchronMessageHandler{
 	
 	@Autowired
 	ProjectWhiteListUpdateService projectWhiteListUpdateService;
+
+	@Autowired
+	ProjectWhiteListIndexService projectWhiteListIndexService;
 	
 	@Override
 	public void receiveAsyncMessage(DomainMessage request) {
@@ -95,6 +99,8 @@ public class ScheduleMessageHandler implements AsynchronMessageHandler{
 	
 	private void updateWhiteList(ProjectMessage data) {
 		projectWhiteListUpdateService.update(data.getProjectId(),data.getWhitelist());
+		/* compiled whitelist is outdated now */
+		projectWhiteListIndexService.invalidate(data.getProjectId());
 	}
 	
 
@@ -1,16 +1,19 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.domain.schedule.batch.ScheduleJobExecutionPool;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.Step;
@@ -25,6 +28,7 @@ public class SchedulerJobBatchTriggerService {
 	private static final int MINIMUM_RETRY_TIME_MS_TO_WAIT = 10;
 	private static final int DEFAULT_TRIES = 5;
 	private static final int DEFAULT_RETRIY_MAX_MILLIS = 300;
+	private static final int DEFAULT_BATCH_SIZE = 1;
 
 	@MustBeDocumented("Inside a cluster the next job fetching can lead to concurrent access. "
 			+ "When this happens a retry can be done for the 'looser'. " + "This value defines the amount of *tries*"
@@ -41,12 +45,27 @@ public class SchedulerJobBatchTriggerService {
 	@Value("${sechub.config.trigger.nextjob.maxwaitretry:" + DEFAULT_RETRIY_MAX_MILLIS + "}")
 	private int markNextJobWaitBeforeRetryMillis = DEFAULT_RETRIY_MAX_MILLIS;
 
+	@MustBeDocumented("Defines the maximum amount of jobs being claimed by one POD on one trigger execution. "
+			+ "The default is 1, which fetches only the next job and uses optimistic locking. "
+			+ "When a value greater than 1 is defined, the batch claiming mode is used: "
+			+ "Up to this amount of jobs will be marked as started for the calling POD inside one transaction. "
+			+ "On PostgreSQL this is done by `SELECT ... FOR UPDATE SKIP LOCKED`, so jobs currently claimed by other PODs are skipped "
+			+ "instead of leading to retries. Other databases (e.g. H2) use a pessimistic write lock as fallback.")
+	@Value("${sechub.config.trigger.nextjob.batchsize:" + DEFAULT_BATCH_SIZE + "}")
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	@Autowired
 	ScheduleJobMarkerService markerService;
 
+	@Autowired
+	ScheduleJobClaimStatistics claimStatistics;
+
 	@Autowired
 	ScheduleJobLauncherService launcherService;
 
+	@Autowired
+	ScheduleJobExecutionPool executionPool;
+
 	@Autowired
 	ClusterEnvironmentService environmentService;
 
@@ -59,29 +78,40 @@ public class SchedulerJobBatchTriggerService {
 		if (LOG.isTraceEnabled()) {
 			/* NOSONAR */LOG.trace("Trigger execution of next job started. Environment: {}",environmentService.getEnvironment());
 		}
+		int freeCapacity = executionPool.getFreeCapacity();
+		if (freeCapacity <= 0) {
+			/* execution pool is full - so we do not claim any jobs, other PODs can execute them */
+			LOG.debug("Job execution pool is full, so no next job will be claimed. Environment: {}",environmentService.getEnvironment());
+			claimStatistics.claimDenied();
+			return;
+		}
 		RetryContext retryContext = new RetryContext(markNextJobRetries);
 		do {
+			long claimStart = System.currentTimeMillis();
 			try {
-				ScheduleSecHubJob next = markerService.markNextJobExecutedByThisPOD();
+				List<ScheduleSecHubJob> nextJobs = markNextJobsExecutedByThisPOD(freeCapacity);
+				claimStatistics.claimDone(nextJobs.size(), System.currentTimeMillis() - claimStart);
 				retryContext.executionDone();
-				if (next == null) {
-					return;
-				}
-				try {
-					launcherService.executeJob(next);
-				}catch(Exception e) {
-					/* fatal failure happened, job launch was not executable */
-					LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}",environmentService.getEnvironment());
-					markerService.markJobExecutionFailed(next);
-					retryContext.markAsFatalFailure();
+
+				for (ScheduleSecHubJob next : nextJobs) {
+					try {
+						launcherService.executeJob(next);
+					}catch(Exception e) {
+						/* fatal failure happened, job launch was not executable */
+						LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}",environmentService.getEnvironment());
+						markerService.markJobExecutionFailed(next);
+						retryContext.markAsFatalFailure();
+					}
 				}
 
-			} catch (OptimisticLockingFailureException e) {
+			} catch (ConcurrencyFailureException e) {
 				LOG.trace("was not able to trigger next, because already done. Environment: {}",environmentService.getEnvironment());
+				claimStatistics.claimContention(System.currentTimeMillis() - claimStart);
 
 				retryContext.setRetryTimeToWait(createRandomTimeMillisToWait()).executionFailed();
 			} catch (Exception e) {
 				LOG.trace("was not able to trigger next job, because fatal error occurred. Environment: {}",environmentService.getEnvironment());
+				claimStatistics.claimFailed(System.currentTimeMillis() - claimStart);
 
 				retryContext.markAsFatalFailure();
 			}
@@ -92,6 +122,24 @@ public class SchedulerJobBatchTriggerService {
 		}
 	}
 
+	/**
+	 * @return maximum amount of jobs claimed by one trigger execution
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	private List<ScheduleSecHubJob> markNextJobsExecutedByThisPOD(int freeCapacity) {
+		if (batchSize > 1) {
+			return markerService.markNextJobsExecutedByThisPOD(Math.min(batchSize, freeCapacity));
+		}
+		ScheduleSecHubJob next = markerService.markNextJobExecutedByThisPOD();
+		if (next == null) {
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(next);
+	}
+
 	private int createRandomTimeMillisToWait() {
 		/* fallback on wrong setup */
 		if (markNextJobWaitBeforeRetryMillis<MINIMUM_RETRY_TIME_MS_TO_WAIT) {
@@ -3,21 +3,32 @@ package com.daimler.sechub.domain.schedule;
 
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.UUID;
+import java.util.zip.ZipException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 import com.daimler.sechub.sharedkernel.storage.JobStorage;
+import com.daimler.sechub.sharedkernel.storage.StorageException;
 import com.daimler.sechub.sharedkernel.storage.StorageService;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserUploadsSourceCode;
 import com.daimler.sechub.sharedkernel.util.FileChecksumSHA256Service;
+import com.daimler.sechub.sharedkernel.util.SizeLimitedInputStream;
+import com.daimler.sechub.sharedkernel.util.SizeLimitedInputStream.SizeLimitExceededException;
+import com.daimler.sechub.sharedkernel.util.ZipStructureValidatingInputStream;
 
 @Service
 public class SchedulerUploadService {
@@ -26,6 +37,8 @@ public class SchedulerUploadService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(SchedulerUploadService.class);
 
+	private static final long DEFAULT_MAXIMUM_SOURCECODE_BYTES = 5 * 1024 * 1024;
+
 	@Autowired
 	StorageService storageService;
 	
@@ -35,6 +48,11 @@ public class SchedulerUploadService {
 	@Autowired
 	ScheduleAssertService assertService;
 
+	@MustBeDocumented("Maximum size of uploaded source code zip files in bytes. Negative values mean no limit. "
+			+ "Remark: Spring multipart limits (spring.servlet.multipart.max-file-size) must be changed also when increasing this value.")
+	@Value("${sechub.config.upload.sourcecode.maximum.bytes:" + DEFAULT_MAXIMUM_SOURCECODE_BYTES + "}")
+	long maximumSourcecodeBytes = DEFAULT_MAXIMUM_SOURCECODE_BYTES;
+
 	@UseCaseUserUploadsSourceCode(@Step(number = 2, name = "Try to find project annd upload sourcecode as zipfile", description = "When project is found and user has access and job is initializing the sourcecode file will be uploaded"))
 	public void uploadSourceCode(String projectId, UUID jobUUID, MultipartFile file, String checkSum) {
 		notEmpty(projectId, "Project id may not be empty!");
@@ -44,29 +62,68 @@ public class SchedulerUploadService {
 		assertService.assertUserHasAccessToProject(projectId);
 
 		assertJobFoundAndStillInitializing(projectId, jobUUID);
+		assertChecksumDefined(checkSum);
+		assertFileSizeNotTooBig(file);
 		
 		JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
-		jobStorage.store(SOURCECODE_ZIP, file);
-		
-		assertValidZipFile(jobStorage);
-		assertCheckSumCorrect(checkSum, jobStorage);
+		storeValidatedSourceCode(jobStorage, file, checkSum);
 		
 		LOG.info("uploaded sourcecode for job {}", jobUUID);
 	}
 
-	private void assertCheckSumCorrect(String checkSum, JobStorage jobStorage) {
-		if (! checksumSHA256Service.hasCorrectChecksum(checkSum, jobStorage.getAbsolutePath(SOURCECODE_ZIP))) {
-			LOG.error("uploaded file is has not correct checksum! So something happend on upload!");
-			jobStorage.deleteAll();
+	/*
+	 * Stores the sourcecode in ONE pass: checksum calculation, size limitation and
+	 * zip structure validation are done while streaming the upload into job storage.
+	 */
+	private void storeValidatedSourceCode(JobStorage jobStorage, MultipartFile file, String checkSum) {
+		MessageDigest messageDigest = checksumSHA256Service.createMessageDigest();
+
+		try (InputStream inputStream = file.getInputStream()) {
+			SizeLimitedInputStream sizeLimitedInputStream = new SizeLimitedInputStream(inputStream, maximumSourcecodeBytes);
+			DigestInputStream digestInputStream = new DigestInputStream(sizeLimitedInputStream, messageDigest);
+			ZipStructureValidatingInputStream zipValidatingInputStream = new ZipStructureValidatingInputStream(digestInputStream);
+
+			jobStorage.store(SOURCECODE_ZIP, zipValidatingInputStream);
+
+		} catch (StorageException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof SizeLimitExceededException) {
+				LOG.error("uploaded file is too big! Doing garbage control!");
+				jobStorage.deleteAll();
+				throw new NotAcceptableException("Provided file exceeds file limit.");
+			}
+			if (cause instanceof ZipException) {
+				LOG.error("uploaded file is NOT a valid ZIP file! Doing garbage control!");
+				jobStorage.deleteAll();
+				throw new NotAcceptableException("Sourcecode is not wrapped inside a valid zip file");
+			}
+			throw e;
+		} catch (IOException e) {
+			throw new StorageException("Was not able to read uploaded sourcecode", e);
+		}
+		assertCheckSumCorrect(checkSum, messageDigest, jobStorage);
+	}
+
+	private void assertChecksumDefined(String checkSum) {
+		if (checkSum == null || checkSum.isEmpty()) {
 			throw new NotAcceptableException("Sourcecode checksum check failed");
 		}
 	}
 
-	private void assertValidZipFile(JobStorage jobStorage) {
-		if (! jobStorage.isValidZipFile(SOURCECODE_ZIP)) {
-			LOG.error("uploaded file is NOT a valid ZIP file! Doing garbage control!");
+	private void assertFileSizeNotTooBig(MultipartFile file) {
+		if (maximumSourcecodeBytes < 0) {
+			return;
+		}
+		if (file.getSize() > maximumSourcecodeBytes) {
+			throw new NotAcceptableException("Provided file exceeds file limit.");
+		}
+	}
+
+	private void assertCheckSumCorrect(String checkSum, MessageDigest messageDigest, JobStorage jobStorage) {
+		if (! checksumSHA256Service.hasCorrectChecksum(checkSum, messageDigest)) {
+			LOG.error("uploaded file is has not correct checksum! So something happend on upload!");
 			jobStorage.deleteAll();
-			throw new NotAcceptableException("Sourcecode is not wrapped inside a valid zip file");
+			throw new NotAcceptableException("Sourcecode checksum check failed");
 		}
 	}
 
@@ -11,13 +11,16 @@ import org.springframework.batch.core.launch.support.SimpleJobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import com.daimler.sechub.domain.schedule.ScheduleFailedException;
 
 /**
- * A special job launcher which uses a simple async task executor so job is
- * executed asynchronous (in spite of default implementation in
- * {@link SimpleJobLauncher} which is synchronous)
- * 
+ * A special job launcher which uses the bounded task executor of
+ * {@link ScheduleJobExecutionPool} so job is executed asynchronous (in spite of
+ * default implementation in {@link SimpleJobLauncher} which is synchronous)
+ *
  * @author Albert Tregnaghi
  *
  */
@@ -25,14 +28,49 @@ public class AsyncJobLauncher extends SimpleJobLauncher {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AsyncJobLauncher.class);
 
-	public AsyncJobLauncher() {
-		this.setTaskExecutor(new SimpleAsyncTaskExecutor("async-job-launcher"));
+	/*
+	 * SimpleJobLauncher catches the rejection of its task executor in the
+	 * launching thread and does only mark the batch job as failed - so we
+	 * remember the rejection for the launching thread
+	 */
+	private final ThreadLocal<TaskRejectedException> rejection = new ThreadLocal<>();
+
+	public AsyncJobLauncher(ScheduleJobExecutionPool executionPool) {
+		TaskExecutor poolExecutor = executionPool.getTaskExecutor();
+		this.setTaskExecutor(task -> {
+			try {
+				poolExecutor.execute(task);
+			} catch (TaskRejectedException e) {
+				rejection.set(e);
+				throw e;
+			}
+		});
 	}
 
+	/**
+	 * Runs given job asynchronous.
+	 *
+	 * @throws ScheduleFailedException when the job execution pool did reject the
+	 *                                 job
+	 */
 	@Override
 	public JobExecution run(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
 			JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
 		LOG.info("async run of job :{}", job.getName());
-		return super.run(job, jobParameters);
+		rejection.remove();
+		try {
+			JobExecution execution = super.run(job, jobParameters);
+			TaskRejectedException rejected = rejection.get();
+			if (rejected != null) {
+				/*
+				 * SimpleJobLauncher does only mark the batch job as failed, so we must inform
+				 * caller to handle the sechub job
+				 */
+				throw new ScheduleFailedException(new TaskRejectedException("Job execution pool rejected job:" + jobParameters, rejected));
+			}
+			return execution;
+		} finally {
+			rejection.remove();
+		}
 	}
-}
\ No newline at end of file
+}
@@ -41,9 +41,12 @@ public class BatchConfiguration {
 	@Autowired
 	private SecHubJobSafeUpdater secHubJobUpdater;
 
+	@Autowired
+	private ScheduleJobExecutionPool executionPool;
+
 	@Bean
 	public AsyncJobLauncher createJobLauncher() {
-		AsyncJobLauncher launcher = new AsyncJobLauncher();
+		AsyncJobLauncher launcher = new AsyncJobLauncher(executionPool);
 		launcher.setJobRepository(jobRepository);
 		return launcher;
 	}
@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Bounded worker pool used to execute sechub batch jobs (scans). Every POD has
+ * its own pool, so the amount of scans running in parallel on one POD is
+ * limited by {@link #getPoolSize()}. Jobs which cannot be started immediately
+ * are queued until {@link #getQueueCapacity()} is reached. Afterwards the
+ * configured {@link ScheduleJobExecutionRejectionPolicy} is used.<br>
+ * <br>
+ * The trigger service uses {@link #getFreeCapacity()} to claim only jobs which
+ * can be handled by this POD, so rejection should normally never happen.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class ScheduleJobExecutionPool {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScheduleJobExecutionPool.class);
+
+	private static final int DEFAULT_POOL_SIZE = 10;
+	private static final int DEFAULT_QUEUE_CAPACITY = 0;
+
+	@MustBeDocumented("Maximum amount of sechub jobs executed in parallel by one POD.")
+	@Value("${sechub.config.execution.pool.size:" + DEFAULT_POOL_SIZE + "}")
+	int poolSize = DEFAULT_POOL_SIZE;
+
+	@MustBeDocumented("Amount of sechub jobs which can be queued by one POD when all workers of the execution pool are busy. "
+			+ "Default is 0, so a POD only claims jobs when it has a free worker.")
+	@Value("${sechub.config.execution.pool.queue.capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+	int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	@MustBeDocumented("Policy used when a sechub job is launched but execution pool and queue are full. "
+			+ "`ABORT` will mark the job as failed, `CALLER_RUNS` will execute the job inside the scheduling thread - "
+			+ "which blocks scheduling of other jobs by this POD until the job has been done.")
+	@Value("${sechub.config.execution.pool.rejection.policy:ABORT}")
+	ScheduleJobExecutionRejectionPolicy rejectionPolicy = ScheduleJobExecutionRejectionPolicy.ABORT;
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	void initialize() {
+		if (poolSize < 1) {
+			LOG.warn("Wrong configured pool size:{}, will use 1", poolSize);
+			poolSize = 1;
+		}
+		if (queueCapacity < 0) {
+			LOG.warn("Wrong configured queue capacity:{}, will use 0", queueCapacity);
+			queueCapacity = 0;
+		}
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("sechub-job-execution-");
+		executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(rejectionPolicy.createHandler()));
+		executor.initialize();
+
+		LOG.info("Job execution pool initialized with pool size:{}, queue capacity:{}, rejection policy:{}", poolSize, queueCapacity, rejectionPolicy);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+	}
+
+	/**
+	 * @return task executor to use for job execution
+	 */
+	public TaskExecutor getTaskExecutor() {
+		return executor;
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public ScheduleJobExecutionRejectionPolicy getRejectionPolicy() {
+		return rejectionPolicy;
+	}
+
+	/**
+	 * @return amount of jobs currently executed
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * @return amount of jobs waiting for execution
+	 */
+	public int getQueuedCount() {
+		return executor.getThreadPoolExecutor().getQueue().size();
+	}
+
+	/**
+	 * @return amount of jobs rejected since start of this POD
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * @return amount of jobs which can be accepted by this pool without
+	 *         rejection, 0 when pool is full
+	 */
+	public int getFreeCapacity() {
+		int free = poolSize + queueCapacity - getActiveCount() - getQueuedCount();
+		return Math.max(0, free);
+	}
+
+	private class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+		private RejectedExecutionHandler delegate;
+
+		private CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+			rejectedCount.incrementAndGet();
+			LOG.warn("Job execution pool is full, active:{}, queued:{} - will use rejection policy:{}", getActiveCount(), getQueuedCount(), rejectionPolicy);
+			delegate.rejectedExecution(runnable, threadPoolExecutor);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Policies usable when {@link ScheduleJobExecutionPool} is full
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum ScheduleJobExecutionRejectionPolicy {
+
+	/**
+	 * Job launch is aborted, sechub job will be marked as failed
+	 */
+	ABORT,
+
+	/**
+	 * Job is executed inside calling (scheduling) thread
+	 */
+	CALLER_RUNS,
+
+	;
+
+	RejectedExecutionHandler createHandler() {
+		switch (this) {
+		case CALLER_RUNS:
+			return new ThreadPoolExecutor.CallerRunsPolicy();
+		case ABORT:
+		default:
+			return new ThreadPoolExecutor.AbortPolicy();
+		}
+	}
+}
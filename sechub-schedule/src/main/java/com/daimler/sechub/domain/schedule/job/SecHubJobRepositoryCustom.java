@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule.job;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SecHubJobRepositoryCustom {
@@ -10,4 +11,17 @@ public interface SecHubJobRepositoryCustom {
 	 *         necessary
 	 */
 	Optional<ScheduleSecHubJob> findNextJobToExecute();
+
+	/**
+	 * Fetches next executable jobs and locks them for update inside current
+	 * transaction. Jobs already locked by another transaction (e.g. another POD
+	 * claiming jobs at the same time) are skipped when the database supports
+	 * <code>SKIP LOCKED</code> (PostgreSQL 9.5+). For other databases (e.g. H2) a
+	 * normal pessimistic write lock is used as fallback.
+	 * 
+	 * @param maximum maximum amount of jobs to fetch
+	 * @return list of next executable jobs, ordered by creation time, never
+	 *         <code>null</code>
+	 */
+	List<ScheduleSecHubJob> findNextJobsToExecute(int maximum);
 }
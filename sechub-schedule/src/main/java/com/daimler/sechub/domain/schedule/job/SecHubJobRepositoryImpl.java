@@ -4,6 +4,9 @@ package com.daimler.sechub.domain.schedule.job;
 import static com.daimler.sechub.domain.schedule.ExecutionState.*;
 import static com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob.*;
 
+import java.sql.DatabaseMetaData;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.EntityManager;
@@ -11,14 +14,28 @@ import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.daimler.sechub.sharedkernel.jpa.TypedQuerySupport;
 
 public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SecHubJobRepositoryImpl.class);
+
 	/* @formatter:off */
 	public static final String JPQL_STRING_SELECT_BY_EXECUTION_STATE = 
 			"select j from "+CLASS_NAME+" j"+
 					" where j."+PROPERTY_EXECUTION_STATE+" = :"+PROPERTY_EXECUTION_STATE +
 					" order by j."+PROPERTY_CREATED;
+	
+	public static final String SQL_STRING_SELECT_BY_EXECUTION_STATE_SKIP_LOCKED = 
+			"SELECT * FROM "+TABLE_NAME+
+					" WHERE "+COLUMN_STATE+" = :"+PROPERTY_EXECUTION_STATE +
+					" ORDER BY "+COLUMN_CREATED+
+					" LIMIT :maximum"+
+					" FOR UPDATE SKIP LOCKED";
 	/* @formatter:on */
 
 	private final TypedQuerySupport<ScheduleSecHubJob> typedQuerySupport = new TypedQuerySupport<>(ScheduleSecHubJob.class);
@@ -26,6 +43,8 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
 	@PersistenceContext
 	private EntityManager em;
 
+	private Boolean skipLockedSupported;
+
 	@Override
 	public Optional<ScheduleSecHubJob> findNextJobToExecute() {
 
@@ -39,4 +58,49 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
 		return typedQuerySupport.getSingleResultAsOptional(query);
 	}
 
+	@Override
+	public List<ScheduleSecHubJob> findNextJobsToExecute(int maximum) {
+		if (maximum < 1) {
+			return Collections.emptyList();
+		}
+		Query query = null;
+		if (isSkipLockedSupported()) {
+			query = em.createNativeQuery(SQL_STRING_SELECT_BY_EXECUTION_STATE_SKIP_LOCKED, ScheduleSecHubJob.class);
+			query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START.name());
+			query.setParameter("maximum", maximum);
+		} else {
+			/* fallback for databases without SKIP LOCKED support (e.g. H2) */
+			query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE);
+			query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START);
+			query.setMaxResults(maximum);
+			query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+		}
+		return typedQuerySupport.getList(query);
+	}
+
+	private boolean isSkipLockedSupported() {
+		if (skipLockedSupported == null) {
+			/* no synchronization necessary - worst case is an additional inspection */
+			skipLockedSupported = em.unwrap(Session.class).doReturningWork(connection -> isSkipLockedSupported(connection.getMetaData()));
+			LOG.info("Database supports SKIP LOCKED: {}", skipLockedSupported);
+		}
+		return skipLockedSupported.booleanValue();
+	}
+
+	static boolean isSkipLockedSupported(DatabaseMetaData metaData) {
+		try {
+			String productName = metaData.getDatabaseProductName();
+			if (!"PostgreSQL".equalsIgnoreCase(productName)) {
+				return false;
+			}
+			int major = metaData.getDatabaseMajorVersion();
+			int minor = metaData.getDatabaseMinorVersion();
+			/* SKIP LOCKED is available since PostgreSQL 9.5 */
+			return major > 9 || (major == 9 && minor >= 5);
+		} catch (Exception e) {
+			LOG.warn("Was not able to inspect database meta data, so SKIP LOCKED will not be used", e);
+			return false;
+		}
+	}
+
 }
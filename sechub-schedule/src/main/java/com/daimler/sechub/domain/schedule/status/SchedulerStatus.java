@@ -0,0 +1,326 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.status;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.daimler.sechub.sharedkernel.util.JSONable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents the scheduler status of the POD answering the request. Can be
+ * obtained by REST
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SchedulerStatus implements JSONable<SchedulerStatus> {
+
+	public static final SchedulerStatus OBJECT = new SchedulerStatus();
+
+	public static final String PROPERTY_CLAIM = "claim";
+
+	public static final String PROPERTY_CLAIM_BATCHSIZE = "batchSize";
+	public static final String PROPERTY_CLAIM_CLAIMS = "claims";
+	public static final String PROPERTY_CLAIM_EMPTY_CLAIMS = "emptyClaims";
+	public static final String PROPERTY_CLAIM_CLAIMED_JOBS = "claimedJobs";
+	public static final String PROPERTY_CLAIM_CONTENTIONS = "contentions";
+	public static final String PROPERTY_CLAIM_FAILURES = "failures";
+	public static final String PROPERTY_CLAIM_DENIED = "denied";
+	public static final String PROPERTY_CLAIM_LATENCY_AVERAGE_MILLIS = "latencyAverageMillis";
+	public static final String PROPERTY_CLAIM_LATENCY_MAX_MILLIS = "latencyMaxMillis";
+	public static final String PROPERTY_CLAIM_LATENCY_LAST_MILLIS = "latencyLastMillis";
+
+	public static final String PROPERTY_EXECUTION = "execution";
+
+	public static final String PROPERTY_EXECUTION_POOL_SIZE = "poolSize";
+	public static final String PROPERTY_EXECUTION_QUEUE_CAPACITY = "queueCapacity";
+	public static final String PROPERTY_EXECUTION_REJECTION_POLICY = "rejectionPolicy";
+	public static final String PROPERTY_EXECUTION_ACTIVE = "active";
+	public static final String PROPERTY_EXECUTION_QUEUED = "queued";
+	public static final String PROPERTY_EXECUTION_REJECTED = "rejected";
+	public static final String PROPERTY_EXECUTION_FREE_CAPACITY = "freeCapacity";
+
+	public static final String PROPERTY_MESSAGING = "messaging";
+
+	public static final String PROPERTY_MESSAGING_QUEUES_ENABLED = "queuesEnabled";
+	public static final String PROPERTY_MESSAGING_QUEUES = "queues";
+	public static final String PROPERTY_MESSAGING_QUEUE_MESSAGE_ID = "messageId";
+	public static final String PROPERTY_MESSAGING_QUEUE_THREADS = "threads";
+	public static final String PROPERTY_MESSAGING_QUEUE_CAPACITY = "capacity";
+	public static final String PROPERTY_MESSAGING_QUEUE_OVERFLOW_POLICY = "overflowPolicy";
+	public static final String PROPERTY_MESSAGING_QUEUE_ACTIVE = "active";
+	public static final String PROPERTY_MESSAGING_QUEUE_QUEUED = "queued";
+	public static final String PROPERTY_MESSAGING_QUEUE_HANDLED = "handled";
+	public static final String PROPERTY_MESSAGING_QUEUE_DROPPED = "dropped";
+	public static final String PROPERTY_MESSAGING_QUEUE_BLOCKED = "blocked";
+	public static final String PROPERTY_MESSAGING_QUEUE_CALLER_RUNS = "callerRuns";
+	public static final String PROPERTY_MESSAGING_QUEUE_LATENCY_AVERAGE_MILLIS = "latencyAverageMillis";
+	public static final String PROPERTY_MESSAGING_QUEUE_LATENCY_MAX_MILLIS = "latencyMaxMillis";
+	public static final String PROPERTY_MESSAGING_QUEUE_LATENCY_HISTOGRAM = "latencyHistogram";
+
+	public static final String PROPERTY_WHITELIST = "whitelist";
+
+	public static final String PROPERTY_WHITELIST_PROJECTS = "projects";
+	public static final String PROPERTY_WHITELIST_ENTRIES = "entries";
+	public static final String PROPERTY_WHITELIST_TRIE_NODES = "trieNodes";
+	public static final String PROPERTY_WHITELIST_HITS = "hits";
+	public static final String PROPERTY_WHITELIST_MISSES = "misses";
+	public static final String PROPERTY_WHITELIST_INVALIDATIONS = "invalidations";
+
+	ClaimStatus claim = new ClaimStatus();
+
+	ExecutionStatus execution = new ExecutionStatus();
+
+	MessagingStatus messaging = new MessagingStatus();
+
+	WhiteListStatus whitelist = new WhiteListStatus();
+
+	public ClaimStatus getClaim() {
+		return claim;
+	}
+
+	public ExecutionStatus getExecution() {
+		return execution;
+	}
+
+	public MessagingStatus getMessaging() {
+		return messaging;
+	}
+
+	public WhiteListStatus getWhitelist() {
+		return whitelist;
+	}
+
+	@Override
+	public Class<SchedulerStatus> getJSONTargetClass() {
+		return SchedulerStatus.class;
+	}
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class ClaimStatus {
+
+		int batchSize;
+		long claims;
+		long emptyClaims;
+		long claimedJobs;
+		long contentions;
+		long failures;
+		long denied;
+		long latencyAverageMillis;
+		long latencyMaxMillis;
+		long latencyLastMillis;
+
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		public long getClaims() {
+			return claims;
+		}
+
+		public long getEmptyClaims() {
+			return emptyClaims;
+		}
+
+		public long getClaimedJobs() {
+			return claimedJobs;
+		}
+
+		public long getContentions() {
+			return contentions;
+		}
+
+		public long getFailures() {
+			return failures;
+		}
+
+		public long getDenied() {
+			return denied;
+		}
+
+		public long getLatencyAverageMillis() {
+			return latencyAverageMillis;
+		}
+
+		public long getLatencyMaxMillis() {
+			return latencyMaxMillis;
+		}
+
+		public long getLatencyLastMillis() {
+			return latencyLastMillis;
+		}
+	}
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class ExecutionStatus {
+
+		int poolSize;
+		int queueCapacity;
+		String rejectionPolicy;
+		int active;
+		int queued;
+		long rejected;
+		int freeCapacity;
+
+		public int getPoolSize() {
+			return poolSize;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public String getRejectionPolicy() {
+			return rejectionPolicy;
+		}
+
+		public int getActive() {
+			return active;
+		}
+
+		public int getQueued() {
+			return queued;
+		}
+
+		public long getRejected() {
+			return rejected;
+		}
+
+		public int getFreeCapacity() {
+			return freeCapacity;
+		}
+	}
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class MessagingStatus {
+
+		boolean queuesEnabled;
+		List<MessageQueueStatus> queues = new ArrayList<>();
+
+		public boolean isQueuesEnabled() {
+			return queuesEnabled;
+		}
+
+		public List<MessageQueueStatus> getQueues() {
+			return queues;
+		}
+	}
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class MessageQueueStatus {
+
+		String messageId;
+		int threads;
+		int capacity;
+		String overflowPolicy;
+		int active;
+		int queued;
+		long handled;
+		long dropped;
+		long blocked;
+		long callerRuns;
+		long latencyAverageMillis;
+		long latencyMaxMillis;
+		Map<String, Long> latencyHistogram = new LinkedHashMap<>();
+
+		public String getMessageId() {
+			return messageId;
+		}
+
+		public int getThreads() {
+			return threads;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		public String getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		public int getActive() {
+			return active;
+		}
+
+		public int getQueued() {
+			return queued;
+		}
+
+		public long getHandled() {
+			return handled;
+		}
+
+		public long getDropped() {
+			return dropped;
+		}
+
+		public long getBlocked() {
+			return blocked;
+		}
+
+		public long getCallerRuns() {
+			return callerRuns;
+		}
+
+		public long getLatencyAverageMillis() {
+			return latencyAverageMillis;
+		}
+
+		public long getLatencyMaxMillis() {
+			return latencyMaxMillis;
+		}
+
+		public Map<String, Long> getLatencyHistogram() {
+			return latencyHistogram;
+		}
+	}
+
+
+	@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class WhiteListStatus {
+
+		int projects;
+		long entries;
+		long trieNodes;
+		long hits;
+		long misses;
+		long invalidations;
+
+		public int getProjects() {
+			return projects;
+		}
+
+		public long getEntries() {
+			return entries;
+		}
+
+		public long getTrieNodes() {
+			return trieNodes;
+		}
+
+		public long getHits() {
+			return hits;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+
+		public long getInvalidations() {
+			return invalidations;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.status;
+
+import javax.annotation.security.RolesAllowed;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.daimler.sechub.sharedkernel.APIConstants;
+import com.daimler.sechub.sharedkernel.RoleConstants;
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.job.UseCaseAdministratorFetchesSchedulerStatus;
+
+/**
+ * The rest api for scheduler status information, only accessible by a super
+ * admin.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@RestController
+@EnableAutoConfiguration
+@RequestMapping(APIConstants.API_ADMINISTRATION)
+@RolesAllowed(RoleConstants.ROLE_SUPERADMIN)
+public class SchedulerStatusRestController {
+
+	@Autowired
+	SchedulerStatusService statusService;
+
+	/* @formatter:off */
+	@UseCaseAdministratorFetchesSchedulerStatus(
+			@Step(
+				number=1,
+				next=2,
+				name="Rest call",
+				needsRestDoc=true,
+				description="Administrator fetches scheduler status by calling rest api"))
+	@RequestMapping(path = "/scheduler/status", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_UTF8_VALUE,MediaType.APPLICATION_JSON_VALUE})
+	@ResponseStatus(HttpStatus.OK)
+	public SchedulerStatus fetchSchedulerStatus() {
+		/* @formatter:on */
+		return statusService.fetchStatus();
+	}
+
+}
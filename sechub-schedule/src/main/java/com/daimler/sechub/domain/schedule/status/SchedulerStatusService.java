@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.status;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.domain.schedule.ScheduleJobClaimStatistics;
+import com.daimler.sechub.domain.schedule.SchedulerJobBatchTriggerService;
+import com.daimler.sechub.domain.schedule.batch.ScheduleJobExecutionPool;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus.ClaimStatus;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus.ExecutionStatus;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus.MessageQueueStatus;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus.MessagingStatus;
+import com.daimler.sechub.domain.schedule.status.SchedulerStatus.WhiteListStatus;
+import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListIndexService;
+import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListIndexStatistics;
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageLatencyHistogram;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageQueue;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageQueues;
+import com.daimler.sechub.sharedkernel.usecases.job.UseCaseAdministratorFetchesSchedulerStatus;
+
+@Service
+public class SchedulerStatusService {
+
+	@Autowired
+	ScheduleJobClaimStatistics claimStatistics;
+
+	@Autowired
+	SchedulerJobBatchTriggerService triggerService;
+
+	@Autowired
+	ScheduleJobExecutionPool executionPool;
+
+	@Autowired
+	DomainMessageQueues messageQueues;
+
+	@Autowired
+	ProjectWhiteListIndexService whiteListIndexService;
+
+	/* @formatter:off */
+	@UseCaseAdministratorFetchesSchedulerStatus(
+			@Step(
+				number=2,
+				name="Collect status",
+				description="Collects scheduler status data of the POD handling the request"))
+	/* @formatter:on */
+	public SchedulerStatus fetchStatus() {
+		SchedulerStatus status = new SchedulerStatus();
+
+		ClaimStatus claim = status.claim;
+		claim.batchSize = triggerService.getBatchSize();
+		claim.claims = claimStatistics.getClaimCount();
+		claim.emptyClaims = claimStatistics.getEmptyClaimCount();
+		claim.claimedJobs = claimStatistics.getClaimedJobCount();
+		claim.contentions = claimStatistics.getContentionCount();
+		claim.failures = claimStatistics.getFailedClaimCount();
+		claim.denied = claimStatistics.getDeniedClaimCount();
+		claim.latencyAverageMillis = claimStatistics.getClaimLatencyAverageMillis();
+		claim.latencyMaxMillis = claimStatistics.getClaimLatencyMaxMillis();
+		claim.latencyLastMillis = claimStatistics.getClaimLatencyLastMillis();
+
+		ExecutionStatus execution = status.execution;
+		execution.poolSize = executionPool.getPoolSize();
+		execution.queueCapacity = executionPool.getQueueCapacity();
+		execution.rejectionPolicy = executionPool.getRejectionPolicy().name();
+		execution.active = executionPool.getActiveCount();
+		execution.queued = executionPool.getQueuedCount();
+		execution.rejected = executionPool.getRejectedCount();
+		execution.freeCapacity = executionPool.getFreeCapacity();
+
+		MessagingStatus messaging = status.messaging;
+		messaging.queuesEnabled = messageQueues.isEnabled();
+		for (DomainMessageQueue queue : messageQueues.getQueues()) {
+			messaging.queues.add(createQueueStatus(queue));
+		}
+
+		WhiteListStatus whitelist = status.whitelist;
+		ProjectWhiteListIndexStatistics whiteListStatistics = whiteListIndexService.getStatistics();
+		whitelist.projects = whiteListStatistics.getProjects();
+		whitelist.entries = whiteListStatistics.getEntries();
+		whitelist.trieNodes = whiteListStatistics.getTrieNodes();
+		whitelist.hits = whiteListStatistics.getHits();
+		whitelist.misses = whiteListStatistics.getMisses();
+		whitelist.invalidations = whiteListStatistics.getInvalidations();
+
+		return status;
+	}
+
+	private MessageQueueStatus createQueueStatus(DomainMessageQueue queue) {
+		MessageQueueStatus queueStatus = new MessageQueueStatus();
+		queueStatus.messageId = queue.getMessageId().name();
+		queueStatus.threads = queue.getThreads();
+		queueStatus.capacity = queue.getCapacity();
+		queueStatus.overflowPolicy = queue.getOverflowPolicy().name();
+		queueStatus.active = queue.getActiveCount();
+		queueStatus.queued = queue.getQueuedCount();
+		queueStatus.handled = queue.getHandledCount();
+		queueStatus.dropped = queue.getDroppedCount();
+		queueStatus.blocked = queue.getBlockedCount();
+		queueStatus.callerRuns = queue.getCallerRunsCount();
+
+		AsynchronMessageLatencyHistogram latency = queue.getLatencyHistogram();
+		queueStatus.latencyAverageMillis = latency.getAverageMillis();
+		queueStatus.latencyMaxMillis = latency.getMaxMillis();
+		queueStatus.latencyHistogram.putAll(latency.getBuckets());
+		return queueStatus;
+	}
+}
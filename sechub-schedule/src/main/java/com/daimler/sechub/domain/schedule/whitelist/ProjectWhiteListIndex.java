@@ -0,0 +1,258 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.whitelist;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled whitelist of one project. Entries are grouped by scheme, host and
+ * port - inside such a group the paths are kept in a compressed prefix trie. So
+ * a check needs only one hash lookup and one walk over the path of the URI to
+ * check, independent of the amount of whitelist entries.<br>
+ * <br>
+ * Semantic is same as {@link ProjectWhiteListSupport#isWhitelisted(String, Collection)}:
+ * scheme, host and port must be equal and the path of a whitelist entry must be
+ * a prefix of the path to check.<br>
+ * <br>
+ * An index is immutable after creation and so thread safe.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ProjectWhiteListIndex {
+
+	private final Map<Origin, PathTrie> origins = new HashMap<>();
+	private int entries;
+
+	private ProjectWhiteListIndex() {
+	}
+
+	/**
+	 * Creates index for given whitelist
+	 *
+	 * @param whitelist - <code>null</code> entries are ignored
+	 * @return index, never <code>null</code>
+	 */
+	public static ProjectWhiteListIndex create(Collection<URI> whitelist) {
+		ProjectWhiteListIndex index = new ProjectWhiteListIndex();
+		if (whitelist == null) {
+			return index;
+		}
+		for (URI uri : whitelist) {
+			if (uri == null) {
+				continue;
+			}
+			index.origins.computeIfAbsent(new Origin(uri), origin -> new PathTrie()).add(uri.getPath());
+			index.entries++;
+		}
+		return index;
+	}
+
+	public boolean isWhitelisted(URI uri) {
+		if (uri == null) {
+			return false;
+		}
+		PathTrie trie = origins.get(new Origin(uri));
+		if (trie == null) {
+			return false;
+		}
+		return trie.containsPrefixOf(uri.getPath());
+	}
+
+	/**
+	 * @return amount of whitelist entries used to create this index
+	 */
+	public int getEntries() {
+		return entries;
+	}
+
+	/**
+	 * @return amount of different scheme, host and port combinations
+	 */
+	public int getOrigins() {
+		return origins.size();
+	}
+
+	/**
+	 * @return amount of nodes inside all path tries - an indicator for memory
+	 *         consumption
+	 */
+	public int getTrieNodes() {
+		int nodes = 0;
+		for (PathTrie trie : origins.values()) {
+			nodes += trie.nodes;
+		}
+		return nodes;
+	}
+
+	private static class Origin {
+		private final String scheme;
+		private final String host;
+		private final int port;
+		private final int hashCode;
+
+		private Origin(URI uri) {
+			this.scheme = uri.getScheme();
+			this.host = uri.getHost();
+			this.port = uri.getPort();
+			this.hashCode = Objects.hash(scheme, host, port);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Origin)) {
+				return false;
+			}
+			Origin other = (Origin) obj;
+			return port == other.port && Objects.equals(host, other.host) && Objects.equals(scheme, other.scheme);
+		}
+	}
+
+	/**
+	 * Compressed prefix trie (radix tree). Edges are labeled with strings, so
+	 * amount of nodes is at most twice the amount of paths. Paths below an already
+	 * contained path are not stored at all, because the shorter path already
+	 * accepts them.
+	 */
+	private static class PathTrie {
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		private final Node root = new Node("");
+		private boolean nullPathAccepted;
+		private int nodes = 1;
+
+		private void add(String path) {
+			if (path == null) {
+				nullPathAccepted = true;
+				return;
+			}
+			Node node = root;
+			int pos = 0;
+			while (!node.terminal) {
+				if (pos == path.length()) {
+					node.terminal = true;
+					/* everything below is accepted by this node now */
+					nodes -= countBelow(node);
+					node.children = NO_CHILDREN;
+					return;
+				}
+				int childIndex = node.indexOf(path.charAt(pos));
+				if (childIndex < 0) {
+					Node child = new Node(path.substring(pos));
+					child.terminal = true;
+					node.insert(-childIndex - 1, child);
+					nodes++;
+					return;
+				}
+				Node child = node.children[childIndex];
+				int common = commonPrefixLength(child.label, path, pos);
+				if (common < child.label.length()) {
+					/* split edge */
+					Node middle = new Node(child.label.substring(0, common));
+					child.label = child.label.substring(common);
+					middle.children = new Node[] { child };
+					node.children[childIndex] = middle;
+					nodes++;
+					child = middle;
+				}
+				node = child;
+				pos += common;
+			}
+			/* a prefix of the path is already contained */
+		}
+
+		private boolean containsPrefixOf(String path) {
+			if (path == null) {
+				return nullPathAccepted;
+			}
+			Node node = root;
+			int pos = 0;
+			while (true) {
+				if (node.terminal) {
+					return true;
+				}
+				if (pos == path.length()) {
+					return false;
+				}
+				int childIndex = node.indexOf(path.charAt(pos));
+				if (childIndex < 0) {
+					return false;
+				}
+				Node child = node.children[childIndex];
+				if (!path.startsWith(child.label, pos)) {
+					return false;
+				}
+				pos += child.label.length();
+				node = child;
+			}
+		}
+
+		private static int countBelow(Node node) {
+			int count = 0;
+			for (Node child : node.children) {
+				count += 1 + countBelow(child);
+			}
+			return count;
+		}
+
+		private static int commonPrefixLength(String label, String path, int pos) {
+			int max = Math.min(label.length(), path.length() - pos);
+			int i = 0;
+			while (i < max && label.charAt(i) == path.charAt(pos + i)) {
+				i++;
+			}
+			return i;
+		}
+	}
+
+	private static class Node {
+		private String label;
+		private boolean terminal;
+		/* sorted by first character of label */
+		private Node[] children = PathTrie.NO_CHILDREN;
+
+		private Node(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * @return index of child starting with given character, or
+		 *         <code>(-(insertion point) - 1)</code> when there is none
+		 */
+		private int indexOf(char c) {
+			int low = 0;
+			int high = children.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				char midChar = children[mid].label.charAt(0);
+				if (midChar < c) {
+					low = mid + 1;
+				} else if (midChar > c) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+			return -(low + 1);
+		}
+
+		private void insert(int index, Node child) {
+			Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+			System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+			newChildren[index] = child;
+			children = newChildren;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.whitelist;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Provides compiled whitelist indexes of projects. An index is built on first
+ * access and kept until the project whitelist is updated.<br>
+ * <br>
+ * Whitelist update events are only received by the POD where the update was
+ * done. So an index is also rebuilt when its maximum age is reached - this
+ * ensures other PODs of a cluster do not use an outdated whitelist forever.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ProjectWhiteListIndexService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProjectWhiteListIndexService.class);
+
+	private static final int DEFAULT_MAXIMUM_AGE_SECONDS = 60;
+
+	@MustBeDocumented("Maximum age in seconds of a compiled project whitelist. Updates done on other PODs of a cluster are recognized after this time. 0 disables caching.")
+	@Value("${sechub.schedule.whitelist.index.maximum.age.seconds:" + DEFAULT_MAXIMUM_AGE_SECONDS + "}")
+	int maximumAgeSeconds = DEFAULT_MAXIMUM_AGE_SECONDS;
+
+	@Autowired
+	ProjectWhitelistEntryRepository repository;
+
+	private final Map<String, IndexEntry> indexes = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Resolves whitelist index for given project
+	 *
+	 * @param projectId
+	 * @return index, never <code>null</code>
+	 */
+	public ProjectWhiteListIndex getIndex(String projectId) {
+		long now = System.currentTimeMillis();
+		IndexEntry entry = indexes.get(projectId);
+		if (entry != null && !entry.isExpired(now)) {
+			hits.incrementAndGet();
+			return entry.index;
+		}
+		misses.incrementAndGet();
+
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(fetchWhiteList(projectId));
+		if (maximumAgeSeconds > 0) {
+			indexes.put(projectId, new IndexEntry(index, now + maximumAgeSeconds * 1000L));
+		}
+		LOG.debug("Built whitelist index for project {}: entries={}, origins={}, trieNodes={}", projectId, index.getEntries(), index.getOrigins(),
+				index.getTrieNodes());
+		return index;
+	}
+
+	/**
+	 * Removes index of given project - next access will rebuild it
+	 *
+	 * @param projectId
+	 */
+	public void invalidate(String projectId) {
+		if (projectId == null) {
+			return;
+		}
+		if (indexes.remove(projectId) != null) {
+			invalidations.incrementAndGet();
+			LOG.debug("Invalidated whitelist index for project {}", projectId);
+		}
+	}
+
+	public ProjectWhiteListIndexStatistics getStatistics() {
+		int projects = 0;
+		long entries = 0;
+		long trieNodes = 0;
+		for (IndexEntry entry : indexes.values()) {
+			projects++;
+			entries += entry.index.getEntries();
+			trieNodes += entry.index.getTrieNodes();
+		}
+		return new ProjectWhiteListIndexStatistics(projects, entries, trieNodes, hits.get(), misses.get(), invalidations.get());
+	}
+
+	private List<URI> fetchWhiteList(String projectId) {
+		List<URI> list = new ArrayList<>();
+		for (ProjectWhitelistEntry entry : repository.fetchWhiteListEntriesForProject(projectId)) {
+			list.add(entry.getKey().getUri());
+		}
+		return list;
+	}
+
+	private static class IndexEntry {
+		private final ProjectWhiteListIndex index;
+		private final long expiresAt;
+
+		private IndexEntry(ProjectWhiteListIndex index, long expiresAt) {
+			this.index = index;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+
+}
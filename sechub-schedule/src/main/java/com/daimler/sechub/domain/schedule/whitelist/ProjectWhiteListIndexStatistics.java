@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.whitelist;
+
+/**
+ * Snapshot of whitelist index statistics of this POD
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ProjectWhiteListIndexStatistics {
+
+	private final int projects;
+	private final long entries;
+	private final long trieNodes;
+	private final long hits;
+	private final long misses;
+	private final long invalidations;
+
+	ProjectWhiteListIndexStatistics(int projects, long entries, long trieNodes, long hits, long misses, long invalidations) {
+		this.projects = projects;
+		this.entries = entries;
+		this.trieNodes = trieNodes;
+		this.hits = hits;
+		this.misses = misses;
+		this.invalidations = invalidations;
+	}
+
+	/**
+	 * @return amount of projects having a cached index
+	 */
+	public int getProjects() {
+		return projects;
+	}
+
+	/**
+	 * @return amount of whitelist entries of all cached indexes
+	 */
+	public long getEntries() {
+		return entries;
+	}
+
+	/**
+	 * @return amount of path trie nodes of all cached indexes
+	 */
+	public long getTrieNodes() {
+		return trieNodes;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	@Override
+	public String toString() {
+		return "projects=" + projects + ", entries=" + entries + ", trieNodes=" + trieNodes + ", hits=" + hits + ", misses=" + misses + ", invalidations="
+				+ invalidations;
+	}
+}
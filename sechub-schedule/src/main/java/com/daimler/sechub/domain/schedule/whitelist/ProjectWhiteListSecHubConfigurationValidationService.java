@@ -20,14 +20,13 @@ import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 public class ProjectWhiteListSecHubConfigurationValidationService {
 
 	@Autowired
-	ProjectWhitelistEntryRepository projectWhiteListEntryRepository;
+	ProjectWhiteListIndexService indexService;
 	
 	@Autowired
 	ProjectWhiteListSupport support;
 	
 	public void assertAllowedForProject(SecHubConfiguration configuration) {
-		List<ProjectWhitelistEntry> whiteListEntries = projectWhiteListEntryRepository.fetchWhiteListEntriesForProject(configuration.getProjectId());
-		List<URI> allowed = fetchAllowedUris(whiteListEntries);
+		ProjectWhiteListIndex allowed = indexService.getIndex(configuration.getProjectId());
 		
 		Optional<SecHubInfrastructureScanConfiguration> infrascanOpt = configuration.getInfraScan();
 		if (infrascanOpt.isPresent()) {
@@ -55,7 +54,7 @@ public class ProjectWhiteListSecHubConfigurationValidationService {
 		return list;
 	}
 
-	private void assertWhitelisted(List<URI> allowed, List<URI> wanted) {
+	private void assertWhitelisted(ProjectWhiteListIndex allowed, List<URI> wanted) {
 		for (URI uri: wanted) {
 			if (! support.isWhitelisted(uri.toString(), allowed)) {
 				throw new NotAcceptableException("URI not whitelisted in project:"+uri);
@@ -63,12 +62,4 @@ public class ProjectWhiteListSecHubConfigurationValidationService {
 		}
 	}
 
-	private List<URI> fetchAllowedUris(List<ProjectWhitelistEntry> whiteListEntries) {
-		List<URI> list = new ArrayList<>();
-		for (ProjectWhitelistEntry entry: whiteListEntries) {
-			list.add(entry.getKey().getUri());
-		}
-		return list;
-	}
-	
 }
@@ -13,13 +13,18 @@ import com.daimler.sechub.sharedkernel.util.SimpleStringUtils;
 @Component
 public class ProjectWhiteListSupport {
 
+	/**
+	 * Checks if given uri is whitelisted by given compiled whitelist index
+	 * @param uriAsString
+	 * @param whitelist
+	 * @return <code>true</code> when whitelisted
+	 */
+	public boolean isWhitelisted(String uriAsString, ProjectWhiteListIndex whitelist) {
+		return whitelist.isWhitelisted(toURI(uriAsString));
+	}
+
 	public boolean isWhitelisted(String uriAsString, Collection<URI> whitelist) {
-		URI uri;
-		try {
-			uri = new URI(uriAsString);
-		} catch (URISyntaxException e) {
-			throw new NotAcceptableException("Not a valid uri:"+uriAsString);
-		}
+		URI uri = toURI(uriAsString);
 		for (URI accepted: whitelist) {
 			if (isContained(uri, accepted)) {
 				return true;
@@ -29,6 +34,14 @@ public class ProjectWhiteListSupport {
 		return false;
 	}
 
+	private URI toURI(String uriAsString) {
+		try {
+			return new URI(uriAsString);
+		} catch (URISyntaxException e) {
+			throw new NotAcceptableException("Not a valid uri:"+uriAsString);
+		}
+	}
+
 	private boolean isContained(URI toTest, URI accepted) {
 		boolean isContained =  toTest!=null;
 		isContained =  isContained && accepted!=null;
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScheduleJobClaimStatisticsTest {
+
+	private ScheduleJobClaimStatistics statisticsToTest;
+
+	@Before
+	public void before() {
+		statisticsToTest = new ScheduleJobClaimStatistics();
+	}
+
+	@Test
+	public void initial_all_values_are_zero() {
+		assertEquals(0, statisticsToTest.getClaimCount());
+		assertEquals(0, statisticsToTest.getClaimedJobCount());
+		assertEquals(0, statisticsToTest.getClaimLatencyAverageMillis());
+		assertEquals(0, statisticsToTest.getClaimLatencyMaxMillis());
+	}
+
+	@Test
+	public void claims_are_counted_and_latencies_calculated() {
+		/* execute */
+		statisticsToTest.claimDone(3, 10);
+		statisticsToTest.claimDone(0, 20);
+		statisticsToTest.claimContention(40);
+		statisticsToTest.claimFailed(10);
+
+		/* test */
+		assertEquals(4, statisticsToTest.getClaimCount());
+		assertEquals(3, statisticsToTest.getClaimedJobCount());
+		assertEquals(1, statisticsToTest.getEmptyClaimCount());
+		assertEquals(1, statisticsToTest.getContentionCount());
+		assertEquals(1, statisticsToTest.getFailedClaimCount());
+		assertEquals(20, statisticsToTest.getClaimLatencyAverageMillis());
+		assertEquals(40, statisticsToTest.getClaimLatencyMaxMillis());
+		assertEquals(10, statisticsToTest.getClaimLatencyLastMillis());
+	}
+
+}
@@ -2,7 +2,9 @@
 package com.daimler.sechub.domain.schedule;
 import static org.mockito.Mockito.*;
 
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
@@ -12,11 +14,14 @@ import org.springframework.core.task.TaskExecutor;
 import com.daimler.sechub.domain.schedule.access.ScheduleGrantUserAccessToProjectService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessAtAllService;
 import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessFromProjectService;
+import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListIndexService;
+import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListUpdateService;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
+import com.daimler.sechub.sharedkernel.messaging.ProjectMessage;
 import com.daimler.sechub.sharedkernel.messaging.SynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.UserMessage;
 
@@ -38,6 +43,8 @@ public class ScheduleMessageHandlerTest {
 		scheduleHandlerToTest.grantService= mock(ScheduleGrantUserAccessToProjectService.class);
 		scheduleHandlerToTest.revokeUserFromProjectService=mock(ScheduleRevokeUserAccessFromProjectService.class);
 		scheduleHandlerToTest.revokeUserService=mock(ScheduleRevokeUserAccessAtAllService.class);
+		scheduleHandlerToTest.projectWhiteListUpdateService=mock(ProjectWhiteListUpdateService.class);
+		scheduleHandlerToTest.projectWhiteListIndexService=mock(ProjectWhiteListIndexService.class);
 
 		
 		List<AsynchronMessageHandler> injectedAsynchronousHandlers = new ArrayList<>();
@@ -98,6 +105,24 @@ public class ScheduleMessageHandlerTest {
 		
 	}
 	
+	@Test
+	public void when_sending_message_id_PROJECT_WHITELIST_UPDATED_the_whitelist_is_updated_and_index_invalidated() throws Exception {
+		/* prepare */
+		DomainMessage request = new DomainMessage(MessageID.PROJECT_WHITELIST_UPDATED);
+		ProjectMessage content = new ProjectMessage();
+		content.setProjectId("projectId1");
+		content.setWhitelist(Collections.singleton(new URI("https://www.example.org")));
+		request.set(MessageDataKeys.PROJECT_WHITELIST_UPDATE_DATA, content);
+		
+		/* execute */
+		simulateEventSend(request, scheduleHandlerToTest);
+		
+		/* test */
+		verify(scheduleHandlerToTest.projectWhiteListUpdateService).update("projectId1",content.getWhitelist());
+		verify(scheduleHandlerToTest.projectWhiteListIndexService).invalidate("projectId1");
+		
+	}
+	
 	private void simulateEventSend(DomainMessage request,  AsynchronMessageHandler handler) {
 		fakeDomainMessageService.sendAsynchron(request);
 	}
@@ -1,9 +1,18 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -14,14 +23,16 @@ import org.springframework.web.multipart.MultipartFile;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 import com.daimler.sechub.sharedkernel.storage.JobStorage;
+import com.daimler.sechub.sharedkernel.storage.StorageException;
 import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.sharedkernel.util.ChecksumEngine;
 import com.daimler.sechub.sharedkernel.util.FileChecksumSHA256Service;
 
 public class SchedulerUploadServiceTest {
 	
 	private static final String PROJECT1 = "project1";
 	private SchedulerUploadService serviceToTest;
-	private FileChecksumSHA256Service mockedChecksumService;
+	private FileChecksumSHA256Service checksumService;
 	private StorageService mockedStorageService;
 	private UUID randomUuid;
 	private ScheduleAssertService mockedAssertService;
@@ -30,61 +41,155 @@ public class SchedulerUploadServiceTest {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 	private JobStorage storage;
+	private ByteArrayOutputStream storedBytes;
 	
 	@Before
-	public void before() {
+	public void before() throws Exception {
 		randomUuid = UUID.randomUUID();
 		
-		mockedChecksumService=mock(FileChecksumSHA256Service.class);
+		checksumService=new FileChecksumSHA256Service();
 		mockedStorageService=mock(StorageService.class);
 		mockedAssertService=mock(ScheduleAssertService.class);
 		
 		ScheduleSecHubJob job = new ScheduleSecHubJob();
 		when(mockedAssertService.assertJob(PROJECT1, randomUuid)).thenReturn(job);
 		storage = mock(JobStorage.class);
-		when(storage.getAbsolutePath(SchedulerUploadService.SOURCECODE_ZIP)).thenReturn("the-path");
 		when(mockedStorageService.getJobStorage(PROJECT1, randomUuid)).thenReturn(storage);
 		
+		/* simulate storage by reading stream completely - like real storage does */
+		storedBytes = new ByteArrayOutputStream();
+		doAnswer(invocation -> {
+			InputStream inputStream = invocation.getArgument(1);
+			try {
+				byte[] buffer = new byte[1024];
+				int amount;
+				while ((amount = inputStream.read(buffer)) != -1) {
+					storedBytes.write(buffer, 0, amount);
+				}
+			} catch (IOException e) {
+				throw new StorageException("Failed to store file", e);
+			}
+			return null;
+		}).when(storage).store(eq(SchedulerUploadService.SOURCECODE_ZIP), any(InputStream.class));
+		
 		file = mock(MultipartFile.class);
 
 		/* attach at service to test */
 		serviceToTest = new SchedulerUploadService();
-		serviceToTest.checksumSHA256Service=mockedChecksumService;
+		serviceToTest.checksumSHA256Service=checksumService;
 		serviceToTest.storageService=mockedStorageService;
 		serviceToTest.assertService=mockedAssertService;
 		
 	}
 	
 	@Test
-	public void when_checksum_correct_and_is_zip__correct_no_failure() {
+	public void when_checksum_correct_and_is_zip__correct_no_failure() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum("mychecksum", "the-path")).thenReturn(true);
-		when(storage.isValidZipFile(SchedulerUploadService.SOURCECODE_ZIP)).thenReturn(true);
+		byte[] zip = createZip();
+		prepareUpload(zip);
 		
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum(zip));
+		
+		/* test */
+		assertArrayEquals(zip, storedBytes.toByteArray());
+		verify(storage, never()).deleteAll();
 	}
 	
 	@Test
-	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() {
+	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum("mychecksum", "the-path")).thenReturn(false);
-		when(storage.isValidZipFile(SchedulerUploadService.SOURCECODE_ZIP)).thenReturn(true);
+		byte[] zip = createZip();
+		prepareUpload(zip);
 		expectedException.expect(NotAcceptableException.class);
 		
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		}finally {
+			verify(storage).deleteAll();
+		}
 	}
 	
 	@Test
-	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404() {
+	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum("mychecksum", "the-path")).thenReturn(true);
-		when(storage.isValidZipFile(SchedulerUploadService.SOURCECODE_ZIP)).thenReturn(false);
+		byte[] noZip = "this is not a zip file but some text, long enough to be checked".getBytes();
+		prepareUpload(noZip);
 		expectedException.expect(NotAcceptableException.class);
 		
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum(noZip));
+		}finally {
+			verify(storage).deleteAll();
+		}
+	}
+	
+	@Test
+	public void when_checksum_is_missing_nothing_is_stored_and_throws_404() throws Exception {
+		/* prepare */
+		prepareUpload(createZip());
+		expectedException.expect(NotAcceptableException.class);
+		
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, null);
+		}finally {
+			verify(storage, never()).store(any(), any(InputStream.class));
+		}
+	}
+	
+	@Test
+	public void when_file_size_bigger_than_maximum_nothing_is_stored_and_throws_404() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		prepareUpload(zip);
+		serviceToTest.maximumSourcecodeBytes = zip.length - 1;
+		expectedException.expect(NotAcceptableException.class);
+		
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum(zip));
+		}finally {
+			verify(storage, never()).store(any(), any(InputStream.class));
+		}
+	}
+	
+	@Test
+	public void when_streamed_content_bigger_than_maximum_but_size_wrong_reported_throws_404() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		prepareUpload(zip);
+		when(file.getSize()).thenReturn(1L);
+		serviceToTest.maximumSourcecodeBytes = zip.length - 1;
+		expectedException.expect(NotAcceptableException.class);
+		
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum(zip));
+		}finally {
+			verify(storage).deleteAll();
+		}
+	}
+
+	private void prepareUpload(byte[] bytes) throws IOException {
+		when(file.getSize()).thenReturn((long) bytes.length);
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(bytes));
+	}
+
+	private String checksum(byte[] bytes) {
+		return ChecksumEngine.SHA256.createChecksum(ByteBuffer.wrap(bytes));
+	}
+
+	private byte[] createZip() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry("src/Test.java"));
+			zip.write("public class Test{}".getBytes());
+			zip.closeEntry();
+		}
+		return out.toByteArray();
 	}
 
 }
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskRejectedException;
+
+import com.daimler.sechub.domain.schedule.ScheduleFailedException;
+
+public class AsyncJobLauncherTest {
+
+	private AsyncJobLauncher launcherToTest;
+	private ScheduleJobExecutionPool pool;
+	private Job job;
+	private JobParameters jobParameters;
+	private CountDownLatch releaseLatch;
+	private CountDownLatch startedLatch;
+
+	@Before
+	public void before() throws Exception {
+		pool = new ScheduleJobExecutionPool();
+		pool.poolSize = 1;
+		pool.queueCapacity = 0;
+		pool.rejectionPolicy = ScheduleJobExecutionRejectionPolicy.ABORT;
+		pool.initialize();
+
+		releaseLatch = new CountDownLatch(1);
+		startedLatch = new CountDownLatch(1);
+
+		job = mock(Job.class);
+		when(job.getName()).thenReturn("job1");
+		when(job.getJobParametersValidator()).thenReturn(mock(JobParametersValidator.class));
+		doAnswer(invocation -> {
+			startedLatch.countDown();
+			releaseLatch.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(job).execute(any());
+
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.createJobExecution(any(), any())).thenAnswer(invocation -> new JobExecution(1L));
+
+		launcherToTest = new AsyncJobLauncher(pool);
+		launcherToTest.setJobRepository(jobRepository);
+
+		jobParameters = new JobParametersBuilder().addString("sechubJobUUID", "uuid1").toJobParameters();
+	}
+
+	@After
+	public void after() {
+		releaseLatch.countDown();
+		pool.shutdown();
+	}
+
+	@Test
+	public void accepted_job_is_executed_and_execution_returned() throws Exception {
+		/* execute */
+		JobExecution execution = launcherToTest.run(job, jobParameters);
+
+		/* test */
+		assertNotNull(execution);
+		assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void job_rejected_by_full_pool_throws_schedule_failed_exception() throws Exception {
+		/* prepare */
+		launcherToTest.run(job, jobParameters);
+		assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+
+		/* execute */
+		try {
+			launcherToTest.run(job, jobParameters);
+			fail("no schedule failed exception thrown");
+		} catch (ScheduleFailedException e) {
+			/* test */
+			assertTrue(e.getCause() instanceof TaskRejectedException);
+			assertEquals(1, pool.getRejectedCount());
+		}
+	}
+
+	@Test
+	public void accepted_job_after_rejection_is_not_reported_as_rejected() throws Exception {
+		/* prepare */
+		launcherToTest.run(job, jobParameters);
+		assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+		try {
+			launcherToTest.run(job, jobParameters);
+			fail("no schedule failed exception thrown");
+		} catch (ScheduleFailedException e) {
+			/* expected */
+		}
+		releaseLatch.countDown();
+		awaitNoActiveJobs();
+
+		/* execute */
+		JobExecution execution = launcherToTest.run(job, jobParameters);
+
+		/* test */
+		assertNotNull(execution);
+	}
+
+	private void awaitNoActiveJobs() throws InterruptedException {
+		long end = System.currentTimeMillis() + 5000;
+		while (pool.getFreeCapacity() == 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, pool.getFreeCapacity());
+	}
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+public class ScheduleJobExecutionPoolTest {
+
+	private ScheduleJobExecutionPool poolToTest;
+	private CountDownLatch releaseLatch;
+
+	@Before
+	public void before() {
+		poolToTest = new ScheduleJobExecutionPool();
+		poolToTest.poolSize = 1;
+		poolToTest.queueCapacity = 1;
+		poolToTest.rejectionPolicy = ScheduleJobExecutionRejectionPolicy.ABORT;
+		poolToTest.initialize();
+
+		releaseLatch = new CountDownLatch(1);
+	}
+
+	@After
+	public void after() {
+		releaseLatch.countDown();
+		poolToTest.shutdown();
+	}
+
+	@Test
+	public void initial_pool_has_full_capacity() {
+		assertEquals(2, poolToTest.getFreeCapacity());
+		assertEquals(0, poolToTest.getActiveCount());
+		assertEquals(0, poolToTest.getQueuedCount());
+		assertEquals(0, poolToTest.getRejectedCount());
+	}
+
+	@Test
+	public void pool_and_queue_full_leads_to_no_free_capacity_and_rejection_is_counted() throws Exception {
+		/* prepare */
+		CountDownLatch startedLatch = new CountDownLatch(1);
+		poolToTest.getTaskExecutor().execute(() -> {
+			startedLatch.countDown();
+			awaitRelease();
+		});
+		assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+		poolToTest.getTaskExecutor().execute(this::awaitRelease);
+
+		/* test */
+		assertEquals(1, poolToTest.getActiveCount());
+		assertEquals(1, poolToTest.getQueuedCount());
+		assertEquals(0, poolToTest.getFreeCapacity());
+
+		/* execute */
+		try {
+			poolToTest.getTaskExecutor().execute(this::awaitRelease);
+			fail("task was not rejected");
+		} catch (TaskRejectedException e) {
+			/* expected */
+		}
+
+		/* test */
+		assertEquals(1, poolToTest.getRejectedCount());
+	}
+
+	private void awaitRelease() {
+		try {
+			releaseLatch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
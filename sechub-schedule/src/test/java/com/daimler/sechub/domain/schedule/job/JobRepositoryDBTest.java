@@ -5,6 +5,7 @@ import static com.daimler.sechub.domain.schedule.ExecutionState.*;
 import static com.daimler.sechub.domain.schedule.job.JobCreator.*;
 import static org.junit.Assert.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -99,6 +100,43 @@ public class JobRepositoryDBTest {
 		assertEquals(expectedNextJob.getUUID(), job.getUUID());
 	}
 
+	@Test
+	public void findNextJobsToExecute__and_no_jobs_available_at_all_empty_list_is_returned() {
+
+		assertTrue(jobRepository.findNextJobsToExecute(5).isEmpty());
+	}
+
+	@Test
+	public void findNextJobsToExecute__maximum_zero_returns_empty_list() {
+		/* prepare */
+		jobCreator.newJob().being(READY_TO_START).create();
+
+		/* execute + test */
+		assertTrue(jobRepository.findNextJobsToExecute(0).isEmpty());
+	}
+
+	@Test
+	public void findNextJobsToExecute__returns_jobs_in_state_READY_TO_START_ordered_by_creation_and_limited_by_maximum() {
+		/* prepare @formatter:off*/
+		jobCreator.newJob().being(STARTED).createAnd().
+				   newJob().being(CANCEL_REQUESTED).createAnd().
+				   newJob().being(ENDED).create();
+
+		ScheduleSecHubJob expectedJob1 = jobCreator.newJob().being(READY_TO_START).create();
+		TestUtil.waitMilliseconds(1);
+		ScheduleSecHubJob expectedJob2 = jobCreator.newJob().being(READY_TO_START).create();
+		TestUtil.waitMilliseconds(1);
+		jobCreator.newJob().being(READY_TO_START).create();
+
+		/* execute */
+		List<ScheduleSecHubJob> jobs = jobRepository.findNextJobsToExecute(2);
+
+		/* test @formatter:on*/
+		assertEquals(2, jobs.size());
+		assertEquals(expectedJob1.getUUID(), jobs.get(0).getUUID());
+		assertEquals(expectedJob2.getUUID(), jobs.get(1).getUUID());
+	}
+
 	@TestConfiguration
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration{
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.whitelist;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProjectWhiteListIndexServiceTest {
+
+	private ProjectWhiteListIndexService serviceToTest;
+	private ProjectWhitelistEntryRepository repository;
+
+	@Before
+	public void before() throws Exception {
+		repository = mock(ProjectWhitelistEntryRepository.class);
+		when(repository.fetchWhiteListEntriesForProject("project1"))
+				.thenReturn(Arrays.asList(new ProjectWhitelistEntry("project1", new URI("https://www.example.org"))));
+
+		serviceToTest = new ProjectWhiteListIndexService();
+		serviceToTest.repository = repository;
+	}
+
+	@Test
+	public void index_is_built_only_once() throws Exception {
+		/* execute */
+		ProjectWhiteListIndex index1 = serviceToTest.getIndex("project1");
+		ProjectWhiteListIndex index2 = serviceToTest.getIndex("project1");
+
+		/* test */
+		assertSame(index1, index2);
+		assertTrue(index1.isWhitelisted(new URI("https://www.example.org/path")));
+		verify(repository, times(1)).fetchWhiteListEntriesForProject("project1");
+
+		ProjectWhiteListIndexStatistics statistics = serviceToTest.getStatistics();
+		assertEquals(1, statistics.getProjects());
+		assertEquals(1, statistics.getEntries());
+		assertEquals(1, statistics.getHits());
+		assertEquals(1, statistics.getMisses());
+	}
+
+	@Test
+	public void index_is_rebuilt_after_invalidation() throws Exception {
+		/* prepare */
+		serviceToTest.getIndex("project1");
+		when(repository.fetchWhiteListEntriesForProject("project1")).thenReturn(Collections.emptyList());
+
+		/* execute */
+		serviceToTest.invalidate("project1");
+		ProjectWhiteListIndex index = serviceToTest.getIndex("project1");
+
+		/* test */
+		assertFalse(index.isWhitelisted(new URI("https://www.example.org/path")));
+		verify(repository, times(2)).fetchWhiteListEntriesForProject("project1");
+		assertEquals(1, serviceToTest.getStatistics().getInvalidations());
+	}
+
+	@Test
+	public void index_is_always_rebuilt_when_maximum_age_is_zero() throws Exception {
+		/* prepare */
+		serviceToTest.maximumAgeSeconds = 0;
+
+		/* execute */
+		serviceToTest.getIndex("project1");
+		serviceToTest.getIndex("project1");
+
+		/* test */
+		verify(repository, times(2)).fetchWhiteListEntriesForProject("project1");
+		assertEquals(0, serviceToTest.getStatistics().getProjects());
+	}
+
+	@Test
+	public void invalidate_unknown_project_does_nothing() {
+		/* execute */
+		serviceToTest.invalidate("unknown");
+		serviceToTest.invalidate(null);
+
+		/* test */
+		assertEquals(0, serviceToTest.getStatistics().getInvalidations());
+	}
+}
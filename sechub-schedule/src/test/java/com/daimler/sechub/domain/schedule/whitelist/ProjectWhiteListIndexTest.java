@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.whitelist;
+
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ProjectWhiteListIndexTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProjectWhiteListIndexTest.class);
+
+	private static final String[] WHITELIST = { "https://www.google.de", "https://www.amazon.com/shop", "https://www.amazon.com/shop/books",
+			"http://www.amazon.com/other", "https://www.example.org:8443/api/v1", "https://www.example.org:8443/api/v2/special", "https://192.168.1.1",
+			"192.168.1.2", "https://www.example.org/a", "https://www.example.org/ab", "https://www.example.org/abc/def" };
+
+	private static final String[] TO_CHECK = { "https://www.google.de", "https://www.google.de/nerdytest", "http://www.google.de",
+			"https://www.google.de:8443", "https://www.google.com", "https://www.amazon.com", "https://www.amazon.com/sho",
+			"https://www.amazon.com/shop", "https://www.amazon.com/shopping", "https://www.amazon.com/shop/books/1", "http://www.amazon.com/shop",
+			"http://www.amazon.com/other/1", "https://www.example.org:8443/api", "https://www.example.org:8443/api/v1/x",
+			"https://www.example.org:8443/api/v2", "https://www.example.org:8443/api/v2/special/x", "https://www.example.org/api/v1",
+			"https://192.168.1.1/nerdytest", "https://192.168.1.3", "192.168.1.2", "192.168.1.3", "https://www.example.org/a",
+			"https://www.example.org/abc", "https://www.example.org/b", "https://www.example.org", "https://www.example.org/" };
+
+	@Test
+	public void empty_index_does_not_whitelist_anything() throws Exception {
+		/* execute */
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(Collections.emptyList());
+
+		/* test */
+		assertFalse(index.isWhitelisted(new URI("https://www.google.de")));
+		assertFalse(index.isWhitelisted(null));
+		assertEquals(0, index.getEntries());
+	}
+
+	@Test
+	public void index_has_same_results_as_whitelist_support() throws Exception {
+		/* prepare */
+		List<URI> whitelist = asURIs(WHITELIST);
+		ProjectWhiteListSupport support = new ProjectWhiteListSupport();
+
+		/* execute */
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(whitelist);
+
+		/* test */
+		for (String toCheck : TO_CHECK) {
+			assertEquals("wrong result for:" + toCheck, support.isWhitelisted(toCheck, whitelist), index.isWhitelisted(new URI(toCheck)));
+		}
+	}
+
+	@Test
+	public void index_has_same_results_as_whitelist_support_for_random_paths() throws Exception {
+		/* prepare */
+		Random random = new Random(4711);
+		List<URI> whitelist = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			whitelist.add(new URI("https://host" + random.nextInt(5) + ".example.org" + randomPath(random)));
+		}
+		ProjectWhiteListSupport support = new ProjectWhiteListSupport();
+
+		/* execute */
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(whitelist);
+
+		/* test */
+		for (int i = 0; i < 5000; i++) {
+			String toCheck = "https://host" + random.nextInt(6) + ".example.org" + randomPath(random);
+			assertEquals("wrong result for:" + toCheck, support.isWhitelisted(toCheck, whitelist), index.isWhitelisted(new URI(toCheck)));
+		}
+	}
+
+	@Test
+	public void paths_below_already_whitelisted_path_are_not_stored() throws Exception {
+		/* execute */
+		ProjectWhiteListIndex index1 = ProjectWhiteListIndex.create(asURIs("https://www.example.org/a/b/c", "https://www.example.org/a/b/d", "https://www.example.org/a"));
+		ProjectWhiteListIndex index2 = ProjectWhiteListIndex.create(asURIs("https://www.example.org/a"));
+
+		/* test */
+		assertEquals(3, index1.getEntries());
+		assertEquals(index2.getTrieNodes(), index1.getTrieNodes());
+		assertTrue(index1.isWhitelisted(new URI("https://www.example.org/a/b/c")));
+		assertTrue(index1.isWhitelisted(new URI("https://www.example.org/a/x")));
+	}
+
+	@Test
+	public void null_entries_are_ignored() throws Exception {
+		/* execute */
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(Arrays.asList(null, new URI("https://www.google.de")));
+
+		/* test */
+		assertEquals(1, index.getEntries());
+		assertTrue(index.isWhitelisted(new URI("https://www.google.de")));
+	}
+
+	@Test
+	public void opaque_uris_without_path_are_handled_like_whitelist_support() throws Exception {
+		/* prepare */
+		List<URI> whitelist = asURIs("mailto:someone@example.org");
+		ProjectWhiteListSupport support = new ProjectWhiteListSupport();
+
+		/* execute */
+		ProjectWhiteListIndex index = ProjectWhiteListIndex.create(whitelist);
+
+		/* test */
+		for (String toCheck : new String[] { "mailto:someone@example.org", "mailto:other@example.org", "https://www.example.org" }) {
+			assertEquals("wrong result for:" + toCheck, support.isWhitelisted(toCheck, whitelist), index.isWhitelisted(new URI(toCheck)));
+		}
+	}
+
+	/**
+	 * Simple timing check for growing whitelists - not a real benchmark but shows
+	 * check time does not grow with amount of entries
+	 */
+	@Test
+	public void check_time_for_10_1000_and_100000_entries() throws Exception {
+		for (int amount : new int[] { 10, 1000, 100000 }) {
+			/* prepare */
+			List<URI> whitelist = new ArrayList<>(amount);
+			for (int i = 0; i < amount; i++) {
+				whitelist.add(new URI("https://host" + (i % 100) + ".example.org/path/" + i + "/sub"));
+			}
+
+			/* execute */
+			long start = System.nanoTime();
+			ProjectWhiteListIndex index = ProjectWhiteListIndex.create(whitelist);
+			long built = System.nanoTime();
+			int found = 0;
+			for (int i = 0; i < 10000; i++) {
+				int entry = i % amount;
+				if (index.isWhitelisted(new URI("https://host" + (entry % 100) + ".example.org/path/" + entry + "/sub/file"))) {
+					found++;
+				}
+			}
+			long checked = System.nanoTime();
+
+			/* test */
+			assertEquals(10000, found);
+			assertFalse(index.isWhitelisted(new URI("https://host1.example.org/path/unknown")));
+			assertTrue(index.getTrieNodes() <= 2 * amount + index.getOrigins());
+			LOG.info("whitelist index with {} entries: build {} ms, 10000 checks {} ms, trie nodes {}", amount, (built - start) / 1000000,
+					(checked - built) / 1000000, index.getTrieNodes());
+		}
+	}
+
+	private static String randomPath(Random random) {
+		StringBuilder sb = new StringBuilder();
+		int segments = random.nextInt(4);
+		for (int i = 0; i < segments; i++) {
+			sb.append('/');
+			sb.append((char) ('a' + random.nextInt(3)));
+			if (random.nextBoolean()) {
+				sb.append((char) ('a' + random.nextInt(3)));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static List<URI> asURIs(String... uris) throws Exception {
+		List<URI> list = new ArrayList<>();
+		for (String uri : uris) {
+			list.add(new URI(uri));
+		}
+		return list;
+	}
+}
@@ -39,8 +39,11 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 		repository=mock(ProjectWhitelistEntryRepository.class);
 		whiteListFoundForProject=new ArrayList<>();
 		
+		ProjectWhiteListIndexService indexService = new ProjectWhiteListIndexService();
+		indexService.repository=repository;
+
 		serviceToTest.support=support;
-		serviceToTest.projectWhiteListEntryRepository=repository;
+		serviceToTest.indexService=indexService;
 		
 		when(repository.fetchWhiteListEntriesForProject(projectId)).thenReturn(whiteListFoundForProject);
 		
@@ -61,13 +64,13 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 	public void configured_webscan_uri_validation_support_called() throws Exception{
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_1)));
-		when(support.isWhitelisted(any(), any())).thenReturn(true); //always whitelisted
+		when(support.isWhitelisted(any(), any(ProjectWhiteListIndex.class))).thenReturn(true); //always whitelisted
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).webConfig().addURI(IP_ADRESS_1).build());
 		
 		/* test */
-		verify(support).isWhitelisted(eq(IP_ADRESS_1), any());
+		verify(support).isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class));
 	}
 	
 	@Test
@@ -77,7 +80,7 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 		
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_2)));
-		when(support.isWhitelisted(any(), any())).thenReturn(false); // not whitelisted - so failure expected
+		when(support.isWhitelisted(any(), any(ProjectWhiteListIndex.class))).thenReturn(false); // not whitelisted - so failure expected
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).webConfig().addURI(IP_ADRESS_1).build());
@@ -88,13 +91,13 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 	public void configured_infrascan_uri_validation_support_called() throws Exception{
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_1)));
-		when(support.isWhitelisted(eq(IP_ADRESS_1), any())).thenReturn(true); //always whitelisted
+		when(support.isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class))).thenReturn(true); //always whitelisted
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).infraConfig().addURI(IP_ADRESS_1).build());
 		
 		/* test */
-		verify(support).isWhitelisted(eq(IP_ADRESS_1), any());
+		verify(support).isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class));
 	}
 	
 	@Test
@@ -104,7 +107,7 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 		
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_2)));
-		when(support.isWhitelisted(eq(IP_ADRESS_1), any())).thenReturn(false); // not whitelisted - so failure expected
+		when(support.isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class))).thenReturn(false); // not whitelisted - so failure expected
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).infraConfig().addURI(IP_ADRESS_1).build());
@@ -115,13 +118,13 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 	public void configured_infrascan_ip_validation_support_called() throws Exception{
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_1)));
-		when(support.isWhitelisted(eq(IP_ADRESS_1), any())).thenReturn(true); //always whitelisted
+		when(support.isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class))).thenReturn(true); //always whitelisted
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).infraConfig().addIP(IP_ADRESS_1).build());
 		
 		/* test */
-		verify(support).isWhitelisted(eq(IP_ADRESS_1), any());
+		verify(support).isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class));
 	}
 	
 	@Test
@@ -131,7 +134,7 @@ public class ProjectWhiteListSecHubConfigurationValidationServiceTest {
 		
 		/* prepare */
 		whiteListFoundForProject.add(new ProjectWhitelistEntry(projectId, new URI(IP_ADRESS_2)));
-		when(support.isWhitelisted(eq(IP_ADRESS_1), any())).thenReturn(false); // not whitelisted - so failure expected
+		when(support.isWhitelisted(eq(IP_ADRESS_1), any(ProjectWhiteListIndex.class))).thenReturn(false); // not whitelisted - so failure expected
 		
 		/* execute */
 		serviceToTest.assertAllowedForProject(configureSecHub().projectId(projectId).infraConfig().addIP(IP_ADRESS_1).build());
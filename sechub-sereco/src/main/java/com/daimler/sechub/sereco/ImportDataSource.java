@@ -0,0 +1,24 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Source for data to import. Data can be opened multiple times, so big product
+ * results need not to be held in memory.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@FunctionalInterface
+public interface ImportDataSource {
+
+	/**
+	 * Opens a new stream to data - caller must close the stream
+	 *
+	 * @return stream with UTF-8 encoded data, never <code>null</code>
+	 * @throws IOException
+	 */
+	public InputStream open() throws IOException;
+}
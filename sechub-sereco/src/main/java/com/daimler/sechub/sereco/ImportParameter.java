@@ -1,10 +1,28 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 public class ImportParameter {
+
+	/**
+	 * Amount of characters available as header. Product results have their
+	 * identifier (e.g. XML root element) always at the beginning.
+	 */
+	public static final int HEADER_SIZE = 4096;
+
+	private static final char BOM = 65279;
+
 	private String productId;
-	private String importData;
+	private ImportDataSource importDataSource;
 	private String importId;
+	private String importDataHeader;
 
 	public static ImportParamBuilder builder() {
 		return new ImportParamBuilder();
@@ -14,14 +32,66 @@ public class ImportParameter {
 		return productId;
 	}
 
-	public String getImportData() {
-		return importData;
-	}
-
 	public String getImportId() {
 		return importId;
 	}
 
+	/**
+	 * @return <code>true</code> when a source for import data is defined
+	 */
+	public boolean hasImportData() {
+		return importDataSource != null;
+	}
+
+	/**
+	 * Opens a reader for the import data. A leading byte order mark is skipped.
+	 * Caller must close the reader.
+	 *
+	 * @return reader, never <code>null</code>
+	 * @throws IOException
+	 */
+	public Reader openImportData() throws IOException {
+		if (importDataSource == null) {
+			throw new IOException("No import data defined for importId:" + importId);
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(importDataSource.open(), StandardCharsets.UTF_8));
+		reader.mark(1);
+		if (reader.read() != BOM) {
+			reader.reset();
+		}
+		return reader;
+	}
+
+	/**
+	 * Returns the first {@link #HEADER_SIZE} characters of the import data. The
+	 * header is read only once.
+	 *
+	 * @return header, empty when there is no import data, never
+	 *         <code>null</code>
+	 * @throws UncheckedIOException when import data cannot be read
+	 */
+	public String getImportDataHeader() {
+		if (importDataHeader != null) {
+			return importDataHeader;
+		}
+		if (importDataSource == null) {
+			importDataHeader = "";
+			return importDataHeader;
+		}
+		StringBuilder sb = new StringBuilder();
+		try (Reader reader = openImportData()) {
+			char[] buffer = new char[HEADER_SIZE];
+			int read;
+			while (sb.length() < HEADER_SIZE && (read = reader.read(buffer, 0, HEADER_SIZE - sb.length())) != -1) {
+				sb.append(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Was not able to read import data header for importId:" + importId, e);
+		}
+		importDataHeader = sb.toString();
+		return importDataHeader;
+	}
+
 	/**
 	 * Builder for input paramters
 	 * @author Albert Tregnaghi
@@ -44,8 +114,22 @@ public class ImportParameter {
 			return this;
 		}
 
+		/**
+		 * Defines import data as string - only useful for small data, big data
+		 * should be defined by {@link #importDataSource(ImportDataSource)}
+		 */
 		public ImportParamBuilder importData(String importData) {
-			param.importData = importData;
+			if (importData == null) {
+				param.importDataSource = null;
+				return this;
+			}
+			byte[] bytes = importData.getBytes(StandardCharsets.UTF_8);
+			param.importDataSource = () -> new ByteArrayInputStream(bytes);
+			return this;
+		}
+
+		public ImportParamBuilder importDataSource(ImportDataSource importDataSource) {
+			param.importDataSource = importDataSource;
 			return this;
 		}
 
@@ -61,4 +145,4 @@ public class ImportParameter {
 		}
 
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.daimler.sechub.sereco.metadata.Detection;
+import com.daimler.sechub.sereco.metadata.Severity;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
+
+/**
+ * Index to collapse duplicated vulnerabilities. Vulnerabilities are identified
+ * by fingerprints created by a {@link VulnerabilityFingerprintStrategy}. When a
+ * duplicate is added, its detections are added to the already known
+ * vulnerability and the higher severity is kept.<br>
+ * <br>
+ * Not thread safe.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class VulnerabilityDeduplicationIndex {
+
+	private final VulnerabilityFingerprintStrategy strategy;
+	private final Map<String, Vulnerability> index = new HashMap<>();
+	private int duplicates;
+
+	public VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy strategy) {
+		if (strategy == null) {
+			throw new IllegalArgumentException("strategy may not be null!");
+		}
+		this.strategy = strategy;
+	}
+
+	/**
+	 * Adds vulnerability to index
+	 *
+	 * @param vulnerability
+	 * @return <code>true</code> when vulnerability is new, <code>false</code> when
+	 *         it was merged into an already known vulnerability
+	 */
+	public boolean add(Vulnerability vulnerability) {
+		String fingerprint = strategy.createFingerprint(vulnerability);
+		if (fingerprint == null) {
+			return true;
+		}
+		Vulnerability known = index.putIfAbsent(fingerprint, vulnerability);
+		if (known == null) {
+			return true;
+		}
+		merge(known, vulnerability);
+		if (isHigher(vulnerability.getSeverity(), known.getSeverity())) {
+			known.setSeverity(vulnerability.getSeverity());
+		}
+		duplicates++;
+		return false;
+	}
+
+	/**
+	 * @return amount of vulnerabilities collapsed into already known ones
+	 */
+	public int getDuplicates() {
+		return duplicates;
+	}
+
+	private void merge(Vulnerability known, Vulnerability duplicate) {
+		List<Detection> detections = known.getList();
+		if (detections == null) {
+			detections = new ArrayList<>();
+			known.setList(detections);
+		}
+		if (duplicate.getList() == null) {
+			return;
+		}
+		for (Detection detection : duplicate.getList()) {
+			if (!detections.contains(detection)) {
+				detections.add(detection);
+			}
+		}
+	}
+
+	private boolean isHigher(Severity severity, Severity other) {
+		if (severity == null) {
+			return false;
+		}
+		if (other == null) {
+			return true;
+		}
+		return severity.ordinal() > other.ordinal();
+	}
+}
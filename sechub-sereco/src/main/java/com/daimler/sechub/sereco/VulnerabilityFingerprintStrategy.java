@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import java.util.regex.Pattern;
+
+import com.daimler.sechub.sereco.metadata.Classification;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
+
+/**
+ * Strategies to create fingerprints for vulnerabilities. Vulnerabilities having
+ * same fingerprint are handled as duplicates.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum VulnerabilityFingerprintStrategy {
+
+	/**
+	 * No fingerprint - so every vulnerability is kept. This is the default.
+	 */
+	NONE,
+
+	/**
+	 * Type, CWE, location (URL, host, port) and description must be equal
+	 */
+	EXACT,
+
+	/**
+	 * Type, CWE and location (URL, host, port) must be equal, description is
+	 * ignored. When there is no URL (e.g. code scan results, where file and
+	 * line are only part of the description) the description is used as
+	 * location, otherwise different findings would be collapsed.
+	 */
+	LOCATION,
+
+	;
+
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+	private static final char SEPARATOR = '\u0000';
+
+	/**
+	 * Creates fingerprint for given vulnerability
+	 *
+	 * @param vulnerability
+	 * @return fingerprint or <code>null</code> when vulnerability shall never be
+	 *         handled as duplicate
+	 */
+	public String createFingerprint(Vulnerability vulnerability) {
+		if (this == NONE || vulnerability == null) {
+			return null;
+		}
+		Classification classification = vulnerability.getClassification();
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(normalize(vulnerability.getType())).append(SEPARATOR);
+		sb.append(normalize(classification == null ? null : classification.getCwe())).append(SEPARATOR);
+		String url = normalize(vulnerability.getUrl());
+		sb.append(url);
+		if (this == EXACT || url.isEmpty()) {
+			sb.append(SEPARATOR).append(normalize(vulnerability.getDescription()));
+		}
+		return sb.toString();
+	}
+
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		return WHITESPACES.matcher(value.trim()).replaceAll(" ").toLowerCase();
+	}
+
+	/**
+	 * Resolves strategy by name (not case sensitive)
+	 *
+	 * @param name
+	 * @return strategy, never <code>null</code> - unknown names lead to
+	 *         {@link #NONE}
+	 */
+	public static VulnerabilityFingerprintStrategy fromString(String name) {
+		if (name == null) {
+			return NONE;
+		}
+		String upperCased = name.trim().toUpperCase();
+		for (VulnerabilityFingerprintStrategy strategy : values()) {
+			if (strategy.name().equals(upperCased)) {
+				return strategy;
+			}
+		}
+		return NONE;
+	}
+}
@@ -2,11 +2,17 @@
 package com.daimler.sechub.sereco;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -14,6 +20,7 @@ import org.springframework.stereotype.Component;
 import com.daimler.sechub.sereco.importer.ProductFailureMetaDataBuilder;
 import com.daimler.sechub.sereco.importer.ProductImportAbility;
 import com.daimler.sechub.sereco.importer.ProductResultImporter;
+import com.daimler.sechub.sereco.metadata.Detection;
 import com.daimler.sechub.sereco.metadata.MetaData;
 import com.daimler.sechub.sereco.metadata.Vulnerability;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -28,7 +35,21 @@ public class Workspace {
 	private MetaData workspaceMetaData = new MetaData();
 
 	@Autowired
-	private List<ProductResultImporter> importers;
+	List<ProductResultImporter> importers;
+
+	@Autowired
+	WorkspaceImportExecutor importExecutor;
+
+	/**
+	 * Strategy to identify duplicated vulnerabilities, which are collapsed into
+	 * one vulnerability with multiple detections. Possible values (not case
+	 * sensitive): NONE (default, no deduplication), EXACT, LOCATION - see
+	 * {@link VulnerabilityFingerprintStrategy}. Unknown values lead to NONE.
+	 */
+	@Value("${sechub.sereco.deduplication.strategy:NONE}")
+	String deduplicationStrategy = VulnerabilityFingerprintStrategy.NONE.name();
+
+	private VulnerabilityDeduplicationIndex deduplicationIndex;
 
 	private String id;
 
@@ -44,39 +65,95 @@ public class Workspace {
 		return id;
 	}
 
+	/**
+	 * Imports all given parameters. Product results are parsed in parallel, but
+	 * merged into workspace always in order of given parameters - so the
+	 * created report is deterministic.
+	 *
+	 * @param params
+	 * @throws IOException when at least one import failed
+	 */
+	public void doImport(List<ImportParameter> params) throws IOException {
+		if (params == null) {
+			throw new IllegalArgumentException("params may not be null!");
+		}
+		if (importExecutor == null || params.size() < 2) {
+			for (ImportParameter param : params) {
+				doImport(param);
+			}
+			return;
+		}
+		List<Callable<MetaData>> tasks = new ArrayList<>(params.size());
+		for (ImportParameter param : params) {
+			tasks.add(() -> importToMetaData(param));
+		}
+		List<MetaData> results;
+		try {
+			results = importExecutor.executeAll(tasks);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException("Import failed", cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Import was interrupted", e);
+		}
+		for (MetaData metaData : results) {
+			mergeWithWorkspaceData(metaData);
+		}
+	}
+
 	public void doImport(ImportParameter param) throws IOException {
+		MetaData metaData = importToMetaData(param);
+		mergeWithWorkspaceData(metaData);
+	}
+
+	/**
+	 * Imports given parameter without changing workspace data, so can be called
+	 * by multiple threads
+	 */
+	private MetaData importToMetaData(ImportParameter param) throws IOException {
+		MetaData result = new MetaData();
 		if (param == null) {
 			throw new IllegalArgumentException("param may not be null!");
 		}
-		if (param.getImportData() == null) {
+		if (!param.hasImportData()) {
 			LOG.error("Import data was null for docId:{}, so unable to import.", param.getImportId());
-			return;
+			return result;
 		}
 		if (param.getImportId() == null) {
 			LOG.error("Import data was not null, but importId was not set, so unable to import.");
-			return;
+			return result;
 		}
 		boolean atLeastOneImporterWasAbleToImport = false;
 		for (ProductResultImporter importer : importers) {
-			ProductImportAbility ableToImportForProduct = importer.isAbleToImportForProduct(param);
+			ProductImportAbility ableToImportForProduct = isAbleToImport(importer, param);
 			if (ProductImportAbility.PRODUCT_FAILED.equals(ableToImportForProduct)) {
 				/* means the importer would be able to import, but it is sure that the product failed,
 				 * so we add just a critical finding for the product itself
 				 */
 				ProductFailureMetaDataBuilder builder = new ProductFailureMetaDataBuilder();
 				MetaData metaData = builder.forParam(param).build();
-				mergeWithWorkspaceData(metaData);
+				addDetectedVulnerabilities(param, metaData, result);
 				atLeastOneImporterWasAbleToImport=true;
 				break;
 			}
 			if (ProductImportAbility.ABLE_TO_IMPORT.equals(ableToImportForProduct)) {
-				MetaData metaData = importer.importResult(param.getImportData());
+				MetaData metaData;
+				try (Reader reader = param.openImportData()) {
+					metaData = importer.importResult(reader);
+				}
 				if (metaData == null) {
 					LOG.error("Meta data was null for product={}, importer={}, importId={}", param.getProductId(),
 							importer.getClass().getSimpleName(), param.getImportId());
-					return;
+					return result;
 				}
-				mergeWithWorkspaceData(metaData);
+				addDetectedVulnerabilities(param, metaData, result);
 				atLeastOneImporterWasAbleToImport = true;
 			}
 		}
@@ -95,15 +172,51 @@ public class Workspace {
 			throw new IOException(
 					"Import failed, no importer was able to import product result: " + param.getProductId());
 		}
+		return result;
+	}
 
+	private ProductImportAbility isAbleToImport(ProductResultImporter importer, ImportParameter param) throws IOException {
+		try {
+			return importer.isAbleToImportForProduct(param);
+		} catch (UncheckedIOException e) {
+			/* import data header was not readable */
+			throw e.getCause();
+		}
 	}
 
-	private void mergeWithWorkspaceData(MetaData metaData) {
-		/* currently a very simple,stupid approach: */
-		this.workspaceMetaData.getVulnerabilities().addAll(metaData.getVulnerabilities());
+	private void addDetectedVulnerabilities(ImportParameter param, MetaData metaData, MetaData result) {
+		for (Vulnerability vulnerability : metaData.getVulnerabilities()) {
+			Detection detection = new Detection();
+			detection.setProductID(param.getProductId());
+			detection.setProductScanId(param.getImportId());
+			vulnerability.getList().add(detection);
+
+			result.getVulnerabilities().add(vulnerability);
+		}
+	}
+
+	private synchronized void mergeWithWorkspaceData(MetaData metaData) {
+		if (deduplicationIndex == null) {
+			deduplicationIndex = new VulnerabilityDeduplicationIndex(resolveFingerprintStrategy());
+		}
+		List<Vulnerability> vulnerabilities = workspaceMetaData.getVulnerabilities();
+		for (Vulnerability vulnerability : metaData.getVulnerabilities()) {
+			if (deduplicationIndex.add(vulnerability)) {
+				vulnerabilities.add(vulnerability);
+			}
+		}
+	}
+
+	VulnerabilityFingerprintStrategy resolveFingerprintStrategy() {
+		VulnerabilityFingerprintStrategy strategy = VulnerabilityFingerprintStrategy.fromString(deduplicationStrategy);
+		if (strategy == VulnerabilityFingerprintStrategy.NONE && deduplicationStrategy != null
+				&& !deduplicationStrategy.trim().equalsIgnoreCase(VulnerabilityFingerprintStrategy.NONE.name())) {
+			LOG.warn("Unknown deduplication strategy '{}', will use {}", deduplicationStrategy, strategy);
+		}
+		return strategy;
 	}
 
-	public String createReport() {
+	public synchronized String createReport() {
 		try {
 			return new ObjectMapper().writeValueAsString(workspaceMetaData);
 		} catch (JsonProcessingException e) {
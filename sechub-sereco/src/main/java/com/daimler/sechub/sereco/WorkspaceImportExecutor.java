@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes product result imports of workspaces in parallel on a bounded
+ * thread pool. Results are always returned in order of given tasks, so output
+ * does not depend on which import finished first.<br>
+ * <br>
+ * Pool size can be defined by <code>sechub.sereco.import.pool.size</code>.
+ * When pool and its queue are full, the import is executed inside the calling
+ * thread.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class WorkspaceImportExecutor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(WorkspaceImportExecutor.class);
+
+	private static final int DEFAULT_POOL_SIZE = 3;
+	private static final int DEFAULT_QUEUE_CAPACITY = 30;
+
+	@Value("${sechub.sereco.import.pool.size:" + DEFAULT_POOL_SIZE + "}")
+	int poolSize = DEFAULT_POOL_SIZE;
+
+	@Value("${sechub.sereco.import.pool.queue.capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+	int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	void initialize() {
+		if (poolSize < 1) {
+			LOG.warn("Wrong configured sereco import pool size:{}, will use 1", poolSize);
+			poolSize = 1;
+		}
+		if (queueCapacity < 0) {
+			LOG.warn("Wrong configured sereco import queue capacity:{}, will use 0", queueCapacity);
+			queueCapacity = 0;
+		}
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("sechub-sereco-import-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+	}
+
+	/**
+	 * Executes all tasks in parallel and waits until all are done
+	 *
+	 * @param tasks
+	 * @return results in same order as tasks
+	 * @throws ExecutionException   when at least one task failed - all other
+	 *                              tasks are cancelled, further failures are
+	 *                              added as suppressed
+	 * @throws InterruptedException
+	 */
+	public <T> List<T> executeAll(List<Callable<T>> tasks) throws ExecutionException, InterruptedException {
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		for (Callable<T> task : tasks) {
+			futures.add(executor.submit(task));
+		}
+		List<T> results = new ArrayList<>(tasks.size());
+		ExecutionException failure = null;
+		try {
+			for (Future<T> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = e;
+						cancelAll(futures);
+					} else {
+						failure.addSuppressed(e.getCause());
+					}
+				} catch (CancellationException e) {
+					/* cancelled because of another failure - reason already known */
+				}
+			}
+		} catch (InterruptedException e) {
+			cancelAll(futures);
+			throw e;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return results;
+	}
+
+	private <T> void cancelAll(List<Future<T>> futures) {
+		for (Future<T> future : futures) {
+			future.cancel(true);
+		}
+	}
+}
@@ -2,13 +2,16 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -17,6 +20,14 @@ import com.daimler.sechub.sereco.metadata.MetaData;
 import com.daimler.sechub.sereco.metadata.Severity;
 import com.daimler.sechub.sereco.metadata.Vulnerability;
 
+/**
+ * Imports checkmarx XML reports. The XML is parsed by StAX, so no DOM is
+ * created and vulnerabilities can be consumed while parsing, see
+ * {@link #importVulnerabilities(Reader, Consumer)}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 @Component
 public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 
@@ -25,64 +36,124 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	@SuppressWarnings("unchecked")
+	private static final int DEPTH_QUERY = 2;
+	private static final int DEPTH_RESULT = 3;
+
+	private final XMLInputFactory xmlInputFactory = ImportSupport.createXMLInputFactory();
+
+	private final CheckmarxCategoriesToClassificationConverter categoriesConverter = new CheckmarxCategoriesToClassificationConverter();
+
 	public MetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
+		return importResult(ImportSupport.createReaderWithoutBOM(xml));
+	}
+
+	@Override
+	public MetaData importResult(Reader reader) throws IOException {
+		MetaData metaData = new MetaData();
+		importVulnerabilities(reader, metaData.getVulnerabilities()::add);
+		return metaData;
+	}
+
+	public MetaData importResult(InputStream inputStream) throws IOException {
+		MetaData metaData = new MetaData();
+		try {
+			/* encoding is detected by parser */
+			importVulnerabilities(xmlInputFactory.createXMLStreamReader(inputStream), metaData.getVulnerabilities()::add);
+		} catch (XMLStreamException e) {
+			throw new IOException("Import cannot parse xml", e);
 		}
-		Document document;
+		return metaData;
+	}
+
+	/**
+	 * Imports vulnerabilities - every vulnerability is given to consumer
+	 * directly after parsing, so callers do not need to hold all of them in
+	 * memory
+	 *
+	 * @param reader
+	 * @param consumer
+	 * @throws IOException
+	 */
+	public void importVulnerabilities(Reader reader, Consumer<Vulnerability> consumer) throws IOException {
 		try {
-			document = DocumentHelper.parseText(xml);
-		} catch (DocumentException e) {
+			importVulnerabilities(xmlInputFactory.createXMLStreamReader(reader), consumer);
+		} catch (XMLStreamException e) {
 			throw new IOException("Import cannot parse xml", e);
 		}
+	}
 
-		MetaData metaData = new MetaData();
-		Element checkmarxCxXMLResults = document.getRootElement();
-		List<Element> queryElements = checkmarxCxXMLResults.elements("Query");
+	private void importVulnerabilities(XMLStreamReader xmlReader, Consumer<Vulnerability> consumer) throws XMLStreamException {
+		try {
+			int depth = 0;
+			QueryData query = null;
+			while (xmlReader.hasNext()) {
+				int event = xmlReader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String elementName = xmlReader.getLocalName();
+					if (depth == DEPTH_QUERY && "Query".equals(elementName)) {
+						query = new QueryData(xmlReader);
+					} else if (depth == DEPTH_RESULT && query != null && "Result".equals(elementName)) {
+						Vulnerability vulnerability = createVulnerabilityOrNull(query, xmlReader);
+						if (vulnerability != null) {
+							consumer.accept(vulnerability);
+						}
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if (depth == DEPTH_QUERY) {
+						query = null;
+					}
+					depth--;
+				}
+			}
+		} finally {
+			xmlReader.close();
+		}
+	}
 
-		for (Element queryElement : queryElements) {
+	private Vulnerability createVulnerabilityOrNull(QueryData query, XMLStreamReader xmlReader) {
+		String falsePositive = xmlReader.getAttributeValue(null, "FalsePositive");
+		if (Boolean.parseBoolean(falsePositive)) {
+			String nodeId = xmlReader.getAttributeValue(null, "NodeId");
+			LOG.debug("Ignored marked false positive for NodeId:{}", nodeId);
+			return null;
+		}
+		String deeplink = xmlReader.getAttributeValue(null, "DeepLink");
+		String severity = xmlReader.getAttributeValue(null, "Severity");
+		String fileName = xmlReader.getAttributeValue(null, "FileName");
+		String line = xmlReader.getAttributeValue(null, "Line");
+		String column = xmlReader.getAttributeValue(null, "Column");
+
+		Vulnerability vulnerability = new Vulnerability();
+		vulnerability.setType(query.type);
 
-			String name = queryElement.attributeValue("name");
-			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
-			String categories = queryElement.attributeValue("categories");
-			String cweId = queryElement.attributeValue("cweId");
+		if ("Information".equalsIgnoreCase(severity)) {
+			severity = "info";
+		}
+		vulnerability.setSeverity(Severity.fromString(severity));
 
-			List<Element> resultElements = queryElement.elements("Result");
-			for (Element resultElement : resultElements) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("\n<br>Location:").append(fileName).append(" - line:").append(line).append(", column:")
+				.append(column);
+		sb.append("\\n<br>For details look at <a href='").append(deeplink).append("'>Full result</a>");
+		vulnerability.setDescription(sb.toString());
+		vulnerability.getClassification().setCwe(query.cweId);
+		categoriesConverter.convert(query.categories, vulnerability.getClassification());
 
-				String falsePositive = resultElement.attributeValue("FalsePositive");
-				if (Boolean.parseBoolean(falsePositive)) {
-					String nodeId=resultElement.attributeValue("NodeId");
-					LOG.debug("Ignored marked false positive for NodeId:{}",nodeId);
-					continue;
-				}
-				String deeplink = resultElement.attributeValue("DeepLink");
-				String severity = resultElement.attributeValue("Severity");
-				String fileName = resultElement.attributeValue("FileName");
-				String line = resultElement.attributeValue("Line");
-				String column = resultElement.attributeValue("Column");
+		return vulnerability;
+	}
 
-				Vulnerability vulnerability = new Vulnerability();
-				vulnerability.setType(type);
+	private static class QueryData {
+		private String type;
+		private String categories;
+		private String cweId;
 
-				if ("Information".equalsIgnoreCase(severity)) {
-					severity = "info";
-				}
-				vulnerability.setSeverity(Severity.fromString(severity));
-
-				StringBuilder sb = new StringBuilder();
-				sb.append("\n<br>Location:").append(fileName).append(" - line:").append(line).append(", column:")
-						.append(column);
-				sb.append("\\n<br>For details look at <a href='").append(deeplink).append("'>Full result</a>");
-				vulnerability.setDescription(sb.toString());
-				vulnerability.getClassification().setCwe(cweId);
-				new CheckmarxCategoriesToClassificationConverter().convert(categories,
-						vulnerability.getClassification());
-				metaData.getVulnerabilities().add(vulnerability);
-			}
+		private QueryData(XMLStreamReader xmlReader) {
+			String name = xmlReader.getAttributeValue(null, "name");
+			type = name == null ? null : NAME_PATTERN.matcher(name).replaceAll(" ");
+			categories = xmlReader.getAttributeValue(null, "categories");
+			cweId = xmlReader.getAttributeValue(null, "cweId");
 		}
-		return metaData;
 	}
 
 	@Override
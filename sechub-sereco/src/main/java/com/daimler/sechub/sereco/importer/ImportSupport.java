@@ -1,11 +1,17 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.importer;
 
+import java.io.Reader;
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+
 import com.daimler.sechub.sereco.ImportParameter;
 
 /**
  * Support to check if an importer can handle JSON or XML content. It simply
- * checks if content contains one wellknown part
+ * checks if the header of the content contains one wellknown part - so the
+ * complete content must not be inspected.
  *
  * @author Albert Tregnaghi
  *
@@ -14,6 +20,12 @@ public class ImportSupport {
 
 	private static final char BOM = 65279;
 
+	/**
+	 * Amount of characters inspected to identify content. Product results have
+	 * their identifier (e.g. XML root element) always at the beginning.
+	 */
+	static final int HEADER_SIZE = ImportParameter.HEADER_SIZE;
+
 	private String productId;
 
 	private String contentIdentifier;
@@ -31,6 +43,37 @@ public class ImportSupport {
 	private ImportSupport() {
 	}
 
+	/**
+	 * Creates a StAX input factory for product results. No DTD or external
+	 * entities are necessary - so both are disabled (XXE).
+	 *
+	 * @return factory
+	 */
+	public static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/**
+	 * Creates a reader for given content. Reports written with BOM and read as
+	 * string still contain the BOM - this is not allowed in XML prolog, so a
+	 * leading BOM is skipped.
+	 *
+	 * @param content content, <code>null</code> is handled as empty string
+	 * @return reader
+	 */
+	public static Reader createReaderWithoutBOM(String content) {
+		if (content == null) {
+			return new StringReader("");
+		}
+		if (!content.isEmpty() && content.charAt(0) == BOM) {
+			return new StringReader(content.substring(1));
+		}
+		return new StringReader(content);
+	}
+
 	public static ImportSupportBuilder builder() {
 		return new ImportSupportBuilder();
 	}
@@ -91,7 +134,8 @@ public class ImportSupport {
 	}
 
 	/**
-	 * Checks if the given import parameter can be imported or not
+	 * Checks if the given import parameter can be imported or not. Only the
+	 * header of the import data is inspected.
 	 * @param parameter
 	 * @return
 	 */
@@ -99,16 +143,17 @@ public class ImportSupport {
 		if (!isProductIdentified(parameter.getProductId())) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (isEmpty(parameter.getImportData())) {
+		String header = parameter.getImportDataHeader();
+		if (isEmpty(header)) {
 			return ProductImportAbility.PRODUCT_FAILED;
 		}
-		if (!isContentIdentified(parameter.getImportData())) {
+		if (!isContentIdentified(header)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (checkXML && !isXML(parameter.getImportData())) {
+		if (checkXML && !isXML(header)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
-		if (checkJSON && !isJSON(parameter.getImportData())) {
+		if (checkJSON && !isJSON(header)) {
 			return ProductImportAbility.NOT_ABLE_TO_IMPORT;
 		}
 		return ProductImportAbility.ABLE_TO_IMPORT;
@@ -133,7 +178,18 @@ public class ImportSupport {
 		if (contentIdentifier == null) {
 			return true; /* always.. */
 		}
-		return content.contains(contentIdentifier);
+		return isContainedInHeader(content, contentIdentifier);
+	}
+
+	private boolean isContainedInHeader(String content, String identifier) {
+		int identifierLength = identifier.length();
+		int lastStart = Math.min(content.length(), HEADER_SIZE) - identifierLength;
+		for (int pos = 0; pos <= lastStart; pos++) {
+			if (content.regionMatches(pos, identifier, 0, identifierLength)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	boolean isEmpty(String data) {
@@ -2,65 +2,178 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sereco.metadata.MetaData;
 import com.daimler.sechub.sereco.metadata.Severity;
 import com.daimler.sechub.sereco.metadata.Vulnerability;
 
+/**
+ * Imports nessus XML reports. The XML is parsed by StAX, so no DOM is created
+ * and every <code>ReportHost</code> and its <code>ReportItem</code> elements
+ * are handled. Host and port of a finding are set as vulnerability URL (e.g.
+ * "10.0.0.1:443/tcp").<br>
+ * <br>
+ * Amount of findings per host can be limited by
+ * <code>sechub.sereco.nessus.findings.per.host.maximum</code> - values lower
+ * than 1 mean no limit.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 @Component
 public class NessusV1XMLImporter extends AbstractProductResultImporter {
 
+	private static final Logger LOG = LoggerFactory.getLogger(NessusV1XMLImporter.class);
+
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	@SuppressWarnings("unchecked")
+	private static final int DEPTH_REPORT_HOST = 3;
+	private static final int DEPTH_REPORT_ITEM = 4;
+	private static final int DEPTH_PLUGIN_OUTPUT = 5;
+
+	@Value("${sechub.sereco.nessus.findings.per.host.maximum:-1}")
+	int maximumFindingsPerHost = -1;
+
+	private final XMLInputFactory xmlInputFactory = ImportSupport.createXMLInputFactory();
+
+	public void setMaximumFindingsPerHost(int maximumFindingsPerHost) {
+		this.maximumFindingsPerHost = maximumFindingsPerHost;
+	}
+
 	public MetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
+		return importResult(ImportSupport.createReaderWithoutBOM(xml));
+	}
+
+	@Override
+	public MetaData importResult(Reader reader) throws IOException {
+		MetaData metaData = new MetaData();
+		importVulnerabilities(reader, metaData.getVulnerabilities()::add);
+		return metaData;
+	}
+
+	public MetaData importResult(InputStream inputStream) throws IOException {
+		MetaData metaData = new MetaData();
+		try {
+			/* encoding is detected by parser */
+			importVulnerabilities(xmlInputFactory.createXMLStreamReader(inputStream), metaData.getVulnerabilities()::add);
+		} catch (XMLStreamException e) {
+			throw new IOException("Import cannot parse xml", e);
 		}
-		Document document;
+		return metaData;
+	}
+
+	/**
+	 * Imports vulnerabilities of all hosts - every vulnerability is given to
+	 * consumer directly after parsing, so callers do not need to hold all of
+	 * them in memory
+	 *
+	 * @param reader
+	 * @param consumer
+	 * @throws IOException
+	 */
+	public void importVulnerabilities(Reader reader, Consumer<Vulnerability> consumer) throws IOException {
 		try {
-			document = DocumentHelper.parseText(xml);
-		} catch (DocumentException e) {
+			importVulnerabilities(xmlInputFactory.createXMLStreamReader(reader), consumer);
+		} catch (XMLStreamException e) {
 			throw new IOException("Import cannot parse xml", e);
 		}
+	}
 
-		MetaData metaData = new MetaData();
-		Element checkmarxCxXMLResults = document.getRootElement();
-		Element reportElement = checkmarxCxXMLResults.element("Report");
-		Element reportHost = reportElement.element("ReportHost");
-		List<Element> reportItems = reportHost.elements("ReportItem");
-
-		for (Element reportItem : reportItems) {
-			String name = reportItem.attributeValue("svc_name");
-			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
-			String output = reportItem.elementText("plugin_output");
-
-			Vulnerability vulnerability = new Vulnerability();
-			Severity severity = null;
-			int severityLevel = Integer.parseInt(reportItem.attributeValue("severity"));
-			if (severityLevel == 0) {
-				severity = Severity.INFO;
-			}else if (severityLevel==1) {
-				severity = Severity.LOW;
-			}else if (severityLevel==2){
-				severity = Severity.MEDIUM;
-			}else {
-				severity = Severity.MEDIUM;
+	private void importVulnerabilities(XMLStreamReader xmlReader, Consumer<Vulnerability> consumer) throws XMLStreamException {
+		try {
+			int depth = 0;
+			String host = null;
+			int hostFindings = 0;
+			Vulnerability vulnerability = null;
+			while (xmlReader.hasNext()) {
+				int event = xmlReader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String elementName = xmlReader.getLocalName();
+					if (depth == DEPTH_REPORT_HOST && "ReportHost".equals(elementName)) {
+						host = xmlReader.getAttributeValue(null, "name");
+						hostFindings = 0;
+					} else if (depth == DEPTH_REPORT_ITEM && host != null && "ReportItem".equals(elementName)) {
+						hostFindings++;
+						if (isLimitReached(hostFindings)) {
+							continue;
+						}
+						vulnerability = createVulnerability(host, xmlReader);
+					} else if (depth == DEPTH_PLUGIN_OUTPUT && vulnerability != null && "plugin_output".equals(elementName)) {
+						vulnerability.setDescription(xmlReader.getElementText());
+						/* getElementText() has consumed the end element */
+						depth--;
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if (depth == DEPTH_REPORT_ITEM && vulnerability != null) {
+						consumer.accept(vulnerability);
+						vulnerability = null;
+					} else if (depth == DEPTH_REPORT_HOST && host != null) {
+						if (isLimitReached(hostFindings)) {
+							LOG.warn("Host {} has {} findings, only first {} were imported", host, hostFindings, maximumFindingsPerHost);
+						}
+						host = null;
+					}
+					depth--;
+				}
 			}
-			vulnerability.setSeverity(severity);
-			vulnerability.setType(type);
-			vulnerability.setDescription(output);
-			metaData.getVulnerabilities().add(vulnerability);
+		} finally {
+			xmlReader.close();
 		}
-		return metaData;
+	}
+
+	private boolean isLimitReached(int hostFindings) {
+		return maximumFindingsPerHost > 0 && hostFindings > maximumFindingsPerHost;
+	}
+
+	private Vulnerability createVulnerability(String host, XMLStreamReader xmlReader) {
+		String name = xmlReader.getAttributeValue(null, "svc_name");
+		String port = xmlReader.getAttributeValue(null, "port");
+		String protocol = xmlReader.getAttributeValue(null, "protocol");
+		String severityLevel = xmlReader.getAttributeValue(null, "severity");
+
+		Vulnerability vulnerability = new Vulnerability();
+		vulnerability.setType(name == null ? null : NAME_PATTERN.matcher(name).replaceAll(" "));
+		vulnerability.setSeverity(toSeverity(severityLevel));
+		vulnerability.setUrl(createLocation(host, port, protocol));
+		return vulnerability;
+	}
+
+	private String createLocation(String host, String port, String protocol) {
+		if (port == null || port.isEmpty() || "0".equals(port)) {
+			/* port 0 is used by nessus for host related findings */
+			return host;
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append(host).append(':').append(port);
+		if (protocol != null && !protocol.isEmpty()) {
+			sb.append('/').append(protocol);
+		}
+		return sb.toString();
+	}
+
+	private Severity toSeverity(String severityLevel) {
+		int level = Integer.parseInt(severityLevel);
+		if (level == 0) {
+			return Severity.INFO;
+		} else if (level == 1) {
+			return Severity.LOW;
+		}
+		return Severity.MEDIUM;
 	}
 
 	@Override
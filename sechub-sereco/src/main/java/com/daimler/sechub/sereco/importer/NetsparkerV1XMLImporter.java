@@ -2,12 +2,14 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Iterator;
 
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
+import org.dom4j.io.SAXReader;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sereco.metadata.Classification;
@@ -18,13 +20,18 @@ import com.daimler.sechub.sereco.metadata.Vulnerability;
 public class NetsparkerV1XMLImporter extends AbstractProductResultImporter {
 
 	public MetaData importResult(String xml) throws IOException{
-		MetaData metaData = new MetaData();
 		if (xml==null) {
 			xml="";
 		}
+		return importResult(new StringReader(xml));
+	}
+
+	@Override
+	public MetaData importResult(Reader reader) throws IOException{
+		MetaData metaData = new MetaData();
 		Document document;
 		try {
-			document = DocumentHelper.parseText(xml);
+			document = new SAXReader().read(reader);
 		} catch (DocumentException e) {
 			throw new IOException("Import cannot parse xml",e);
 		}
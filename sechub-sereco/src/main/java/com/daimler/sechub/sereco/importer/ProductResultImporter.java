@@ -2,13 +2,21 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
+import java.io.Reader;
 
 import com.daimler.sechub.sereco.ImportParameter;
 import com.daimler.sechub.sereco.metadata.MetaData;
 
 public interface ProductResultImporter {
 
-	public MetaData importResult(String json) throws IOException;
+	/**
+	 * Imports product result
+	 *
+	 * @param reader reader for product result, will not be closed
+	 * @return meta data
+	 * @throws IOException
+	 */
+	public MetaData importResult(Reader reader) throws IOException;
 
 	public ProductImportAbility isAbleToImportForProduct(ImportParameter param);
 }
\ No newline at end of file
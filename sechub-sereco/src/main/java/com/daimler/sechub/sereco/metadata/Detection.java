@@ -1,10 +1,65 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.metadata;
 
+import java.util.Objects;
+
+/**
+ * Describes which product (and product result) has detected a vulnerability
+ *
+ * @author Albert Tregnaghi
+ *
+ */
 public class Detection {
 
 	String sechubJobUUID;
 	String productID;
 	String productScanId;
 
+	public String getSechubJobUUID() {
+		return sechubJobUUID;
+	}
+
+	public void setSechubJobUUID(String sechubJobUUID) {
+		this.sechubJobUUID = sechubJobUUID;
+	}
+
+	public String getProductID() {
+		return productID;
+	}
+
+	public void setProductID(String productID) {
+		this.productID = productID;
+	}
+
+	public String getProductScanId() {
+		return productScanId;
+	}
+
+	public void setProductScanId(String productScanId) {
+		this.productScanId = productScanId;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(productID, productScanId, sechubJobUUID);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Detection other = (Detection) obj;
+		return Objects.equals(productID, other.productID) && Objects.equals(productScanId, other.productScanId)
+				&& Objects.equals(sechubJobUUID, other.sechubJobUUID);
+	}
+
+	@Override
+	public String toString() {
+		return "Detection [sechubJobUUID=" + sechubJobUUID + ", productID=" + productID + ", productScanId=" + productScanId + "]";
+	}
+
 }
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.daimler.sechub.sereco.metadata.Detection;
+import com.daimler.sechub.sereco.metadata.Severity;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
+
+public class VulnerabilityDeduplicationIndexTest {
+
+	@Test
+	public void exact_same_vulnerabilities_from_two_products_are_collapsed() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.EXACT);
+		Vulnerability vulnerability1 = create("XSS", "79", "https://example.org/a", "desc", Severity.MEDIUM, "product1");
+		Vulnerability vulnerability2 = create("xss ", "79", "https://example.org/a", " desc", Severity.HIGH, "product2");
+
+		/* execute */
+		boolean added1 = indexToTest.add(vulnerability1);
+		boolean added2 = indexToTest.add(vulnerability2);
+
+		/* test */
+		assertTrue(added1);
+		assertFalse(added2);
+		assertEquals(1, indexToTest.getDuplicates());
+		assertEquals(2, vulnerability1.getList().size());
+		assertEquals(Severity.HIGH, vulnerability1.getSeverity());
+	}
+
+	@Test
+	public void same_detection_is_not_added_twice() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.EXACT);
+		Vulnerability vulnerability1 = create("XSS", "79", "https://example.org/a", "desc", Severity.MEDIUM, "product1");
+		Vulnerability vulnerability2 = create("XSS", "79", "https://example.org/a", "desc", Severity.LOW, "product1");
+
+		/* execute */
+		indexToTest.add(vulnerability1);
+		indexToTest.add(vulnerability2);
+
+		/* test */
+		assertEquals(1, vulnerability1.getList().size());
+		assertEquals(Severity.MEDIUM, vulnerability1.getSeverity());
+	}
+
+	@Test
+	public void different_location_or_cwe_is_not_collapsed() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.LOCATION);
+
+		/* execute + test */
+		assertTrue(indexToTest.add(create("XSS", "79", "https://example.org/a", "desc", Severity.MEDIUM, "product1")));
+		assertTrue(indexToTest.add(create("XSS", "79", "https://example.org/b", "desc", Severity.MEDIUM, "product1")));
+		assertTrue(indexToTest.add(create("XSS", "80", "https://example.org/a", "desc", Severity.MEDIUM, "product1")));
+		assertEquals(0, indexToTest.getDuplicates());
+	}
+
+	@Test
+	public void strategy_location_ignores_description_but_exact_not() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex locationIndex = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.LOCATION);
+		VulnerabilityDeduplicationIndex exactIndex = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.EXACT);
+
+		/* execute */
+		locationIndex.add(create("XSS", "79", "https://example.org/a", "desc1", Severity.MEDIUM, "product1"));
+		locationIndex.add(create("XSS", "79", "https://example.org/a", "desc2", Severity.MEDIUM, "product2"));
+		exactIndex.add(create("XSS", "79", "https://example.org/a", "desc1", Severity.MEDIUM, "product1"));
+		exactIndex.add(create("XSS", "79", "https://example.org/a", "desc2", Severity.MEDIUM, "product2"));
+
+		/* test */
+		assertEquals(1, locationIndex.getDuplicates());
+		assertEquals(0, exactIndex.getDuplicates());
+	}
+
+	@Test
+	public void strategy_location_uses_description_when_url_is_missing() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.LOCATION);
+
+		/* execute + test */
+		assertTrue(indexToTest.add(create("XSS", "79", null, "Location:File1.java - line:10", Severity.MEDIUM, "product1")));
+		assertTrue(indexToTest.add(create("XSS", "79", "", "Location:File1.java - line:20", Severity.MEDIUM, "product1")));
+		assertFalse(indexToTest.add(create("XSS", "79", null, "Location:File1.java - line:10", Severity.MEDIUM, "product2")));
+		assertEquals(1, indexToTest.getDuplicates());
+	}
+
+	@Test
+	public void strategy_none_never_collapses() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.NONE);
+
+		/* execute + test */
+		assertTrue(indexToTest.add(create("XSS", "79", "https://example.org/a", "desc", Severity.MEDIUM, "product1")));
+		assertTrue(indexToTest.add(create("XSS", "79", "https://example.org/a", "desc", Severity.MEDIUM, "product1")));
+	}
+
+	@Test
+	public void synthetic_workspace_with_many_duplicates_is_collapsed() {
+		/* prepare */
+		VulnerabilityDeduplicationIndex indexToTest = new VulnerabilityDeduplicationIndex(VulnerabilityFingerprintStrategy.EXACT);
+		int unique = 0;
+
+		/* execute */
+		for (int i = 0; i < 200000; i++) {
+			if (indexToTest.add(create("type" + (i % 100), "79", "https://example.org/" + (i % 500), "desc", Severity.MEDIUM, "product" + (i % 3)))) {
+				unique++;
+			}
+		}
+
+		/* test */
+		assertEquals(500, unique);
+		assertEquals(200000 - 500, indexToTest.getDuplicates());
+	}
+
+	@Test
+	public void unknown_strategy_name_resolves_to_none() {
+		assertEquals(VulnerabilityFingerprintStrategy.NONE, VulnerabilityFingerprintStrategy.fromString("unknown"));
+		assertEquals(VulnerabilityFingerprintStrategy.NONE, VulnerabilityFingerprintStrategy.fromString(null));
+		assertEquals(VulnerabilityFingerprintStrategy.LOCATION, VulnerabilityFingerprintStrategy.fromString("location"));
+	}
+
+	private Vulnerability create(String type, String cwe, String url, String description, Severity severity, String productId) {
+		Vulnerability vulnerability = new Vulnerability();
+		vulnerability.setType(type);
+		vulnerability.getClassification().setCwe(cwe);
+		vulnerability.setUrl(url);
+		vulnerability.setDescription(description);
+		vulnerability.setSeverity(severity);
+		Detection detection = new Detection();
+		detection.setProductID(productId);
+		vulnerability.getList().add(detection);
+		return vulnerability;
+	}
+}
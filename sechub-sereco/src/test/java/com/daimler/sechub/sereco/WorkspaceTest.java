@@ -0,0 +1,286 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.daimler.sechub.sereco.importer.CheckmarxV1XMLImporter;
+import com.daimler.sechub.sereco.importer.ProductImportAbility;
+import com.daimler.sechub.sereco.importer.ProductResultImporter;
+import com.daimler.sechub.sereco.metadata.Detection;
+import com.daimler.sechub.sereco.metadata.MetaData;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
+import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class WorkspaceTest {
+
+	private Workspace workspaceToTest;
+	private WorkspaceImportExecutor importExecutor;
+	private ProductResultImporter importer;
+
+	@Before
+	public void before() throws Exception {
+		importer = mock(ProductResultImporter.class);
+		when(importer.isAbleToImportForProduct(any())).thenReturn(ProductImportAbility.ABLE_TO_IMPORT);
+
+		importExecutor = new WorkspaceImportExecutor();
+		importExecutor.initialize();
+
+		workspaceToTest = new Workspace("project1");
+		workspaceToTest.importers = Arrays.asList(importer);
+		workspaceToTest.importExecutor = importExecutor;
+	}
+
+	@After
+	public void after() {
+		importExecutor.shutdown();
+	}
+
+	@Test
+	public void parallel_imports_are_merged_in_order_of_parameters() throws Exception {
+		/* prepare */
+		/* first import is the slowest one, so would be merged last when not ordered */
+		when(importer.importResult(any())).thenAnswer(invocation -> {
+			String data = read(invocation.getArgument(0));
+			Thread.sleep(100 - 30 * Integer.parseInt(data));
+			return createMetaData("type" + data);
+		});
+
+		/* execute */
+		workspaceToTest.doImport(Arrays.asList(param("0"), param("1"), param("2")));
+
+		/* test */
+		List<String> types = new ArrayList<>();
+		for (Vulnerability vulnerability : workspaceToTest.getVulnerabilties()) {
+			types.add(vulnerability.getType());
+		}
+		assertEquals(Arrays.asList("type0", "type1", "type2"), types);
+	}
+
+	@Test
+	public void parallel_import_failure_is_thrown_as_io_exception() throws Exception {
+		/* prepare */
+		when(importer.importResult(any())).thenAnswer(invocation -> {
+			if ("1".equals(read(invocation.getArgument(0)))) {
+				throw new IOException("failed");
+			}
+			return createMetaData("type0");
+		});
+
+		/* execute */
+		try {
+			workspaceToTest.doImport(Arrays.asList(param("0"), param("1")));
+			fail("no exception thrown");
+		} catch (IOException e) {
+			/* test */
+			assertEquals("failed", e.getMessage());
+		}
+	}
+
+	@Test
+	public void empty_product_results_are_imported_as_one_product_failure_with_two_detections() throws Exception {
+		/* prepare */
+		workspaceToTest.deduplicationStrategy = "EXACT";
+		when(importer.isAbleToImportForProduct(any())).thenReturn(ProductImportAbility.PRODUCT_FAILED);
+
+		/* execute */
+		workspaceToTest.doImport(Arrays.asList(ImportParameter.builder().productId("product").importId("id1").importData("").build(),
+				ImportParameter.builder().productId("product").importId("id2").importData("").build()));
+
+		/* test */
+		assertEquals(1, workspaceToTest.getVulnerabilties().size());
+		assertEquals(2, workspaceToTest.getVulnerabilties().get(0).getList().size());
+		verify(importer, never()).importResult(any());
+	}
+
+	@Test
+	public void duplicated_vulnerabilities_of_different_products_are_collapsed_and_detections_recorded() throws Exception {
+		/* prepare */
+		workspaceToTest.deduplicationStrategy = "EXACT";
+		when(importer.importResult(any())).thenAnswer(invocation -> createMetaData("type1"));
+
+		/* execute */
+		workspaceToTest.doImport(ImportParameter.builder().productId("product1").importId("id1").importData("data1").build());
+		workspaceToTest.doImport(ImportParameter.builder().productId("product2").importId("id2").importData("data2").build());
+
+		/* test */
+		List<Vulnerability> vulnerabilities = workspaceToTest.getVulnerabilties();
+		assertEquals(1, vulnerabilities.size());
+		List<Detection> detections = vulnerabilities.get(0).getList();
+		assertEquals(2, detections.size());
+		assertEquals("product1", detections.get(0).getProductID());
+		assertEquals("product2", detections.get(1).getProductID());
+	}
+
+	@Test
+	public void duplicated_vulnerabilities_are_kept_by_default() throws Exception {
+		/* prepare */
+		when(importer.importResult(any())).thenAnswer(invocation -> createMetaData("type1"));
+
+		/* execute */
+		workspaceToTest.doImport(param("1"));
+		workspaceToTest.doImport(param("2"));
+
+		/* test */
+		assertEquals(2, workspaceToTest.getVulnerabilties().size());
+	}
+
+	@Test
+	public void configured_strategy_name_is_not_case_sensitive() throws Exception {
+		/* prepare */
+		workspaceToTest.deduplicationStrategy = " exact ";
+		when(importer.importResult(any())).thenAnswer(invocation -> createMetaData("type1"));
+
+		/* execute */
+		workspaceToTest.doImport(param("1"));
+		workspaceToTest.doImport(param("2"));
+
+		/* test */
+		assertEquals(VulnerabilityFingerprintStrategy.EXACT, workspaceToTest.resolveFingerprintStrategy());
+		assertEquals(1, workspaceToTest.getVulnerabilties().size());
+	}
+
+	@Test
+	public void workspace_bean_is_created_for_lower_case_and_unknown_configured_strategy() {
+		for (String configured : new String[] { "location", "unknown" }) {
+			/* prepare */
+			try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+				context.getEnvironment().getPropertySources()
+						.addFirst(new MapPropertySource("test", Collections.singletonMap("sechub.sereco.deduplication.strategy", configured)));
+				context.registerBean(ProductResultImporter.class, () -> importer);
+				context.registerBean(WorkspaceImportExecutor.class, () -> importExecutor);
+				context.registerBean(Workspace.class);
+				context.refresh();
+
+				/* execute */
+				Workspace workspace = context.getBean(Workspace.class, "project1");
+
+				/* test */
+				assertEquals(configured, workspace.deduplicationStrategy);
+			}
+		}
+	}
+
+	@Test
+	public void unknown_configured_strategy_name_keeps_duplicated_vulnerabilities() throws Exception {
+		/* prepare */
+		workspaceToTest.deduplicationStrategy = "unknown";
+		when(importer.importResult(any())).thenAnswer(invocation -> createMetaData("type1"));
+
+		/* execute */
+		workspaceToTest.doImport(param("1"));
+		workspaceToTest.doImport(param("2"));
+
+		/* test */
+		assertEquals(VulnerabilityFingerprintStrategy.NONE, workspaceToTest.resolveFingerprintStrategy());
+		assertEquals(2, workspaceToTest.getVulnerabilties().size());
+	}
+
+	@Test
+	public void report_contains_detections() throws Exception {
+		/* prepare */
+		when(importer.importResult(any())).thenAnswer(invocation -> createMetaData("type1"));
+
+		/* execute */
+		workspaceToTest.doImport(param("1"));
+		String report = workspaceToTest.createReport();
+
+		/* test */
+		MetaData data = new ObjectMapper().readValue(report, MetaData.class);
+		Detection detection = data.getVulnerabilities().get(0).getList().get(0);
+		assertEquals("product", detection.getProductID());
+		assertEquals("id1", detection.getProductScanId());
+	}
+
+	@Test
+	public void checkmarx_results_without_url_are_not_collapsed_by_exact_or_location_strategy() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/sechub-continous-integration-with-false-positive.xml");
+		List<ProductResultImporter> checkmarxImporters = Arrays.asList(new CheckmarxV1XMLImporter());
+
+		for (VulnerabilityFingerprintStrategy strategy : VulnerabilityFingerprintStrategy.values()) {
+			Workspace workspace = new Workspace("project1");
+			workspace.importers = checkmarxImporters;
+			workspace.deduplicationStrategy = strategy.name();
+
+			/* execute */
+			workspace.doImport(ImportParameter.builder().productId("Checkmarx").importId("id1").importData(xml).build());
+
+			/* test */
+			assertEquals("Wrong amount for strategy " + strategy, 230, workspace.getVulnerabilties().size());
+		}
+	}
+
+	@Test
+	public void import_data_is_given_to_importer_as_stream() throws Exception {
+		/* prepare */
+		List<String> imported = new ArrayList<>();
+		when(importer.importResult(any())).thenAnswer(invocation -> {
+			imported.add(read(invocation.getArgument(0)));
+			return createMetaData("type1");
+		});
+		String data = "\uFEFF<?xml version='1.0'?><r>\u00e4\u00f6\u00fc</r>";
+
+		/* execute */
+		workspaceToTest.doImport(ImportParameter.builder().productId("product").importId("id1")
+				.importDataSource(() -> new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8))).build());
+
+		/* test - UTF-8 decoded, byte order mark skipped */
+		assertEquals(Arrays.asList(data.substring(1)), imported);
+	}
+
+	@Test
+	public void import_data_source_failure_is_thrown_as_io_exception() throws Exception {
+		/* prepare */
+		ImportParameter param = ImportParameter.builder().productId("product").importId("id1").importDataSource(() -> {
+			throw new IOException("storage not available");
+		}).build();
+
+		/* execute */
+		try {
+			workspaceToTest.doImport(param);
+			fail("no exception thrown");
+		} catch (IOException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("storage not available"));
+		}
+	}
+
+	private String read(Reader reader) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		int c;
+		while ((c = reader.read()) != -1) {
+			sb.append((char) c);
+		}
+		return sb.toString();
+	}
+
+	private ImportParameter param(String data) {
+		return ImportParameter.builder().productId("product").importId("id" + data).importData(data).build();
+	}
+
+	private MetaData createMetaData(String type) {
+		MetaData metaData = new MetaData();
+		Vulnerability vulnerability = new Vulnerability();
+		vulnerability.setType(type);
+		metaData.getVulnerabilities().add(vulnerability);
+		return metaData;
+	}
+}
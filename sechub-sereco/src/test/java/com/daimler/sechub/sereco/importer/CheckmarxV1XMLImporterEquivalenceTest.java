@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco.importer;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.dom4j.Document;
+import org.dom4j.DocumentException;
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.sereco.metadata.Severity;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
+import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
+
+/**
+ * Golden file tests: streaming import must have exact same results as former
+ * DOM based import (see {@link DomReferenceImporter})
+ */
+public class CheckmarxV1XMLImporterEquivalenceTest {
+
+	private CheckmarxV1XMLImporter importerToTest;
+	private DomReferenceImporter referenceImporter;
+
+	@Before
+	public void before() {
+		importerToTest = new CheckmarxV1XMLImporter();
+		referenceImporter = new DomReferenceImporter();
+	}
+
+	@Test
+	public void sechub_continous_integration_xml_same_results_as_dom_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/sechub-continous-integration.xml");
+		assertTrue("testfile must start with byte order mark", xml.startsWith("\uFEFF"));
+
+		/* execute + test - DOM import is not able to handle BOM, so we remove it for the reference */
+		List<Vulnerability> expected = referenceImporter.importResult(xml.substring(1));
+		List<Vulnerability> result = importerToTest.importResult(xml).getVulnerabilities();
+
+		assertFalse(result.isEmpty());
+		assertEquals(expected, result);
+	}
+
+	@Test
+	public void sechub_continous_integration_with_false_positive_xml_same_results_as_dom_import() throws Exception {
+		assertSameResultsAsDomImport(SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/sechub-continous-integration-with-false-positive.xml"));
+	}
+
+	@Test
+	public void checkmarx_example1_xml_same_results_as_dom_import() throws Exception {
+		assertSameResultsAsDomImport(SerecoTestFileSupport.INSTANCE.loadTestFileFromRoot("sechub-other/testoutput/checkmarx-example1.xml"));
+	}
+
+	@Test
+	public void nested_query_and_result_elements_are_ignored_like_dom_import() throws Exception {
+		/* @formatter:off */
+		assertSameResultsAsDomImport(
+				"<CxXMLResults>"
+				+ "<Query name='A_B' cweId='1' categories='OWASP Top 10 2017;A5-Broken Access Control'>"
+				+ "  <Result Severity='High' FileName='f1' Line='1' Column='2' DeepLink='link1'>"
+				+ "     <Result Severity='Low' FileName='nested'/>"
+				+ "  </Result>"
+				+ "  <Other><Result Severity='Low' FileName='other'/></Other>"
+				+ "  <Result Severity='Information' FileName='f2' Line='3' Column='4' DeepLink='link2' FalsePositive='false'/>"
+				+ "  <Result Severity='Medium' FileName='f3' FalsePositive='true' NodeId='4711'/>"
+				+ "</Query>"
+				+ "<Wrapper><Query name='ignored'><Result Severity='High'/></Query></Wrapper>"
+				+ "</CxXMLResults>", 2);
+		/* @formatter:on */
+	}
+
+	@Test(expected = IOException.class)
+	public void empty_string_cannot_be_imported() throws Exception {
+		importerToTest.importResult("");
+	}
+
+	@Test
+	public void input_stream_and_consumer_import_have_same_results_as_string_import() throws Exception {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFileFromRoot("sechub-other/testoutput/checkmarx-example1.xml");
+		List<Vulnerability> consumed = new ArrayList<>();
+
+		/* execute */
+		List<Vulnerability> fromString = importerToTest.importResult(xml).getVulnerabilities();
+		List<Vulnerability> fromStream = importerToTest.importResult(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).getVulnerabilities();
+		importerToTest.importVulnerabilities(new StringReader(xml), consumed::add);
+
+		/* test */
+		assertEquals(fromString, fromStream);
+		assertEquals(fromString, consumed);
+	}
+
+	private void assertSameResultsAsDomImport(String xml) throws Exception {
+		assertSameResultsAsDomImport(xml, -1);
+	}
+
+	private void assertSameResultsAsDomImport(String xml, int expectedAmount) throws Exception {
+		/* execute */
+		List<Vulnerability> expected = referenceImporter.importResult(xml);
+		List<Vulnerability> result = importerToTest.importResult(xml).getVulnerabilities();
+
+		/* test */
+		if (expectedAmount >= 0) {
+			assertEquals(expectedAmount, expected.size());
+		}
+		assertFalse(result.isEmpty());
+		assertEquals(expected.size(), result.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("Vulnerability at index " + i + " differs", expected.get(i), result.get(i));
+		}
+	}
+
+	/**
+	 * Former DOM based implementation of checkmarx import - used as reference
+	 */
+	private static class DomReferenceImporter {
+
+		private static final Pattern NAME_PATTERN = Pattern.compile("_");
+
+		@SuppressWarnings("unchecked")
+		public List<Vulnerability> importResult(String xml) throws IOException {
+			Document document;
+			try {
+				document = DocumentHelper.parseText(xml);
+			} catch (DocumentException e) {
+				throw new IOException("Import cannot parse xml", e);
+			}
+			List<Vulnerability> vulnerabilities = new ArrayList<>();
+			Element checkmarxCxXMLResults = document.getRootElement();
+			List<Element> queryElements = checkmarxCxXMLResults.elements("Query");
+
+			for (Element queryElement : queryElements) {
+
+				String name = queryElement.attributeValue("name");
+				String type = NAME_PATTERN.matcher(name).replaceAll(" ");
+				String categories = queryElement.attributeValue("categories");
+				String cweId = queryElement.attributeValue("cweId");
+
+				List<Element> resultElements = queryElement.elements("Result");
+				for (Element resultElement : resultElements) {
+
+					String falsePositive = resultElement.attributeValue("FalsePositive");
+					if (Boolean.parseBoolean(falsePositive)) {
+						continue;
+					}
+					String deeplink = resultElement.attributeValue("DeepLink");
+					String severity = resultElement.attributeValue("Severity");
+					String fileName = resultElement.attributeValue("FileName");
+					String line = resultElement.attributeValue("Line");
+					String column = resultElement.attributeValue("Column");
+
+					Vulnerability vulnerability = new Vulnerability();
+					vulnerability.setType(type);
+
+					if ("Information".equalsIgnoreCase(severity)) {
+						severity = "info";
+					}
+					vulnerability.setSeverity(Severity.fromString(severity));
+
+					StringBuilder sb = new StringBuilder();
+					sb.append("\n<br>Location:").append(fileName).append(" - line:").append(line).append(", column:").append(column);
+					sb.append("\\n<br>For details look at <a href='").append(deeplink).append("'>Full result</a>");
+					vulnerability.setDescription(sb.toString());
+					vulnerability.getClassification().setCwe(cweId);
+					new CheckmarxCategoriesToClassificationConverter().convert(categories, vulnerability.getClassification());
+					vulnerabilities.add(vulnerability);
+				}
+			}
+			return vulnerabilities;
+		}
+	}
+}
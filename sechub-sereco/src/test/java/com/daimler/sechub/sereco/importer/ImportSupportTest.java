@@ -3,6 +3,9 @@ package com.daimler.sechub.sereco.importer;
 
 import static org.junit.Assert.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+
 import org.junit.Test;
 
 import com.daimler.sechub.sereco.ImportParameter;
@@ -67,4 +70,46 @@ public class ImportSupportTest {
 		assertTrue(ImportSupport.builder().build().isJSON(bom + "{ bla }"));
 	}
 
+	@Test
+	public void content_identified_in_header_can_be_imported() {
+		/* prepare */
+		ImportParameter importParameter = ImportParameter.builder().importId("id1").importData("<?xml version='1.0'?><myroot></myroot>").productId("productId").build();
+		ImportSupport supportToTest = ImportSupport.builder().productId("productId").contentIdentifiedBy("<myroot").mustBeXML().build();
+
+		/* execute + test */
+		assertEquals(ProductImportAbility.ABLE_TO_IMPORT, supportToTest.isAbleToImport(importParameter));
+	}
+
+	@Test
+	public void content_identified_only_after_header_cannot_be_imported() {
+		/* prepare */
+		StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version='1.0'?><other>");
+		while (sb.length() < ImportSupport.HEADER_SIZE) {
+			sb.append("<x/>");
+		}
+		sb.append("<myroot/></other>");
+		ImportParameter importParameter = ImportParameter.builder().importId("id1").importData(sb.toString()).productId("productId").build();
+		ImportSupport supportToTest = ImportSupport.builder().productId("productId").contentIdentifiedBy("<myroot").mustBeXML().build();
+
+		/* execute + test */
+		assertEquals(ProductImportAbility.NOT_ABLE_TO_IMPORT, supportToTest.isAbleToImport(importParameter));
+	}
+
+	@Test
+	public void reader_without_bom_skips_leading_bom_only() throws IOException {
+		/* prepare */
+		char bom = 65279;
+
+		/* execute */
+		BufferedReader withBOM = new BufferedReader(ImportSupport.createReaderWithoutBOM(bom + "<?xml" + bom));
+		BufferedReader withoutBOM = new BufferedReader(ImportSupport.createReaderWithoutBOM("<?xml"));
+		BufferedReader nullContent = new BufferedReader(ImportSupport.createReaderWithoutBOM(null));
+
+		/* test */
+		assertEquals("<?xml" + bom, withBOM.readLine());
+		assertEquals("<?xml", withoutBOM.readLine());
+		assertNull(nullContent.readLine());
+	}
+
 }
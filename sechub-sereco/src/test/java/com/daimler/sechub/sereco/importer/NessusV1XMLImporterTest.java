@@ -3,10 +3,19 @@ package com.daimler.sechub.sereco.importer;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import com.daimler.sechub.sereco.ImportParameter;
+import com.daimler.sechub.sereco.metadata.MetaData;
+import com.daimler.sechub.sereco.metadata.Severity;
+import com.daimler.sechub.sereco.metadata.Vulnerability;
 import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
 
 public class NessusV1XMLImporterTest {
@@ -32,4 +41,97 @@ public class NessusV1XMLImporterTest {
 		assertEquals("Was not able to import xml!", ProductImportAbility.ABLE_TO_IMPORT, ableToImport);
 	}
 
+	@Test
+	public void xmlReportFromNessus7_all_report_items_are_imported() throws IOException {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("nessus/nessus_7.0.2.result.xml");
+
+		/* execute */
+		MetaData data = importerToTest.importResult(xml);
+
+		/* test */
+		List<Vulnerability> vulnerabilities = data.getVulnerabilities();
+		assertEquals(53, vulnerabilities.size());
+		for (Vulnerability vulnerability : vulnerabilities) {
+			assertTrue(vulnerability.getUrl().startsWith("localhost"));
+		}
+	}
+
+	@Test
+	public void multihost_report_findings_of_all_hosts_are_imported() throws IOException {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("nessus/nessus_multihost.xml");
+
+		/* execute */
+		MetaData data = importerToTest.importResult(xml);
+
+		/* test */
+		List<Vulnerability> vulnerabilities = data.getVulnerabilities();
+		assertEquals(5, vulnerabilities.size());
+
+		assertVulnerability(vulnerabilities.get(0), "10.0.0.1", "general", Severity.INFO, "Scan information for host 1");
+		assertVulnerability(vulnerabilities.get(1), "10.0.0.1:443/tcp", "www", Severity.MEDIUM, "Untrusted certificate chain");
+		assertVulnerability(vulnerabilities.get(2), "10.0.0.2:22/tcp", "ssh", Severity.LOW, "CBC ciphers enabled");
+		assertVulnerability(vulnerabilities.get(3), "10.0.0.2:53/udp", "dns server", Severity.MEDIUM, "Amplification possible");
+		assertVulnerability(vulnerabilities.get(4), "10.0.0.2:80/tcp", "www", Severity.INFO, "Apache");
+	}
+
+	@Test
+	public void multihost_report_findings_per_host_are_limited_when_maximum_defined() throws IOException {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("nessus/nessus_multihost.xml");
+		importerToTest.setMaximumFindingsPerHost(1);
+
+		/* execute */
+		MetaData data = importerToTest.importResult(xml);
+
+		/* test */
+		List<Vulnerability> vulnerabilities = data.getVulnerabilities();
+		assertEquals(2, vulnerabilities.size());
+		assertEquals("10.0.0.1", vulnerabilities.get(0).getUrl());
+		assertEquals("10.0.0.2:22/tcp", vulnerabilities.get(1).getUrl());
+	}
+
+	@Test
+	public void synthetic_report_with_many_hosts_and_items_is_streamed_to_consumer() throws IOException {
+		/* prepare */
+		int hosts = 100;
+		int itemsPerHost = 1000;
+		AtomicInteger count = new AtomicInteger();
+
+		/* execute */
+		importerToTest.importVulnerabilities(createSyntheticReport(hosts, itemsPerHost), v -> count.incrementAndGet());
+
+		/* test */
+		assertEquals(hosts * itemsPerHost, count.get());
+	}
+
+	@Test(expected = IOException.class)
+	public void invalid_xml_throws_io_exception() throws IOException {
+		/* execute */
+		importerToTest.importResult("<NessusClientData_v2><Report>");
+	}
+
+	private void assertVulnerability(Vulnerability vulnerability, String url, String type, Severity severity, String description) {
+		assertEquals(url, vulnerability.getUrl());
+		assertEquals(type, vulnerability.getType());
+		assertEquals(severity, vulnerability.getSeverity());
+		assertEquals(description, vulnerability.getDescription());
+	}
+
+	private Reader createSyntheticReport(int hosts, int itemsPerHost) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("<NessusClientData_v2><Report name='synthetic'>");
+		for (int h = 0; h < hosts; h++) {
+			sb.append("<ReportHost name='10.0.").append(h).append(".1'><HostProperties/>");
+			for (int i = 0; i < itemsPerHost; i++) {
+				sb.append("<ReportItem port='").append(i).append("' svc_name='www' protocol='tcp' severity='1'>");
+				sb.append("<plugin_output>output").append(i).append("</plugin_output></ReportItem>");
+			}
+			sb.append("</ReportHost>");
+		}
+		sb.append("</Report></NessusClientData_v2>");
+		return new StringReader(sb.toString());
+	}
+
 }
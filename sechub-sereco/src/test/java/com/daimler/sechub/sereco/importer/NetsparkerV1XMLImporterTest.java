@@ -17,7 +17,7 @@ import com.daimler.sechub.sereco.test.SerecoTestFileSupport;
 public class NetsparkerV1XMLImporterTest {
 
 	private SerecoTestFileSupport support = SerecoTestFileSupport.INSTANCE;
-	private ProductResultImporter importerToTest;
+	private NetsparkerV1XMLImporter importerToTest;
 	@Before
 	public void before() {
 		importerToTest = new NetsparkerV1XMLImporter();
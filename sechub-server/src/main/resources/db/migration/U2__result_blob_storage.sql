@@ -0,0 +1,12 @@
+-- remark: results stored as blob are lost - migrate them back to inline storage before undo
+ALTER TABLE scan_product_result DROP COLUMN result_storage;
+ALTER TABLE scan_product_result DROP COLUMN result_reference;
+ALTER TABLE scan_product_result DROP COLUMN result_size;
+ALTER TABLE scan_product_result DROP COLUMN result_hash;
+ALTER TABLE scan_product_result DROP COLUMN result_data;
+
+ALTER TABLE scan_report DROP COLUMN result_storage;
+ALTER TABLE scan_report DROP COLUMN result_reference;
+ALTER TABLE scan_report DROP COLUMN result_size;
+ALTER TABLE scan_report DROP COLUMN result_hash;
+ALTER TABLE scan_report DROP COLUMN result_data;
@@ -0,0 +1,7 @@
+ALTER TABLE scan_report DROP COLUMN count_critical;
+ALTER TABLE scan_report DROP COLUMN count_high;
+ALTER TABLE scan_report DROP COLUMN count_medium;
+ALTER TABLE scan_report DROP COLUMN count_unclassified;
+ALTER TABLE scan_report DROP COLUMN count_low;
+ALTER TABLE scan_report DROP COLUMN count_info;
+ALTER TABLE scan_report DROP COLUMN maximum_severity;
@@ -0,0 +1,4 @@
+ALTER TABLE scan_report DROP COLUMN previous_sechub_job_uuid;
+ALTER TABLE scan_report DROP COLUMN count_new_findings;
+ALTER TABLE scan_report DROP COLUMN count_fixed_findings;
+ALTER TABLE scan_report DROP COLUMN count_unchanged_findings;
@@ -0,0 +1,2 @@
+DROP INDEX i_scan_report_project_ended;
+DROP TABLE scan_finding_history;
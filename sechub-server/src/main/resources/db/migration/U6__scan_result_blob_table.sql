@@ -0,0 +1,7 @@
+ALTER TABLE scan_product_result ADD COLUMN result_data bytea;
+UPDATE scan_product_result p SET result_data = (SELECT b.data FROM scan_result_blob b WHERE CAST(b.uuid AS varchar(255)) = p.result_reference) WHERE p.result_storage = 'DATABASE_GZIP';
+
+ALTER TABLE scan_report ADD COLUMN result_data bytea;
+UPDATE scan_report r SET result_data = (SELECT b.data FROM scan_result_blob b WHERE CAST(b.uuid AS varchar(255)) = r.result_reference) WHERE r.result_storage = 'DATABASE_GZIP';
+
+DROP TABLE scan_result_blob;
@@ -0,0 +1,13 @@
+-- results can be stored compressed inside database or on shared volume,
+-- the former text column "result" is only used for inline (not migrated) results
+ALTER TABLE scan_product_result ADD COLUMN result_storage varchar(30); -- enum value, max:30
+ALTER TABLE scan_product_result ADD COLUMN result_reference varchar(255);
+ALTER TABLE scan_product_result ADD COLUMN result_size bigint;
+ALTER TABLE scan_product_result ADD COLUMN result_hash varchar(64); -- SHA-256 as hex
+ALTER TABLE scan_product_result ADD COLUMN result_data bytea;
+
+ALTER TABLE scan_report ADD COLUMN result_storage varchar(30); -- enum value, max:30
+ALTER TABLE scan_report ADD COLUMN result_reference varchar(255);
+ALTER TABLE scan_report ADD COLUMN result_size bigint;
+ALTER TABLE scan_report ADD COLUMN result_hash varchar(64); -- SHA-256 as hex
+ALTER TABLE scan_report ADD COLUMN result_data bytea;
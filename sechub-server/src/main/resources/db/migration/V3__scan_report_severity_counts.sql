@@ -0,0 +1,8 @@
+-- severity counts are calculated once on report creation and persisted with the report
+ALTER TABLE scan_report ADD COLUMN count_critical integer;
+ALTER TABLE scan_report ADD COLUMN count_high integer;
+ALTER TABLE scan_report ADD COLUMN count_medium integer;
+ALTER TABLE scan_report ADD COLUMN count_unclassified integer;
+ALTER TABLE scan_report ADD COLUMN count_low integer;
+ALTER TABLE scan_report ADD COLUMN count_info integer;
+ALTER TABLE scan_report ADD COLUMN maximum_severity varchar(30); -- enum value, max:30
@@ -0,0 +1,5 @@
+-- difference to previous successful job of same project is calculated once on report creation and persisted with the report
+ALTER TABLE scan_report ADD COLUMN previous_sechub_job_uuid uuid;
+ALTER TABLE scan_report ADD COLUMN count_new_findings integer;
+ALTER TABLE scan_report ADD COLUMN count_fixed_findings integer;
+ALTER TABLE scan_report ADD COLUMN count_unchanged_findings integer;
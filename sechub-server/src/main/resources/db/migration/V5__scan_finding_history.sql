@@ -0,0 +1,20 @@
+-- finding history is updated on report creation, so finding age and trends need no report result parsing
+CREATE TABLE scan_finding_history
+(
+   uuid uuid not null,
+   project_id varchar(60) not null,  -- we accept 60 (3x20), see ProjectIdValidation
+   fingerprint varchar(64) not null, -- SHA-256 hex
+   name varchar(255),
+   severity varchar(30), -- enum value, max:30
+   first_seen timestamp,
+   first_sechub_job_uuid uuid,
+   last_seen timestamp,
+   last_sechub_job_uuid uuid,
+   version integer,
+   PRIMARY KEY (uuid)
+);
+CREATE UNIQUE INDEX i_scan_finding_history_project_fingerprint ON scan_finding_history (project_id, fingerprint);
+CREATE INDEX i_scan_finding_history_last_seen ON scan_finding_history (last_seen);
+
+-- trends are resolved by project and end time stamp of reports
+CREATE INDEX i_scan_report_project_ended ON scan_report (project_id, ended);
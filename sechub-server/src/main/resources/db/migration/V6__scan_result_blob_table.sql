@@ -0,0 +1,18 @@
+-- compressed results stored in database are kept in their own table, so loading
+-- product results or scan reports does no longer load the result data
+CREATE TABLE scan_result_blob
+(
+   uuid uuid not null,
+   data bytea not null,
+   version integer,
+   PRIMARY KEY (uuid)
+);
+
+-- existing data rows get the uuid of their owner as reference
+INSERT INTO scan_result_blob (uuid, data, version) SELECT uuid, result_data, 0 FROM scan_product_result WHERE result_data IS NOT NULL;
+UPDATE scan_product_result SET result_reference = CAST(uuid AS varchar(255)) WHERE result_data IS NOT NULL;
+ALTER TABLE scan_product_result DROP COLUMN result_data;
+
+INSERT INTO scan_result_blob (uuid, data, version) SELECT uuid, result_data, 0 FROM scan_report WHERE result_data IS NOT NULL;
+UPDATE scan_report SET result_reference = CAST(uuid AS varchar(255)) WHERE result_data IS NOT NULL;
+ALTER TABLE scan_report DROP COLUMN result_data;
@@ -0,0 +1,11 @@
+-- difference to previous successful job is persisted as finding positions, so it is calculated only one time
+CREATE TABLE scan_report_diff
+(
+   sechub_job_uuid uuid not null,
+   previous_sechub_job_uuid uuid,
+   new_findings text,
+   fixed_findings text,
+   unchanged_findings text,
+   version integer,
+   PRIMARY KEY (sechub_job_uuid)
+);
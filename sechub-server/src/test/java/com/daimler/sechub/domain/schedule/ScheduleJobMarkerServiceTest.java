@@ -5,6 +5,8 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -71,4 +73,25 @@ public class ScheduleJobMarkerServiceTest {
 		assertEquals(job,result);
 	}
 
+	@Test
+	public void markNextJobsExecutedByThisPOD__updates_execution_state_of_all_found_jobs_to_started() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(jobRepository.findNextJobsToExecute(3)).thenReturn(Arrays.asList(job1, job2));
+		when(jobRepository.save(job1)).thenReturn(job1);
+		when(jobRepository.save(job2)).thenReturn(job2);
+
+		/* execute */
+		List<ScheduleSecHubJob> result = serviceToTest.markNextJobsExecutedByThisPOD(3);
+
+		/* test */
+		verify(job1).setExecutionState(eq(ExecutionState.STARTED));
+		verify(job2).setExecutionState(eq(ExecutionState.STARTED));
+		verify(job1).setStarted(any());
+		verify(job2).setStarted(any());
+
+		assertEquals(Arrays.asList(job1, job2), result);
+	}
+
 }
@@ -4,9 +4,13 @@ package com.daimler.sechub.domain.schedule;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.daimler.sechub.domain.schedule.batch.ScheduleJobExecutionPool;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.cluster.ClusterEnvironmentService;
 
@@ -17,7 +21,9 @@ public class SecHubJobBatchTriggerServiceTest {
 	private ScheduleJobLauncherService launcherService;
 	private ScheduleJobMarkerService markerService;
 	private ClusterEnvironmentService environmentService;
-	
+	private ScheduleJobExecutionPool executionPool;
+	private ScheduleJobClaimStatistics claimStatistics;
+
 	@Before
 	public void before() throws Exception {
 		serviceToTest = new SchedulerJobBatchTriggerService();
@@ -25,11 +31,17 @@ public class SecHubJobBatchTriggerServiceTest {
 		launcherService = mock(ScheduleJobLauncherService.class);
 		markerService = mock(ScheduleJobMarkerService.class);
 		environmentService = mock(ClusterEnvironmentService.class);
+		executionPool = mock(ScheduleJobExecutionPool.class);
+		claimStatistics = mock(ScheduleJobClaimStatistics.class);
+
+		when(executionPool.getFreeCapacity()).thenReturn(1);
 
 		serviceToTest.launcherService=launcherService;
 		serviceToTest.markerService=markerService;
 		serviceToTest.environmentService=environmentService;
-		
+		serviceToTest.executionPool=executionPool;
+		serviceToTest.claimStatistics=claimStatistics;
+
 	}
 
 	@Test
@@ -70,4 +82,70 @@ public class SecHubJobBatchTriggerServiceTest {
 		verify(launcherService,never()).executeJob(any());
 	}
 
+	@Test
+	public void no_job_is_claimed_when_execution_pool_is_full() {
+		/* prepare */
+		when(executionPool.getFreeCapacity()).thenReturn(0);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService, never()).markNextJobExecutedByThisPOD();
+		verify(markerService, never()).markNextJobsExecutedByThisPOD(anyInt());
+		verify(claimStatistics).claimDenied();
+	}
+
+	@Test
+	public void single_mode_claims_one_job_and_launches_it() {
+		/* prepare */
+		when(executionPool.getFreeCapacity()).thenReturn(3);
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobExecutedByThisPOD()).thenReturn(job);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(launcherService).executeJob(job);
+		verify(markerService, never()).markNextJobsExecutedByThisPOD(anyInt());
+	}
+
+	@Test
+	public void batch_mode_claims_not_more_jobs_than_free_capacity_and_launches_all() {
+		/* prepare */
+		ReflectionTestUtils.setField(serviceToTest, "batchSize", 5);
+		when(executionPool.getFreeCapacity()).thenReturn(2);
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(2)).thenReturn(Arrays.asList(job1, job2));
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(launcherService).executeJob(job1);
+		verify(launcherService).executeJob(job2);
+		verify(claimStatistics).claimDone(eq(2), anyLong());
+	}
+
+	@Test
+	public void batch_mode_failing_launch_marks_only_this_job_as_failed() {
+		/* prepare */
+		ReflectionTestUtils.setField(serviceToTest, "batchSize", 5);
+		when(executionPool.getFreeCapacity()).thenReturn(5);
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(5)).thenReturn(Arrays.asList(job1, job2));
+		doThrow(new ScheduleFailedException(new IllegalStateException())).when(launcherService).executeJob(job1);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService).markJobExecutionFailed(job1);
+		verify(markerService, never()).markJobExecutionFailed(job2);
+		verify(launcherService).executeJob(job2);
+	}
+
 }
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.jpa;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.NoResultException;
@@ -51,4 +53,23 @@ public class TypedQuerySupport<T> {
 		throw new IllegalStateException(
 				"The given query returns not expected type:" + clazz + " but " + result.getClass());
 	}
+
+	/**
+	 * @param query
+	 * @return result list, never <code>null</code>
+	 * @throws IllegalStateException
+	 *             if the query does contain elements not being of expected type
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> getList(Query query) {
+		List<?> resultList = query.getResultList();
+		List<T> list = new ArrayList<>(resultList.size());
+		for (Object result : resultList) {
+			if (result == null || !clazz.isAssignableFrom(result.getClass())) {
+				throw new IllegalStateException("The given query returns not expected type:" + clazz + " but " + (result == null ? null : result.getClass()));
+			}
+			list.add((T) result);
+		}
+		return list;
+	}
 }
@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram for handler latencies of asynchronous messages. Uses fixed buckets
+ * so recording is lock free and needs no memory.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AsynchronMessageLatencyHistogram {
+
+	private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = { 1, 5, 10, 50, 100, 500, 1000, 5000, 10000 };
+
+	private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length + 1);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong totalMillis = new AtomicLong();
+	private final AtomicLong maxMillis = new AtomicLong();
+
+	public void record(long latencyMillis) {
+		bucketCounts.incrementAndGet(bucketIndex(latencyMillis));
+		count.incrementAndGet();
+		totalMillis.addAndGet(latencyMillis);
+		maxMillis.accumulateAndGet(latencyMillis, Math::max);
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getAverageMillis() {
+		long amount = count.get();
+		if (amount == 0) {
+			return 0;
+		}
+		return totalMillis.get() / amount;
+	}
+
+	public long getMaxMillis() {
+		return maxMillis.get();
+	}
+
+	/**
+	 * @return map containing bucket names as keys and amount of recorded
+	 *         latencies as value. Bucket names are the upper bound in milliseconds
+	 *         - e.g. "&lt;=50" - and "&gt;10000" for the last one. Ordering is
+	 *         ascending
+	 */
+	public Map<String, Long> getBuckets() {
+		Map<String, Long> map = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+			map.put("<=" + BUCKET_UPPER_BOUNDS_MILLIS[i], bucketCounts.get(i));
+		}
+		map.put(">" + BUCKET_UPPER_BOUNDS_MILLIS[BUCKET_UPPER_BOUNDS_MILLIS.length - 1], bucketCounts.get(BUCKET_UPPER_BOUNDS_MILLIS.length));
+		return map;
+	}
+
+	private int bucketIndex(long latencyMillis) {
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+			if (latencyMillis <= BUCKET_UPPER_BOUNDS_MILLIS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_MILLIS.length;
+	}
+}
@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+/**
+ * Policies usable when the {@link DomainMessageQueue} for a message id is full
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum AsynchronMessageOverflowPolicy {
+
+	/**
+	 * Sender waits until the queue has free space again. When the sender itself is
+	 * a worker of any message queue, the message is handled inside the sender
+	 * thread to avoid dead locks.
+	 */
+	BLOCK,
+
+	/**
+	 * Oldest waiting message is dropped, so the new message can be queued
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Message is handled inside the sender thread
+	 */
+	CALLER_RUNS,
+
+	;
+}
@@ -1,17 +1,27 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.messaging;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Contains message parameters. Parameters are kept as given object references
+ * (typed payload), so messages delivered inside the same JVM need no
+ * conversion. The {@link MessageDataProvider} of a key is only used when the
+ * string representation is really needed - e.g. when a message must cross a
+ * process boundary. Because receivers get the same object reference as the
+ * sender, parameter objects must not be changed after being set.
+ */
 public abstract class DomainMessagePart {
 
 	private MessageID id;
-	protected Map<String, String> parameters;
+	private Map<String, MessageDataValue<?>> parameters;
 
 	DomainMessagePart(MessageID id) {
 		this.id=id;
-		this.parameters=new HashMap<>();
+		/* asynchronous handlers can read same message in parallel */
+		this.parameters=new ConcurrentHashMap<>();
 	}
 
 	public boolean hasID(MessageID messageId) {
@@ -20,46 +30,100 @@ public abstract class DomainMessagePart {
 		}
 		return messageId.equals(id);
 	}
-	
+
 	public MessageID getMessageId() {
 		return id;
 	}
-	
+
 
 	/**
 	 * Get parameter value by given key
-	 * 
+	 *
 	 * @param key
 	 * @return value or <code>null</code>
 	 */
 	public <T> T get(MessageDataKey<T> key) {
 		assertKeyNotNull(key);
-		String data = parameters.get(key.getId());
-		return key.getProvider().get(data);
+		MessageDataValue<?> value = parameters.get(key.getId());
+		if (value == null) {
+			return key.getProvider().get(null);
+		}
+		return value.getObject(key);
 	}
 
 
 	@Override
 	public String toString() {
-		return getClass().getSimpleName()+" [id=" + id + ", parameters=" + parameters + "]";
+		return getClass().getSimpleName()+" [id=" + id + ", parameters=" + getRawParameters() + "]";
 	}
-	
+
 	public <T> void set(MessageDataKey<T> key, T content) {
 		if (key==null) {
 			throw new IllegalArgumentException("key may not be null!");
 		}
-		String contentAsString = key.getProvider().getString(content);
-		parameters.put(key.getId(), contentAsString);
+		parameters.put(key.getId(), new MessageDataValue<>(key, content));
 	}
 
+	/**
+	 * @param key
+	 * @return string representation of parameter, created by provider of the
+	 *         parameter key when necessary. Or <code>null</code> when not set
+	 */
 	String getRaw(String key) {
-		return parameters.get(key);
+		MessageDataValue<?> value = parameters.get(key);
+		if (value == null) {
+			return null;
+		}
+		return value.getRaw();
 	}
-	
+
+	/**
+	 * @return map containing string representations of all parameters - sorted by
+	 *         key
+	 */
+	Map<String, String> getRawParameters() {
+		Map<String, String> map = new TreeMap<>();
+		for (String key : parameters.keySet()) {
+			map.put(key, getRaw(key));
+		}
+		return map;
+	}
+
 	private <T> void assertKeyNotNull(MessageDataKey<T> key) {
 		if (key==null) {
 			throw new IllegalArgumentException("key may not be null!");
 		}
 	}
 
+	private static class MessageDataValue<T> {
+
+		private MessageDataKey<T> key;
+		private T object;
+		private volatile String raw;
+		private volatile boolean rawCreated;
+
+		private MessageDataValue(MessageDataKey<T> key, T object) {
+			this.key = key;
+			this.object = object;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <R> R getObject(MessageDataKey<R> requestedKey) {
+			if (requestedKey.getProvider() == key.getProvider()) {
+				return (R) object;
+			}
+			/* other key with same id but another provider - so convert */
+			return requestedKey.getProvider().get(getRaw());
+		}
+
+		private String getRaw() {
+			if (!rawCreated) {
+				/* concurrent creation is no problem - result is always same */
+				raw = key.getProvider().getString(object);
+				rawCreated = true;
+			}
+			return raw;
+		}
+	}
+
 }
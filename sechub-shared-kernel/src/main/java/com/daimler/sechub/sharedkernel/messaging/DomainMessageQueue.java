@@ -0,0 +1,218 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded queue with own workers for asynchronous messages of ONE message id.
+ * So a burst of one message type cannot delay handling of other message types.
+ * Workers are only created when necessary and are stopped again after being
+ * idle for a while.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class DomainMessageQueue {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DomainMessageQueue.class);
+
+	private static final int KEEP_ALIVE_SECONDS = 60;
+	private static final long LOG_DROPPED_EVERY = 1000;
+
+	private static final ThreadLocal<DomainMessageQueue> CURRENT_QUEUE = new ThreadLocal<>();
+
+	private final MessageID messageId;
+	private final int threads;
+	private final int capacity;
+	private final AsynchronMessageOverflowPolicy overflowPolicy;
+	private final ThreadPoolTaskExecutor executor;
+
+	private final AtomicLong handledCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong blockedCount = new AtomicLong();
+	private final AtomicLong callerRunsCount = new AtomicLong();
+	private final AsynchronMessageLatencyHistogram latencyHistogram = new AsynchronMessageLatencyHistogram();
+
+	DomainMessageQueue(MessageID messageId, int threads, int capacity, AsynchronMessageOverflowPolicy overflowPolicy) {
+		this.messageId = messageId;
+		this.threads = threads;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(capacity);
+		executor.setKeepAliveSeconds(KEEP_ALIVE_SECONDS);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("sechub-message-" + messageId.name().toLowerCase() + "-");
+		executor.setRejectedExecutionHandler(new OverflowHandler());
+		executor.initialize();
+	}
+
+	/**
+	 * Queues given handler call
+	 *
+	 * @param handlerCall
+	 */
+	void execute(Runnable handlerCall) {
+		executor.execute(new QueuedHandlerCall(handlerCall));
+	}
+
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	public MessageID getMessageId() {
+		return messageId;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public AsynchronMessageOverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * @return amount of handler calls currently executed
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * @return amount of handler calls waiting for execution (queue depth)
+	 */
+	public int getQueuedCount() {
+		return executor.getThreadPoolExecutor().getQueue().size();
+	}
+
+	/**
+	 * @return amount of handler calls done since start of this POD
+	 */
+	public long getHandledCount() {
+		return handledCount.get();
+	}
+
+	/**
+	 * @return amount of handler calls dropped because queue was full
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return amount of senders which had to wait because queue was full
+	 */
+	public long getBlockedCount() {
+		return blockedCount.get();
+	}
+
+	/**
+	 * @return amount of handler calls executed inside sender thread because queue
+	 *         was full
+	 */
+	public long getCallerRunsCount() {
+		return callerRunsCount.get();
+	}
+
+	public AsynchronMessageLatencyHistogram getLatencyHistogram() {
+		return latencyHistogram;
+	}
+
+	private class QueuedHandlerCall implements Runnable {
+
+		private Runnable handlerCall;
+
+		private QueuedHandlerCall(Runnable handlerCall) {
+			this.handlerCall = handlerCall;
+		}
+
+		@Override
+		public void run() {
+			DomainMessageQueue formerQueue = CURRENT_QUEUE.get();
+			CURRENT_QUEUE.set(DomainMessageQueue.this);
+			long start = System.nanoTime();
+			try {
+				handlerCall.run();
+			} finally {
+				latencyHistogram.record((System.nanoTime() - start) / 1_000_000);
+				handledCount.incrementAndGet();
+				if (formerQueue == null) {
+					CURRENT_QUEUE.remove();
+				} else {
+					CURRENT_QUEUE.set(formerQueue);
+				}
+			}
+		}
+	}
+
+	private class OverflowHandler implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+			if (threadPoolExecutor.isShutdown()) {
+				drop();
+				return;
+			}
+			switch (overflowPolicy) {
+			case CALLER_RUNS:
+				runInCaller(runnable);
+				break;
+			case DROP_OLDEST:
+				if (threadPoolExecutor.getQueue().poll() != null) {
+					drop();
+				}
+				threadPoolExecutor.execute(runnable);
+				break;
+			case BLOCK:
+			default:
+				block(runnable, threadPoolExecutor);
+			}
+		}
+
+		private void block(Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+			if (CURRENT_QUEUE.get() != null) {
+				/*
+				 * sender is a worker of a message queue - waiting could end in a dead lock,
+				 * e.g. when queue A waits for queue B while B waits for A
+				 */
+				runInCaller(runnable);
+				return;
+			}
+			blockedCount.incrementAndGet();
+			try {
+				threadPoolExecutor.getQueue().put(runnable);
+				/* all workers could have been stopped meanwhile */
+				threadPoolExecutor.prestartCoreThread();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				drop();
+			}
+		}
+
+		private void runInCaller(Runnable runnable) {
+			callerRunsCount.incrementAndGet();
+			runnable.run();
+		}
+
+		private void drop() {
+			long dropped = droppedCount.incrementAndGet();
+			if (dropped % LOG_DROPPED_EVERY == 1) {
+				LOG.warn("Message queue for {} is full or shut down, dropped messages:{}", messageId, dropped);
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Provides one bounded {@link DomainMessageQueue} per message id for
+ * asynchronous messages. Queues are created on first usage.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class DomainMessageQueues {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DomainMessageQueues.class);
+
+	private static final int DEFAULT_THREADS = 2;
+	private static final int DEFAULT_CAPACITY = 1000;
+
+	@MustBeDocumented("When enabled every message id has its own bounded queue for asynchronous messages. "
+			+ "When disabled all asynchronous messages are handled by the shared default task executor.")
+	@Value("${sechub.config.messaging.async.queues.enabled:true}")
+	boolean enabled = true;
+
+	@MustBeDocumented("Maximum amount of threads handling asynchronous messages of one message id in parallel.")
+	@Value("${sechub.config.messaging.async.queue.threads:" + DEFAULT_THREADS + "}")
+	int threads = DEFAULT_THREADS;
+
+	@MustBeDocumented("Maximum amount of asynchronous messages of one message id waiting for handling.")
+	@Value("${sechub.config.messaging.async.queue.capacity:" + DEFAULT_CAPACITY + "}")
+	int capacity = DEFAULT_CAPACITY;
+
+	@MustBeDocumented("Policy used when queue of a message id is full. `BLOCK` lets the sender wait until the queue has free space, "
+			+ "`DROP_OLDEST` drops the oldest waiting message, `CALLER_RUNS` handles the message inside the sender thread.")
+	@Value("${sechub.config.messaging.async.queue.overflow.policy:BLOCK}")
+	AsynchronMessageOverflowPolicy overflowPolicy = AsynchronMessageOverflowPolicy.BLOCK;
+
+	private final Map<MessageID, DomainMessageQueue> queues = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void initialize() {
+		if (threads < 1) {
+			LOG.warn("Wrong configured threads:{}, will use 1", threads);
+			threads = 1;
+		}
+		if (capacity < 1) {
+			LOG.warn("Wrong configured queue capacity:{}, will use 1", capacity);
+			capacity = 1;
+		}
+		LOG.info("Asynchronous message queues enabled:{}, threads:{}, capacity:{}, overflow policy:{}", enabled, threads, capacity, overflowPolicy);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		for (DomainMessageQueue queue : queues.values()) {
+			queue.shutdown();
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Queues given handler call inside queue for given message id
+	 *
+	 * @param messageId
+	 * @param handlerCall
+	 */
+	void execute(MessageID messageId, Runnable handlerCall) {
+		queues.computeIfAbsent(messageId, this::createQueue).execute(handlerCall);
+	}
+
+	/**
+	 * @return all queues used so far, ordered by message id
+	 */
+	public List<DomainMessageQueue> getQueues() {
+		List<DomainMessageQueue> list = new ArrayList<>(queues.values());
+		list.sort((queue1, queue2) -> queue1.getMessageId().compareTo(queue2.getMessageId()));
+		return list;
+	}
+
+	private DomainMessageQueue createQueue(MessageID messageId) {
+		return new DomainMessageQueue(messageId, threads, capacity, overflowPolicy);
+	}
+}
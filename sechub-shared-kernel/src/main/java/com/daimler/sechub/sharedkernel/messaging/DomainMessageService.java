@@ -34,6 +34,9 @@ public class DomainMessageService {
 	@Autowired
 	protected TaskExecutor taskExecutor;
 
+	@Autowired
+	DomainMessageQueues messageQueues;
+
 	Map<MessageID, SynchronMessageHandler> synchronHandlers = new EnumMap<>(MessageID.class);
 	Map<MessageID, List<AsynchronMessageHandler>> asynchronHandlers = new EnumMap<>(MessageID.class);
 	/*
@@ -148,7 +151,10 @@ public class DomainMessageService {
 	/**
 	 * Triggers request but does NOT waits for result. This can be handled by
 	 * multiple {@link AsynchronMessageHandler} instances. When no async handler can
-	 * handle the request a error log entry will be written
+	 * handle the request a error log entry will be written. When
+	 * {@link DomainMessageQueues} are enabled, the request is queued inside the
+	 * bounded queue for its message id - so when this queue is full, the call can
+	 * block, depending on configured {@link AsynchronMessageOverflowPolicy}
 	 * 
 	 * @param request
 	 * 
@@ -166,7 +172,12 @@ public class DomainMessageService {
 		}
 
 		for (AsynchronMessageHandler handler : handlersForThisMessageId) {
-			taskExecutor.execute(new AsynchronMessageHandlerTaskAdapter(handler, request));
+			Runnable handlerCall = new AsynchronMessageHandlerTaskAdapter(handler, request);
+			if (messageQueues != null && messageQueues.isEnabled()) {
+				messageQueues.execute(messageID, handlerCall);
+			} else {
+				taskExecutor.execute(handlerCall);
+			}
 		}
 
 	}
@@ -80,6 +80,49 @@ public class JobStorage {
 		}
 	}
 
+	/**
+	 * Stores given input stream. The stream is read only once and is not closed
+	 * by this method. When reading the stream fails, the partially written file is
+	 * deleted.
+	 * 
+	 * @param fileName
+	 * @param inputStream
+	 * @throws StorageException when storing failed - cause is the origin
+	 *                          exception of the stream
+	 */
+	public void store(String fileName, InputStream inputStream) {
+		notNull(fileName, "fileName may not be null!");
+		notNull(inputStream, "inputStream may not be null!");
+		if (fileName.contains("..")) {
+			// This is a security check
+			throw new StorageException(
+					"Cannot store file with relative path outside current directory " + fileName);
+		}
+		try {
+			Files.createDirectories(path);
+		} catch (IOException e) {
+			throw new StorageException("Could not initialize storage directory at:" + path, e);
+		}
+		LOG.info("job:{}: storing {} in project {}", jobUUID, fileName, projectId);
+
+		Path pathToFile = getPathToFile(fileName);
+		try {
+			long size = Files.copy(inputStream, pathToFile, StandardCopyOption.REPLACE_EXISTING);
+			LOG.debug("Stored:{} at {}, size:{}", fileName, pathToFile, size);
+		} catch (IOException e) {
+			deleteQuietly(pathToFile);
+			throw new StorageException("Failed to store file " + fileName, e);
+		}
+	}
+
+	private void deleteQuietly(Path pathToFile) {
+		try {
+			Files.deleteIfExists(pathToFile);
+		} catch (IOException e) {
+			LOG.warn("Was not able to delete {}", pathToFile, e);
+		}
+	}
+
 	private Path getPathToFile(String fileName) {
 		notNull(fileName, "fileName may not be null!");
 		return this.path.resolve(fileName);
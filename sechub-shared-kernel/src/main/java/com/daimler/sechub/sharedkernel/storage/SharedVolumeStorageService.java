@@ -11,6 +11,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class SharedVolumeStorageService implements StorageService {
 
+    /* project ids may not contain dots - so no conflict with job storage locations */
+    private static final String RESULT_BLOB_FOLDER = ".results";
+
     private final Path rootLocation;
 
     @Autowired
@@ -23,5 +26,11 @@ public class SharedVolumeStorageService implements StorageService {
     	return new JobStorage(rootLocation, projectId,jobUUID);
     }
 
-   
-}
\ No newline at end of file
+    /**
+     * @return location where result blobs (e.g. product results) are stored
+     */
+    public Path getResultBlobLocation() {
+        return rootLocation.resolve(RESULT_BLOB_FOLDER);
+    }
+
+}
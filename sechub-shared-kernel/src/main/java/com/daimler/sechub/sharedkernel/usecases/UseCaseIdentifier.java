@@ -84,6 +84,12 @@ public enum UseCaseIdentifier {
 
 	UC_ADMIN_LISTS_ALL_ADMINS,
 
+	UC_ADMIN_FETCHES_SCHEDULER_STATUS,
+
+	UC_USER_GET_JOB_REPORT_DIFF,
+
+	UC_USER_GET_PROJECT_FINDING_HISTORY,
+
 	;
 
 	/* +-----------------------------------------------------------------------+ */
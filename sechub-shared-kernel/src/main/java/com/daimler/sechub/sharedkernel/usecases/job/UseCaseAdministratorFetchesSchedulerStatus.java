@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.usecases.job;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseDefinition;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseGroup;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseIdentifier;
+/* @formatter:off */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@UseCaseDefinition(
+		id=UseCaseIdentifier.UC_ADMIN_FETCHES_SCHEDULER_STATUS,
+		group=UseCaseGroup.JOB_ADMINISTRATION,
+		title="Admin fetches scheduler status",
+		description="job/admin_fetches_scheduler_status.adoc")
+public @interface UseCaseAdministratorFetchesSchedulerStatus {
+
+	Step value();
+}
+/* @formatter:on */
@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.usecases.user.execute;
+
+import static com.daimler.sechub.sharedkernel.usecases.UseCaseIdentifier.*;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.daimler.sechub.sharedkernel.Step;
+import com.daimler.sechub.sharedkernel.usecases.UseCaseDefinition;
+/* @formatter:off */
+import com.daimler.sechub.sharedkernel.usecases.UseCaseGroup;
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@UseCaseDefinition(
+		id=UC_USER_GET_PROJECT_FINDING_HISTORY,
+		group=UseCaseGroup.SECHUB_EXECUTION,
+		title="User fetches finding history of project",
+		description="user/fetch_project_finding_history_description.adoc")
+public @interface UseCaseUserFetchesProjectFindingHistory {
+	
+	Step value();
+}
+/* @formatter:on */
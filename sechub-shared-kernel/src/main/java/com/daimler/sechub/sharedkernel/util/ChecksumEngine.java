@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static com.daimler.sechub.sharedkernel.util.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Calculates checksums for files, streams and byte buffers. Data is read by a
+ * buffer allocated per call - so no memory is held after calculation - and
+ * files are read by {@link FileChannel}.
+ * The algorithm is pluggable - every algorithm supported by
+ * {@link MessageDigest} can be used.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ChecksumEngine {
+
+	/**
+	 * A shared SHA-256 engine
+	 */
+	public static final ChecksumEngine SHA256 = new ChecksumEngine("SHA-256");
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+	private String algorithm;
+
+	/**
+	 * Creates a checksum engine
+	 *
+	 * @param algorithm name of algorithm, must be supported by
+	 *                  {@link MessageDigest}
+	 * @throws IllegalArgumentException when algorithm is not supported
+	 */
+	public ChecksumEngine(String algorithm) {
+		notNull(algorithm, "algorithm may not be null");
+		this.algorithm = algorithm;
+		/* fail fast when algorithm not supported */
+		createMessageDigest();
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * @return a new message digest for the algorithm of this engine
+	 */
+	public MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Algorithm not supported:" + algorithm, e);
+		}
+	}
+
+	/**
+	 * Creates checksum for given file
+	 *
+	 * @param path
+	 * @return checksum as lower case hex string
+	 * @throws IOException
+	 */
+	public String createChecksum(Path path) throws IOException {
+		notNull(path, "path may not be null");
+		MessageDigest md = createMessageDigest();
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				md.update(buffer);
+				buffer.clear();
+			}
+		}
+		return toHex(md.digest());
+	}
+
+	/**
+	 * Creates checksum for data of given stream. The stream is read until end
+	 * but not closed.
+	 *
+	 * @param inputStream
+	 * @return checksum as lower case hex string
+	 * @throws IOException
+	 */
+	public String createChecksum(InputStream inputStream) throws IOException {
+		notNull(inputStream, "inputStream may not be null");
+		MessageDigest md = createMessageDigest();
+		byte[] bytes = new byte[BUFFER_SIZE];
+		int amount;
+		while ((amount = inputStream.read(bytes)) != -1) {
+			md.update(bytes, 0, amount);
+		}
+		return toHex(md.digest());
+	}
+
+	/**
+	 * Creates checksum for remaining data of given buffer. Position of buffer
+	 * will be at limit afterwards.
+	 *
+	 * @param byteBuffer
+	 * @return checksum as lower case hex string
+	 */
+	public String createChecksum(ByteBuffer byteBuffer) {
+		notNull(byteBuffer, "byteBuffer may not be null");
+		MessageDigest md = createMessageDigest();
+		md.update(byteBuffer);
+		return toHex(md.digest());
+	}
+
+	/**
+	 * Converts given bytes to lower case hex string
+	 *
+	 * @param bytes
+	 * @return hex string
+	 */
+	public static String toHex(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int value = bytes[i] & 0xFF;
+			chars[i * 2] = HEX_CHARS[value >>> 4];
+			chars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
+		}
+		return new String(chars);
+	}
+}
@@ -3,16 +3,17 @@ package com.daimler.sechub.sharedkernel.util;
 
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 import org.springframework.stereotype.Service;
 
 @Service
 public class FileChecksumSHA256Service {
+
+	private ChecksumEngine engine = ChecksumEngine.SHA256;
 	
 	public boolean hasCorrectChecksum(String checkSum, String filepath) {
 		if (checkSum==null) {
@@ -22,7 +23,7 @@ public class FileChecksumSHA256Service {
 			return false;
 		}
 		String calculated = createChecksum(filepath);
-		return calculated.equals(checkSum);
+		return checkSum.equals(calculated);
 	}
 
 	/**
@@ -33,28 +34,41 @@ public class FileChecksumSHA256Service {
 	 */
 	public String createChecksum(String filepath){
 		notNull(filepath, "filepath may not be null");
-		MessageDigest md;
-		String algorithm = "SHA-256";
-		 try {
-			md = MessageDigest.getInstance(algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalStateException("Algorithm not supported:"+algorithm);
+		try {
+			return engine.createChecksum(Paths.get(filepath));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a new SHA256 message digest - e.g. to calculate a checksum while
+	 * streaming data by a {@link DigestInputStream}
+	 * 
+	 * @return message digest
+	 */
+	public MessageDigest createMessageDigest() {
+		return engine.createMessageDigest();
+	}
+
+	/**
+	 * Checks given checksum is same as calculated by message digest. The digest
+	 * is reset afterwards.
+	 * 
+	 * @param checkSum
+	 * @param messageDigest digest created by {@link #createMessageDigest()}
+	 * @return <code>true</code> when checksum is correct
+	 */
+	public boolean hasCorrectChecksum(String checkSum, MessageDigest messageDigest) {
+		if (checkSum == null) {
+			return false;
 		}
-        // file hashing with DigestInputStream
-        try (DigestInputStream dis = new DigestInputStream(new FileInputStream(filepath), md)) {
-            while (dis.read() != -1) ; //empty loop to clear the data
-            md = dis.getMessageDigest();
-        }catch(IOException e) {
-        	return null;
-        }
-
-        // bytes to hex
-        StringBuilder result = new StringBuilder();
-        for (byte b : md.digest()) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-
-    }
+		notNull(messageDigest, "messageDigest may not be null");
+		return toChecksum(messageDigest).equals(checkSum);
+	}
+
+	private String toChecksum(MessageDigest md) {
+		return ChecksumEngine.toHex(md.digest());
+	}
 
 }
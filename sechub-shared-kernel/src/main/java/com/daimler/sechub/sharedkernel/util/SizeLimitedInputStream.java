@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream throwing a {@link SizeLimitExceededException} when more bytes
+ * than allowed are read.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+	private long maximumBytes;
+	private long bytesRead;
+
+	/**
+	 * @param in
+	 * @param maximumBytes maximum amount of bytes, values lower than 0 mean no
+	 *                     limit
+	 */
+	public SizeLimitedInputStream(InputStream in, long maximumBytes) {
+		super(in);
+		this.maximumBytes = maximumBytes;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (b != -1) {
+			count(1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int amount = in.read(b, off, len);
+		if (amount > 0) {
+			count(amount);
+		}
+		return amount;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = in.skip(n);
+		if (skipped > 0) {
+			count(skipped);
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		/* not supported */
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+	private void count(long amount) throws SizeLimitExceededException {
+		bytesRead += amount;
+		if (maximumBytes >= 0 && bytesRead > maximumBytes) {
+			throw new SizeLimitExceededException("Size limit of " + maximumBytes + " bytes exceeded");
+		}
+	}
+
+	public static class SizeLimitExceededException extends IOException {
+
+		private static final long serialVersionUID = 3190312476345876122L;
+
+		public SizeLimitExceededException(String message) {
+			super(message);
+		}
+	}
+}
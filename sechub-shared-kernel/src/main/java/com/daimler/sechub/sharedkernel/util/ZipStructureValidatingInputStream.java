@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Input stream validating the zip structure of the data read through it - so
+ * no additional read of a stored file is necessary. The start signature is
+ * checked after the first bytes, so non zip content is rejected early. When end
+ * of stream is reached the "end of central directory" record is searched and
+ * checked for consistency (same way as {@link java.util.zip.ZipFile} does it).
+ * <br>
+ * <br>
+ * When validation fails a {@link ZipException} is thrown by the read methods.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ZipStructureValidatingInputStream extends FilterInputStream {
+
+	private static final int SIGNATURE_LENGTH = 4;
+	private static final long LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50L;
+	private static final long END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50L;
+	private static final int END_OF_CENTRAL_DIRECTORY_MINIMUM_SIZE = 22;
+	private static final int MAXIMUM_COMMENT_SIZE = 0xFFFF;
+	private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+	/* ring buffer containing last bytes - end of central directory must be inside */
+	private byte[] tail = new byte[END_OF_CENTRAL_DIRECTORY_MINIMUM_SIZE + MAXIMUM_COMMENT_SIZE];
+	private int tailPos;
+	private long position;
+	private boolean validated;
+
+	public ZipStructureValidatingInputStream(InputStream in) {
+		super(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (b == -1) {
+			validateEnd();
+			return -1;
+		}
+		byte[] single = { (byte) b };
+		inspect(single, 0, 1);
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int amount = in.read(b, off, len);
+		if (amount == -1) {
+			validateEnd();
+			return -1;
+		}
+		inspect(b, off, amount);
+		return amount;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		/* we must inspect all bytes, so skipping is done by reading */
+		byte[] buffer = new byte[(int) Math.min(8192, Math.max(n, 0))];
+		long skipped = 0;
+		while (skipped < n) {
+			int amount = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+			if (amount == -1) {
+				break;
+			}
+			skipped += amount;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		/* not supported */
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+
+	private void inspect(byte[] b, int off, int len) throws IOException {
+		long positionBefore = position;
+		addToTail(b, off, len);
+		position += len;
+
+		if (positionBefore < SIGNATURE_LENGTH && position >= SIGNATURE_LENGTH) {
+			long signature = readLittleEndian(getTail(), 0, SIGNATURE_LENGTH);
+			if (signature != LOCAL_FILE_HEADER_SIGNATURE && signature != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				throw new ZipException("Not a zip file - wrong start signature");
+			}
+		}
+	}
+
+	private void addToTail(byte[] b, int off, int len) {
+		if (len >= tail.length) {
+			System.arraycopy(b, off + len - tail.length, tail, 0, tail.length);
+			tailPos = 0;
+			return;
+		}
+		int firstPart = Math.min(len, tail.length - tailPos);
+		System.arraycopy(b, off, tail, tailPos, firstPart);
+		System.arraycopy(b, off + firstPart, tail, 0, len - firstPart);
+		tailPos = (tailPos + len) % tail.length;
+	}
+
+	/* returns last bytes in correct order */
+	private byte[] getTail() {
+		int length = (int) Math.min(position, tail.length);
+		byte[] result = new byte[length];
+		int start = (tailPos - length + tail.length) % tail.length;
+		int firstPart = Math.min(length, tail.length - start);
+		System.arraycopy(tail, start, result, 0, firstPart);
+		System.arraycopy(tail, 0, result, firstPart, length - firstPart);
+		return result;
+	}
+
+	private void validateEnd() throws ZipException {
+		if (validated) {
+			return;
+		}
+		validated = true;
+		if (position < END_OF_CENTRAL_DIRECTORY_MINIMUM_SIZE) {
+			throw new ZipException("Not a zip file - too small");
+		}
+		byte[] last = getTail();
+		for (int i = last.length - END_OF_CENTRAL_DIRECTORY_MINIMUM_SIZE; i >= 0; i--) {
+			if (readLittleEndian(last, i, 4) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				continue;
+			}
+			long commentLength = readLittleEndian(last, i + 20, 2);
+			if (i + END_OF_CENTRAL_DIRECTORY_MINIMUM_SIZE + commentLength != last.length) {
+				continue;
+			}
+			long centralDirectorySize = readLittleEndian(last, i + 12, 4);
+			long centralDirectoryOffset = readLittleEndian(last, i + 16, 4);
+			if (centralDirectoryOffset == ZIP64_MARKER || centralDirectorySize == ZIP64_MARKER) {
+				/* zip64 - offsets are inside zip64 record, we accept */
+				return;
+			}
+			long endOfCentralDirectoryPosition = position - (last.length - i);
+			if (centralDirectoryOffset + centralDirectorySize != endOfCentralDirectoryPosition) {
+				throw new ZipException("Not a zip file - central directory inconsistent");
+			}
+			return;
+		}
+		throw new ZipException("Not a zip file - end of central directory not found");
+	}
+
+	private static long readLittleEndian(byte[] bytes, int offset, int length) {
+		long result = 0;
+		for (int i = length - 1; i >= 0; i--) {
+			result = (result << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return result;
+	}
+
+}
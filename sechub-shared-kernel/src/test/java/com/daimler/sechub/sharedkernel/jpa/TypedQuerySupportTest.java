@@ -4,6 +4,8 @@ package com.daimler.sechub.sharedkernel.jpa;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.NoResultException;
@@ -32,4 +34,27 @@ public class TypedQuerySupportTest {
 		assertNotNull(optional);
 	}
 
+	@Test
+	public void get_list_returns_all_results() {
+		/* prepare */
+		Query query = mock(Query.class);
+		when(query.getResultList()).thenReturn(Arrays.asList("a", "b"));
+
+		/* execute */
+		List<String> list = supportToTest.getList(query);
+
+		/* test */
+		assertEquals(Arrays.asList("a", "b"), list);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void get_list_throws_illegal_state_exception_when_result_has_wrong_type() {
+		/* prepare */
+		Query query = mock(Query.class);
+		when(query.getResultList()).thenReturn(Arrays.asList("a", Integer.valueOf(1)));
+
+		/* execute */
+		supportToTest.getList(query);
+	}
+
 }
@@ -0,0 +1,209 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daimler.sechub.sharedkernel.SharedKernelTestFileSupport;
+import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
+
+/**
+ * Compares typed message payloads with former behaviour, where every
+ * parameter was converted to string by sender and parsed again by receiver.
+ * Latencies and allocations are logged, only allocations are asserted.
+ */
+public class DomainMessagePayloadBenchmarkTest {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DomainMessagePayloadBenchmarkTest.class);
+
+	private static final int WARMUP = 2000;
+	private static final int SENDS = 20000;
+
+	private SecHubConfiguration configuration;
+	private DomainMessageQueues messageQueues;
+
+	@Before
+	public void before() throws Exception {
+		String json = SharedKernelTestFileSupport.getTestfileSupport().loadTestFile("sechub_config1.json");
+		configuration = SecHubConfiguration.OBJECT.fromJSON(json);
+	}
+
+	@After
+	public void after() {
+		if (messageQueues != null) {
+			messageQueues.shutdown();
+		}
+	}
+
+	@Test
+	public void synchronous_typed_payload_is_same_object_and_needs_less_allocation_than_string_conversion() {
+		/* prepare */
+		ScanHandler typedHandler = new ScanHandler(false);
+		ScanHandler convertingHandler = new ScanHandler(true);
+		DomainMessageService typedService = new DomainMessageService(Collections.singletonList(typedHandler), new ArrayList<>());
+		DomainMessageService convertingService = new DomainMessageService(Collections.singletonList(convertingHandler), new ArrayList<>());
+
+		sendSynchron(typedService, WARMUP);
+		sendSynchron(convertingService, WARMUP);
+
+		/* execute */
+		Measurement typed = measure(() -> sendSynchron(typedService, SENDS));
+		Measurement converting = measure(() -> sendSynchron(convertingService, SENDS));
+
+		/* test */
+		assertSame(configuration, typedHandler.lastConfiguration);
+		assertNotSame(configuration, convertingHandler.lastConfiguration);
+		log("sync", typed, converting);
+		if (typed.allocatedBytes >= 0) {
+			assertTrue(typed.allocatedBytes < converting.allocatedBytes);
+		}
+	}
+
+	@Test
+	public void asynchronous_typed_payload_latency_compared_to_string_conversion() throws Exception {
+		/* prepare */
+		messageQueues = new DomainMessageQueues();
+		messageQueues.capacity = SENDS;
+		messageQueues.initialize();
+
+		JobHandler typedHandler = new JobHandler(false);
+		JobHandler convertingHandler = new JobHandler(true);
+		DomainMessageService typedService = createAsyncService(typedHandler);
+		DomainMessageService convertingService = createAsyncService(convertingHandler);
+		JobMessage jobMessage = new JobMessage();
+		jobMessage.setProjectId("project1");
+		jobMessage.setOwner("owner1");
+		jobMessage.setConfiguration(configuration.toJSON());
+
+		sendAsynchron(typedService, typedHandler, jobMessage, WARMUP);
+		sendAsynchron(convertingService, convertingHandler, jobMessage, WARMUP);
+
+		/* execute */
+		Measurement typed = measure(() -> sendAsynchron(typedService, typedHandler, jobMessage, SENDS));
+		Measurement converting = measure(() -> sendAsynchron(convertingService, convertingHandler, jobMessage, SENDS));
+
+		/* test */
+		assertSame(jobMessage, typedHandler.lastJobMessage);
+		log("async", typed, converting);
+	}
+
+	private DomainMessageService createAsyncService(JobHandler handler) {
+		DomainMessageService service = new DomainMessageService(new ArrayList<>(), Collections.singletonList(handler));
+		service.messageQueues = messageQueues;
+		return service;
+	}
+
+	private void sendSynchron(DomainMessageService service, int amount) {
+		for (int i = 0; i < amount; i++) {
+			DomainMessage request = new DomainMessage(MessageID.START_SCAN);
+			request.set(MessageDataKeys.SECHUB_CONFIG, configuration);
+			service.sendSynchron(request);
+		}
+	}
+
+	private void sendAsynchron(DomainMessageService service, JobHandler handler, JobMessage jobMessage, int amount) {
+		handler.latch = new CountDownLatch(amount);
+		for (int i = 0; i < amount; i++) {
+			DomainMessage request = new DomainMessage(MessageID.JOB_DONE);
+			request.set(MessageDataKeys.JOB_DONE_DATA, jobMessage);
+			service.sendAsynchron(request);
+		}
+		try {
+			assertTrue(handler.latch.await(30, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail("interrupted");
+		}
+	}
+
+	private Measurement measure(Runnable runnable) {
+		Measurement measurement = new Measurement();
+		long allocatedBefore = allocatedBytesOfCurrentThread();
+		long start = System.nanoTime();
+		runnable.run();
+		measurement.nanosPerSend = (System.nanoTime() - start) / SENDS;
+		long allocatedAfter = allocatedBytesOfCurrentThread();
+		measurement.allocatedBytes = allocatedBefore < 0 ? -1 : (allocatedAfter - allocatedBefore) / SENDS;
+		return measurement;
+	}
+
+	private long allocatedBytesOfCurrentThread() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+			return -1;
+		}
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+		return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private void log(String type, Measurement typed, Measurement converting) {
+		LOG.info("{} send - typed: {} ns, {} bytes allocated by sender - string conversion: {} ns, {} bytes allocated by sender", type,
+				typed.nanosPerSend, typed.allocatedBytes, converting.nanosPerSend, converting.allocatedBytes);
+	}
+
+	private static class Measurement {
+		private long nanosPerSend;
+		private long allocatedBytes;
+	}
+
+	/**
+	 * Simulates former behaviour by converting parameters by provider when
+	 * <code>convert</code> is true
+	 */
+	private static <T> T read(DomainMessage request, MessageDataKey<T> key, boolean convert) {
+		T object = request.get(key);
+		if (!convert) {
+			return object;
+		}
+		return key.getProvider().get(key.getProvider().getString(object));
+	}
+
+	private class ScanHandler implements SynchronMessageHandler {
+
+		private boolean convert;
+		private SecHubConfiguration lastConfiguration;
+
+		private ScanHandler(boolean convert) {
+			this.convert = convert;
+		}
+
+		@Override
+		@IsRecevingSyncMessage(MessageID.START_SCAN)
+		public DomainMessageSynchronousResult receiveSynchronMessage(DomainMessage request) {
+			lastConfiguration = read(request, MessageDataKeys.SECHUB_CONFIG, convert);
+			return new DomainMessageSynchronousResult(MessageID.SCAN_DONE);
+		}
+	}
+
+	private class JobHandler implements AsynchronMessageHandler {
+
+		private boolean convert;
+		private volatile JobMessage lastJobMessage;
+		private volatile CountDownLatch latch;
+
+		private JobHandler(boolean convert) {
+			this.convert = convert;
+		}
+
+		@Override
+		@IsReceivingAsyncMessage(MessageID.JOB_DONE)
+		public void receiveAsyncMessage(DomainMessage request) {
+			lastJobMessage = read(request, MessageDataKeys.JOB_DONE_DATA, convert);
+			latch.countDown();
+		}
+	}
+}
@@ -0,0 +1,203 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DomainMessageQueueTest {
+
+	private DomainMessageQueue queueToTest;
+	private CountDownLatch releaseLatch;
+	private CountDownLatch startedLatch;
+
+	@Before
+	public void before() {
+		releaseLatch = new CountDownLatch(1);
+		startedLatch = new CountDownLatch(1);
+	}
+
+	@After
+	public void after() {
+		releaseLatch.countDown();
+		if (queueToTest != null) {
+			queueToTest.shutdown();
+		}
+	}
+
+	@Test
+	public void drop_oldest_drops_oldest_waiting_message_and_counts() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 2, AsynchronMessageOverflowPolicy.DROP_OLDEST);
+		List<String> handled = Collections.synchronizedList(new ArrayList<>());
+		blockWorker();
+
+		/* execute */
+		queueToTest.execute(() -> handled.add("1"));
+		queueToTest.execute(() -> handled.add("2"));
+		queueToTest.execute(() -> handled.add("3"));
+
+		/* test */
+		assertEquals(1, queueToTest.getDroppedCount());
+		assertEquals(2, queueToTest.getQueuedCount());
+		releaseLatch.countDown();
+		awaitHandled(3);
+		assertEquals(2, handled.size());
+		assertTrue(handled.contains("2"));
+		assertTrue(handled.contains("3"));
+	}
+
+	@Test
+	public void caller_runs_executes_message_inside_sender_thread() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 1, AsynchronMessageOverflowPolicy.CALLER_RUNS);
+		AtomicReference<Thread> handlerThread = new AtomicReference<>();
+		blockWorker();
+		queueToTest.execute(() -> {
+		});
+
+		/* execute */
+		queueToTest.execute(() -> handlerThread.set(Thread.currentThread()));
+
+		/* test */
+		assertEquals(Thread.currentThread(), handlerThread.get());
+		assertEquals(1, queueToTest.getCallerRunsCount());
+		assertEquals(0, queueToTest.getDroppedCount());
+	}
+
+	@Test
+	public void block_lets_sender_wait_until_queue_has_free_space() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 1, AsynchronMessageOverflowPolicy.BLOCK);
+		blockWorker();
+		queueToTest.execute(() -> {
+		});
+		CountDownLatch sentLatch = new CountDownLatch(1);
+		Thread sender = new Thread(() -> {
+			queueToTest.execute(() -> {
+			});
+			sentLatch.countDown();
+		});
+
+		/* execute */
+		sender.start();
+
+		/* test */
+		assertFalse(sentLatch.await(200, TimeUnit.MILLISECONDS));
+		releaseLatch.countDown();
+		assertTrue(sentLatch.await(5, TimeUnit.SECONDS));
+		awaitHandled(3);
+		assertEquals(1, queueToTest.getBlockedCount());
+		assertEquals(0, queueToTest.getDroppedCount());
+	}
+
+	@Test
+	public void block_does_not_dead_lock_when_worker_sends_into_own_full_queue() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 1, AsynchronMessageOverflowPolicy.BLOCK);
+		CountDownLatch nestedLatch = new CountDownLatch(2);
+
+		/* execute */
+		queueToTest.execute(() -> {
+			queueToTest.execute(nestedLatch::countDown);
+			queueToTest.execute(nestedLatch::countDown);
+		});
+
+		/* test */
+		assertTrue(nestedLatch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, queueToTest.getCallerRunsCount());
+	}
+
+	@Test
+	public void block_does_not_dead_lock_when_worker_sends_into_other_full_queue() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 1, AsynchronMessageOverflowPolicy.BLOCK);
+		DomainMessageQueue otherQueue = new DomainMessageQueue(MessageID.JOB_FAILED, 1, 1, AsynchronMessageOverflowPolicy.BLOCK);
+		AtomicReference<Thread> handlerThread = new AtomicReference<>();
+		AtomicReference<Thread> senderThread = new AtomicReference<>();
+		CountDownLatch sentLatch = new CountDownLatch(1);
+		try {
+			/* other queue is full and its worker waits for the worker of this queue */
+			otherQueue.execute(() -> {
+				try {
+					sentLatch.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			otherQueue.execute(() -> {
+			});
+
+			/* execute */
+			queueToTest.execute(() -> {
+				senderThread.set(Thread.currentThread());
+				otherQueue.execute(() -> handlerThread.set(Thread.currentThread()));
+				sentLatch.countDown();
+			});
+
+			/* test */
+			assertTrue(sentLatch.await(5, TimeUnit.SECONDS));
+			assertEquals(senderThread.get(), handlerThread.get());
+			assertEquals(1, otherQueue.getCallerRunsCount());
+			assertEquals(0, otherQueue.getBlockedCount());
+		} finally {
+			otherQueue.shutdown();
+		}
+	}
+
+	@Test
+	public void handler_latency_is_recorded_in_histogram() throws Exception {
+		/* prepare */
+		queueToTest = new DomainMessageQueue(MessageID.JOB_DONE, 1, 10, AsynchronMessageOverflowPolicy.BLOCK);
+
+		/* execute */
+		queueToTest.execute(() -> sleep(60));
+		queueToTest.execute(() -> {
+		});
+
+		/* test */
+		awaitHandled(2);
+		AsynchronMessageLatencyHistogram histogram = queueToTest.getLatencyHistogram();
+		assertEquals(2, histogram.getCount());
+		assertTrue(histogram.getMaxMillis() >= 60);
+		assertEquals(Long.valueOf(1), histogram.getBuckets().get("<=1"));
+		assertEquals(2, histogram.getBuckets().values().stream().mapToLong(Long::longValue).sum());
+	}
+
+	private void blockWorker() throws InterruptedException {
+		queueToTest.execute(() -> {
+			startedLatch.countDown();
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+	}
+
+	private void awaitHandled(long amount) throws InterruptedException {
+		long end = System.currentTimeMillis() + 5000;
+		while (queueToTest.getHandledCount() < amount && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(amount, queueToTest.getHandledCount());
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
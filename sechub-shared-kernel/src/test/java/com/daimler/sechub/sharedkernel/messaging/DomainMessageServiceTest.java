@@ -1,22 +1,190 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.messaging;
 
+import static org.junit.Assert.*;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.junit.After;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DomainMessageServiceTest {
 
+	private static final Logger LOG = LoggerFactory.getLogger(DomainMessageServiceTest.class);
+
+	private DomainMessageQueues messageQueues;
+
+	@After
+	public void after() {
+		if (messageQueues != null) {
+			messageQueues.shutdown();
+		}
+	}
+
 	@Test
 	public void test() {
 		List<AsynchronMessageHandler> injectedAsynchronousHandlers = new ArrayList<>();
 		List<SynchronMessageHandler> injectedSynchronousHandlers = new ArrayList<>();
-		
+
 		DomainMessageService service = new DomainMessageService(injectedSynchronousHandlers, injectedAsynchronousHandlers );
 		DomainMessage request = new DomainMessage(MessageID.USER_REMOVED_FROM_PROJECT);
 		service.sendAsynchron(request);
-	
+
+	}
+
+	@Test
+	public void burst_of_one_message_type_does_not_delay_other_message_types() throws Exception {
+		/* prepare */
+		JobHandler jobHandler = new JobHandler();
+		jobHandler.releaseLatch = new CountDownLatch(1);
+		UserHandler userHandler = new UserHandler();
+		DomainMessageService serviceToTest = createServiceWithQueues(100, AsynchronMessageOverflowPolicy.BLOCK, jobHandler, userHandler);
+
+		/* execute */
+		send(serviceToTest, MessageID.JOB_STARTED, 50);
+		send(serviceToTest, MessageID.USER_CREATED, 1000);
+
+		/* test */
+		awaitCount(userHandler, MessageID.USER_CREATED, 1000);
+		assertEquals(0, jobHandler.count(MessageID.JOB_STARTED));
+
+		jobHandler.releaseLatch.countDown();
+		awaitCount(jobHandler, MessageID.JOB_STARTED, 50);
+	}
+
+	@Test
+	public void stress_100000_messages_at_mixed_handlers_are_all_handled() throws Exception {
+		/* prepare */
+		JobHandler jobHandler = new JobHandler();
+		UserHandler userHandler = new UserHandler();
+		DomainMessageService serviceToTest = createServiceWithQueues(1000, AsynchronMessageOverflowPolicy.BLOCK, jobHandler, userHandler);
+
+		MessageID[] messageIds = { MessageID.JOB_STARTED, MessageID.JOB_DONE, MessageID.USER_CREATED, MessageID.USER_DELETED };
+		int senders = 4;
+		int messagesPerSender = 25000;
+		List<Thread> senderThreads = new ArrayList<>();
+		for (int i = 0; i < senders; i++) {
+			senderThreads.add(new Thread(() -> {
+				for (int m = 0; m < messagesPerSender; m++) {
+					serviceToTest.sendAsynchron(new DomainMessage(messageIds[m % messageIds.length]));
+				}
+			}));
+		}
+
+		/* execute */
+		long start = System.currentTimeMillis();
+		for (Thread sender : senderThreads) {
+			sender.start();
+		}
+		for (Thread sender : senderThreads) {
+			sender.join(TimeUnit.SECONDS.toMillis(60));
+		}
+
+		/* test */
+		long expectedPerMessageId = senders * messagesPerSender / messageIds.length;
+		awaitCount(jobHandler, MessageID.JOB_STARTED, expectedPerMessageId);
+		awaitCount(jobHandler, MessageID.JOB_DONE, expectedPerMessageId);
+		awaitCount(userHandler, MessageID.JOB_DONE, expectedPerMessageId);
+		awaitCount(userHandler, MessageID.USER_CREATED, expectedPerMessageId);
+		awaitCount(userHandler, MessageID.USER_DELETED, expectedPerMessageId);
+
+		long millis = System.currentTimeMillis() - start;
+		for (DomainMessageQueue queue : messageQueues.getQueues()) {
+			assertEquals(0, queue.getDroppedCount());
+			LOG.info("{}: handled:{}, blocked senders:{}, caller runs:{}, latency avg:{} ms, max:{} ms, histogram:{}", queue.getMessageId(),
+					queue.getHandledCount(), queue.getBlockedCount(), queue.getCallerRunsCount(), queue.getLatencyHistogram().getAverageMillis(),
+					queue.getLatencyHistogram().getMaxMillis(), queue.getLatencyHistogram().getBuckets());
+		}
+		LOG.info("{} messages handled in {} ms", senders * messagesPerSender, millis);
+	}
+
+	private DomainMessageService createServiceWithQueues(int capacity, AsynchronMessageOverflowPolicy overflowPolicy,
+			AsynchronMessageHandler... handlers) {
+		messageQueues = new DomainMessageQueues();
+		messageQueues.capacity = capacity;
+		messageQueues.overflowPolicy = overflowPolicy;
+		messageQueues.initialize();
+
+		DomainMessageService service = new DomainMessageService(new ArrayList<>(), Arrays.asList(handlers));
+		service.messageQueues = messageQueues;
+		return service;
+	}
+
+	private void send(DomainMessageService service, MessageID messageId, int amount) {
+		for (int i = 0; i < amount; i++) {
+			service.sendAsynchron(new DomainMessage(messageId));
+		}
+	}
+
+	private void awaitCount(CountingHandler handler, MessageID messageId, long expected) throws InterruptedException {
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+		while (handler.count(messageId) < expected && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, handler.count(messageId));
+	}
+
+	private static abstract class CountingHandler implements AsynchronMessageHandler {
+
+		private Map<MessageID, AtomicLong> counts = new ConcurrentHashMap<>();
+
+		@Override
+		public void receiveAsyncMessage(DomainMessage request) {
+			counts.computeIfAbsent(request.getMessageId(), id -> new AtomicLong()).incrementAndGet();
+		}
+
+		long count(MessageID messageId) {
+			AtomicLong count = counts.get(messageId);
+			return count == null ? 0 : count.get();
+		}
 	}
 
+	private static class JobHandler extends CountingHandler {
+
+		private CountDownLatch releaseLatch;
+
+		@Override
+		public void receiveAsyncMessage(DomainMessage request) {
+			if (releaseLatch != null) {
+				try {
+					releaseLatch.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.receiveAsyncMessage(request);
+		}
+
+		@IsReceivingAsyncMessage(MessageID.JOB_STARTED)
+		void handleJobStarted() {
+		}
+
+		@IsReceivingAsyncMessage(MessageID.JOB_DONE)
+		void handleJobDone() {
+		}
+	}
+
+	private static class UserHandler extends CountingHandler {
+
+		@IsReceivingAsyncMessage(MessageID.USER_CREATED)
+		void handleUserCreated() {
+		}
+
+		@IsReceivingAsyncMessage(MessageID.USER_DELETED)
+		void handleUserDeleted() {
+		}
+
+		@IsReceivingAsyncMessage(MessageID.JOB_DONE)
+		void handleJobDone() {
+		}
+	}
 }
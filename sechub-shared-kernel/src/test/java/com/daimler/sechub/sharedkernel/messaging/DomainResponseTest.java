@@ -47,38 +47,71 @@ public class DomainResponseTest {
 	}
 
 	@Test
-	public void response_contains_data_transfered_from_provider_to_string_and_back_again() {
-		when(mockedProvider.getString("v1")).thenReturn("xv1");
-		when(mockedProvider.get("xv1")).thenReturn("version-from-provider1");
-		when(mockedProvider.getString("v2")).thenReturn("xv2");
-		when(mockedProvider.get("xv2")).thenReturn("version-from-provider2");
+	public void response_contains_given_data_objects_without_provider_conversion() {
 		/* prepare */
 
 		/* execute + test */
 		DomainMessageSynchronousResult domainResponse = new DomainMessageSynchronousResult(null);
 		domainResponse.set(mockedDataKey, "v1");
-		assertEquals("version-from-provider1", domainResponse.get(mockedDataKey));
+		assertEquals("v1", domainResponse.get(mockedDataKey));
 
 		domainResponse.set(mockedDataKey, "v2");
-		assertEquals("version-from-provider2", domainResponse.get(mockedDataKey));
+		assertEquals("v2", domainResponse.get(mockedDataKey));
 
 		domainResponse.set(mockedDataKey, null);
 		assertEquals(null, domainResponse.get(mockedDataKey));
+
+		verify(mockedProvider, never()).get(any());
+		verify(mockedProvider, never()).getString(any());
 	}
 
 	@Test
-	public void a_failed_response_with_added_keys_contains_still_data_from_provider() {
+	public void a_failed_response_with_added_keys_contains_still_data() {
 		/* prepare */
-		when(mockedProvider.get("xv1")).thenReturn("v1.0");
-		when(mockedProvider.getString("v1")).thenReturn("xv1");
-
 		DomainMessageSynchronousResult response = new DomainMessageSynchronousResult(null, new RuntimeException());
 		response.set(mockedDataKey, "v1");
 
 		/* execute + test */
-		assertEquals("v1.0", response.get(mockedDataKey));
+		assertEquals("v1", response.get(mockedDataKey));
 		assertTrue(response.hasFailed());
-		;
+	}
+
+	@Test
+	public void raw_data_is_created_by_provider_only_when_needed_and_only_once() {
+		/* prepare */
+		when(mockedProvider.getString("v1")).thenReturn("xv1");
+		DomainMessageSynchronousResult response = new DomainMessageSynchronousResult(null);
+		response.set(mockedDataKey, "v1");
+		verify(mockedProvider, never()).getString(any());
+
+		/* execute */
+		String raw1 = response.getRaw("id");
+		String raw2 = response.getRaw("id");
+
+		/* test */
+		assertEquals("xv1", raw1);
+		assertEquals("xv1", raw2);
+		verify(mockedProvider, times(1)).getString("v1");
+		assertTrue(response.toString().contains("id=xv1"));
+	}
+
+	@Test
+	public void key_with_same_id_but_other_provider_gets_data_converted_by_raw_data() {
+		/* prepare */
+		when(mockedProvider.getString("v1")).thenReturn("xv1");
+		@SuppressWarnings("unchecked")
+		MessageDataProvider<String> otherProvider = mock(MessageDataProvider.class);
+		when(otherProvider.get("xv1")).thenReturn("other-v1");
+		@SuppressWarnings("unchecked")
+		MessageDataKey<String> otherKey = mock(MessageDataKey.class);
+		when(otherKey.getId()).thenReturn("id");
+		when(otherKey.getProvider()).thenReturn(otherProvider);
+
+		DomainMessageSynchronousResult response = new DomainMessageSynchronousResult(null);
+		response.set(mockedDataKey, "v1");
+
+		/* execute + test */
+		assertEquals("other-v1", response.get(otherKey));
 	}
 
 }
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.SharedKernelTestFileSupport;
+
+public class ChecksumEngineTest {
+
+	private static final String SHA256_OF_TEST = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+	@Test
+	public void sha256_checksum_for_file() throws Exception {
+		/* prepare */
+		SharedKernelTestFileSupport testfileSupport = SharedKernelTestFileSupport.getTestfileSupport();
+		File file = testfileSupport.createFileFromResourcePath("zipfile_contains_only_test1.txt.zip");
+
+		/* execute */
+		String checksum = ChecksumEngine.SHA256.createChecksum(file.toPath());
+
+		/* test */
+		assertEquals("59060b6b4e8d137596dc01ec15d5da1ab4c4ad0d756c780ed88225f082ae87b7", checksum);
+	}
+
+	@Test
+	public void sha256_checksum_for_stream_and_buffer() throws Exception {
+		/* prepare */
+		byte[] bytes = "test".getBytes(StandardCharsets.UTF_8);
+
+		/* execute + test */
+		assertEquals(SHA256_OF_TEST, ChecksumEngine.SHA256.createChecksum(new ByteArrayInputStream(bytes)));
+		assertEquals(SHA256_OF_TEST, ChecksumEngine.SHA256.createChecksum(ByteBuffer.wrap(bytes)));
+	}
+
+	@Test
+	public void file_stream_and_buffer_checksums_are_same_for_data_bigger_than_buffer() throws Exception {
+		/* prepare */
+		byte[] bytes = new byte[3 * 1024 * 1024 + 17];
+		new Random(4711).nextBytes(bytes);
+		File file = File.createTempFile("checksum-engine-test", ".bin");
+		file.deleteOnExit();
+		Files.write(file.toPath(), bytes);
+
+		/* execute */
+		String fromFile = ChecksumEngine.SHA256.createChecksum(file.toPath());
+		String fromStream = ChecksumEngine.SHA256.createChecksum(new ByteArrayInputStream(bytes));
+		String fromBuffer = ChecksumEngine.SHA256.createChecksum(ByteBuffer.wrap(bytes));
+
+		/* test */
+		assertEquals(fromBuffer, fromFile);
+		assertEquals(fromBuffer, fromStream);
+	}
+
+	@Test
+	public void other_algorithms_can_be_used() throws Exception {
+		/* prepare */
+		ChecksumEngine md5 = new ChecksumEngine("MD5");
+
+		/* execute */
+		String checksum = md5.createChecksum(ByteBuffer.wrap("test".getBytes(StandardCharsets.UTF_8)));
+
+		/* test */
+		assertEquals("098f6bcd4621d373cade4e832627b4f6", checksum);
+		assertEquals("MD5", md5.getAlgorithm());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unsupported_algorithm_is_not_accepted() {
+		new ChecksumEngine("NOT-EXISTING");
+	}
+
+	@Test
+	public void hex_encoding_uses_lower_case_and_leading_zeros() {
+		assertEquals("000fa0ff", ChecksumEngine.toHex(new byte[] { 0x00, 0x0f, (byte) 0xa0, (byte) 0xff }));
+		assertEquals("", ChecksumEngine.toHex(new byte[0]));
+	}
+}
@@ -44,4 +44,23 @@ public class FileChecksumSHA256ServiceTest {
 		
 	}
 
+	@Test
+	public void checksum_check_by_message_digest_works() throws Exception{
+		/* prepare */
+		java.security.MessageDigest digest1 = serviceToTest.createMessageDigest();
+		java.security.MessageDigest digest2 = serviceToTest.createMessageDigest();
+		digest1.update("test".getBytes());
+		digest2.update("test".getBytes());
+
+		/* execute + test */
+		assertTrue(serviceToTest.hasCorrectChecksum("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", digest1));
+		assertFalse(serviceToTest.hasCorrectChecksum("1f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", digest2));
+	}
+
+	@Test
+	public void checksum_check_for_not_existing_file_returns_false() throws Exception{
+		/* execute + test */
+		assertFalse(serviceToTest.hasCorrectChecksum("59060b6b4e8d137596dc01ec15d5da1ab4c4ad0d756c780ed88225f082ae87b7", "/not/existing/file.zip"));
+	}
+
 }
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.util.SizeLimitedInputStream.SizeLimitExceededException;
+
+public class SizeLimitedInputStreamTest {
+
+	@Test
+	public void reading_exactly_maximum_bytes_is_possible() throws Exception {
+		/* prepare */
+		SizeLimitedInputStream streamToTest = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[100]), 100);
+
+		/* execute */
+		int amount = streamToTest.read(new byte[200]);
+
+		/* test */
+		assertEquals(100, amount);
+		assertEquals(-1, streamToTest.read());
+		assertEquals(100, streamToTest.getBytesRead());
+	}
+
+	@Test(expected = SizeLimitExceededException.class)
+	public void reading_more_than_maximum_bytes_throws_exception() throws Exception {
+		/* prepare */
+		SizeLimitedInputStream streamToTest = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[101]), 100);
+
+		/* execute */
+		streamToTest.read(new byte[200]);
+	}
+
+	@Test
+	public void negative_maximum_means_no_limit() throws Exception {
+		/* prepare */
+		SizeLimitedInputStream streamToTest = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[1000]), -1);
+
+		/* execute */
+		int amount = streamToTest.read(new byte[2000]);
+
+		/* test */
+		assertEquals(1000, amount);
+	}
+}
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.SharedKernelTestFileSupport;
+
+public class ZipStructureValidatingInputStreamTest {
+
+	@Test
+	public void zip_file_from_resources_is_valid() throws Exception {
+		/* prepare */
+		SharedKernelTestFileSupport testfileSupport = SharedKernelTestFileSupport.getTestfileSupport();
+
+		/* execute + test (no exception) */
+		try (InputStream in = new FileInputStream(testfileSupport.createFileFromResourcePath("zipfile_contains_only_test1.txt.zip"))) {
+			readFully(new ZipStructureValidatingInputStream(in));
+		}
+	}
+
+	@Test
+	public void big_zip_with_comment_is_valid_when_read_in_small_chunks() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(200000, "a comment");
+
+		/* execute + test (no exception) */
+		readFully(new ZipStructureValidatingInputStream(new ByteArrayInputStream(zip)), 7);
+	}
+
+	@Test
+	public void zip_read_byte_by_byte_is_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(1000, null);
+		ZipStructureValidatingInputStream in = new ZipStructureValidatingInputStream(new ByteArrayInputStream(zip));
+
+		/* execute + test (no exception) */
+		while (in.read() != -1) {
+			/* just read */
+		}
+	}
+
+	@Test
+	public void empty_zip_is_valid() throws Exception {
+		/* prepare */
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new ZipOutputStream(out).close();
+
+		/* execute + test (no exception) */
+		readFully(new ZipStructureValidatingInputStream(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test
+	public void text_is_rejected_after_first_bytes() throws Exception {
+		/* prepare */
+		byte[] text = new byte[100000];
+		ZipStructureValidatingInputStream in = new ZipStructureValidatingInputStream(new ByteArrayInputStream(text));
+
+		/* execute */
+		try {
+			in.read(new byte[10]);
+			fail("no exception");
+		} catch (ZipException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("start signature"));
+		}
+	}
+
+	@Test(expected = ZipException.class)
+	public void truncated_zip_is_rejected_at_end() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(1000, null);
+		byte[] truncated = new byte[zip.length - 10];
+		System.arraycopy(zip, 0, truncated, 0, truncated.length);
+
+		/* execute */
+		readFully(new ZipStructureValidatingInputStream(new ByteArrayInputStream(truncated)));
+	}
+
+	@Test(expected = ZipException.class)
+	public void zip_with_removed_middle_part_is_rejected_at_end() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(1000, null);
+		byte[] corrupt = new byte[zip.length - 100];
+		System.arraycopy(zip, 0, corrupt, 0, 100);
+		System.arraycopy(zip, 200, corrupt, 100, zip.length - 200);
+
+		/* execute */
+		readFully(new ZipStructureValidatingInputStream(new ByteArrayInputStream(corrupt)));
+	}
+
+	@Test(expected = ZipException.class)
+	public void empty_stream_is_rejected() throws Exception {
+		readFully(new ZipStructureValidatingInputStream(new ByteArrayInputStream(new byte[0])));
+	}
+
+	private void readFully(InputStream in) throws IOException {
+		readFully(in, 8192);
+	}
+
+	private void readFully(InputStream in, int bufferSize) throws IOException {
+		byte[] buffer = new byte[bufferSize];
+		while (in.read(buffer) != -1) {
+			/* just read */
+		}
+	}
+
+	private byte[] createZip(int contentSize, String comment) throws IOException {
+		byte[] content = new byte[contentSize];
+		new Random(42).nextBytes(content);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(out)) {
+			if (comment != null) {
+				zip.setComment(comment);
+			}
+			zip.putNextEntry(new ZipEntry("file1.bin"));
+			zip.write(content);
+			zip.closeEntry();
+			zip.putNextEntry(new ZipEntry("file2.txt"));
+			zip.write("hello".getBytes());
+			zip.closeEntry();
+		}
+		return out.toByteArray();
+	}
+}
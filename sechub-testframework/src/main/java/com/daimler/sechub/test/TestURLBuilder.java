@@ -53,6 +53,7 @@ public class TestURLBuilder {
 	private static final String API_ADMIN_JOB = API_ADMIN + "/job";
 	private static final String API_ADMIN_JOBS = API_ADMIN_JOB+"s";
 	private static final String API_ADMIN_SCAN = API_ADMIN+"/scan";
+	private static final String API_ADMIN_SCHEDULER = API_ADMIN+"/scheduler";
 	private static final String API_PROJECT = "/api/project";
 	private String protocol;
 	private String hostname;
@@ -110,6 +111,18 @@ public class TestURLBuilder {
 		return buildUrl(API_PROJECT, projectId, "report", jobUUID);
 	}
 
+	public String buildGetJobReportDiffUrl(String projectId, UUID jobUUID) {
+		return buildUrl(API_PROJECT, projectId, "report", jobUUID, "diff");
+	}
+
+	public String buildGetFindingHistoryUrl(String projectId) {
+		return buildUrl(API_PROJECT, projectId, "findings", "history");
+	}
+
+	public String buildGetFindingTrendUrl(String projectId, int days) {
+		return buildUrl(API_PROJECT, projectId, "findings", "trend?days=" + days);
+	}
+
 	public String buildUploadSourceCodeUrl(String projectId, UUID jobUUID) {
 		return buildUploadSourceCodeUrl(projectId,jobUUID.toString());
 	}
@@ -252,6 +265,10 @@ public class TestURLBuilder {
 	public String buildAdminDownloadsZipFileContainingFullScanDataFor(UUID sechubJobUUID) {
 		return buildUrl(API_ADMIN_SCAN, "download", sechubJobUUID);
 	}
+
+	public String buildAdminFetchesSchedulerStatusUrl() {
+		return buildUrl(API_ADMIN_SCHEDULER, "status");
+	}
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ admin/admin...............................+ */
 	/* +-----------------------------------------------------------------------+ */
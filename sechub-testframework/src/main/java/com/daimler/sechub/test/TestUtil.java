@@ -11,6 +11,8 @@ import java.util.zip.ZipInputStream;
 @SechubTestComponent
 public class TestUtil {
 
+	public static final String SECHUB_TEST_LONG_RUNNING = "sechub.test.longrunning";
+
 	private static final OperationSystem operationSystem = new OperationSystem();
 
 	public static void waitMilliseconds(long milliseconds) {
@@ -33,6 +35,15 @@ public class TestUtil {
 		return false;
 	}
 
+	/**
+	 * @return <code>true</code> when long running tests (e.g. timing tests with
+	 *         huge data) shall be executed. Define -D"sechub.test.longrunning=true"
+	 *         to enable them, per default they are skipped
+	 */
+	public static boolean isLongRunningTestEnabled() {
+		return Boolean.getBoolean(SECHUB_TEST_LONG_RUNNING);
+	}
+
 	public static boolean isWindows() {
 		return operationSystem.isWindows();
 	}